@@ -0,0 +1,82 @@
+/**
+ * A debug overlay drawn over the top left of the board, showing the frame rate, frame and
+ * engine tick times, allocation rate, heap, garbage collections and pieces per second.
+ * The numbers come from a PerfSampler; the overlay only redraws a few times a second, so
+ * drawing it barely shows in the frame times it reports. It is hidden until toggled on.
+ */
+
+package com.comp2042;
+
+import com.comp2042.metrics.PerfSampler;
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Label;
+
+import static com.comp2042.GameConfig.DEBUG_HUD_REFRESH_MS;
+
+public class DebugHud extends Label {
+
+    private final PerfSampler sampler;
+    private final AnimationTimer timer;
+    private long lastSample;
+
+    /**
+     * Creates a hidden overlay.
+     *
+     * @param sampler Works out the numbers shown; also fed the engine ticks by the game screen.
+     */
+    public DebugHud(PerfSampler sampler) {
+        this.sampler = sampler;
+        getStyleClass().add("debug-hud");
+        setMouseTransparent(true);
+        setVisible(false);
+        setLayoutX(4);
+        setLayoutY(4);
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sampler.frame(now);
+                if (now - lastSample >= DEBUG_HUD_REFRESH_MS * 1_000_000L) {
+                    lastSample = now;
+                    // The only allocation per refresh: a Label needs its text as a String
+                    setText(sampler.sample(now).toString());
+                }
+            }
+        };
+    }
+
+    /**
+     * Shows the overlay if it is hidden, or hides it if it is shown. Frames are only counted
+     * while it is shown.
+     */
+    public void toggle() {
+        if (isVisible()) {
+            hide();
+            return;
+        }
+        lastSample = System.nanoTime();
+        sampler.reset(lastSample);
+        setText("Measuring...");
+        setVisible(true);
+        timer.start();
+    }
+
+    /**
+     * Hides the overlay and stops counting frames.
+     */
+    public void hide() {
+        timer.stop();
+        setVisible(false);
+    }
+
+    /**
+     * Records one engine tick, shown as the tick time.
+     *
+     * @param nanos How long the tick took.
+     */
+    public void tick(long nanos) {
+        if (isVisible()) {
+            sampler.tick(nanos);
+        }
+    }
+}
@@ -34,6 +34,26 @@ public final class GameConfig {
     public static final int BASE_DROP_SPEED_MS = 400;
     public static final int LINES_PER_LEVEL = 10; // Difficulty increases every 10 lines
     public static final double LEVEL_SPEED_MULTIPLIER = 0.20; // Speed increases by 20% per level
+    public static final int PREVIEW_BRICKS = 3;              // How many upcoming bricks are shown
+
+    // --- Hint Overlay Settings ---
+    public static final int HINT_REFRESH_MS = 50;          // How often a finished hint search is picked up
+
+    // --- Versus Mode Settings ---
+    public static final int VERSUS_BOT_TURN_MS = 1500;     // The CPU places a brick every 1.5s at level 1
+    public static final int VERSUS_REFRESH_MS = 100;       // The CPU board is redrawn 10 times a second
+    public static final int VERSUS_SCENE_WIDTH = 820;      // The game scene widens to fit the CPU board
+
+    // --- Metrics Settings ---
+    public static final int METRICS_DUMP_SECONDS = 30;     // How often metrics.txt is rewritten
+    public static final int PULSE_BUDGET_MS = 20;          // Frames longer than this are reported (-Dtetris.pulseBudgetMs, 0 turns it off)
+    public static final int SLOW_FRAME_REPORTS = 20;       // How many slow frame reports are kept on disk
+    public static final int DEBUG_HUD_REFRESH_MS = 500;    // How often the F3 debug overlay is redrawn
+
+    // --- Flight Recorder Settings ---
+    public static final int FLIGHT_RECORDER_SECONDS = 60;  // How much recent play a flight recording covers
+    public static final int FLIGHT_SNAPSHOT_SECONDS = 5;   // How often the board is snapshotted (at the next lock)
+    public static final int FLIGHT_RECORDINGS = 10;        // How many flight recordings are kept on disk
 
     // --- Encapsulated Game State ---
     // Stores the user's selected starting level from the main menu.
@@ -60,7 +80,8 @@ public final class GameConfig {
 
     // --- Visual Assets ---
     // Defines the palette of colors used for the different Tetromino shapes.
-    // Index 0 is TRANSPARENT (empty space), indices 1-7 match specific brick IDs.
+    // Index 0 is TRANSPARENT (empty space), indices 1-7 match specific brick IDs,
+    // and GARBAGE_ID marks rows pushed up by the opponent in versus mode.
     public static final Paint[] COLORS = {
             Color.TRANSPARENT,
             makeRetroBevel(Color.AQUA),         // I-Piece
@@ -69,9 +90,13 @@ public final class GameConfig {
             makeRetroBevel(Color.YELLOW),       // O-Piece
             makeRetroBevel(Color.RED),          // S-Piece
             makeRetroBevel(Color.BEIGE),        // T-Piece
-            makeRetroBevel(Color.BURLYWOOD)     // Z-Piece
+            makeRetroBevel(Color.BURLYWOOD),    // Z-Piece
+            makeRetroBevel(Color.SLATEGRAY)     // Garbage
     };
 
+    // Colour value of garbage cells; not a brick ID, so no brick lookup ever sees it
+    public static final int GARBAGE_ID = 8;
+
     /**
      * Creates a pseudo-3D "bevel" effect for the bricks using a LinearGradient.
      * This gives the flat 2D rectangles a retro arcade look with highlights and shadows.
@@ -14,6 +14,7 @@ import java.util.List;
 
 public class GameOverPanel extends VBox {
 
+    private final Label titleLabel;
     private final Label scoreLabel;
     private final Label hs1, hs2, hs3;
     private final Button btnTryAgain;
@@ -27,9 +28,9 @@ public class GameOverPanel extends VBox {
         this.setMaxHeight(500);
 
         // 1. Title
-        Label title = new Label("GAME OVER");
-        title.getStyleClass().add("retro-title");
-        title.setStyle("-fx-font-size: 50px; -fx-text-fill: linear-gradient(to bottom, #FF0000, #990000);");
+        titleLabel = new Label("GAME OVER");
+        titleLabel.getStyleClass().add("retro-title");
+        titleLabel.setStyle("-fx-font-size: 50px; -fx-text-fill: linear-gradient(to bottom, #FF0000, #990000);");
 
         // 2. Final Score
         scoreLabel = new Label("FINAL SCORE: 0");
@@ -70,7 +71,7 @@ public class GameOverPanel extends VBox {
         buttonBox.getChildren().addAll(btnTryAgain, btnMainMenu);
 
         // Add everything to the panel
-        this.getChildren().addAll(title, scoreLabel, hsBox, buttonBox);
+        this.getChildren().addAll(titleLabel, scoreLabel, hsBox, buttonBox);
     }
 
 
@@ -81,6 +82,20 @@ public class GameOverPanel extends VBox {
      * @param controller The GuiController to handle button actions (Restart/Menu).
      */
     public void show(int score, GuiController controller) {
+        show(score, controller, "GAME OVER");
+    }
+
+
+    /**
+     * Displays the game over screen with a custom title, e.g. the winner of a versus game.
+     *
+     * @param score      The final score of the game.
+     * @param controller The GuiController to handle button actions (Restart/Menu).
+     * @param title      The heading shown at the top of the panel.
+     */
+    public void show(int score, GuiController controller, String title) {
+        titleLabel.setText(title);
+
         // Update Score
         scoreLabel.setText("FINAL SCORE: " + score);
 
@@ -1,13 +1,15 @@
 /**
- * Manages the persistence of high scores to a local file.
- * It handles reading, writing, sorting, and limiting the high score list.
+ * Manages the persistence of the desktop game's high scores to a local file.
+ * It is a static front for one shared HighScoreTable, so the menu, game over panel and
+ * GameController all see the same list; hosted sessions use their own tables instead.
  */
 package com.comp2042;
 
-import java.io.*;
-import java.nio.file.*;
-import java.util.*;
-import java.util.stream.Collectors;
+import com.comp2042.metrics.Metrics;
+import com.comp2042.util.LogHistogram;
+
+import java.nio.file.Paths;
+import java.util.List;
 
 public class HighScoreManager {
 
@@ -16,6 +18,13 @@ public class HighScoreManager {
     // The maximum number of top scores to maintain
     private static final int MAX_SCORES = 3;
 
+    // The table behind the static methods
+    private static final HighScoreTable TABLE = new HighScoreTable(Paths.get(FILE_PATH), MAX_SCORES);
+
+    // File I/O latency of the two methods below
+    private static final LogHistogram READ_NS = Metrics.histogram("highscores.read.ns");
+    private static final LogHistogram WRITE_NS = Metrics.histogram("highscores.write.ns");
+
     /**
      * Retrieves the top scores from the highscores file.
      * It reads the file line by line, parses the integers, sorts them in
@@ -24,26 +33,9 @@ public class HighScoreManager {
      * @return A List of integers representing the top scores. Returns an empty list if the file does not exist.
      */
     public static List<Integer> getTopScores() {
-        List<Integer> scores = new ArrayList<>();
-        Path path = Paths.get(FILE_PATH);
-
-        // Check if the file exists before attempting to read to avoid errors
-        if (!Files.exists(path)) {
-            return scores; // Return empty list if no file exists
-        }
-
-        try {
-            // Java Stream API is used here for concise reading, filtering, and sorting
-            scores = Files.lines(path)
-                    .map(String::trim)
-                    .filter(s -> !s.isEmpty())
-                    .map(Integer::parseInt)
-                    .sorted(Collections.reverseOrder()) // Sort High to Low
-                    .limit(MAX_SCORES)                  // Keep only the top N scores
-                    .collect(Collectors.toList());
-        } catch (IOException | NumberFormatException e) {
-            e.printStackTrace();
-        }
+        long start = System.nanoTime();
+        List<Integer> scores = TABLE.getTopScores();
+        READ_NS.record(System.nanoTime() - start);
         return scores;
     }
 
@@ -54,32 +46,17 @@ public class HighScoreManager {
      * @param newScore The score achieved in the recent game.
      */
     public static void addScore(int newScore) {
-        List<Integer> scores = getTopScores();
-        scores.add(newScore);
-
-        // Re-sort and keep only top 3
-        List<Integer> top3 = scores.stream()
-                .sorted(Collections.reverseOrder())
-                .limit(MAX_SCORES)
-                .collect(Collectors.toList());
-
-        saveScores(top3);
+        long start = System.nanoTime();
+        TABLE.addScore(newScore);
+        WRITE_NS.record(System.nanoTime() - start);
     }
 
     /**
-     * Helper method to write the list of scores to the file system.
-     * It overwrites the existing file with the updated list of top scores.
+     * Retrieves the shared table behind this class.
      *
-     * @param scores The list of scores to write.
+     * @return The desktop game's high score table.
      */
-    private static void saveScores(List<Integer> scores) {
-        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(FILE_PATH))) {
-            for (Integer score : scores) {
-                writer.write(score.toString());
-                writer.newLine();
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    public static HighScoreTable getTable() {
+        return TABLE;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,101 @@
+/**
+ * A high score list persisted to one file.
+ * It handles reading, writing, sorting, and limiting the list, like HighScoreManager,
+ * but as an object: each hosted game session can keep its own table (or none), while
+ * the desktop game uses the shared table behind HighScoreManager.
+ * Methods are synchronized, so sessions on different threads may share a table.
+ */
+package com.comp2042;
+
+import com.comp2042.replay.BlackBox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public final class HighScoreTable {
+
+    // The file where this table's scores are persisted
+    private final Path file;
+    // The maximum number of top scores to maintain
+    private final int maxScores;
+
+    /**
+     * Creates a table backed by a file. The file is only created when a score is added.
+     *
+     * @param file      The file that stores the scores, one per line.
+     * @param maxScores How many top scores to keep.
+     */
+    public HighScoreTable(Path file, int maxScores) {
+        this.file = file;
+        this.maxScores = maxScores;
+    }
+
+    /**
+     * Retrieves the top scores from the file, highest first.
+     *
+     * @return A List of the top scores. Returns an empty list if the file does not exist.
+     */
+    public synchronized List<Integer> getTopScores() {
+        List<Integer> scores = new ArrayList<>();
+
+        // Check if the file exists before attempting to read to avoid errors
+        if (!Files.exists(file)) {
+            return scores;
+        }
+
+        try (Stream<String> lines = Files.lines(file)) {
+            scores = lines.map(String::trim)
+                    .filter(s -> !s.isEmpty())
+                    .map(Integer::parseInt)
+                    .sorted(Collections.reverseOrder()) // Sort High to Low
+                    .limit(maxScores)                   // Keep only the top N scores
+                    .collect(Collectors.toList());
+        } catch (IOException | NumberFormatException e) {
+            e.printStackTrace();
+            BlackBox.dump("could not read " + file, e);
+        }
+        return scores;
+    }
+
+    /**
+     * Adds a new score to the list if it qualifies, rewriting the file with the new top scores.
+     *
+     * @param newScore The score achieved in the recent game.
+     */
+    public synchronized void addScore(int newScore) {
+        List<Integer> scores = getTopScores();
+        scores.add(newScore);
+
+        // Re-sort and keep only the top N
+        List<Integer> top = scores.stream()
+                .sorted(Collections.reverseOrder())
+                .limit(maxScores)
+                .collect(Collectors.toList());
+
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Integer score : top) {
+                writer.write(score.toString());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            BlackBox.dump("could not write " + file, e);
+        }
+    }
+
+    /**
+     * Retrieves the file backing this table.
+     *
+     * @return The file path.
+     */
+    public Path getFile() {
+        return file;
+    }
+}
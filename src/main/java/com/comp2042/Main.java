@@ -5,45 +5,128 @@
 
 package com.comp2042;
 
+import com.comp2042.controller.SceneCache;
+import com.comp2042.controller.SessionScope;
+import com.comp2042.metrics.FileRing;
+import com.comp2042.metrics.Metrics;
+import com.comp2042.metrics.PulseWatchdog;
+import com.comp2042.metrics.jfr.GameRecording;
+import com.comp2042.replay.BlackBox;
 import com.comp2042.util.ResourceLoader;
+import com.comp2042.util.StartupTimings;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
 import javafx.stage.Stage;
-import java.net.URL;
+import jdk.jfr.Recording;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
 
 public class Main extends Application {
 
+    private Stage stage;
+    // The flight recording started by -Dtetris.jfr, or null
+    private Recording recording;
+    // Reports slow frames, or null if -Dtetris.pulseBudgetMs=0 turned it off
+    private PulseWatchdog watchdog;
+
     /**
      * Starts the primary stage of the application.
-     * It loads the Start Menu FXML and sets up the initial scene.
+     * The window is shown at once with a loading screen, while fonts, images and layouts are
+     * loaded in the background; the Start Menu replaces the loading screen once it is ready.
      *
      * @param primaryStage The primary window for this application.
-     * @throws Exception If the FXML resource cannot be found or loaded.
      */
     @Override
-    public void start(Stage primaryStage) throws Exception {
-        ResourceLoader.loadResources();
+    public void start(Stage primaryStage) {
+        stage = primaryStage;
+        StartupTimings timings = ResourceLoader.getTimings();
+        timings.mark("Main.start");
+        startMetrics();
+        // Uncaught exceptions write the last minute of play to flight-recordings/
+        BlackBox.install();
+        recording = GameRecording.startFromProperty();
+        startWatchdog(primaryStage);
+
+        // A plain placeholder needs no fonts, images or FXML, so it can be shown straight away
+        Label loading = new Label("LOADING...");
+        loading.setTextFill(Color.WHITE);
+        StackPane placeholder = new StackPane(loading);
+        placeholder.setStyle("-fx-background-color: black;");
+
+        primaryStage.setTitle("TetrisJFX");
+        Scene scene = new Scene(placeholder, 600, 700);
+        primaryStage.setScene(scene);
+        primaryStage.show();
+        timings.mark("window shown");
 
+        // Everything below runs at the same time on background threads
+        CompletableFuture<Void> preloaded = ResourceLoader.preload();
+        CompletableFuture<FXMLLoader> menu = ResourceLoader.parseAsync(ResourceLoader.MENU_LAYOUT,
+                "parse " + ResourceLoader.MENU_LAYOUT);
 
-        // Find the FXML file for the Start Menu
-        URL location = getClass().getClassLoader().getResource("startMenu.fxml");
+        // The menu is styled with the custom fonts, so it is only shown once they are registered
+        CompletableFuture.allOf(menu, ResourceLoader.fonts(), ResourceLoader.image(ResourceLoader.MENU_BACKGROUND))
+                .whenComplete((ready, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        loading.setText("COULD NOT LOAD THE MENU");
+                        error.printStackTrace();
+                        return;
+                    }
+                    Parent root = menu.join().getRoot();
+                    scene.setRoot(root);
+                    // The startup scene becomes the cached menu scene from here on
+                    SceneCache.forStage(primaryStage).adoptMenu(scene, menu.join().getController());
+                    timings.mark("menu shown");
+                    preloaded.thenRun(() -> System.out.print(timings.report()));
+                }));
+    }
 
-        // Safety check
-        if (location == null) {
-            System.err.println("Could not find startMenu.fxml. Ensure it is in the resources folder.");
+    // Publishes the metrics over JMX and metrics.txt, with a few process-wide gauges
+    private static void startMetrics() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Metrics.gauge("jvm.heap.used", () -> memory.getHeapMemoryUsage().getUsed());
+        Metrics.gauge("ui.sessions.open", SessionScope::openSessions);
+        Metrics.gauge("ui.animations.live", SessionScope::liveAnimations);
+        Metrics.start();
+    }
+
+    // Reports frames over the budget to the slow-frames directory, with the state of the game on screen
+    private void startWatchdog(Stage primaryStage) {
+        int budgetMs = Integer.getInteger("tetris.pulseBudgetMs", GameConfig.PULSE_BUDGET_MS);
+        if (budgetMs <= 0) {
             return;
         }
+        SceneCache cache = SceneCache.forStage(primaryStage);
+        watchdog = new PulseWatchdog(budgetMs * 1_000_000L, Thread.currentThread(), cache::describeGame,
+                new FileRing(Paths.get("slow-frames"), "slow-frame-", ".txt", GameConfig.SLOW_FRAME_REPORTS));
+        watchdog.start();
+    }
 
-        // Load the visual layout from the FXML file
-        FXMLLoader fxmlLoader = new FXMLLoader(location);
-        Parent root = fxmlLoader.load();
-
-        primaryStage.setTitle("TetrisJFX");
-        Scene scene = new Scene(root, 600, 700);
-        primaryStage.setScene(scene);
-        primaryStage.show();
+    /**
+     * Stops every cached game screen and writes the final metrics (and flight recording, if any)
+     * when the application exits.
+     */
+    @Override
+    public void stop() {
+        if (stage != null) {
+            SceneCache.forStage(stage).dispose();
+        }
+        if (watchdog != null) {
+            watchdog.close();
+        }
+        Metrics.stop();
+        if (recording != null) {
+            // Stopping writes the recording to its destination file
+            recording.stop();
+        }
     }
 
     /**
@@ -54,4 +137,4 @@ public class Main extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
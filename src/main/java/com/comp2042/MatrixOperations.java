@@ -6,9 +6,6 @@ package com.comp2042;
 
 import com.comp2042.model.ClearRow;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -90,46 +87,60 @@ public class MatrixOperations {
 
     /**
      * Checks for and removes any fully filled rows from the board.
+     * Only the ClearRow is allocated when no row is full; otherwise the remaining rows are
+     * moved into a new outer array and only the replacement empty rows are new.
+     * ClearRow.getNewMatrix() hands out a copy, so the shared rows are never exposed.
      *
      * @param matrix The current board matrix.
      * @return A {@link ClearRow} object containing the new matrix and score details.
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
-        // Iterate through the matrix to find rows that are fully filled (no zeros)
-        for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
-            } else {
-                newRows.add(tmpRow);
+        // Count the rows that are fully filled (no zeros) before building anything
+        int cleared = 0;
+        for (int[] row : matrix) {
+            if (isFull(row)) {
+                cleared++;
             }
         }
+        if (cleared == 0) {
+            return new ClearRow(0, matrix, 0);
+        }
 
-        // Reconstruct the board: fill from the bottom up with the remaining rows
-        // Top rows are filled with empty arrays (new int[]) to replace cleared ones
+        // Reconstruct the board: fill from the bottom up with the remaining rows,
+        // then fill the top with empty rows to replace the cleared ones
+        int[][] tmp = new int[matrix.length][];
+        int target = matrix.length - 1;
         for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
-            } else {
-                break;
+            if (!isFull(matrix[i])) {
+                tmp[target--] = matrix[i];
+            }
+        }
+        for (; target >= 0; target--) {
+            tmp[target] = new int[matrix[0].length];
+        }
+
+        return new ClearRow(cleared, tmp, lineClearBonus(cleared));
+    }
+
+    // Whether a row has no empty cell
+    private static boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
             }
         }
+        return true;
+    }
 
-        // Calculate score: The bonus increases quadratically with the number of lines cleared at once
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+    /**
+     * Calculates the score bonus for clearing a number of lines at once.
+     * The bonus increases quadratically with the number of lines cleared together.
+     *
+     * @param lines The number of lines removed by a single placement.
+     * @return The base score bonus, before any combo multiplier from {@link com.comp2042.model.Score}.
+     */
+    public static int lineClearBonus(int lines) {
+        return 50 * lines * lines;
     }
 
     /**
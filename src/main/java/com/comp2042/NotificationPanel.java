@@ -5,6 +5,7 @@
 
 package com.comp2042;
 
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
 import javafx.animation.TranslateTransition;
@@ -44,8 +45,9 @@ public class NotificationPanel extends BorderPane {
      * Animates the panel to float up and fade out, then removes it from the parent.
      *
      * @param list The list of children nodes from the parent Group.
+     * @return The running animation, so the game session can stop it if the game is left early.
      */
-    public void showScore(ObservableList<Node> list) {
+    public Animation showScore(ObservableList<Node> list) {
         FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
         TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
         tt.setToY(this.getLayoutY() - 40);
@@ -59,5 +61,6 @@ public class NotificationPanel extends BorderPane {
             }
         });
         transition.play();
+        return transition;
     }
 }
@@ -0,0 +1,104 @@
+/**
+ * A small side panel showing the computer's board in versus mode.
+ * It draws a BotOpponent.Snapshot with half-size cells, plus the bot's score and the
+ * garbage queued against the player. It only redraws when handed a new snapshot.
+ */
+
+package com.comp2042;
+
+import com.comp2042.logic.versus.BotOpponent;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+
+import static com.comp2042.GameConfig.*;
+
+public class OpponentView extends VBox {
+
+    // The opponent's board is drawn at half the size of the player's
+    private static final int CELL_SIZE = BRICK_SIZE / 2;
+
+    private final Rectangle[][] cells = new Rectangle[ROWS][COLS];
+    private final Label scoreLabel;
+    private final Label incomingLabel;
+    private final Label statusLabel;
+    private BotOpponent.Snapshot shown;
+
+    public OpponentView() {
+        this.setAlignment(Pos.TOP_CENTER);
+        this.setSpacing(10);
+
+        Label title = new Label("CPU");
+        title.getStyleClass().add("hud-header");
+
+        GridPane grid = new GridPane();
+        grid.getStyleClass().add("gameBoard");
+        for (int r = VISIBLE_ROW_OFFSET; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                Rectangle cell = new Rectangle(CELL_SIZE, CELL_SIZE);
+                cell.setFill(Color.TRANSPARENT);
+                cell.setStroke(Color.rgb(255, 255, 255, 0.1));
+                cell.setStrokeType(StrokeType.INSIDE);
+                cells[r][c] = cell;
+                grid.add(cell, c, r - VISIBLE_ROW_OFFSET);
+            }
+        }
+
+        scoreLabel = new Label("0");
+        scoreLabel.getStyleClass().add("hud-value");
+        incomingLabel = new Label("INCOMING: 0");
+        incomingLabel.getStyleClass().add("hud-header");
+        statusLabel = new Label("");
+        statusLabel.getStyleClass().add("hud-header");
+
+        this.getChildren().addAll(title, grid, scoreLabel, incomingLabel, statusLabel);
+    }
+
+    /**
+     * Draws the bot's latest board, skipping the work if it has not changed since the last call.
+     *
+     * @param snapshot The snapshot published by the bot (ignored if null).
+     */
+    public void render(BotOpponent.Snapshot snapshot) {
+        if (snapshot == null || snapshot == shown) {
+            return;
+        }
+        int[][] matrix = snapshot.getMatrix();
+        int[][] previous = shown == null ? null : shown.getMatrix();
+        for (int r = VISIBLE_ROW_OFFSET; r < ROWS; r++) {
+            for (int c = 0; c < COLS; c++) {
+                int color = matrix[r][c];
+                if (previous != null && previous[r][c] == color) {
+                    continue;
+                }
+                Rectangle cell = cells[r][c];
+                cell.setFill(color < COLORS.length ? COLORS[color] : Color.WHITE);
+                cell.setStroke(color == 0 ? Color.rgb(255, 255, 255, 0.1) : Color.BLACK);
+            }
+        }
+        scoreLabel.setText(String.valueOf(snapshot.getScore()));
+        shown = snapshot;
+    }
+
+    /**
+     * Shows how much garbage is queued against the player.
+     *
+     * @param rows The number of pending garbage rows.
+     */
+    public void setIncoming(int rows) {
+        incomingLabel.setText("INCOMING: " + rows);
+    }
+
+    /**
+     * Shows a status line under the board, e.g. "K.O." when the bot tops out.
+     *
+     * @param text The status text (empty to clear it).
+     */
+    public void setStatus(String text) {
+        statusLabel.setText(text);
+    }
+}
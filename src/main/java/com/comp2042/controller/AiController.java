@@ -0,0 +1,126 @@
+/*
+ * This class is a computer player.
+ * It plugs into an InputEventListener exactly like GuiController does: it reads the game
+ * state from ViewData (active brick, preview queue, hold slot) plus the board matrix, asks
+ * a BeamSearch for the best placement, and then replays the moves that reach it through
+ * the listener's onLeftEvent/onRightEvent/onRotateEvent/onHoldEvent/onHardDropEvent calls.
+ *
+ * Because it only talks to the listener, the same player can drive a GameController on
+ * screen (as an opponent) or a HeadlessGameController for stress tests.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.MoveGenerator;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+
+import java.util.List;
+
+public class AiController {
+
+    // MoveEvents are immutable, so the player reuses one instance per move type
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+
+    private final BeamSearch search;
+    private final MoveGenerator generator;
+    private final BitBoard board;
+    private final EventType[] path;
+    private int[] queue = new int[0];
+
+    private InputEventListener eventListener;
+
+    /**
+     * Creates a player for the standard board size.
+     *
+     * @param search The search used to choose each placement.
+     */
+    public AiController(BeamSearch search) {
+        this.search = search;
+        this.generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+        this.board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        this.path = new EventType[generator.maxPathLength()];
+    }
+
+    /**
+     * Registers the input event listener that this player sends its moves to.
+     *
+     * @param listener The InputEventListener implementation (GameController or HeadlessGameController).
+     */
+    public void setEventListener(InputEventListener listener) {
+        this.eventListener = listener;
+    }
+
+    /**
+     * Plays one full turn: chooses a placement for the active brick and sends the inputs
+     * that put it there, ending with a hard drop.
+     *
+     * @param boardMatrix The current background matrix.
+     * @param view        The current ViewData of the game.
+     * @return The DownData returned by the final hard drop.
+     */
+    public DownData playMove(int[][] boardMatrix, ViewData view) {
+        board.load(boardMatrix);
+        int[][] brickData = view.getBrickData();
+        int id = BrickShapeTable.idOf(brickData);
+        int rotation = BrickShapeTable.rotationOf(id, brickData);
+        int[][] holdData = view.getHoldBrickData();
+        int holdId = holdData != null ? BrickShapeTable.idOf(holdData) : 0;
+
+        List<int[][]> next = view.getNextBrickData();
+        if (queue.length < next.size()) {
+            queue = new int[next.size()];
+        }
+        for (int i = 0; i < next.size(); i++) {
+            queue[i] = BrickShapeTable.idOf(next.get(i));
+        }
+
+        int choice = search.search(board, id, view.getxPosition(), view.getyPosition(), rotation,
+                holdId, true, queue, next.size());
+        if (choice == BeamSearch.NO_MOVE) {
+            return eventListener.onHardDropEvent(HARD_DROP);
+        }
+
+        if (search.usedHold()) {
+            view = eventListener.onHoldEvent(HOLD);
+            brickData = view.getBrickData();
+            id = BrickShapeTable.idOf(brickData);
+            rotation = BrickShapeTable.rotationOf(id, brickData);
+        }
+
+        int count = generator.generate(board, id, view.getxPosition(), view.getyPosition(), rotation);
+        for (int i = 0; i < count; i++) {
+            if (generator.placement(i) == choice) {
+                return replay(generator.path(i, path));
+            }
+        }
+        // The game state changed under us (e.g. hold was refused); just drop where we are
+        return eventListener.onHardDropEvent(HARD_DROP);
+    }
+
+    // Sends a move sequence to the listener; the sequence always ends with a hard drop
+    private DownData replay(int length) {
+        for (int i = 0; i < length - 1; i++) {
+            switch (path[i]) {
+                case LEFT -> eventListener.onLeftEvent(LEFT);
+                case RIGHT -> eventListener.onRightEvent(RIGHT);
+                case ROTATE -> eventListener.onRotateEvent(ROTATE);
+                case DOWN -> eventListener.onDownEvent(DOWN);
+                default -> { }
+            }
+        }
+        return eventListener.onHardDropEvent(HARD_DROP);
+    }
+}
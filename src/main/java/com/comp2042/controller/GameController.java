@@ -16,42 +16,145 @@ import com.comp2042.*;
 import com.comp2042.events.EventSource;
 import com.comp2042.events.InputEventListener;
 import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.versus.VersusMatch;
+import com.comp2042.metrics.Counter;
+import com.comp2042.metrics.Metrics;
+import com.comp2042.metrics.jfr.LineClearEvent;
+import com.comp2042.metrics.jfr.PieceLockEvent;
 import com.comp2042.model.*;
+import com.comp2042.replay.BlackBox;
+import com.comp2042.replay.FlightRecorder;
+import com.comp2042.replay.RecordingBrickGenerator;
+
+import java.util.function.Supplier;
 
 public class GameController implements InputEventListener {
 
+    // Engine metrics, shared by every game in this process
+    private static final Counter TICKS = Metrics.counter("game.ticks");
+    private static final Counter LOCKS = Metrics.counter("game.locks");
+    private static final Counter GAME_OVERS = Metrics.counter("game.overs");
+    // Line clears by size: index 1 is a single, 4 a four-line clear
+    private static final Counter[] CLEARS = {
+            null,
+            Metrics.counter("game.clears.1"),
+            Metrics.counter("game.clears.2"),
+            Metrics.counter("game.clears.3"),
+            Metrics.counter("game.clears.4")
+    };
+    // Moves, drawn bricks and board snapshots of recent play, dumped on a crash or F9
+    private static final FlightRecorder RECORDER = BlackBox.recorder();
+
     // The game board model which holds the state of the grid and pieces
-    private Board board = new SimpleBoard(GameConfig.ROWS, GameConfig.COLS);
-    private final GuiController viewGuiController;
+    private final Board board;
+    private final GameView view;
+    // Built once, so asking for a hint allocates nothing when hints are off
+    private final Supplier<ViewData> currentView;
+    // The opponent's garbage queues in versus mode, or null in a normal game
+    private VersusMatch versusMatch;
 
     public GameController(GuiController c) {
-        viewGuiController = c;
+        this(c, new SimpleBoard(GameConfig.ROWS, GameConfig.COLS,
+                new RecordingBrickGenerator(new RandomBrickGenerator(), RECORDER)));
+    }
+
+    /**
+     * Creates a game on a specific view and board and spawns the first brick.
+     * Used to drive the handlers without a JavaFX screen.
+     *
+     * @param view  The screen the game is shown on.
+     * @param board The board model to play on.
+     */
+    public GameController(GameView view, Board board) {
+        this.view = view;
+        this.board = board;
+        this.currentView = board::getViewData;
 
         board.createNewBrick();
-        viewGuiController.setEventListener(this);
+        view.setEventListener(this);
 
-        viewGuiController.initGameView(
+        view.initGameView(
                 board.getBoardMatrix(),
                 board.getViewData()
         );
+    }
+    // Starts a fresh game in a new session; the game loop starts after the countdown animation finishes
+    public void startGame(SessionScope session) {
+        startGame(session, () -> {});
+    }
 
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindExtraStats(board.getScore());
+    // Starts a fresh game in a new session, then runs onStart after the countdown (e.g. to start a versus opponent)
+    public void startGame(SessionScope session, Runnable onStart) {
+        // The view's timelines, bindings and this game's listener all belong to the session
+        view.openSession(session);
+        view.bindScore(board.getScore().scoreProperty());
+        view.bindExtraStats(board.getScore());
+        setupSpeedAdjustment(session);
+        createNewGame();
+
+        view.startCountdown(() -> {
+            view.getTimeline().play();
+            view.startClock();
+            onStart.run();
+        });
+    }
 
-        setupSpeedAdjustment();
-        updateSpeed(board.getScore().levelProperty().get());
+    /**
+     * Connects this game to a versus match, so cleared lines attack the opponent and
+     * the opponent's garbage is pushed into this board.
+     *
+     * @param match The match shared with the opponent, or null for a normal game.
+     */
+    public void setVersusMatch(VersusMatch match) {
+        this.versusMatch = match;
     }
-    // Starts the game loop after the countdown animation finishes
-    public void startGame() {
-        viewGuiController.startCountdown(() -> {
-            viewGuiController.getTimeline().play();
-            viewGuiController.startClock();
-        });
+
+    /**
+     * Ends a versus game won by the player: records the score and shows the result.
+     */
+    public void winVersus() {
+        HighScoreManager.addScore(board.getScore().scoreProperty().get());
+        view.showResult("YOU WIN");
+    }
+
+    // Settles a locked brick with the versus match; returns true if incoming garbage topped the board out
+    private boolean exchangeGarbage(int linesCleared) {
+        return versusMatch != null && exchangeGarbage(board, versusMatch, RECORDER, linesCleared);
+    }
+
+    /**
+     * Settles the player's locked brick with a versus match, pushing in any garbage let through
+     * and recording it. The hole column is drawn once, so the recording holds the hole that was
+     * actually applied.
+     *
+     * @param board        The player's board.
+     * @param match        The versus match.
+     * @param recorder     Where pushed garbage is recorded.
+     * @param linesCleared How many lines the lock cleared.
+     * @return true if the garbage topped the board out.
+     */
+    static boolean exchangeGarbage(Board board, VersusMatch match, FlightRecorder recorder, int linesCleared) {
+        int rows = match.onLock(VersusMatch.Side.HUMAN, linesCleared);
+        if (rows == 0) {
+            return false;
+        }
+        int hole = match.holeColumn(VersusMatch.Side.HUMAN);
+        recorder.garbage(rows, hole);
+        return board.addGarbageRows(rows, hole);
+    }
+
+    // Counts a locked brick and the size of the line clear it caused
+    private static void countLock(int linesCleared) {
+        LOCKS.increment();
+        if (linesCleared > 0) {
+            CLEARS[Math.min(linesCleared, CLEARS.length - 1)].increment();
+        }
     }
 
-    // Sets up a listener to monitor level changes and adjust game speed dynamically
-    private void setupSpeedAdjustment() {
-        board.getScore().levelProperty().addListener((obs, oldVal, newVal) -> {
+    // Sets up a listener to monitor level changes and adjust game speed dynamically, for one session
+    private void setupSpeedAdjustment(SessionScope session) {
+        session.listen(board.getScore().levelProperty(), (obs, oldVal, newVal) -> {
             updateSpeed(newVal.intValue());
         });
     }
@@ -59,7 +162,7 @@ public class GameController implements InputEventListener {
     // Calculates the speed multiplier based on the current level
     private void updateSpeed(int level) {
         double multiplier = 1.0 + (level - 1) * GameConfig.LEVEL_SPEED_MULTIPLIER;
-        viewGuiController.getTimeline().setRate(multiplier);
+        view.getTimeline().setRate(multiplier);
     }
 
 
@@ -72,7 +175,9 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
+        RECORDER.move(event);
         board.holdBrick();
+        view.requestHint(board.getBoardMatrix(), currentView);
         return board.getViewData();
     }
 
@@ -86,23 +191,15 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
+        RECORDER.move(event);
+        if (event.getEventSource() == EventSource.THREAD) {
+            TICKS.increment();
+        }
         boolean canMove = board.moveBrickDown();
         ClearRow clearRow = null;
 
         if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-
-            // Delegates score calculation to the Score model to handle combo multipliers
-            board.getScore().processLineClear(clearRow.getLinesRemoved(), clearRow.getScoreBonus());
-
-            if (board.createNewBrick()) {
-                HighScoreManager.addScore(board.getScore().scoreProperty().get());
-                viewGuiController.gameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
+            clearRow = lockBrick(false);
         } else {
             if (event.getEventSource() == EventSource.USER) {
                 board.getScore().add(1);
@@ -122,6 +219,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
+        RECORDER.move(event);
         ViewData currentView = board.getViewData();
         int startX = currentView.getxPosition();
         int startY = currentView.getyPosition();
@@ -130,25 +228,62 @@ public class GameController implements InputEventListener {
         int linesDropped = board.dropBrickToBottom();
 
         if (linesDropped > 0) {
-            viewGuiController.showHardDropTrail(startX, startY, linesDropped, shape);
+            view.showHardDropTrail(startX, startY, linesDropped, shape);
         }
 
         // Award points for hard dropping (2 points per line)
         board.getScore().add(linesDropped * 2);
 
+        ClearRow clearRow = lockBrick(true);
+        return new DownData(clearRow, board.getViewData());
+    }
+
+
+    /**
+     * Locks the landed brick: merges it into the board, clears full rows, settles garbage and
+     * spawns the next brick, ending the game if it cannot spawn. Shared by gravity, soft drop
+     * and hard drop, and recorded as JFR PieceLock and LineClear events when profiling.
+     *
+     * @param hardDrop Whether the brick was hard dropped.
+     * @return The rows cleared by the lock.
+     */
+    private ClearRow lockBrick(boolean hardDrop) {
+        PieceLockEvent lock = new PieceLockEvent();
+        lock.begin();
         board.mergeBrickToBackground();
+
+        LineClearEvent clear = new LineClearEvent();
+        clear.begin();
         ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0 && clear.shouldCommit()) {
+            clear.linesRemoved = clearRow.getLinesRemoved();
+            clear.scoreBonus = clearRow.getScoreBonus();
+            clear.commit();
+        }
 
         // Delegates score calculation to the Score model to handle combo multipliers
         board.getScore().processLineClear(clearRow.getLinesRemoved(), clearRow.getScoreBonus());
-
-        if (board.createNewBrick()) {
+        countLock(clearRow.getLinesRemoved());
+
+        // Garbage goes in after the next brick spawns, so it can lift the new brick
+        boolean gameOver = board.createNewBrick() || exchangeGarbage(clearRow.getLinesRemoved());
+        if (lock.shouldCommit()) {
+            lock.hardDrop = hardDrop;
+            lock.linesRemoved = clearRow.getLinesRemoved();
+            lock.gameOver = gameOver;
+            lock.commit();
+        }
+        if (gameOver) {
             HighScoreManager.addScore(board.getScore().scoreProperty().get());
-            viewGuiController.gameOver();
+            GAME_OVERS.increment();
+            view.gameOver();
+        } else if (RECORDER.isSnapshotDue()) {
+            RECORDER.snapshot(board, false);
         }
 
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        return new DownData(clearRow, board.getViewData());
+        view.refreshGameBackground(board.getBoardMatrix());
+        view.requestHint(board.getBoardMatrix(), currentView);
+        return clearRow;
     }
 
 
@@ -161,6 +296,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
+        RECORDER.move(event);
         board.moveBrickLeft();
         return board.getViewData();
     }
@@ -174,6 +310,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
+        RECORDER.move(event);
         board.moveBrickRight();
         return board.getViewData();
     }
@@ -188,6 +325,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
+        RECORDER.move(event);
         board.rotateLeftBrick();
         return board.getViewData();
     }
@@ -195,11 +333,15 @@ public class GameController implements InputEventListener {
 
     /**
      * Resets the game state to start a new session.
-     * Clears the board, resets the score and level, and refreshes the background grid.
+     * Clears the board, resets the score and level, and redraws the background grid and the new brick.
      */    @Override
     public void createNewGame() {
         board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        // A replay of the flight recording can start from here
+        RECORDER.snapshot(board, true);
+        view.refreshGameBackground(board.getBoardMatrix());
+        view.refreshBrick(board.getViewData());
+        view.requestHint(board.getBoardMatrix(), currentView);
         updateSpeed(board.getScore().levelProperty().get());
     }
 }
\ No newline at end of file
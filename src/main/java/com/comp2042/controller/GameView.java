@@ -0,0 +1,119 @@
+/*
+ * This interface is everything GameController needs from the game screen.
+ *
+ * GuiController is the real implementation. GameController only talks to its view through
+ * this interface, so its handlers (with their flight recorder, metrics and JFR calls) can also
+ * be driven without a JavaFX screen, for example to measure what each keypress allocates.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.events.InputEventListener;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewData;
+import javafx.animation.Timeline;
+import javafx.beans.property.IntegerProperty;
+
+import java.util.function.Supplier;
+
+public interface GameView {
+
+    /**
+     * Registers the listener that receives the player's input.
+     *
+     * @param listener The game.
+     */
+    void setEventListener(InputEventListener listener);
+
+    /**
+     * Builds the board display for the initial game state.
+     *
+     * @param boardMatrix The initial background matrix.
+     * @param brick       The initial state of the active brick.
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Starts a new game session on the screen.
+     *
+     * @param session The session of the game about to start.
+     */
+    void openSession(SessionScope session);
+
+    /**
+     * Shows the player's score for the rest of the session.
+     *
+     * @param score The score property.
+     */
+    void bindScore(IntegerProperty score);
+
+    /**
+     * Shows the level and line count for the rest of the session.
+     *
+     * @param scoreObj The Score holding them.
+     */
+    void bindExtraStats(Score scoreObj);
+
+    /**
+     * Plays the countdown, then runs a callback.
+     *
+     * @param onFinished What to run when the countdown completes.
+     */
+    void startCountdown(Runnable onFinished);
+
+    /**
+     * Retrieves the game loop timeline, whose rate sets the game speed.
+     *
+     * @return The timeline.
+     */
+    Timeline getTimeline();
+
+    /**
+     * Starts the game clock.
+     */
+    void startClock();
+
+    /**
+     * Asks for a placement hint for a newly spawned or swapped brick.
+     * The brick's ViewData is only built if the view needs it, so this costs nothing with hints off.
+     *
+     * @param boardMatrix The current background matrix.
+     * @param brick       Supplies the current ViewData.
+     */
+    void requestHint(int[][] boardMatrix, Supplier<ViewData> brick);
+
+    /**
+     * Shows the trail of a hard dropped brick.
+     *
+     * @param startX    The x-coordinate the drop started at.
+     * @param startY    The y-coordinate the drop started at.
+     * @param distance  The number of rows dropped.
+     * @param brickData The shape matrix of the brick.
+     */
+    void showHardDropTrail(int startX, int startY, int distance, int[][] brickData);
+
+    /**
+     * Redraws the active brick, its ghost and the previews.
+     *
+     * @param brick The current ViewData.
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Redraws the background after a brick has locked.
+     *
+     * @param board The background matrix.
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Shows the Game Over state.
+     */
+    void gameOver();
+
+    /**
+     * Ends the game with a custom heading, such as the result of a versus game.
+     *
+     * @param heading The heading shown.
+     */
+    void showResult(String heading);
+}
@@ -9,9 +9,16 @@ package com.comp2042.controller;
 import com.comp2042.*;
 import com.comp2042.model.*;
 import com.comp2042.events.*;
+import com.comp2042.metrics.Metrics;
+import com.comp2042.metrics.PerfSampler;
+import com.comp2042.metrics.jfr.BoardRepaintEvent;
+import com.comp2042.metrics.jfr.GravityTickEvent;
+import com.comp2042.metrics.jfr.InputHandledEvent;
+import com.comp2042.replay.BlackBox;
+import com.comp2042.util.LogHistogram;
+import com.comp2042.util.ResourceLoader;
 
 import javafx.animation.FadeTransition;
-import javafx.animation.KeyFrame;
 import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
@@ -19,21 +26,18 @@ import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.StrokeType;
-import javafx.scene.text.Font;
 import javafx.stage.Stage;
 import javafx.util.Duration;
 import javafx.scene.control.Label;
@@ -43,6 +47,8 @@ import java.io.IOException;
 import java.net.URL;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static com.comp2042.GameConfig.*;
 
@@ -52,14 +58,21 @@ import static com.comp2042.GameConfig.*;
  * (keyboard events), and managing UI updates such as the timer and game-over screens.
  * It acts as a bridge between the FXML layout and the game logic controller.
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
+
+    // How long redrawing the falling brick and the settled board take, in nanoseconds
+    private static final LogHistogram REFRESH_BRICK_NS = Metrics.histogram("gui.refreshBrick.ns");
+    private static final LogHistogram REFRESH_BACKGROUND_NS = Metrics.histogram("gui.refreshGameBackground.ns");
 
     // --- FXML Bindings for UI Components ---
+    @FXML private StackPane rootPane;
     @FXML private GridPane gamePanel;
     @FXML private Group groupNotification;
     @FXML private GridPane brickPanel;
     @FXML private GridPane ghostPanel;
+    @FXML private GridPane hintPanel;
     @FXML private Pane gameZone;
+    @FXML private Pane hudPane;
 
     // Custom Game Over Overlay Panel
     @FXML private GameOverPanel gameOverPanel;
@@ -80,11 +93,14 @@ public class GuiController implements Initializable {
     private Rectangle[][] displayMatrix;
     private Rectangle[][] rectangles;
     private Rectangle[][] ghostRectangles;
+    private Rectangle[][] hintRectangles;
 
     private Group trailGroup;
 
     // Logic & Timing
     private InputEventListener eventListener;
+    // The current game; it owns the timelines below and everything else the game starts
+    private SessionScope session;
     private Timeline timeLine;  // The main game loop (falling blocks)
     private Timeline clock;     // The seconds counter for playtime
     private int secondsPlayed = 0;
@@ -95,10 +111,29 @@ public class GuiController implements Initializable {
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
     private IntegerProperty currentScoreProperty;
 
+    // The computer opponent in versus mode, or null in a normal game
+    private VersusController versusController;
+
+    // Hint overlay; the engine (and its thread) is only created once hints are first switched on
+    private HintEngine hintEngine;
+    private Timeline hintPoll;
+    private boolean hintsEnabled = false;
+    private HintEngine.Hint shownHint;
+    private int[][] hintBoard;
+    private Supplier<ViewData> hintBrick;
+
+    // What the game is doing, kept readable from other threads for slow frame reports
+    private volatile MoveEvent pendingEvent;
+    private volatile ViewData shownBrick;
+    private volatile int[][] shownBoard;
+
+    // Frame rate, tick time, allocation and GC overlay, toggled with F3
+    private final DebugHud debugHud = new DebugHud(PerfSampler.forThisJvm());
+
     /**
      * Initializes the controller class. This method is automatically called
      * after the FXML file has been loaded.
-     * It sets up the grid layout, loads resources like fonts, and configures
+     * It sets up the grid layout, applies the preloaded background, and configures
      * input handling and the game clock.
      *
      * @param location  The location used to resolve relative paths for the root object, or null if unknown.
@@ -106,13 +141,9 @@ public class GuiController implements Initializable {
      */
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Fallback font loading in case Main didn't load them globally
-        if (getClass().getClassLoader().getResource("digital.ttf") != null) {
-            Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
-        }
-        if (getClass().getClassLoader().getResource("PressStart2P-Regular.ttf") != null) {
-            Font.loadFont(getClass().getClassLoader().getResource("PressStart2P-Regular.ttf").toExternalForm(), 38);
-        }
+        // Fonts are registered once at startup (this is a no-op by now); the background is decoded in advance
+        ResourceLoader.loadResources();
+        ResourceLoader.applyBackground(rootPane, ResourceLoader.GAME_BACKGROUND);
 
         // Configure grid spacing based on GameConfig constants
         gamePanel.setHgap(BOARD_GAP);
@@ -121,16 +152,34 @@ public class GuiController implements Initializable {
         brickPanel.setVgap(BOARD_GAP);
         ghostPanel.setHgap(BOARD_GAP);
         ghostPanel.setVgap(BOARD_GAP);
+        hintPanel.setHgap(BOARD_GAP);
+        hintPanel.setVgap(BOARD_GAP);
 
         // Ensure the game panel can receive keyboard focus
         gamePanel.setFocusTraversable(true);
 
-        // Initialize systems
+        // Initialize systems (the timelines are created per game, in openSession)
         setupKeyControls();
-        setupClock();
 
         // Hide overlays initially
         gameOverPanel.setVisible(false);
+        // Added last, so it is drawn over the board and everything on it
+        gameZone.getChildren().add(debugHud);
+    }
+
+    /**
+     * Starts a new game session on this screen. The game loop, the clock and the hint poll
+     * are created for the session, and everything the game starts from now on is registered
+     * with it, so closing the session stops all of it.
+     *
+     * @param session The session of the game about to start.
+     */
+    public void openSession(SessionScope session) {
+        this.session = session;
+        timeLine = session.timeline(Duration.millis(DROP_SPEED_MS),
+                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD)));
+        setupClock();
+        setupHintPoll();
     }
 
     /**
@@ -138,17 +187,26 @@ public class GuiController implements Initializable {
      * This timeline runs once per second to update the time label in the HUD
      * (Heads-Up Display) with the MM:SS format.
      */    private void setupClock() {
-        clock = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
+        clock = session.timeline(Duration.seconds(1), e -> {
             secondsPlayed++;
             int m = secondsPlayed / 60;
             int s = secondsPlayed % 60;
             timeLabel.setText(String.format("%02d:%02d", m, s));
-        }));
-        clock.setCycleCount(Timeline.INDEFINITE);
+        });
     }
 
 
 
+    /**
+     * Sets up the timeline that picks up finished hint searches.
+     * The search publishes its result from a background thread; this polls it on the FX thread,
+     * so a slow search can never hold up input or gravity.
+     */
+    private void setupHintPoll() {
+        hintPoll = session.timeline(Duration.millis(HINT_REFRESH_MS), e -> showHint());
+    }
+
+
     /**
      * Starts the game clock timer.
      * Should be called when the game begins or resumes.
@@ -172,7 +230,8 @@ public class GuiController implements Initializable {
 
     /**
      * Configures keyboard event handling.
-     * This method maps specific keys (Arrows, WASD, Space, C, P) to game actions.
+     * This method maps specific keys (Arrows, WASD, Space, C, P) to game actions,
+     * F9 to writing a flight recording and F3 to the debug overlay.
      */
     private void setupKeyControls() {
         gamePanel.setOnKeyPressed(event -> {
@@ -188,11 +247,11 @@ public class GuiController implements Initializable {
             // Active Gameplay Controls
             if (!isPause.get() && !isGameOver.get()) {
                 if (event.getCode() == KeyCode.LEFT || event.getCode() == KeyCode.A)
-                    refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                    handleMove(new MoveEvent(EventType.LEFT, EventSource.USER), eventListener::onLeftEvent);
                 if (event.getCode() == KeyCode.RIGHT || event.getCode() == KeyCode.D)
-                    refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                    handleMove(new MoveEvent(EventType.RIGHT, EventSource.USER), eventListener::onRightEvent);
                 if (event.getCode() == KeyCode.UP || event.getCode() == KeyCode.W)
-                    refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+                    handleMove(new MoveEvent(EventType.ROTATE, EventSource.USER), eventListener::onRotateEvent);
 
                 if (event.getCode() == KeyCode.DOWN || event.getCode() == KeyCode.S)
                     moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
@@ -203,10 +262,17 @@ public class GuiController implements Initializable {
 
                 // Hold Piece on 'C'
                 if (event.getCode() == KeyCode.C)
-                    refreshBrick(eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
+                    handleMove(new MoveEvent(EventType.HOLD, EventSource.USER), eventListener::onHoldEvent);
+
+                // Placement hint on 'H'
+                if (event.getCode() == KeyCode.H) toggleHints();
             }
             // Debug key to start new game
             if (event.getCode() == KeyCode.N) newGame(null);
+            // Writes the last minute of play to flight-recordings/, for bug reports
+            if (event.getCode() == KeyCode.F9) BlackBox.dump("F9 pressed");
+            // Shows or hides the performance overlay
+            if (event.getCode() == KeyCode.F3) debugHud.toggle();
         });
     }
 
@@ -238,6 +304,7 @@ public class GuiController implements Initializable {
             isPause.set(true);
             timeLine.stop();
             clock.stop();
+            if (versusController != null) versusController.setPaused(true);
             pauseMenu.setVisible(true);
         }
     }
@@ -254,39 +321,60 @@ public class GuiController implements Initializable {
         isPause.set(false);
         timeLine.play();
         clock.play();
+        if (versusController != null) versusController.setPaused(false);
         gamePanel.requestFocus(); // Return focus to grid for keyboard input
     }
 
     /**
      * Returns the user to the Main Menu scene.
-     * Stops all running game loops and loads the Start Menu FXML.
+     * Stops all running game loops and switches to the cached Start Menu.
      *
      * @param event The ActionEvent triggered by the "Main Menu" button.
      */
     @FXML
     public void returnToMenu(ActionEvent event) {
-        timeLine.stop();
-        clock.stop();
+        suspend();
         try {
-            URL location = getClass().getClassLoader().getResource("startMenu.fxml");
-            FXMLLoader fxmlLoader = new FXMLLoader(location);
-            Parent root = fxmlLoader.load();
-
-            // Find the current stage to swap the scene
-            Stage stage;
-            if (event != null && event.getSource() instanceof Node) {
-                stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            } else {
-                // Fallback if event is null (e.g. from Game Over panel)
-                stage = (Stage) gamePanel.getScene().getWindow();
-            }
-
-            Scene scene = new Scene(root, 600, 700);
-            stage.setScene(scene);
-            stage.show();
+            // The game scene stays cached, so the window is found through the board rather than the event
+            Stage stage = (Stage) gamePanel.getScene().getWindow();
+            SceneCache.forStage(stage).showMenu();
         } catch (IOException e) {
             e.printStackTrace();
+            BlackBox.dump("could not return to the menu", e);
+        }
+    }
+
+
+    /**
+     * Ends the current game session: its game loop, clock, animations, hint search, versus
+     * opponent and score bindings are all stopped or released. The screen can be reused afterwards.
+     */
+    public void suspend() {
+        if (session != null) {
+            session.close();
+            session = null;
         }
+        hintEngine = null;
+        hintsEnabled = false;
+        hideHint();
+        debugHud.hide();
+    }
+
+
+    /**
+     * Puts a cached game screen back into its starting state before it is shown again.
+     * Hides every overlay, clears leftover effects and resets the clock; the model itself
+     * is reset through the listener's createNewGame().
+     */
+    public void resetView() {
+        suspend();
+        gameOverPanel.setVisible(false);
+        pauseMenu.setVisible(false);
+        groupNotification.getChildren().clear();
+        trailGroup.getChildren().clear();
+        resetClock();
+        isPause.set(false);
+        isGameOver.set(false);
     }
 
 
@@ -355,6 +443,23 @@ public class GuiController implements Initializable {
             }
         }
 
+        // 4. Create Hint Grid (outline of the suggested placement)
+        hintRectangles = new Rectangle[4][4];
+        for (int i = 0; i < hintRectangles.length; i++) {
+            for (int j = 0; j < hintRectangles[i].length; j++) {
+                Rectangle r = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                r.setFill(Color.TRANSPARENT);
+                r.setStroke(Color.WHITE);
+                r.setStrokeWidth(2);
+                r.setStrokeType(StrokeType.INSIDE);
+                r.getStrokeDashArray().addAll(4.0, 4.0);
+                r.setVisible(false);
+                hintRectangles[i][j] = r;
+                hintPanel.add(r, j, i);
+            }
+        }
+        hintPanel.setVisible(false);
+
         trailGroup = new Group();
         gameZone.getChildren().add(2, trailGroup);
 
@@ -371,15 +476,73 @@ public class GuiController implements Initializable {
         gameZone.setMaxSize(boardWidth, boardHeight);
         Rectangle clip = new Rectangle(0, 0, boardWidth, boardHeight);
         gameZone.setClip(clip);
+    }
 
-        // Initialize Main Game Loop
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(DROP_SPEED_MS),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Switches the placement hint on or off.
+     * The first time hints are switched on, the hint engine and its background thread are created.
+     */
+    private void toggleHints() {
+        hintsEnabled = !hintsEnabled;
+        if (hintsEnabled) {
+            if (hintEngine == null) hintEngine = session.manage(HintEngine.createDefault());
+            hintPoll.play();
+            if (hintBoard != null) hintEngine.request(hintBoard, hintBrick.get());
+        } else {
+            hintEngine.cancel();
+            hintPoll.stop();
+            hideHint();
+        }
     }
 
+
+    /**
+     * Asks for a new placement hint. Called by the game whenever the falling brick changes
+     * (a new brick spawns or the hold swaps it). The old hint is hidden at once, and the
+     * search runs in the background; this method never waits for it.
+     *
+     * @param boardMatrix The current background matrix.
+     * @param brick       Supplies the current ViewData; only called while hints are on.
+     */
+    public void requestHint(int[][] boardMatrix, Supplier<ViewData> brick) {
+        hintBoard = boardMatrix;
+        hintBrick = brick;
+        if (!hintsEnabled) return;
+        hideHint();
+        hintEngine.request(boardMatrix, brick.get());
+    }
+
+
+    /**
+     * Draws the latest finished hint, if it has changed since the last poll.
+     */
+    private void showHint() {
+        HintEngine.Hint hint = hintEngine.getHint();
+        if (hint == shownHint) return;
+        shownHint = hint;
+        if (hint == null || isGameOver.get()) {
+            hintPanel.setVisible(false);
+            return;
+        }
+        int[][] shape = hint.getShape();
+        for (int i = 0; i < shape.length; i++) {
+            for (int j = 0; j < shape[i].length; j++) {
+                hintRectangles[i][j].setVisible(shape[i][j] != 0);
+            }
+        }
+        hintPanel.setLayoutX(hint.getX() * (BRICK_SIZE + BOARD_GAP));
+        hintPanel.setLayoutY((hint.getY() - VISIBLE_ROW_OFFSET) * (BRICK_SIZE + BOARD_GAP));
+        hintPanel.setVisible(true);
+    }
+
+
+    // Hides the hint until the next search finishes
+    private void hideHint() {
+        shownHint = null;
+        hintPanel.setVisible(false);
+    }
+
+
     /**
      * Renders the "Hold Piece" preview in the side panel.
      * Clears the previous preview and draws the new brick shape if one is held.
@@ -454,7 +617,11 @@ public class GuiController implements Initializable {
             onFinished.run();
         });
 
-        // Start the chain
+        // Start the chain; each step belongs to the session, so leaving the game ends the countdown too
+        session.track(pause1);
+        session.track(pause2);
+        session.track(pause3);
+        session.track(pauseGo);
         pause1.play();
         pause1.setOnFinished(e -> {
             countdownLabel.setText("2");
@@ -525,7 +692,7 @@ public class GuiController implements Initializable {
                         ft.setFromValue(0.4);
                         ft.setToValue(0.0);
                         ft.setOnFinished(e -> trailGroup.getChildren().remove(r));
-                        ft.play();
+                        session.track(ft).play();
                     }
                 }
             }
@@ -583,18 +750,23 @@ public class GuiController implements Initializable {
      *
      * @param brick The current snapshot of the game data (ViewData).
      */
-    private void refreshBrick(ViewData brick) {
+    public void refreshBrick(ViewData brick) {
         if (!isPause.get()) {
+            long start = System.nanoTime();
+            shownBrick = brick;
             updateBrickPanelPosition(brick);
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    int colorId = brick.getBrickData()[i][j];
+            // Each call returns a fresh copy, so read the shape once
+            int[][] brickData = brick.getBrickData();
+            for (int i = 0; i < brickData.length; i++) {
+                for (int j = 0; j < brickData[i].length; j++) {
+                    int colorId = brickData[i][j];
                     setRectangleData(colorId, rectangles[i][j]);
                     setGhostRectangleData(colorId, ghostRectangles[i][j]);
                 }
             }
             renderNextPiece(brick.getNextBrickData());
             renderHoldPiece(brick.getHoldBrickData());
+            REFRESH_BRICK_NS.record(System.nanoTime() - start);
         }
     }
 
@@ -605,6 +777,12 @@ public class GuiController implements Initializable {
      * @param board The updated 2D array of the board state.
      */
     public void refreshGameBackground(int[][] board) {
+        long start = System.nanoTime();
+        BoardRepaintEvent repaint = new BoardRepaintEvent();
+        repaint.begin();
+        shownBoard = board;
+        int cells = 0;
+        int filled = 0;
         for (int i = VISIBLE_ROW_OFFSET; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
                 int color = board[i][j];
@@ -613,9 +791,17 @@ public class GuiController implements Initializable {
                     displayMatrix[i][j].setStroke(Color.rgb(255, 255, 255, 0.1));
                 } else {
                     displayMatrix[i][j].setStroke(Color.BLACK);
+                    filled++;
                 }
+                cells++;
             }
         }
+        if (repaint.shouldCommit()) {
+            repaint.cellsRepainted = cells;
+            repaint.filledCells = filled;
+            repaint.commit();
+        }
+        REFRESH_BACKGROUND_NS.record(System.nanoTime() - start);
     }
 
 
@@ -672,45 +858,132 @@ public class GuiController implements Initializable {
      */
     private void moveDown(MoveEvent event) {
         if (!isPause.get()) {
+            // Gravity and the player's drops are recorded as different JFR events when profiling
+            GravityTickEvent tick = new GravityTickEvent();
+            InputHandledEvent input = new InputHandledEvent();
+            tick.begin();
+            input.begin();
+            pendingEvent = event;
+            long start = System.nanoTime();
             DownData data;
-            if (event.getEventType() == EventType.HARD_DROP) {
-                data = eventListener.onHardDropEvent(event);
-            } else {
-                data = eventListener.onDownEvent(event);
+            try {
+                if (event.getEventType() == EventType.HARD_DROP) {
+                    data = eventListener.onHardDropEvent(event);
+                } else {
+                    data = eventListener.onDownEvent(event);
+                }
+            } finally {
+                pendingEvent = null;
+            }
+            if (event.getEventSource() == EventSource.THREAD) {
+                debugHud.tick(System.nanoTime() - start);
             }
 
             // Check for line clears and show notification
             if (data.getClearRow() != null && data.getClearRow().getLinesRemoved() > 0) {
                 NotificationPanel panel = new NotificationPanel("+" + data.getClearRow().getScoreBonus());
                 groupNotification.getChildren().add(panel);
-                panel.showScore(groupNotification.getChildren());
+                session.track(panel.showScore(groupNotification.getChildren()));
             }
             refreshBrick(data.getViewData());
+
+            if (event.getEventSource() == EventSource.THREAD) {
+                if (tick.shouldCommit()) {
+                    tick.locked = data.getClearRow() != null;
+                    tick.linesRemoved = tick.locked ? data.getClearRow().getLinesRemoved() : 0;
+                    tick.commit();
+                }
+            } else if (input.shouldCommit()) {
+                input.eventType = event.getEventType().name();
+                input.commit();
+            }
         }
         gamePanel.requestFocus();
     }
 
 
+    /**
+     * Applies one sideways move, rotation or hold and redraws the brick.
+     * Recorded as a JFR InputHandled event when profiling.
+     *
+     * @param event  The player's move.
+     * @param action The listener method that applies it.
+     */
+    private void handleMove(MoveEvent event, Function<MoveEvent, ViewData> action) {
+        InputHandledEvent input = new InputHandledEvent();
+        input.begin();
+        pendingEvent = event;
+        try {
+            refreshBrick(action.apply(event));
+        } finally {
+            pendingEvent = null;
+        }
+        if (input.shouldCommit()) {
+            input.eventType = event.getEventType().name();
+            input.commit();
+        }
+    }
+
+
+    /**
+     * Describes what the game is doing right now: the move being handled, the falling brick and
+     * the settled board. Safe to call from any thread, for slow frame reports; the board may be
+     * read halfway through an update.
+     *
+     * @return A few lines of text, with the board drawn one row per line.
+     */
+    public String describeState() {
+        StringBuilder text = new StringBuilder();
+        MoveEvent event = pendingEvent;
+        text.append("Handling: ").append(event == null ? "nothing"
+                : event.getEventType() + " from " + event.getEventSource()).append(System.lineSeparator());
+        text.append("Paused: ").append(isPause.get()).append(", game over: ").append(isGameOver.get())
+                .append(", level: ").append(levelLabel.getText()).append(", score: ").append(scoreLabel.getText())
+                .append(System.lineSeparator());
+        ViewData brick = shownBrick;
+        if (brick != null) {
+            text.append("Falling brick at x=").append(brick.getxPosition()).append(", y=").append(brick.getyPosition())
+                    .append(System.lineSeparator());
+        }
+        int[][] board = shownBoard;
+        if (board == null) {
+            return text.append("No board shown yet").toString();
+        }
+        int filled = 0;
+        StringBuilder rows = new StringBuilder();
+        for (int i = VISIBLE_ROW_OFFSET; i < board.length; i++) {
+            for (int cell : board[i]) {
+                rows.append(cell == 0 ? '.' : Character.forDigit(cell, 10));
+                filled += cell == 0 ? 0 : 1;
+            }
+            rows.append(System.lineSeparator());
+        }
+        return text.append("Board (").append(filled).append(" filled cells):").append(System.lineSeparator())
+                .append(rows).toString().stripTrailing();
+    }
+
+
     /**
      * Binds the UI Score Label to the Score property in the model.
      * Ensures the score updates automatically on screen when the value changes.
+     * The binding lasts until the current game session closes.
      *
      * @param score The IntegerProperty representing the player's score.
      */
     public void bindScore(IntegerProperty score) {
-        scoreLabel.textProperty().bind(score.asString("%d"));
+        session.bind(scoreLabel.textProperty(), score.asString("%d"));
         this.currentScoreProperty = score;
     }
 
 
     /**
-     * Binds additional UI labels (Level, Lines) to the model properties.
+     * Binds additional UI labels (Level, Lines) to the model properties, until the current game session closes.
      *
      * @param scoreObj The Score object containing the level and lines properties.
      */
     public void bindExtraStats(Score scoreObj) {
-        levelLabel.textProperty().bind(scoreObj.levelProperty().asString("%d"));
-        linesLabel.textProperty().bind(scoreObj.linesClearedProperty().asString("%d"));
+        session.bind(levelLabel.textProperty(), scoreObj.levelProperty().asString("%d"));
+        session.bind(linesLabel.textProperty(), scoreObj.linesClearedProperty().asString("%d"));
     }
 
 
@@ -719,9 +992,26 @@ public class GuiController implements Initializable {
      * Stops the game loop and clock, and displays the Game Over overlay panel.
      */
     public void gameOver() {
+        if (versusController != null) {
+            versusController.onPlayerToppedOut();
+            showResult("YOU LOSE");
+        } else {
+            showResult("GAME OVER");
+        }
+    }
+
+
+    /**
+     * Ends the game and shows the Game Over overlay with a custom heading.
+     * Used by versus mode to announce the winner.
+     *
+     * @param heading The title shown on the overlay (e.g. "YOU WIN").
+     */
+    public void showResult(String heading) {
         timeLine.stop();
         clock.stop();
-        gameOverPanel.show(currentScoreProperty.get(), this);
+        hideHint();
+        gameOverPanel.show(currentScoreProperty.get(), this, heading);
         isGameOver.set(true);
     }
 
@@ -736,6 +1026,7 @@ public class GuiController implements Initializable {
         timeLine.stop();
         clock.stop();
         gameOverPanel.setVisible(false);
+        if (versusController != null) versusController.restart();
         eventListener.createNewGame();
 
         resetClock();
@@ -759,6 +1050,40 @@ public class GuiController implements Initializable {
     }
 
 
+    /**
+     * Registers the versus controller, so pausing, restarting and leaving the game
+     * also pause, restart and stop the computer opponent.
+     *
+     * @param controller The VersusController of this game.
+     */
+    public void setVersusController(VersusController controller) {
+        this.versusController = controller;
+    }
+
+
+    /**
+     * Adds the opponent's board panel to the right of the HUD, widening the layout to fit it.
+     *
+     * @param opponentView The node showing the opponent's board.
+     */
+    public void attachOpponent(Node opponentView) {
+        hudPane.setPrefWidth(VERSUS_SCENE_WIDTH);
+        opponentView.setLayoutX(600);
+        opponentView.setLayoutY(110);
+        hudPane.getChildren().add(opponentView);
+    }
+
+
+    /**
+     * Removes the opponent's board panel added by attachOpponent().
+     *
+     * @param opponentView The node showing the opponent's board.
+     */
+    public void detachOpponent(Node opponentView) {
+        hudPane.getChildren().remove(opponentView);
+    }
+
+
     /**
      * Retrieves the main game loop timeline.
      * Used by the controller to adjust game speed.
@@ -0,0 +1,126 @@
+/*
+ * This class runs the game rules without a user interface.
+ * It implements InputEventListener with the same move, lock, scoring and spawn logic as
+ * GameController, but instead of updating a GuiController it simply tracks whether the
+ * game is over. It is used wherever a game has to run off the FX thread: AI players,
+ * automated tests and bulk simulations.
+ *
+ * High scores are deliberately not recorded, so simulated games never touch highscores.txt.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.events.EventSource;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+
+public class HeadlessGameController implements InputEventListener {
+
+    private final Board board;
+    private boolean gameOver;
+
+    /**
+     * Creates a headless game around a board and spawns the first brick.
+     *
+     * @param board The board model to drive (usually a SimpleBoard).
+     */
+    public HeadlessGameController(Board board) {
+        this.board = board;
+        gameOver = board.createNewBrick();
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        if (board.moveBrickDown()) {
+            if (event.getEventSource() == EventSource.USER) {
+                board.getScore().add(1);
+            }
+            return new DownData(null, board.getViewData());
+        }
+        ClearRow clearRow = lockBrick();
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        int linesDropped = board.dropBrickToBottom();
+        // Award points for hard dropping (2 points per line), as in GameController
+        board.getScore().add(linesDropped * 2);
+        ClearRow clearRow = lockBrick();
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        board.holdBrick();
+        return board.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        board.newGame();
+        gameOver = false;
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom (versus mode), ending the game if the stack overflows.
+     *
+     * @param count      The number of garbage rows.
+     * @param holeColumn The empty column of every garbage row.
+     */
+    public void receiveGarbage(int count, int holeColumn) {
+        if (board.addGarbageRows(count, holeColumn)) {
+            gameOver = true;
+        }
+    }
+
+    /**
+     * Reports whether the last spawned brick collided immediately.
+     *
+     * @return true once the game has ended.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Retrieves the board model driven by this controller.
+     *
+     * @return The board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    // Locks the landed brick, scores cleared lines and spawns the next brick
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        board.getScore().processLineClear(clearRow.getLinesRemoved(), clearRow.getScoreBonus());
+        if (board.createNewBrick()) {
+            gameOver = true;
+        }
+        return clearRow;
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * This class suggests where to place the falling brick, for the optional hint overlay.
+ *
+ * Searching takes far longer than a frame, so it never runs on the FX thread. request()
+ * only copies the board into a BitBoard, bumps a generation counter and hands the work to a
+ * single background thread; any older search is aborted at the same time. When a search
+ * finishes it publishes its answer as one immutable Hint through a volatile field, and only
+ * if no newer request has arrived meanwhile. The FX thread polls getHint(), which never
+ * blocks and never returns an answer for an older brick.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.ai.Placement;
+import com.comp2042.logic.ai.TranspositionTable;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.model.ViewData;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class HintEngine implements AutoCloseable {
+
+    /**
+     * A suggested final position for the falling brick.
+     */
+    public static final class Hint {
+        private final long generation;
+        private final int brickId;
+        private final int rotation;
+        private final int x;
+        private final int y;
+
+        Hint(long generation, int brickId, int rotation, int x, int y) {
+            this.generation = generation;
+            this.brickId = brickId;
+            this.rotation = rotation;
+            this.x = x;
+            this.y = y;
+        }
+
+        /**
+         * Retrieves the request this hint answers.
+         *
+         * @return The generation returned by the matching request() call.
+         */
+        public long getGeneration() {
+            return generation;
+        }
+
+        /**
+         * Retrieves the shape of the brick in its suggested rotation.
+         *
+         * @return The shared 4x4 shape matrix; callers must not modify it.
+         */
+        public int[][] getShape() {
+            return BrickShapeTable.shape(brickId, rotation);
+        }
+
+        /**
+         * Retrieves the ID (1-7) of the brick the hint is for.
+         *
+         * @return The brick ID.
+         */
+        public int getBrickId() {
+            return brickId;
+        }
+
+        /**
+         * Retrieves the suggested rotation index.
+         *
+         * @return The rotation.
+         */
+        public int getRotation() {
+            return rotation;
+        }
+
+        /**
+         * Retrieves the suggested x-coordinate of the brick's 4x4 matrix.
+         *
+         * @return The column.
+         */
+        public int getX() {
+            return x;
+        }
+
+        /**
+         * Retrieves the suggested y-coordinate of the brick's 4x4 matrix, where it lands.
+         *
+         * @return The row.
+         */
+        public int getY() {
+            return y;
+        }
+    }
+
+    // Search settings for createDefault(): three bricks deep, answering within a few frames
+    private static final int HINT_BEAM_WIDTH = 6;
+    private static final int HINT_DEPTH = 3;
+    private static final long HINT_BUDGET_MS = 40;
+    // Evaluations cached across hints: most boards of one search come up again in the next
+    private static final int HINT_CACHE_BUCKETS = 1 << 15;
+
+    private final BeamSearch search;
+    private final ExecutorService executor;
+
+    // Written only by the thread calling request() and cancel(); read by the search thread
+    private volatile long generation;
+    private volatile Hint hint;
+    private Future<?> pending;
+
+    /**
+     * Creates a hint engine with its own background thread.
+     *
+     * @param search The search that chooses the hinted placement. It should have a small time budget.
+     */
+    public HintEngine(BeamSearch search) {
+        this.search = search;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "hint-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts finding a hint for the falling brick, dropping any search still running for an
+     * older one. Returns immediately.
+     *
+     * @param boardMatrix The current background matrix (copied before this returns).
+     * @param view        The current ViewData of the game.
+     * @return The generation of this request, which the matching Hint will carry.
+     */
+    public long request(int[][] boardMatrix, ViewData view) {
+        long current = cancel();
+        BitBoard board = BitBoard.fromMatrix(boardMatrix);
+        int[][] brickData = view.getBrickData();
+        int id = BrickShapeTable.idOf(brickData);
+        int rotation = BrickShapeTable.rotationOf(id, brickData);
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        List<int[][]> next = view.getNextBrickData();
+        int[] queue = new int[next.size()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = BrickShapeTable.idOf(next.get(i));
+        }
+
+        pending = executor.submit(() -> {
+            if (generation != current) {
+                return;
+            }
+            // The hint is only about the falling brick, so hold is left out of the search
+            int choice = search.search(board, id, x, y, rotation, 0, false, queue, queue.length);
+            if (choice != BeamSearch.NO_MOVE && generation == current) {
+                hint = new Hint(current, id, Placement.rotation(choice), Placement.x(choice), Placement.y(choice));
+            }
+        });
+        return current;
+    }
+
+    /**
+     * Withdraws the current hint and aborts any search in progress. Returns immediately.
+     *
+     * @return The new generation; hints from earlier requests are no longer returned.
+     */
+    public long cancel() {
+        long current = ++generation;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+            search.abort();
+        }
+        return current;
+    }
+
+    /**
+     * Retrieves the hint for the latest request. Safe to call from any thread; never blocks.
+     *
+     * @return The hint, or null while its search is still running (or after cancel()).
+     */
+    public Hint getHint() {
+        Hint latest = hint;
+        return latest != null && latest.generation == generation ? latest : null;
+    }
+
+    /**
+     * Creates a hint engine with the default search settings.
+     *
+     * @return A new hint engine.
+     */
+    public static HintEngine createDefault() {
+        BeamSearch search = new BeamSearch(new Evaluator(), HINT_BEAM_WIDTH, HINT_DEPTH,
+                TimeUnit.MILLISECONDS.toNanos(HINT_BUDGET_MS), GameConfig.COLS, GameConfig.ROWS);
+        search.setTranspositionTable(new TranspositionTable(HINT_CACHE_BUCKETS));
+        return new HintEngine(search);
+    }
+
+    /**
+     * Stops the background thread.
+     */
+    @Override
+    public void close() {
+        cancel();
+        executor.shutdownNow();
+    }
+}
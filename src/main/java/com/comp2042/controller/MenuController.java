@@ -11,18 +11,17 @@ package com.comp2042.controller;
 
 import com.comp2042.GameConfig;
 import com.comp2042.HighScoreManager;
+import com.comp2042.replay.BlackBox;
+import com.comp2042.util.ResourceLoader;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import javafx.scene.Node;
-import javafx.scene.text.Font;
 import javafx.event.ActionEvent;
 import java.io.IOException;
 import java.net.URL;
@@ -32,6 +31,7 @@ import java.util.ResourceBundle;
 public class MenuController implements Initializable {
 
     // UI elements linked to the FXML file
+    @FXML private StackPane root;
     @FXML private Label hs1;
     @FXML private Label hs2;
     @FXML private Label hs3;
@@ -40,14 +40,20 @@ public class MenuController implements Initializable {
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
-        // Loads retro fonts (fallback if Main fails to load them globally)
-        if (getClass().getClassLoader().getResource("digital.ttf") != null) {
-            Font.loadFont(getClass().getClassLoader().getResource("digital.ttf").toExternalForm(), 38);
-        }
-        if (getClass().getClassLoader().getResource("PressStart2P-Regular.ttf") != null) {
-            Font.loadFont(getClass().getClassLoader().getResource("PressStart2P-Regular.ttf").toExternalForm(), 38);
-        }
+        // Loads retro fonts (a no-op once Main has loaded them) and the pre-decoded background
+        ResourceLoader.loadResources();
+        ResourceLoader.applyBackground(root, ResourceLoader.MENU_BACKGROUND);
+
+        refresh();
+    }
+
 
+    /**
+     * Brings the menu up to date before it is shown: reloads the high scores, shows the
+     * selected start level and closes the settings overlay.
+     * The menu scene is cached, so this runs every time the player returns to it.
+     */
+    public void refresh() {
         // Retrieves the top 3 scores from the HighScoreManager to display on the menu
         List<Integer> topScores = HighScoreManager.getTopScores();
 
@@ -58,6 +64,7 @@ public class MenuController implements Initializable {
 
         // Ensures the UI displays the currently configured start level
         updateLevelDisplay();
+        settingsPanel.setVisible(false);
     }
 
 
@@ -122,31 +129,35 @@ public class MenuController implements Initializable {
 
     /**
      * Handles the 'Play' button click.
-     * Loads the main game layout FXML, initializes the GameController, and switches the scene.
+     * Switches to the game scene (built on first use, then reused) and starts a new game.
      *
      * @param event The action event triggered by the play button.
      */
     @FXML
     public void onPlay(ActionEvent event) {
-        try {
-            // Loads the main game layout from FXML
-            URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
-            FXMLLoader fxmlLoader = new FXMLLoader(location);
-            Parent root = fxmlLoader.load();
+        showGame(event, false);
+    }
 
-            // Initializes the GameController to begin game logic
-            GuiController c = fxmlLoader.getController();
-            GameController game = new GameController(c);
-            game.startGame();
 
-            // Transitions the window scene from Menu to Game
-            Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
-            Scene scene = new Scene(root, 600, 700);
-            stage.setScene(scene);
-            stage.show();
+    /**
+     * Handles the 'Versus' button click.
+     * Starts a game like 'Play', but adds a computer opponent that trades garbage lines with the player.
+     *
+     * @param event The action event triggered by the versus button.
+     */
+    @FXML
+    public void onVersus(ActionEvent event) {
+        showGame(event, true);
+    }
 
+    // Transitions the window scene from Menu to Game through the window's scene cache
+    private void showGame(ActionEvent event, boolean versus) {
+        try {
+            Stage stage = (Stage) ((Node) event.getSource()).getScene().getWindow();
+            SceneCache.forStage(stage).showGame(versus);
         } catch (IOException e) {
             e.printStackTrace();
+            BlackBox.dump("could not start a game", e);
         }
     }
 
@@ -0,0 +1,156 @@
+/*
+ * This class keeps the menu and game scenes alive for the whole run of the application, so
+ * switching between them does not parse FXML, apply window_style.css or build the board grid
+ * again each time.
+ *
+ * There is one cache per window, stored in the Stage's properties. The menu scene is reused as
+ * it is, with its high scores refreshed. A game scene is built once per mode (normal and versus,
+ * which have different widths). Returning to it later resets it in place: GuiController puts its
+ * overlays back and GameController.startGame() resets the model. Each game runs in its own
+ * SessionScope, closed when the game is left (GuiController.suspend()), so a cached scene holds
+ * no running work, listeners or bindings while hidden.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.util.ResourceLoader;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import java.io.IOException;
+
+public final class SceneCache {
+
+    // One game screen: its scene and the two controllers that drive it
+    private static final class GameScreen {
+        private final Scene scene;
+        private final GuiController gui;
+        private final GameController game;
+
+        private GameScreen(Scene scene, GuiController gui, GameController game) {
+            this.scene = scene;
+            this.gui = gui;
+            this.game = game;
+        }
+    }
+
+    private final Stage stage;
+    private Scene menuScene;
+    private MenuController menu;
+    private GameScreen normalGame;
+    private GameScreen versusGame;
+    // The game screen being shown, or null on the menu; read by the pulse watchdog's thread
+    private volatile GameScreen shown;
+
+    private SceneCache(Stage stage) {
+        this.stage = stage;
+    }
+
+    /**
+     * Retrieves the scene cache of a window, creating an empty one on first use.
+     *
+     * @param stage The window.
+     * @return The window's cache.
+     */
+    public static SceneCache forStage(Stage stage) {
+        return (SceneCache) stage.getProperties().computeIfAbsent(SceneCache.class, key -> new SceneCache(stage));
+    }
+
+    /**
+     * Registers a menu scene that was built elsewhere (at startup), so it is reused from now on.
+     *
+     * @param scene      The scene showing the Start Menu.
+     * @param controller The menu's controller.
+     */
+    public void adoptMenu(Scene scene, MenuController controller) {
+        this.menuScene = scene;
+        this.menu = controller;
+    }
+
+    /**
+     * Switches the window to the Start Menu, building it on first use.
+     *
+     * @throws IOException If the menu layout cannot be loaded.
+     */
+    public void showMenu() throws IOException {
+        if (menuScene == null) {
+            FXMLLoader loader = new FXMLLoader(getClass().getResource(ResourceLoader.MENU_LAYOUT));
+            menuScene = new Scene(loader.load(), 600, 700);
+            menu = loader.getController();
+        } else {
+            menu.refresh();
+        }
+        shown = null;
+        stage.setScene(menuScene);
+        stage.show();
+    }
+
+    /**
+     * Switches the window to a new game, reusing the game screen of that mode if it exists,
+     * and starts the countdown.
+     *
+     * @param versus true for a game against the computer opponent.
+     * @throws IOException If the game layout cannot be loaded.
+     */
+    public void showGame(boolean versus) throws IOException {
+        GameScreen screen = versus ? versusGame : normalGame;
+        if (screen == null) {
+            // Another layout is only worth preparing while the other mode's screen is not built yet
+            FXMLLoader loader = ResourceLoader.takeGameLayout((versus ? normalGame : versusGame) == null);
+            GuiController gui = loader.getController();
+            GameController game = new GameController(gui);
+            int width = versus ? GameConfig.VERSUS_SCENE_WIDTH : 600;
+            screen = new GameScreen(new Scene(loader.getRoot(), width, 700), gui, game);
+            if (versus) {
+                versusGame = screen;
+            } else {
+                normalGame = screen;
+            }
+        } else {
+            screen.gui.resetView();
+        }
+
+        // Everything this game starts is owned by its session, which closes when the game is left
+        SessionScope session = new SessionScope();
+        if (versus) {
+            // Every match gets a fresh opponent, playing at the level selected now
+            VersusController opponent = new VersusController(screen.gui, screen.game, System.nanoTime(), session);
+            screen.game.startGame(session, opponent::start);
+        } else {
+            screen.game.startGame(session);
+        }
+        shown = screen;
+        stage.setScene(screen.scene);
+        stage.show();
+    }
+
+    /**
+     * Describes the game on screen, for slow frame reports. Safe to call from any thread.
+     *
+     * @return The state of the game being shown, or a note that the menu is shown.
+     */
+    public String describeGame() {
+        GameScreen screen = shown;
+        if (screen == null) {
+            return "On the Start Menu";
+        }
+        return screen.gui.describeState();
+    }
+
+    /**
+     * Stops every cached game screen for good and forgets all cached scenes.
+     * Called when the application exits.
+     */
+    public void dispose() {
+        for (GameScreen screen : new GameScreen[]{normalGame, versusGame}) {
+            if (screen != null) {
+                screen.gui.suspend();
+            }
+        }
+        normalGame = null;
+        versusGame = null;
+        shown = null;
+        menuScene = null;
+        menu = null;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * This class owns everything that runs for one game: its timelines, its short animations, the
+ * listeners and bindings it adds to longer-lived objects, and background workers such as the
+ * hint engine and the versus bot.
+ *
+ * A game screen is kept between games (see SceneCache), and the Score it binds to outlives
+ * every game played on it, so anything a game attaches to them has to be detached again
+ * explicitly or it would pile up over weeks of play. Every such resource is therefore created
+ * or registered through the session, and close() stops, removes, unbinds and closes all of it
+ * at once, in reverse order of registration.
+ *
+ * (Not to be confused with host.GameSession, which is a whole headless game run by the session
+ * host; this is only the lifetime of one game on the desktop screen.)
+ *
+ * A session is confined to the FX thread. The static counters are only there so tests (and a
+ * debugging session) can check that nothing is left behind once every session is closed.
+ */
+package com.comp2042.controller;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.Property;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SessionScope implements AutoCloseable {
+
+    private static final AtomicInteger OPEN_SESSIONS = new AtomicInteger();
+    private static final AtomicInteger LIVE_ANIMATIONS = new AtomicInteger();
+
+    // Animations owned until close(): the game loop, the clock and other repeating timelines
+    private final List<Animation> timelines = new ArrayList<>();
+    // One-shot animations, each released as soon as it finishes
+    private final Set<Animation> transients = new LinkedHashSet<>();
+    // Undo actions for listeners, bindings and workers, run newest first
+    private final Deque<AutoCloseable> cleanups = new ArrayDeque<>();
+    private boolean closed;
+
+    /**
+     * Opens a new, empty session.
+     */
+    public SessionScope() {
+        OPEN_SESSIONS.incrementAndGet();
+    }
+
+    /**
+     * Creates a timeline that repeats until it is stopped, owned by this session.
+     * It is not started; the caller plays and stops it as the game requires.
+     *
+     * @param period How often the timeline fires.
+     * @param onTick What to do each time.
+     * @return The new timeline.
+     */
+    public Timeline timeline(Duration period, EventHandler<ActionEvent> onTick) {
+        checkOpen();
+        Timeline timeline = new Timeline(new KeyFrame(period, onTick));
+        timeline.setCycleCount(Timeline.INDEFINITE);
+        timelines.add(timeline);
+        LIVE_ANIMATIONS.incrementAndGet();
+        return timeline;
+    }
+
+    /**
+     * Takes ownership of a one-shot animation (a countdown step, a fading trail). The session
+     * lets go of it once it has run to its end, or stops it on close() if it is still running.
+     *
+     * @param animation The animation, played by the caller before or after this call.
+     * @param <A>       The type of the animation.
+     * @return The same animation.
+     */
+    public <A extends Animation> A track(A animation) {
+        checkOpen();
+        if (transients.add(animation)) {
+            LIVE_ANIMATIONS.incrementAndGet();
+            ChangeListener<Animation.Status> onEnd = new ChangeListener<>() {
+                @Override
+                public void changed(ObservableValue<? extends Animation.Status> obs,
+                                    Animation.Status oldStatus, Animation.Status newStatus) {
+                    if (newStatus == Animation.Status.STOPPED) {
+                        animation.statusProperty().removeListener(this);
+                        release(animation);
+                    }
+                }
+            };
+            animation.statusProperty().addListener(onEnd);
+        }
+        return animation;
+    }
+
+    private void release(Animation animation) {
+        if (transients.remove(animation)) {
+            LIVE_ANIMATIONS.decrementAndGet();
+        }
+    }
+
+    /**
+     * Adds a listener that is removed again when the session closes.
+     *
+     * @param value    The observed value, which may outlive the session.
+     * @param listener The listener.
+     * @param <T>      The type of the value.
+     */
+    public <T> void listen(ObservableValue<T> value, ChangeListener<? super T> listener) {
+        checkOpen();
+        value.addListener(listener);
+        cleanups.push(() -> value.removeListener(listener));
+    }
+
+    /**
+     * Binds a property for the length of the session; it is unbound when the session closes.
+     *
+     * @param target The property to bind (usually part of the view).
+     * @param source The value it follows (usually part of the model).
+     * @param <T>    The type of the value.
+     */
+    public <T> void bind(Property<T> target, ObservableValue<? extends T> source) {
+        checkOpen();
+        target.bind(source);
+        cleanups.push(target::unbind);
+    }
+
+    /**
+     * Takes ownership of a worker or other resource, closing it when the session closes.
+     *
+     * @param resource The resource.
+     * @param <C>      The type of the resource.
+     * @return The same resource.
+     */
+    public <C extends AutoCloseable> C manage(C resource) {
+        checkOpen();
+        cleanups.push(resource);
+        return resource;
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The session scope has already been closed");
+        }
+    }
+
+    /**
+     * Retrieves whether close() has been called.
+     *
+     * @return true once the session is closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops every animation and undoes every listener, binding and resource of the session.
+     * Calling it again does nothing.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Animation animation : timelines) {
+            animation.stop();
+        }
+        LIVE_ANIMATIONS.addAndGet(-timelines.size());
+        timelines.clear();
+        // Stopping an animation releases it through its status listener, so iterate over a copy
+        for (Animation animation : new ArrayList<>(transients)) {
+            animation.stop();
+            release(animation);
+        }
+        while (!cleanups.isEmpty()) {
+            try {
+                cleanups.pop().close();
+            } catch (Exception e) {
+                // One failing cleanup must not keep the rest of the session alive
+                e.printStackTrace();
+            }
+        }
+        OPEN_SESSIONS.decrementAndGet();
+    }
+
+    /**
+     * Counts the sessions that have been opened but not closed.
+     *
+     * @return The number of open sessions.
+     */
+    public static int openSessions() {
+        return OPEN_SESSIONS.get();
+    }
+
+    /**
+     * Counts the animations owned by open sessions.
+     *
+     * @return The number of live animations.
+     */
+    public static int liveAnimations() {
+        return LIVE_ANIMATIONS.get();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This class runs a versus game: the player's normal game against a computer opponent.
+ *
+ * The player's board stays in GameController/GuiController on the FX thread. The computer's
+ * board is played by a BotOpponent on its own background thread, and the two only meet through
+ * the VersusMatch garbage queues. The opponent panel is redrawn by a slow Timeline that polls
+ * the bot's latest snapshot, so the bot never calls into the FX thread and the FX thread never
+ * waits for the bot.
+ */
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.OpponentView;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.sim.GreedyPolicy;
+import com.comp2042.logic.versus.BotOpponent;
+import com.comp2042.logic.versus.VersusMatch;
+import javafx.animation.Timeline;
+import javafx.util.Duration;
+
+public class VersusController {
+
+    private final GuiController gui;
+    private final GameController game;
+    private final VersusMatch match;
+    private final BotOpponent bot;
+    private final OpponentView view = new OpponentView();
+    private final Timeline refresh;
+
+    // The current game, counted here and handed to the bot; snapshots of earlier games are ignored after a rematch
+    private int round;
+    // Set once either side has topped out, so the result is only shown once per game
+    private boolean decided;
+
+    /**
+     * Sets up a versus game around an already created player game.
+     *
+     * @param gui     The player's view, which gets the opponent panel.
+     * @param game    The player's game, which starts exchanging garbage.
+     * @param seed    The seed for the bot's bricks and the garbage holes.
+     * @param session The session of the game; closing it stops the bot and the opponent panel.
+     */
+    public VersusController(GuiController gui, GameController game, long seed, SessionScope session) {
+        this.gui = gui;
+        this.game = game;
+        int level = GameConfig.getStartLevel();
+        double multiplier = 1.0 + (level - 1) * GameConfig.LEVEL_SPEED_MULTIPLIER;
+
+        match = new VersusMatch(seed);
+        bot = new BotOpponent(match, new GreedyPolicy(new Evaluator()), seed + 1, level,
+                Math.round(GameConfig.VERSUS_BOT_TURN_MS / multiplier));
+
+        refresh = session.timeline(Duration.millis(GameConfig.VERSUS_REFRESH_MS), e -> refreshOpponent());
+        session.manage(this::stop);
+
+        game.setVersusMatch(match);
+        gui.attachOpponent(view);
+        gui.setVersusController(this);
+    }
+
+    /**
+     * Starts the bot and the opponent panel. Called when the countdown finishes.
+     */
+    public void start() {
+        bot.start(round);
+        refresh.play();
+    }
+
+    /**
+     * Pauses or resumes the bot together with the player's game.
+     *
+     * @param paused true to pause.
+     */
+    public void setPaused(boolean paused) {
+        bot.setPaused(paused);
+    }
+
+    /**
+     * Starts a rematch: empties the garbage queues and gives the bot a new board.
+     */
+    public void restart() {
+        round++;
+        decided = false;
+        match.reset();
+        bot.restart(round);
+        bot.setPaused(false);
+        view.setStatus("");
+    }
+
+    /**
+     * Ends the versus game for good, stopping the bot thread and taking the opponent out of
+     * the player's game, which can then be reused for another game.
+     */
+    public void stop() {
+        refresh.stop();
+        bot.stop();
+        game.setVersusMatch(null);
+        gui.detachOpponent(view);
+        gui.setVersusController(null);
+    }
+
+    /**
+     * Called when the player tops out. The bot stops playing so the boards stay as they ended.
+     */
+    public void onPlayerToppedOut() {
+        decided = true;
+        bot.setPaused(true);
+        view.setStatus("WINNER");
+    }
+
+    // Draws the bot's latest snapshot and checks whether it has topped out
+    private void refreshOpponent() {
+        view.setIncoming(match.getPending(VersusMatch.Side.HUMAN));
+        BotOpponent.Snapshot snapshot = bot.getSnapshot();
+        if (snapshot == null || snapshot.getRound() != round) {
+            return;
+        }
+        view.render(snapshot);
+        if (!decided && snapshot.isGameOver()) {
+            decided = true;
+            view.setStatus("K.O.");
+            game.winVersus();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * This class is one game hosted by a SessionHost.
+ *
+ * A session owns everything a game needs: a SimpleBoard with its own Score and
+ * SeededBrickGenerator, and a HeadlessGameController that applies the rules. Inputs can be
+ * submitted from any thread; they are queued and applied on the session's next tick, together
+ * with gravity. Gravity is counted in ticks rather than wall time, so a session fed the same
+ * inputs on the same ticks always plays out the same way, whichever worker runs it.
+ *
+ * Only one worker ticks a session at a time (the host hands sessions between workers through
+ * concurrent queues), so the game state itself needs no locking.
+ */
+package com.comp2042.host;
+
+import com.comp2042.GameConfig;
+import com.comp2042.HighScoreTable;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.util.LogHistogram;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public final class GameSession {
+
+    // One shared event per type; the host only forwards USER inputs
+    private static final MoveEvent[] USER_EVENTS = new MoveEvent[EventType.values().length];
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    static {
+        for (EventType type : EventType.values()) {
+            USER_EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final int id;
+    private final SessionConfig config;
+    private final SimpleBoard board;
+    private final HeadlessGameController game;
+    private final long tickNanos;
+    private final ConcurrentLinkedQueue<EventType> inputs = new ConcurrentLinkedQueue<>();
+    // Time from when a tick was due until it finished, in nanoseconds
+    private final LogHistogram tickLatency = new LogHistogram();
+
+    // Gravity time accumulated since the last gravity step
+    private long gravityNanos;
+    private volatile long ticks;
+    private volatile boolean finished;
+    private volatile boolean stopped;
+    // When the next tick is due (System.nanoTime); only touched by the worker holding the session
+    long nextDue;
+
+    GameSession(int id, SessionConfig config, long tickNanos) {
+        this.id = id;
+        this.config = config;
+        this.tickNanos = tickNanos;
+        this.board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS,
+                new SeededBrickGenerator(config.getSeed()), new Score(config.getStartLevel()));
+        this.game = new HeadlessGameController(board);
+        this.finished = game.isGameOver();
+    }
+
+    /**
+     * Queues a player input for the next tick.
+     *
+     * @param type The input to apply.
+     * @return false if the session has already ended and the input was dropped.
+     */
+    public boolean submit(EventType type) {
+        if (isDone()) {
+            return false;
+        }
+        inputs.add(type);
+        return true;
+    }
+
+    /**
+     * Asks the host to stop ticking this session. Takes effect before its next tick.
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    // Applies queued inputs, then gravity; called by exactly one worker at a time
+    void tick() {
+        EventType input;
+        while (!finished && (input = inputs.poll()) != null) {
+            apply(input);
+        }
+
+        // Levels speed gravity up exactly like GameController's timeline rate
+        int level = board.getScore().levelProperty().get();
+        double multiplier = 1.0 + (level - 1) * GameConfig.LEVEL_SPEED_MULTIPLIER;
+        long interval = (long) (config.getDropIntervalMillis() * 1_000_000L / multiplier);
+        gravityNanos += tickNanos;
+        while (!finished && gravityNanos >= interval) {
+            gravityNanos -= interval;
+            game.onDownEvent(GRAVITY);
+            finished = game.isGameOver();
+        }
+        ticks++;
+
+        if (finished) {
+            inputs.clear();
+            HighScoreTable table = config.getHighScores();
+            if (table != null) {
+                table.addScore(board.getScore().scoreProperty().get());
+            }
+        }
+    }
+
+    private void apply(EventType type) {
+        MoveEvent event = USER_EVENTS[type.ordinal()];
+        switch (type) {
+            case DOWN -> game.onDownEvent(event);
+            case LEFT -> game.onLeftEvent(event);
+            case RIGHT -> game.onRightEvent(event);
+            case ROTATE -> game.onRotateEvent(event);
+            case HARD_DROP -> game.onHardDropEvent(event);
+            case HOLD -> game.onHoldEvent(event);
+        }
+        finished = game.isGameOver();
+    }
+
+    void recordLatency(long nanos) {
+        tickLatency.record(nanos);
+    }
+
+    /**
+     * Retrieves the session's ID, unique within its host.
+     *
+     * @return The ID.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Retrieves the session's settings.
+     *
+     * @return The config.
+     */
+    public SessionConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Retrieves the session's board. Its state is only stable once the session is done.
+     *
+     * @return The board.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Retrieves the number of ticks the session has run.
+     *
+     * @return The tick count.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Reports whether the game has ended by topping out.
+     *
+     * @return true once the game is over.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Reports whether the session will not tick again, either because it finished or was stopped.
+     *
+     * @return true if the session is done.
+     */
+    public boolean isDone() {
+        return finished || stopped;
+    }
+
+    /**
+     * Retrieves the session's tick latency: how long after a tick was due it completed.
+     *
+     * @return The latency histogram, in nanoseconds.
+     */
+    public LogHistogram getTickLatency() {
+        return tickLatency;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This class holds the settings of one hosted game session.
+ *
+ * The desktop game reads its settings from GameConfig, which is global; hosted sessions each
+ * carry their own copy instead, so a tournament can run games at different levels, with
+ * different brick sequences and separate high score tables, side by side in one JVM.
+ * Instances are immutable and may be shared between sessions.
+ */
+package com.comp2042.host;
+
+import com.comp2042.GameConfig;
+import com.comp2042.HighScoreTable;
+
+public final class SessionConfig {
+
+    private final int startLevel;
+    private final long seed;
+    private final int dropIntervalMillis;
+    private final HighScoreTable highScores;
+
+    /**
+     * Creates session settings.
+     *
+     * @param startLevel         The level the game starts at (1 or more).
+     * @param seed               The seed of the session's brick sequence.
+     * @param dropIntervalMillis The gravity interval at level 1; higher levels fall faster, as in GameController.
+     * @param highScores         Where the final score is recorded, or null to record nothing.
+     */
+    public SessionConfig(int startLevel, long seed, int dropIntervalMillis, HighScoreTable highScores) {
+        if (startLevel < 1 || dropIntervalMillis < 1) {
+            throw new IllegalArgumentException("Start level and drop interval must be positive");
+        }
+        this.startLevel = startLevel;
+        this.seed = seed;
+        this.dropIntervalMillis = dropIntervalMillis;
+        this.highScores = highScores;
+    }
+
+    /**
+     * Creates settings with the standard drop speed and no high score table.
+     *
+     * @param startLevel The level the game starts at (1 or more).
+     * @param seed       The seed of the session's brick sequence.
+     */
+    public SessionConfig(int startLevel, long seed) {
+        this(startLevel, seed, GameConfig.DROP_SPEED_MS, null);
+    }
+
+    /**
+     * Retrieves the starting level.
+     *
+     * @return The level.
+     */
+    public int getStartLevel() {
+        return startLevel;
+    }
+
+    /**
+     * Retrieves the seed of the brick sequence.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retrieves the gravity interval at level 1.
+     *
+     * @return The interval in milliseconds.
+     */
+    public int getDropIntervalMillis() {
+        return dropIntervalMillis;
+    }
+
+    /**
+     * Retrieves the table the final score is recorded in.
+     *
+     * @return The table, or null if scores are not recorded.
+     */
+    public HighScoreTable getHighScores() {
+        return highScores;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * This class hosts many independent game sessions in one JVM, for tournaments and bot ladders.
+ *
+ * Sessions are ticked at a fixed rate by a fixed set of worker threads (one per core by default).
+ * New sessions are dealt to workers round-robin; each worker runs its own due sessions first and
+ * steals due sessions from other workers when it has none, so load evens out without a shared
+ * queue that every tick would contend on. Every session records how late each of its ticks
+ * completed, and report() prints those latencies per session alongside per-worker totals.
+ */
+package com.comp2042.host;
+
+import com.comp2042.model.Score;
+import com.comp2042.util.LogHistogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class SessionHost implements AutoCloseable {
+
+    private final SessionWorker[] workers;
+    private final Thread[] threads;
+    private final long tickNanos;
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<Integer, GameSession> sessions = new ConcurrentSkipListMap<>();
+    private volatile boolean running = true;
+
+    /**
+     * Creates a host and starts its worker threads.
+     *
+     * @param workerCount The number of worker threads.
+     * @param tickNanos   The tick period of every session, in nanoseconds.
+     */
+    public SessionHost(int workerCount, long tickNanos) {
+        if (workerCount < 1 || tickNanos < 1) {
+            throw new IllegalArgumentException("Worker count and tick period must be positive");
+        }
+        this.tickNanos = tickNanos;
+        this.workers = new SessionWorker[workerCount];
+        this.threads = new Thread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new SessionWorker(this, i, tickNanos);
+            threads[i] = new Thread(workers[i], "session-worker-" + i);
+            threads[i].setDaemon(true);
+        }
+        // Workers steal from each other, so none may start before all of them exist
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Creates a host with one worker per available processor.
+     *
+     * @param tickNanos The tick period of every session, in nanoseconds.
+     */
+    public SessionHost(long tickNanos) {
+        this(Runtime.getRuntime().availableProcessors(), tickNanos);
+    }
+
+    /**
+     * Starts a new session. Its first tick runs one tick period from now.
+     *
+     * @param config The session's settings.
+     * @return The new session.
+     * @throws IllegalStateException If the host has been closed.
+     */
+    public GameSession open(SessionConfig config) {
+        if (!running) {
+            throw new IllegalStateException("Session host is closed");
+        }
+        int id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, config, tickNanos);
+        sessions.put(id, session);
+        if (!session.isDone()) {
+            workers[id % workers.length].assign(session);
+        }
+        return session;
+    }
+
+    /**
+     * Retrieves a session by ID.
+     *
+     * @param id The session ID.
+     * @return The session, or null if there is none with that ID.
+     */
+    public GameSession getSession(int id) {
+        return sessions.get(id);
+    }
+
+    /**
+     * Retrieves every session opened on this host, in ID order, including finished ones.
+     *
+     * @return A snapshot list of the sessions.
+     */
+    public List<GameSession> getSessions() {
+        return new ArrayList<>(sessions.values());
+    }
+
+    /**
+     * Counts the sessions that are still being ticked.
+     *
+     * @return The number of live sessions.
+     */
+    public int getLiveCount() {
+        int live = 0;
+        for (GameSession session : sessions.values()) {
+            if (!session.isDone()) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Builds a text report with one line per session and one per worker.
+     * Latencies are how long after their due time ticks completed, in microseconds.
+     *
+     * @return The multi-line report.
+     */
+    public String report() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%6s %5s %8s %6s %8s %-8s %9s %9s %9s%n",
+                "id", "level", "score", "lines", "ticks", "state", "p50 us", "p99 us", "max us"));
+        for (GameSession session : sessions.values()) {
+            Score score = session.getBoard().getScore();
+            LogHistogram latency = session.getTickLatency();
+            String state = session.isFinished() ? "over" : session.isDone() ? "stopped" : "running";
+            sb.append(String.format("%6d %5d %8d %6d %8d %-8s %9.1f %9.1f %9.1f%n", session.getId(),
+                    score.levelProperty().get(), score.scoreProperty().get(), score.linesClearedProperty().get(),
+                    session.getTicks(), state, latency.getPercentile(50) / 1e3,
+                    latency.getPercentile(99) / 1e3, latency.getMax() / 1e3));
+        }
+        for (SessionWorker worker : workers) {
+            sb.append(String.format("worker %d: %d ticks, %d steals%n",
+                    worker.getIndex(), worker.getTicksRun(), worker.getSteals()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Stops every worker thread and waits for them to exit. Sessions keep their final state.
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    SessionWorker[] workers() {
+        return workers;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This class is one of a SessionHost's worker threads.
+ *
+ * Each worker keeps the sessions it owns in a private timer heap ordered by when their next
+ * tick is due. Due sessions move to the worker's run queue, which it serves from the front.
+ * A worker with nothing due steals from the back of other workers' run queues, so a core that
+ * falls behind is helped out instead of letting its sessions' latency grow. A stolen session
+ * stays with the thief from then on, which spreads sessions towards the less busy workers.
+ */
+package com.comp2042.host;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+final class SessionWorker implements Runnable {
+
+    // How long an idle worker sleeps before looking for work to steal again
+    private static final long IDLE_PARK_NANOS = 200_000;
+
+    private final SessionHost host;
+    private final int index;
+    private final long tickNanos;
+    // New sessions handed to this worker by the host; drained into the timer heap
+    private final ConcurrentLinkedQueue<GameSession> inbox = new ConcurrentLinkedQueue<>();
+    // Sessions whose tick is due; the owner polls the front, thieves poll the back
+    private final ConcurrentLinkedDeque<GameSession> runQueue = new ConcurrentLinkedDeque<>();
+    // Sessions waiting for their next tick; only this worker's thread touches it
+    private final PriorityQueue<GameSession> timers =
+            new PriorityQueue<>(Comparator.comparingLong((GameSession s) -> s.nextDue));
+    private final LongAdder ticksRun = new LongAdder();
+    private final LongAdder steals = new LongAdder();
+
+    private volatile Thread thread;
+
+    SessionWorker(SessionHost host, int index, long tickNanos) {
+        this.host = host;
+        this.index = index;
+        this.tickNanos = tickNanos;
+    }
+
+    // Hands a new session to this worker; its first tick is due one period from now
+    void assign(GameSession session) {
+        session.nextDue = System.nanoTime() + tickNanos;
+        inbox.add(session);
+        Thread t = thread;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    @Override
+    public void run() {
+        thread = Thread.currentThread();
+        while (host.isRunning()) {
+            GameSession session;
+            while ((session = inbox.poll()) != null) {
+                timers.add(session);
+            }
+            long now = System.nanoTime();
+            while (!timers.isEmpty() && timers.peek().nextDue - now <= 0) {
+                runQueue.addLast(timers.poll());
+            }
+
+            session = runQueue.pollFirst();
+            if (session == null) {
+                session = steal();
+            }
+            if (session != null) {
+                runTick(session);
+                continue;
+            }
+
+            long wait = IDLE_PARK_NANOS;
+            if (!timers.isEmpty()) {
+                wait = Math.min(wait, timers.peek().nextDue - now);
+            }
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+    private void runTick(GameSession session) {
+        if (session.isDone()) {
+            return;
+        }
+        session.tick();
+        session.recordLatency(System.nanoTime() - session.nextDue);
+        ticksRun.increment();
+        if (!session.isDone()) {
+            // Fixed-rate schedule: a late tick does not push the following ones back
+            session.nextDue += tickNanos;
+            timers.add(session);
+        }
+    }
+
+    // Takes the most recently queued due session from the first other worker that has one
+    private GameSession steal() {
+        SessionWorker[] workers = host.workers();
+        for (int i = 1; i < workers.length; i++) {
+            GameSession session = workers[(index + i) % workers.length].runQueue.pollLast();
+            if (session != null) {
+                steals.increment();
+                return session;
+            }
+        }
+        return null;
+    }
+
+    long getTicksRun() {
+        return ticksRun.sum();
+    }
+
+    long getSteals() {
+        return steals.sum();
+    }
+
+    int getIndex() {
+        return index;
+    }
+}
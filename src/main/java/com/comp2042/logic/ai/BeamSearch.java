@@ -0,0 +1,525 @@
+/*
+ * This class chooses where to place the current brick by looking several bricks ahead.
+ *
+ * It runs a beam search: every layer expands each position in the beam with all reachable
+ * placements of the next known brick (from the preview queue), scores the resulting boards
+ * with an Evaluator, and keeps only the best few for the next layer. Expanding the beam is
+ * the expensive part, so each beam entry is expanded as its own task on a ForkJoinPool.
+ * Callers that already run many searches in parallel (self-play runs one per game) can
+ * create a serial search instead, which expands the beam on the calling thread.
+ *
+ * The search is "anytime": the first layer is always completed, after which the search
+ * stops as soon as the per-move time budget runs out and returns the best root move of the
+ * deepest layer it finished.
+ *
+ * Each beam entry carries a FeatureExtractor for its board, so a child's features are
+ * derived incrementally from its parent's instead of being recomputed from scratch.
+ *
+ * An optional TranspositionTable caches board evaluations by the board's Zobrist hash, so
+ * boards that several beam entries reach through different move orders, or that the next
+ * search reaches again, are only evaluated once, even when different worker threads reach
+ * them. Evaluations are static (they depend on the board alone), so they are stored at
+ * depth 0 and without a move.
+ *
+ * All per-layer storage is allocated up front. search() holds a ReentrantLock rather than
+ * a monitor, so a virtual thread waiting for it, or for the pool, does not pin its carrier;
+ * one instance can be shared, but it only runs one search at a time.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.ReentrantLock;
+
+public final class BeamSearch {
+
+    // Returned by search() when the brick has no legal placement at all
+    public static final int NO_MOVE = -1;
+
+    // null for a serial search
+    private final ForkJoinPool pool;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Evaluator evaluator;
+    private final int beamWidth;
+    private final int maxDepth;
+    private volatile long timeBudgetNanos;
+    private volatile TranspositionTable table;
+
+    // Each worker thread needs its own generator, scratch board and scratch features
+    private final ThreadLocal<MoveGenerator> generators;
+    private final ThreadLocal<BitBoard> scratchBoards;
+    private final ThreadLocal<FeatureExtractor> scratchFeatures;
+
+    // The current beam and the one being built, swapped after every layer
+    private BitBoard[] beamBoards;
+    private BitBoard[] nextBoards;
+    private FeatureExtractor[] beamFeatures;
+    private FeatureExtractor[] nextFeatures;
+    private double[] beamReward;
+    private double[] nextReward;
+    private int[] beamFirst;
+    private int[] nextFirst;
+    private boolean[] beamHold;
+    private boolean[] nextHold;
+    private int[] beamPiece;
+    private int[] nextPiece;
+    private int[] beamQueueIndex;
+    private int[] nextQueueIndex;
+    private final int[] beamStart;
+    private int beamSize;
+
+    // Children of the layer being expanded, one row per beam entry
+    private final int[][] childPlacement;
+    private final int[][] childLines;
+    private final double[][] childScore;
+    private final int[] childCount;
+
+    // Min-heap used to pick the best children across the whole layer
+    private final int[] heapNode;
+    private final int[] heapIndex;
+    private final double[] heapScore;
+
+    // Layer-local inputs shared with the expansion tasks
+    private volatile long deadline;
+    private volatile boolean aborted;
+    private boolean firstLayer;
+
+    // Result of the last search
+    private boolean usedHold;
+    private int completedDepth;
+
+    /**
+     * Creates a beam search on the common ForkJoinPool.
+     *
+     * @param evaluator       The evaluation function for candidate boards.
+     * @param beamWidth       How many positions survive each layer.
+     * @param maxDepth        The maximum number of bricks to look ahead, including the current one.
+     * @param timeBudgetNanos The per-move time budget after the first layer.
+     * @param width           The board width.
+     * @param height          The board height.
+     */
+    public BeamSearch(Evaluator evaluator, int beamWidth, int maxDepth, long timeBudgetNanos, int width, int height) {
+        this(ForkJoinPool.commonPool(), evaluator, beamWidth, maxDepth, timeBudgetNanos, width, height);
+    }
+
+    /**
+     * Creates a beam search that expands the beam on the thread that calls search().
+     *
+     * @param evaluator       The evaluation function for candidate boards.
+     * @param beamWidth       How many positions survive each layer.
+     * @param maxDepth        The maximum number of bricks to look ahead, including the current one.
+     * @param timeBudgetNanos The per-move time budget after the first layer.
+     * @param width           The board width.
+     * @param height          The board height.
+     * @return The search.
+     */
+    public static BeamSearch serial(Evaluator evaluator, int beamWidth, int maxDepth, long timeBudgetNanos,
+                                    int width, int height) {
+        return new BeamSearch(null, evaluator, beamWidth, maxDepth, timeBudgetNanos, width, height);
+    }
+
+    /**
+     * Creates a beam search on a specific ForkJoinPool.
+     *
+     * @param pool            The pool that expands beam entries in parallel, or null to expand
+     *                        them one after another on the calling thread.
+     * @param evaluator       The evaluation function for candidate boards.
+     * @param beamWidth       How many positions survive each layer.
+     * @param maxDepth        The maximum number of bricks to look ahead, including the current one.
+     * @param timeBudgetNanos The per-move time budget after the first layer.
+     * @param width           The board width.
+     * @param height          The board height.
+     */
+    public BeamSearch(ForkJoinPool pool, Evaluator evaluator, int beamWidth, int maxDepth,
+                      long timeBudgetNanos, int width, int height) {
+        if (beamWidth < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("Beam width and depth must be positive");
+        }
+        this.pool = pool;
+        this.evaluator = evaluator;
+        this.beamWidth = beamWidth;
+        this.maxDepth = maxDepth;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.generators = ThreadLocal.withInitial(() -> new MoveGenerator(width, height));
+        this.scratchBoards = ThreadLocal.withInitial(() -> new BitBoard(width, height));
+        this.scratchFeatures = ThreadLocal.withInitial(() -> new FeatureExtractor(width, height));
+
+        // The root layer can hold two entries (current brick and hold alternative)
+        int capacity = Math.max(beamWidth, 2);
+        int maxChildren = new MoveGenerator(width, height).maxPathLength();
+        beamBoards = new BitBoard[capacity];
+        nextBoards = new BitBoard[capacity];
+        beamFeatures = new FeatureExtractor[capacity];
+        nextFeatures = new FeatureExtractor[capacity];
+        for (int i = 0; i < capacity; i++) {
+            beamBoards[i] = new BitBoard(width, height);
+            nextBoards[i] = new BitBoard(width, height);
+            beamFeatures[i] = new FeatureExtractor(width, height);
+            nextFeatures[i] = new FeatureExtractor(width, height);
+        }
+        beamReward = new double[capacity];
+        nextReward = new double[capacity];
+        beamFirst = new int[capacity];
+        nextFirst = new int[capacity];
+        beamHold = new boolean[capacity];
+        nextHold = new boolean[capacity];
+        beamPiece = new int[capacity];
+        nextPiece = new int[capacity];
+        beamQueueIndex = new int[capacity];
+        nextQueueIndex = new int[capacity];
+        beamStart = new int[capacity];
+        childPlacement = new int[capacity][maxChildren];
+        childLines = new int[capacity][maxChildren];
+        childScore = new double[capacity][maxChildren];
+        childCount = new int[capacity];
+        heapNode = new int[beamWidth];
+        heapIndex = new int[beamWidth];
+        heapScore = new double[beamWidth];
+    }
+
+    /**
+     * Finds the best placement for the current brick.
+     *
+     * @param root        The current board.
+     * @param currentId   The ID (1-7) of the falling brick.
+     * @param startX      The falling brick's current x-coordinate.
+     * @param startY      The falling brick's current y-coordinate.
+     * @param startRot    The falling brick's current rotation index.
+     * @param holdId      The ID of the held brick, or 0 if the hold slot is empty.
+     * @param allowHold   Whether swapping with the hold slot is allowed this turn.
+     * @param queue       The IDs of the upcoming bricks, in order.
+     * @param queueLength How many entries of the queue are valid.
+     * @return The packed placement (see {@link Placement}) of the chosen brick, or NO_MOVE.
+     *         Check usedHold() to know whether the placement is for the held brick.
+     */
+    public int search(BitBoard root, int currentId, int startX, int startY, int startRot,
+                      int holdId, boolean allowHold, int[] queue, int queueLength) {
+        lock.lock();
+        try {
+            return searchLocked(root, currentId, startX, startY, startRot, holdId, allowHold, queue, queueLength);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int searchLocked(BitBoard root, int currentId, int startX, int startY, int startRot,
+                             int holdId, boolean allowHold, int[] queue, int queueLength) {
+        deadline = System.nanoTime() + timeBudgetNanos;
+        aborted = false;
+        usedHold = false;
+        completedDepth = 0;
+
+        // Layer 0: the current brick, plus the hold alternative if it changes anything
+        beamSize = 0;
+        addRoot(root, currentId, 0, false, Placement.of(startRot, startX, startY));
+        int holdPiece = holdId != 0 ? holdId : (queueLength > 0 ? queue[0] : 0);
+        if (allowHold && holdPiece != 0 && holdPiece != currentId) {
+            int spawn = Placement.of(0, GameConfig.SPAWN_X, GameConfig.SPAWN_Y);
+            addRoot(root, holdPiece, holdId != 0 ? 0 : 1, true, spawn);
+        }
+
+        int bestPlacement = NO_MOVE;
+        firstLayer = true;
+        for (int depth = 0; depth < maxDepth && beamSize > 0; depth++) {
+            if (pool == null) {
+                for (int node = 0; node < beamSize; node++) {
+                    expand(node);
+                }
+            } else {
+                pool.invoke(new ExpandTask(0, beamSize));
+            }
+            if (aborted) {
+                break;
+            }
+            int selected = selectBest();
+            if (selected == 0) {
+                break;
+            }
+            materialize(selected, queue, queueLength);
+            // The heap root is the worst survivor; find the best one for the answer
+            int best = 0;
+            for (int i = 1; i < beamSize; i++) {
+                if (heapScore[i] > heapScore[best]) {
+                    best = i;
+                }
+            }
+            bestPlacement = beamFirst[best];
+            usedHold = beamHold[best];
+            completedDepth = depth + 1;
+            firstLayer = false;
+
+            // Stop early once we run out of known bricks
+            int live = 0;
+            for (int i = 0; i < beamSize; i++) {
+                if (beamPiece[i] != 0) {
+                    beamBoards[live].copyFrom(beamBoards[i]);
+                    beamFeatures[live].copyFrom(beamFeatures[i]);
+                    copyEntry(i, live);
+                    live++;
+                }
+            }
+            beamSize = live;
+        }
+        return bestPlacement;
+    }
+
+    /**
+     * Reports whether the last search chose to swap with the hold slot first.
+     *
+     * @return true if the returned placement is for the held (or next) brick.
+     */
+    public boolean usedHold() {
+        return usedHold;
+    }
+
+    /**
+     * Reports how many bricks deep the last search got before finishing or running out of time.
+     *
+     * @return The number of completed layers.
+     */
+    public int completedDepth() {
+        return completedDepth;
+    }
+
+    /**
+     * Stops the search in progress, if any, before it expands another beam entry. Unlike a
+     * timeout this can cut the first layer short, so the aborted search may return NO_MOVE.
+     * Safe to call from any thread; a search that has not started yet is not affected.
+     */
+    public void abort() {
+        aborted = true;
+    }
+
+    /**
+     * Updates the per-move time budget. Takes effect from the next search.
+     *
+     * @param timeBudgetNanos The new budget in nanoseconds.
+     */
+    public void setTimeBudgetNanos(long timeBudgetNanos) {
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Enables evaluation caching across searches and worker threads.
+     *
+     * @param table The table to use, or null to evaluate every board from scratch.
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.table = table;
+    }
+
+    private void addRoot(BitBoard root, int piece, int queueIndex, boolean hold, int start) {
+        beamBoards[beamSize].copyFrom(root);
+        beamFeatures[beamSize].compute(root);
+        beamReward[beamSize] = 0;
+        beamFirst[beamSize] = NO_MOVE;
+        beamHold[beamSize] = hold;
+        beamPiece[beamSize] = piece;
+        beamQueueIndex[beamSize] = queueIndex;
+        beamStart[beamSize] = start;
+        beamSize++;
+    }
+
+    // Expands one beam entry: every placement of its brick, scored by the evaluator
+    private void expand(int node) {
+        childCount[node] = 0;
+        if (!firstLayer && System.nanoTime() - deadline > 0) {
+            aborted = true;
+        }
+        if (aborted) {
+            return;
+        }
+        MoveGenerator generator = generators.get();
+        BitBoard scratch = scratchBoards.get();
+        FeatureExtractor features = scratchFeatures.get();
+        int piece = beamPiece[node];
+        int start = beamStart[node];
+        int count = generator.generate(beamBoards[node], piece,
+                Placement.x(start), Placement.y(start), Placement.rotation(start));
+
+        int[] placements = childPlacement[node];
+        int[] lines = childLines[node];
+        double[] scores = childScore[node];
+        TranspositionTable cache = table;
+        for (int i = 0; i < count; i++) {
+            int p = generator.placement(i);
+            scratch.copyFrom(beamBoards[node]);
+            int cleared = scratch.place(piece, Placement.rotation(p), Placement.x(p), Placement.y(p));
+            placements[i] = p;
+            lines[i] = cleared;
+            scores[i] = beamReward[node] + evaluator.lineReward(cleared)
+                    + evaluate(scratch, node, piece, p, cleared, features, cache);
+        }
+        childCount[node] = count;
+    }
+
+    // Evaluates a child board, going through the transposition table when one is set.
+    // Cached scores are stored as floats, so fresh scores are rounded the same way
+    // to keep results independent of which thread happened to fill the cache first.
+    private double evaluate(BitBoard board, int node, int piece, int placement, int cleared,
+                            FeatureExtractor features, TranspositionTable cache) {
+        if (cache == null) {
+            return evaluator.evaluate(childFeatures(board, node, piece, placement, cleared, features));
+        }
+        long key = board.hash();
+        long entry = cache.probe(key);
+        if (entry != TranspositionTable.MISS) {
+            return TranspositionTable.score(entry);
+        }
+        float score = (float) evaluator.evaluate(childFeatures(board, node, piece, placement, cleared, features));
+        cache.store(key, score, 0, NO_MOVE);
+        return score;
+    }
+
+    // Derives a child's features from those of its parent beam entry
+    private int[] childFeatures(BitBoard board, int node, int piece, int placement, int cleared,
+                                FeatureExtractor features) {
+        features.copyFrom(beamFeatures[node]);
+        return features.update(board, piece, Placement.rotation(placement),
+                Placement.x(placement), Placement.y(placement), cleared);
+    }
+
+    // Keeps the beamWidth best children of the layer in a min-heap; returns how many were kept
+    private int selectBest() {
+        int size = 0;
+        for (int n = 0; n < beamSize; n++) {
+            for (int i = 0; i < childCount[n]; i++) {
+                double score = childScore[n][i];
+                if (size < beamWidth) {
+                    heapNode[size] = n;
+                    heapIndex[size] = i;
+                    heapScore[size] = score;
+                    siftUp(size++);
+                } else if (score > heapScore[0]) {
+                    heapNode[0] = n;
+                    heapIndex[0] = i;
+                    heapScore[0] = score;
+                    siftDown(0, size);
+                }
+            }
+        }
+        return size;
+    }
+
+    // Rebuilds the selected children as the next beam
+    private void materialize(int selected, int[] queue, int queueLength) {
+        int spawn = Placement.of(0, GameConfig.SPAWN_X, GameConfig.SPAWN_Y);
+        for (int j = 0; j < selected; j++) {
+            int n = heapNode[j];
+            int p = childPlacement[n][heapIndex[j]];
+            nextBoards[j].copyFrom(beamBoards[n]);
+            int lines = nextBoards[j].place(beamPiece[n], Placement.rotation(p), Placement.x(p), Placement.y(p));
+            nextFeatures[j].copyFrom(beamFeatures[n]);
+            nextFeatures[j].update(nextBoards[j], beamPiece[n], Placement.rotation(p), Placement.x(p), Placement.y(p), lines);
+            nextReward[j] = beamReward[n] + evaluator.lineReward(lines);
+            nextFirst[j] = beamFirst[n] == NO_MOVE ? p : beamFirst[n];
+            nextHold[j] = beamHold[n];
+            int q = beamQueueIndex[n];
+            nextPiece[j] = q < queueLength ? queue[q] : 0;
+            nextQueueIndex[j] = q + 1;
+        }
+        for (int j = 0; j < selected; j++) {
+            beamStart[j] = spawn;
+        }
+        swapBeams();
+        beamSize = selected;
+    }
+
+    private void swapBeams() {
+        BitBoard[] boards = beamBoards;
+        beamBoards = nextBoards;
+        nextBoards = boards;
+        FeatureExtractor[] features = beamFeatures;
+        beamFeatures = nextFeatures;
+        nextFeatures = features;
+        double[] reward = beamReward;
+        beamReward = nextReward;
+        nextReward = reward;
+        int[] first = beamFirst;
+        beamFirst = nextFirst;
+        nextFirst = first;
+        boolean[] hold = beamHold;
+        beamHold = nextHold;
+        nextHold = hold;
+        int[] piece = beamPiece;
+        beamPiece = nextPiece;
+        nextPiece = piece;
+        int[] queueIndex = beamQueueIndex;
+        beamQueueIndex = nextQueueIndex;
+        nextQueueIndex = queueIndex;
+    }
+
+    // Moves beam entry 'from' into slot 'to' (the board is copied by the caller)
+    private void copyEntry(int from, int to) {
+        beamReward[to] = beamReward[from];
+        beamFirst[to] = beamFirst[from];
+        beamHold[to] = beamHold[from];
+        beamPiece[to] = beamPiece[from];
+        beamQueueIndex[to] = beamQueueIndex[from];
+        beamStart[to] = beamStart[from];
+        heapScore[to] = heapScore[from];
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heapScore[parent] <= heapScore[i]) {
+                return;
+            }
+            swapHeap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i, int size) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left + 1 < size && heapScore[left + 1] < heapScore[left] ? left + 1 : left;
+            if (heapScore[i] <= heapScore[smallest]) {
+                return;
+            }
+            swapHeap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swapHeap(int a, int b) {
+        int node = heapNode[a];
+        heapNode[a] = heapNode[b];
+        heapNode[b] = node;
+        int index = heapIndex[a];
+        heapIndex[a] = heapIndex[b];
+        heapIndex[b] = index;
+        double score = heapScore[a];
+        heapScore[a] = heapScore[b];
+        heapScore[b] = score;
+    }
+
+    // Splits the beam in halves until each task expands a single entry
+    private final class ExpandTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        ExpandTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    expand(from);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(from, mid), new ExpandTask(mid, to));
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * This class is a compact copy of the game board for search code.
+ * Each row is stored as a single int bitmask (bit c = column c) instead of an int[] of colours,
+ * so collision checks, locking and line clears become a handful of bitwise operations.
+ *
+ * It follows the same coordinate rules as MatrixOperations.intersect and SimpleBoard:
+ * a brick at (x, y) covers matrix[y + row][x + col] for every filled cell of its 4x4 shape.
+ * Colours are not kept; search only cares about which cells are occupied.
+ *
+ * The board also maintains a Zobrist hash of its occupied cells. Locking a brick updates it
+ * per touched row and a line clear re-hashes only the rows that shift, so the hash is always
+ * current without ever rescanning the board.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+public final class BitBoard {
+
+    private final int width;
+    private final int height;
+    // Mask with one bit set for every column; a row equal to this is full
+    private final int fullRow;
+    private final int[] rows;
+    // Zobrist hash of the occupied cells, kept in sync by every mutating method
+    private long hash;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param width  The number of columns (at most Zobrist.MAX_COLUMNS).
+     * @param height The number of rows (at most Zobrist.MAX_ROWS).
+     */
+    public BitBoard(int width, int height) {
+        if (width < 1 || width > Zobrist.MAX_COLUMNS || height < 1 || height > Zobrist.MAX_ROWS) {
+            throw new IllegalArgumentException("Unsupported board size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+        this.rows = new int[height];
+    }
+
+    /**
+     * Builds a bitboard from a colour matrix such as SimpleBoard.getBoardMatrix().
+     *
+     * @param matrix The board matrix, indexed [row][column].
+     * @return A new BitBoard with the same occupied cells.
+     */
+    public static BitBoard fromMatrix(int[][] matrix) {
+        BitBoard board = new BitBoard(matrix[0].length, matrix.length);
+        board.load(matrix);
+        return board;
+    }
+
+    /**
+     * Overwrites this board with the occupied cells of a colour matrix of the same size.
+     *
+     * @param matrix The board matrix, indexed [row][column].
+     */
+    public void load(int[][] matrix) {
+        hash = 0;
+        for (int r = 0; r < height; r++) {
+            int mask = 0;
+            int[] line = matrix[r];
+            for (int c = 0; c < width; c++) {
+                if (line[c] != 0) {
+                    mask |= 1 << c;
+                }
+            }
+            rows[r] = mask;
+            hash ^= Zobrist.row(r, mask);
+        }
+    }
+
+    /**
+     * Overwrites this board with the contents of another board of the same size.
+     *
+     * @param other The board to copy from.
+     */
+    public void copyFrom(BitBoard other) {
+        System.arraycopy(other.rows, 0, rows, 0, height);
+        hash = other.hash;
+    }
+
+    /**
+     * Checks whether a brick would overlap a wall, the floor or a filled cell.
+     * Cells above the top row count as out of bounds, matching the game which never moves a brick upwards.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @param x        The x-coordinate of the brick's 4x4 matrix.
+     * @param y        The y-coordinate of the brick's 4x4 matrix.
+     * @return true if the brick collides, false if the position is free.
+     */
+    public boolean collides(int id, int rotation, int x, int y) {
+        if (x + BrickShapeTable.minColumn(id, rotation) < 0
+                || x + BrickShapeTable.maxColumn(id, rotation) >= width) {
+            return true;
+        }
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int mask = BrickShapeTable.rowMask(id, rotation, r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            if (row < 0 || row >= height || (rows[row] & shift(mask, x)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Locks a brick into the board and removes any rows it completes.
+     * The caller is responsible for making sure the position is free.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @param x        The x-coordinate of the brick's 4x4 matrix.
+     * @param y        The y-coordinate of the brick's 4x4 matrix.
+     * @return The number of lines cleared (0-4).
+     */
+    public int place(int id, int rotation, int x, int y) {
+        int cleared = 0;
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int mask = BrickShapeTable.rowMask(id, rotation, r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + r;
+            int before = rows[row];
+            int after = before | shift(mask, x);
+            rows[row] = after;
+            hash ^= Zobrist.row(row, before) ^ Zobrist.row(row, after);
+            if (after == fullRow) {
+                clearRow(row);
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    // Removes a full row, dropping every row above it down by one and emptying the top row.
+    // Each shifted row is hashed out of its old position and into its new one: O(rows).
+    private void clearRow(int row) {
+        hash ^= Zobrist.row(row, fullRow);
+        for (int r = row; r > 0; r--) {
+            int moved = rows[r - 1];
+            if (moved != 0) {
+                hash ^= Zobrist.row(r - 1, moved) ^ Zobrist.row(r, moved);
+            }
+            rows[r] = moved;
+        }
+        rows[0] = 0;
+    }
+
+    /**
+     * Finds the lowest free y-coordinate for a brick dropped straight down from a starting row.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @param x        The x-coordinate of the brick's 4x4 matrix.
+     * @param y        The starting y-coordinate, which must itself be free.
+     * @return The y-coordinate where the brick comes to rest.
+     */
+    public int dropY(int id, int rotation, int x, int y) {
+        while (!collides(id, rotation, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    /**
+     * Retrieves the occupancy bitmask of a single row.
+     *
+     * @param row The row index (0 is the top).
+     * @return A bitmask with bit c set when column c is filled.
+     */
+    public int row(int row) {
+        return rows[row];
+    }
+
+    /**
+     * Overwrites the occupancy bitmask of a single row.
+     *
+     * @param row  The row index (0 is the top).
+     * @param mask A bitmask with bit c set when column c is filled.
+     */
+    public void setRow(int row, int mask) {
+        int masked = mask & fullRow;
+        hash ^= Zobrist.row(row, rows[row]) ^ Zobrist.row(row, masked);
+        rows[row] = masked;
+    }
+
+    /**
+     * Retrieves the Zobrist hash of the occupied cells.
+     * Combine it with the current and held bricks through Zobrist.position().
+     *
+     * @return The board hash; equal boards always have equal hashes.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    // Moves a 4-bit shape row mask to board column x (x may be negative for shapes with empty left columns)
+    static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * This class scores a board position for the AI player.
+ * It takes the features computed by a FeatureExtractor (heights, holes, wells, transitions...)
+ * plus a reward for cleared lines and combines them into a single number; higher is better.
+ *
+ * The weights are kept in a plain array so they can be swapped out for tuned values
+ * without touching the search code. The class holds no mutable state, so one instance
+ * can be shared by every search thread.
+ */
+package com.comp2042.logic.ai;
+
+public final class Evaluator {
+
+    // Board features use the FeatureExtractor indices; the line reward comes after them
+    public static final int LINES = FeatureExtractor.FEATURE_COUNT;
+    public static final int WEIGHT_COUNT = FeatureExtractor.FEATURE_COUNT + 1;
+
+    // Well-known hand-tuned starting point: aggregate height, holes, bumpiness and lines.
+    // The other features start switched off until the weights are tuned.
+    private static final double[] DEFAULT_WEIGHTS = new double[WEIGHT_COUNT];
+
+    static {
+        DEFAULT_WEIGHTS[FeatureExtractor.AGGREGATE_HEIGHT] = -0.510066;
+        DEFAULT_WEIGHTS[FeatureExtractor.HOLES] = -0.35663;
+        DEFAULT_WEIGHTS[FeatureExtractor.BUMPINESS] = -0.184483;
+        DEFAULT_WEIGHTS[LINES] = 0.760666;
+    }
+
+    private final double[] weights;
+
+    /**
+     * Creates an evaluator with the default hand-tuned weights.
+     */
+    public Evaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * Creates an evaluator with custom weights.
+     *
+     * @param weights One weight per feature (FeatureExtractor indices) followed by the LINES weight.
+     */
+    public Evaluator(double[] weights) {
+        if (weights.length != WEIGHT_COUNT) {
+            throw new IllegalArgumentException("Expected " + WEIGHT_COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Scores the shape of the stack. Line clears are scored separately by lineReward.
+     *
+     * @param features The features of the board after a brick has been placed and rows cleared,
+     *                 as returned by FeatureExtractor.compute() or update().
+     * @return The weighted score; higher is better.
+     */
+    public double evaluate(int[] features) {
+        double score = 0;
+        for (int i = 0; i < FeatureExtractor.FEATURE_COUNT; i++) {
+            score += weights[i] * features[i];
+        }
+        return score;
+    }
+
+    /**
+     * Scores the lines cleared by a single placement.
+     *
+     * @param lines The number of lines cleared (0-4).
+     * @return The weighted reward.
+     */
+    public double lineReward(int lines) {
+        return weights[LINES] * lines;
+    }
+
+    /**
+     * Retrieves a copy of the weights used by this evaluator.
+     *
+     * @return The weight array, indexed by the FeatureExtractor constants and LINES.
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * This class computes the board features that evaluation functions are built from.
+ *
+ * A full computation works on whole rows at a time: holes, column heights, wells and
+ * transitions are all derived from row bitmasks with shifts, masks and bit counts, so most
+ * of the work is a few operations per row instead of one per cell.
+ *
+ * The extractor also keeps per-column and per-row partial results, which lets it update the
+ * features after a placement that clears no lines by re-examining only the columns and rows
+ * the brick touched. A placement that clears lines shifts every row above it, so it falls
+ * back to a full computation.
+ *
+ * Features are exposed through a reused int array indexed by the constants below.
+ * An extractor is not thread-safe; each thread (or each search node) needs its own.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+import java.util.Arrays;
+
+public final class FeatureExtractor {
+
+    // Sum of all column heights
+    public static final int AGGREGATE_HEIGHT = 0;
+    // Height of the tallest column
+    public static final int MAX_HEIGHT = 1;
+    // Empty cells with at least one filled cell above them in the same column
+    public static final int HOLES = 2;
+    // Sum of height differences between neighbouring columns
+    public static final int BUMPINESS = 3;
+    // Open wells: for each well of depth d, 1 + 2 + ... + d
+    public static final int WELLS = 4;
+    // Filled/empty changes along each row, counting the walls as filled
+    public static final int ROW_TRANSITIONS = 5;
+    // Filled/empty changes down each column, counting the floor as filled
+    public static final int COLUMN_TRANSITIONS = 6;
+    // Filled cells that sit above at least one hole in their column
+    public static final int COVERED_CELLS = 7;
+    public static final int FEATURE_COUNT = 8;
+
+    private final int width;
+    private final int height;
+    private final int fullRow;
+
+    private final int[] features = new int[FEATURE_COUNT];
+
+    // Per-column partial results
+    private final int[] columnHeight;
+    private final int[] columnHoles;
+    private final int[] columnCovered;
+    private final int[] columnTransitions;
+    private final int[] columnWells;
+    // Per-row partial results
+    private final int[] rowTransitions;
+
+    // Scratch space for full computations
+    private final int[] coveredAbove;
+    private final int[] wellRun;
+
+    /**
+     * Creates an extractor for boards of the given size.
+     *
+     * @param width  The number of columns.
+     * @param height The number of rows.
+     */
+    public FeatureExtractor(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.fullRow = (1 << width) - 1;
+        columnHeight = new int[width];
+        columnHoles = new int[width];
+        columnCovered = new int[width];
+        columnTransitions = new int[width];
+        columnWells = new int[width];
+        rowTransitions = new int[height];
+        coveredAbove = new int[height];
+        wellRun = new int[width];
+    }
+
+    /**
+     * Computes every feature of a board from scratch.
+     *
+     * @param board The board to analyse.
+     * @return The feature array (owned by this extractor and overwritten by the next call).
+     */
+    public int[] compute(BitBoard board) {
+        Arrays.fill(columnHeight, 0);
+        Arrays.fill(columnHoles, 0);
+        Arrays.fill(columnCovered, 0);
+        Arrays.fill(columnTransitions, 0);
+        Arrays.fill(columnWells, 0);
+        Arrays.fill(wellRun, 0);
+
+        int covered = 0;
+        int previous = 0;
+        int totalRowTransitions = 0;
+        int runActive = 0;
+        int rightWall = 1 << (width - 1);
+
+        for (int r = 0; r < height; r++) {
+            int row = board.row(r);
+
+            // Wells: empty cells above the surface whose neighbours (or walls) are filled
+            int open = fullRow & ~(covered | row);
+            int wells = open & ((row << 1) | 1) & ((row >>> 1) | rightWall);
+            for (int ended = runActive & ~wells; ended != 0; ended &= ended - 1) {
+                wellRun[Integer.numberOfTrailingZeros(ended)] = 0;
+            }
+            for (int m = wells; m != 0; m &= m - 1) {
+                int c = Integer.numberOfTrailingZeros(m);
+                columnWells[c] += ++wellRun[c];
+            }
+            runActive = wells;
+
+            // Heights: the first filled cell seen in a column is its surface
+            for (int tops = row & ~covered; tops != 0; tops &= tops - 1) {
+                columnHeight[Integer.numberOfTrailingZeros(tops)] = height - r;
+            }
+            covered |= row;
+            coveredAbove[r] = covered;
+
+            // Holes: columns already covered but empty in this row
+            for (int holes = covered & ~row; holes != 0; holes &= holes - 1) {
+                columnHoles[Integer.numberOfTrailingZeros(holes)]++;
+            }
+
+            rowTransitions[r] = rowTransitions(row);
+            totalRowTransitions += rowTransitions[r];
+
+            for (int changes = previous ^ row; changes != 0; changes &= changes - 1) {
+                columnTransitions[Integer.numberOfTrailingZeros(changes)]++;
+            }
+            previous = row;
+        }
+        // The floor counts as filled
+        for (int changes = fullRow & ~previous; changes != 0; changes &= changes - 1) {
+            columnTransitions[Integer.numberOfTrailingZeros(changes)]++;
+        }
+
+        // Covered cells: walk upwards, remembering which columns have a hole further down
+        int holeBelow = 0;
+        for (int r = height - 1; r >= 0; r--) {
+            int row = board.row(r);
+            for (int m = row & holeBelow; m != 0; m &= m - 1) {
+                columnCovered[Integer.numberOfTrailingZeros(m)]++;
+            }
+            holeBelow |= coveredAbove[r] & ~row;
+        }
+
+        int holes = 0;
+        int coveredCells = 0;
+        int columnTrans = 0;
+        int wellSum = 0;
+        for (int c = 0; c < width; c++) {
+            holes += columnHoles[c];
+            coveredCells += columnCovered[c];
+            columnTrans += columnTransitions[c];
+            wellSum += columnWells[c];
+        }
+        features[HOLES] = holes;
+        features[COVERED_CELLS] = coveredCells;
+        features[COLUMN_TRANSITIONS] = columnTrans;
+        features[WELLS] = wellSum;
+        features[ROW_TRANSITIONS] = totalRowTransitions;
+        updateHeightFeatures();
+        return features;
+    }
+
+    /**
+     * Updates the features after a brick has been locked into the board.
+     * The extractor must currently describe the board as it was before the placement.
+     *
+     * @param board        The board after the placement.
+     * @param id           The brick ID (1-7).
+     * @param rotation     The rotation index.
+     * @param x            The x-coordinate of the brick's 4x4 matrix.
+     * @param y            The y-coordinate of the brick's 4x4 matrix.
+     * @param linesCleared The value returned by BitBoard.place().
+     * @return The feature array (owned by this extractor).
+     */
+    public int[] update(BitBoard board, int id, int rotation, int x, int y, int linesCleared) {
+        if (linesCleared > 0) {
+            return compute(board);
+        }
+        // Wells depend on neighbouring columns, so widen the range by one on each side
+        int from = Math.max(0, x + BrickShapeTable.minColumn(id, rotation) - 1);
+        int to = Math.min(width - 1, x + BrickShapeTable.maxColumn(id, rotation) + 1);
+        for (int c = from; c <= to; c++) {
+            features[HOLES] -= columnHoles[c];
+            features[COVERED_CELLS] -= columnCovered[c];
+            features[COLUMN_TRANSITIONS] -= columnTransitions[c];
+            features[WELLS] -= columnWells[c];
+            computeColumn(board, c);
+            features[HOLES] += columnHoles[c];
+            features[COVERED_CELLS] += columnCovered[c];
+            features[COLUMN_TRANSITIONS] += columnTransitions[c];
+            features[WELLS] += columnWells[c];
+        }
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            if (BrickShapeTable.rowMask(id, rotation, r) != 0) {
+                int row = y + r;
+                features[ROW_TRANSITIONS] -= rowTransitions[row];
+                rowTransitions[row] = rowTransitions(board.row(row));
+                features[ROW_TRANSITIONS] += rowTransitions[row];
+            }
+        }
+        updateHeightFeatures();
+        return features;
+    }
+
+    /**
+     * Copies the complete state of another extractor, so a search can branch from a parent position.
+     *
+     * @param other An extractor for a board of the same size.
+     */
+    public void copyFrom(FeatureExtractor other) {
+        System.arraycopy(other.features, 0, features, 0, FEATURE_COUNT);
+        System.arraycopy(other.columnHeight, 0, columnHeight, 0, width);
+        System.arraycopy(other.columnHoles, 0, columnHoles, 0, width);
+        System.arraycopy(other.columnCovered, 0, columnCovered, 0, width);
+        System.arraycopy(other.columnTransitions, 0, columnTransitions, 0, width);
+        System.arraycopy(other.columnWells, 0, columnWells, 0, width);
+        System.arraycopy(other.rowTransitions, 0, rowTransitions, 0, height);
+    }
+
+    /**
+     * Retrieves the features from the last compute() or update() call.
+     *
+     * @return The feature array (owned by this extractor).
+     */
+    public int[] features() {
+        return features;
+    }
+
+    /**
+     * Retrieves the height of a single column from the last computation.
+     *
+     * @param column The column index.
+     * @return The number of rows from the floor up to and including the column's top cell.
+     */
+    public int columnHeight(int column) {
+        return columnHeight[column];
+    }
+
+    // Re-derives all per-column values of one column by walking down it
+    private void computeColumn(BitBoard board, int c) {
+        int bit = 1 << c;
+        int leftBit = c > 0 ? bit >>> 1 : 0;
+        int rightBit = c < width - 1 ? bit << 1 : 0;
+        int columnTop = 0;
+        int holes = 0;
+        int filledAbove = 0;
+        int coveredCells = 0;
+        int transitions = 0;
+        int run = 0;
+        int wells = 0;
+        boolean previous = false;
+        boolean surfaceFound = false;
+
+        for (int r = 0; r < height; r++) {
+            int row = board.row(r);
+            boolean filled = (row & bit) != 0;
+            if (filled) {
+                if (!surfaceFound) {
+                    surfaceFound = true;
+                    columnTop = height - r;
+                }
+                filledAbove++;
+            } else if (surfaceFound) {
+                holes++;
+                // Every filled cell seen so far sits above this hole
+                coveredCells = filledAbove;
+            } else {
+                boolean leftFilled = leftBit == 0 || (row & leftBit) != 0;
+                boolean rightFilled = rightBit == 0 || (row & rightBit) != 0;
+                if (leftFilled && rightFilled) {
+                    wells += ++run;
+                } else {
+                    run = 0;
+                }
+            }
+            if (filled != previous) {
+                transitions++;
+            }
+            previous = filled;
+        }
+        if (!previous) {
+            transitions++;
+        }
+        columnHeight[c] = columnTop;
+        columnHoles[c] = holes;
+        columnCovered[c] = coveredCells;
+        columnTransitions[c] = transitions;
+        columnWells[c] = wells;
+    }
+
+    // Counts filled/empty changes along a row, with both walls treated as filled
+    private int rowTransitions(int row) {
+        int walled = (row << 1) | 1 | (1 << (width + 1));
+        return Integer.bitCount((walled ^ (walled >>> 1)) & ((1 << (width + 1)) - 1));
+    }
+
+    private void updateHeightFeatures() {
+        int aggregate = 0;
+        int max = 0;
+        int bumpiness = 0;
+        for (int c = 0; c < width; c++) {
+            int h = columnHeight[c];
+            aggregate += h;
+            max = Math.max(max, h);
+            if (c > 0) {
+                bumpiness += Math.abs(h - columnHeight[c - 1]);
+            }
+        }
+        features[AGGREGATE_HEIGHT] = aggregate;
+        features[MAX_HEIGHT] = max;
+        features[BUMPINESS] = bumpiness;
+    }
+}
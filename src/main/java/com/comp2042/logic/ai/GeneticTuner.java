@@ -0,0 +1,388 @@
+/*
+ * This class tunes the Evaluator weights with a genetic algorithm.
+ *
+ * Every generation, each candidate weight vector plays the same set of seeded games, and its
+ * fitness is the average final score. The games of a generation are independent, so they are
+ * cut into batches that SimulatedGames plays in lockstep on a LockstepEngine, and the batches
+ * are spread over a ForkJoinPool. Results land in a preallocated array by index, so the outcome
+ * never depends on how the games were batched or which thread finished first.
+ *
+ * The next generation keeps the best candidates unchanged and fills the rest with children
+ * of tournament-selected parents (a fitness-weighted average of the two, occasionally mutated).
+ * Weight vectors are kept at unit length, since only their direction changes which placement wins.
+ *
+ * Every generation is appended to a CSV log. Starting again with the same log resumes from
+ * the last complete generation; because the game seeds and the breeding randomness are both
+ * derived from the master seed and the generation number, a resumed run produces exactly the
+ * same results as an uninterrupted one.
+ *
+ * The tuner itself prints nothing; each finished generation is reported to a ProgressListener,
+ * which main() uses to print progress.
+ *
+ * Usage: GeneticTuner <log.csv> [generations] [population] [gamesPerCandidate] [maxBricks] [seed]
+ */
+package com.comp2042.logic.ai;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public final class GeneticTuner {
+
+    // CSV column names for the weights, in Evaluator weight order
+    private static final String[] WEIGHT_NAMES = {
+            "aggregate_height", "max_height", "holes", "bumpiness", "wells",
+            "row_transitions", "column_transitions", "covered_cells", "lines"
+    };
+    private static final String HEADER = "generation,candidate,fitness," + String.join(",", WEIGHT_NAMES);
+
+    private static final double MUTATION_RATE = 0.05;
+    private static final double MUTATION_STEP = 0.2;
+    // Games played side by side per task; enough to fill the engine's arrays, small enough to spread over the pool
+    private static final int BATCH_SIZE = 64;
+
+    private final ForkJoinPool pool;
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final int maxBricks;
+    private final long seed;
+    private final Path log;
+
+    private final double[][] population;
+    private final double[] fitness;
+    private ProgressListener listener = (generation, best, mean, nanos) -> { };
+    private final int[] gameScores;
+    // The generation currently held in population/fitness, or -1 before the first one
+    private int generation = -1;
+
+    /**
+     * Creates a tuner.
+     *
+     * @param pool              The pool that plays the games.
+     * @param populationSize    The number of weight vectors per generation.
+     * @param gamesPerCandidate The number of seeded games each candidate plays per generation.
+     * @param maxBricks         The brick limit per game, so strong candidates cannot play forever.
+     * @param seed              The master seed for game sequences and breeding.
+     * @param log               The CSV file results are appended to and resumed from.
+     */
+    public GeneticTuner(ForkJoinPool pool, int populationSize, int gamesPerCandidate, int maxBricks,
+                        long seed, Path log) {
+        if (populationSize < 2 || gamesPerCandidate < 1 || maxBricks < 1) {
+            throw new IllegalArgumentException("Population must be at least 2, games and bricks at least 1");
+        }
+        if (WEIGHT_NAMES.length != Evaluator.WEIGHT_COUNT) {
+            throw new IllegalStateException("Weight names are out of sync with Evaluator");
+        }
+        this.pool = pool;
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.maxBricks = maxBricks;
+        this.seed = seed;
+        this.log = log;
+        this.population = new double[populationSize][Evaluator.WEIGHT_COUNT];
+        this.fitness = new double[populationSize];
+        this.gameScores = new int[populationSize * gamesPerCandidate];
+    }
+
+    /**
+     * Runs the tuner until the log holds the requested number of generations.
+     * Generations already in the log are not replayed.
+     *
+     * @param generations The total number of generations wanted, counting resumed ones.
+     * @return The weights of the best candidate of the last generation.
+     * @throws IOException If the log cannot be read or written.
+     */
+    public double[] run(int generations) throws IOException {
+        resume();
+        while (generation + 1 < generations) {
+            long start = System.nanoTime();
+            if (generation < 0) {
+                seedPopulation(random(0));
+            } else {
+                breed(random(generation + 1));
+            }
+            generation++;
+            evaluate();
+            append();
+            listener.generationDone(generation, fitness[best()], mean(fitness), System.nanoTime() - start);
+        }
+        return generation < 0 ? new Evaluator().getWeights() : population[best()].clone();
+    }
+
+    /**
+     * Sets who is told about each generation as it finishes.
+     *
+     * @param listener The listener, called on the thread that runs the tuner.
+     */
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Retrieves the index of the last complete generation.
+     *
+     * @return The generation number, or -1 if none has been played or resumed.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    // Plays every game of the current generation in parallel and averages the scores
+    private void evaluate() {
+        pool.invoke(new GameTask(0, gameScores.length));
+        for (int c = 0; c < populationSize; c++) {
+            long total = 0;
+            for (int g = 0; g < gamesPerCandidate; g++) {
+                total += gameScores[c * gamesPerCandidate + g];
+            }
+            fitness[c] = (double) total / gamesPerCandidate;
+        }
+    }
+
+    // Plays the games with task indices from (inclusive) to (exclusive) as one lockstep batch
+    private void playBatch(int from, int to) {
+        int count = to - from;
+        Evaluator[] evaluators = new Evaluator[count];
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            int task = from + i;
+            evaluators[i] = new Evaluator(population[task / gamesPerCandidate]);
+            // Every candidate of a generation plays the same sequences, so they are compared fairly
+            seeds[i] = seed * 0x9E3779B97F4A7C15L + (long) generation * 1_000_003L + task % gamesPerCandidate;
+        }
+        SimulatedGames games = new SimulatedGames(count);
+        games.play(evaluators, seeds, maxBricks);
+        for (int i = 0; i < count; i++) {
+            gameScores[from + i] = games.getScore(i);
+        }
+    }
+
+    // Generation 0: the hand-tuned default weights plus random directions
+    private void seedPopulation(SplittableRandom random) {
+        population[0] = normalize(new Evaluator().getWeights());
+        for (int c = 1; c < populationSize; c++) {
+            double[] weights = new double[Evaluator.WEIGHT_COUNT];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = random.nextDouble(-1, 1);
+            }
+            population[c] = normalize(weights);
+        }
+    }
+
+    private void breed(SplittableRandom random) {
+        Integer[] order = new Integer[populationSize];
+        for (int c = 0; c < populationSize; c++) {
+            order[c] = c;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+        int elite = Math.max(1, populationSize / 10);
+        int tournament = Math.max(2, populationSize / 10);
+
+        double[][] next = new double[populationSize][];
+        for (int c = 0; c < elite; c++) {
+            next[c] = population[order[c]].clone();
+        }
+        for (int c = elite; c < populationSize; c++) {
+            int a = select(random, tournament);
+            int b = select(random, tournament);
+            double fa = Math.max(fitness[a], 0);
+            double fb = Math.max(fitness[b], 0);
+            double share = fa + fb > 0 ? fa / (fa + fb) : 0.5;
+            double[] child = new double[Evaluator.WEIGHT_COUNT];
+            for (int i = 0; i < child.length; i++) {
+                child[i] = share * population[a][i] + (1 - share) * population[b][i];
+                if (random.nextDouble() < MUTATION_RATE) {
+                    child[i] += gaussian(random) * MUTATION_STEP;
+                }
+            }
+            next[c] = normalize(child);
+        }
+        for (int c = 0; c < populationSize; c++) {
+            population[c] = next[c];
+        }
+    }
+
+    // Picks the fittest of a few random candidates
+    private int select(SplittableRandom random, int size) {
+        int best = random.nextInt(populationSize);
+        for (int i = 1; i < size; i++) {
+            int other = random.nextInt(populationSize);
+            if (fitness[other] > fitness[best]) {
+                best = other;
+            }
+        }
+        return best;
+    }
+
+    // Loads the last complete generation from the log, dropping any half-written one after it
+    private void resume() throws IOException {
+        if (!Files.exists(log)) {
+            Files.writeString(log, HEADER + System.lineSeparator(), StandardCharsets.UTF_8);
+            return;
+        }
+        List<String> kept = new ArrayList<>();
+        kept.add(HEADER);
+        List<String> pending = new ArrayList<>();
+        double[][] pendingWeights = new double[populationSize][Evaluator.WEIGHT_COUNT];
+        double[] pendingFitness = new double[populationSize];
+        int pendingGeneration = -1;
+
+        for (String line : Files.readAllLines(log, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("generation")) {
+                continue;
+            }
+            String[] fields = line.split(",");
+            if (fields.length != 3 + Evaluator.WEIGHT_COUNT) {
+                // A row cut short by an interrupted write ends the usable log
+                break;
+            }
+            int g = Integer.parseInt(fields[0]);
+            int c = Integer.parseInt(fields[1]);
+            if (g != pendingGeneration) {
+                pending.clear();
+                pendingGeneration = g;
+            }
+            if (c != pending.size() || c >= populationSize) {
+                throw new IOException("Log does not match a population of " + populationSize + ": " + line);
+            }
+            pendingFitness[c] = Double.parseDouble(fields[2]);
+            for (int i = 0; i < Evaluator.WEIGHT_COUNT; i++) {
+                pendingWeights[c][i] = Double.parseDouble(fields[3 + i]);
+            }
+            pending.add(line);
+            if (pending.size() == populationSize) {
+                kept.addAll(pending);
+                generation = g;
+                for (int k = 0; k < populationSize; k++) {
+                    population[k] = pendingWeights[k].clone();
+                }
+                System.arraycopy(pendingFitness, 0, fitness, 0, populationSize);
+            }
+        }
+        Files.write(log, kept, StandardCharsets.UTF_8);
+    }
+
+    private void append() throws IOException {
+        StringBuilder rows = new StringBuilder();
+        for (int c = 0; c < populationSize; c++) {
+            rows.append(generation).append(',').append(c).append(',').append(fitness[c]);
+            for (double weight : population[c]) {
+                rows.append(',').append(weight);
+            }
+            rows.append(System.lineSeparator());
+        }
+        Files.writeString(log, rows, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private SplittableRandom random(int forGeneration) {
+        return new SplittableRandom(seed ^ (forGeneration * 0xD1B54A32D192ED03L));
+    }
+
+    private int best() {
+        int best = 0;
+        for (int c = 1; c < populationSize; c++) {
+            if (fitness[c] > fitness[best]) {
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    private static double mean(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total / values.length;
+    }
+
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double weight : weights) {
+            length += weight * weight;
+        }
+        length = Math.sqrt(length);
+        if (length > 0) {
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] /= length;
+            }
+        }
+        return weights;
+    }
+
+    // Box-Muller transform, so the result depends only on the seeded generator
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    // Splits the (candidate, game) index range in halves down to batches
+    private final class GameTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        GameTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_SIZE) {
+                playBatch(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new GameTask(from, mid), new GameTask(mid, to));
+        }
+    }
+
+    /**
+     * Receives the results of each generation as it is logged.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called after a generation has been played and appended to the log.
+         *
+         * @param generation The generation number.
+         * @param best       The best fitness of the generation.
+         * @param mean       The mean fitness of the generation.
+         * @param nanos      How long breeding and playing the generation took.
+         */
+        void generationDone(int generation, double best, double mean, long nanos);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: GeneticTuner <log.csv> [generations] [population] [games] [maxBricks] [seed]");
+            return;
+        }
+        int generations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+        int population = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        int gamesPer = args.length > 3 ? Integer.parseInt(args[3]) : 32;
+        int maxBricks = args.length > 4 ? Integer.parseInt(args[4]) : 500;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : 2042L;
+
+        GeneticTuner tuner = new GeneticTuner(ForkJoinPool.commonPool(), population, gamesPer, maxBricks,
+                seed, Path.of(args[0]));
+        tuner.setProgressListener((generation, best, mean, nanos) -> System.out.printf(
+                "Generation %d: best %.1f, mean %.1f (%d ms)%n", generation, best, mean, nanos / 1_000_000));
+        double[] best = tuner.run(generations);
+        StringBuilder summary = new StringBuilder("Best weights:");
+        for (int i = 0; i < best.length; i++) {
+            summary.append(' ').append(WEIGHT_NAMES[i]).append('=').append(best[i]);
+        }
+        System.out.println(summary);
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * This class enumerates every distinct final placement a brick can reach from its spawn point.
+ *
+ * It runs a breadth-first search over (x, y, rotation) states using exactly the moves the
+ * game allows: one step left, right or down, and a rotation with the same left/right kick
+ * as SimpleBoard.rotateLeftBrick. Because the search keeps sliding a brick after it has
+ * landed, tucks and spins under overhangs are found as well as plain hard drops.
+ * A state whose downward move is blocked is a final placement; placements that would
+ * occupy the same cells are reported once.
+ *
+ * All buffers are allocated once in the constructor, so generate() creates no objects.
+ * An instance is therefore not thread-safe: give each search thread its own generator.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+import java.util.Arrays;
+
+public final class MoveGenerator {
+
+    // Shapes can sit up to 3 columns left of the board when their left columns are empty
+    private static final int X_OFFSET = BrickShapeTable.SHAPE_SIZE - 1;
+    private static final int MAX_ROTATIONS = 4;
+
+    private static final EventType[] MOVES = EventType.values();
+
+    // For each brick/rotation: the first rotation with an identical shape, and the shape's top row
+    private static final int[][] CANONICAL_ROTATION = new int[BrickShapeTable.BRICK_TYPES + 1][];
+    private static final int[][] TOP_ROW = new int[BrickShapeTable.BRICK_TYPES + 1][];
+
+    static {
+        for (int id = 1; id <= BrickShapeTable.BRICK_TYPES; id++) {
+            int count = BrickShapeTable.rotationCount(id);
+            CANONICAL_ROTATION[id] = new int[count];
+            TOP_ROW[id] = new int[count];
+            for (int rot = 0; rot < count; rot++) {
+                TOP_ROW[id][rot] = topRow(id, rot);
+                CANONICAL_ROTATION[id][rot] = rot;
+                for (int other = 0; other < rot; other++) {
+                    if (sameCells(id, rot, other)) {
+                        CANONICAL_ROTATION[id][rot] = CANONICAL_ROTATION[id][other];
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private final BitBoard board;
+    private final int height;
+    private final int xSpan;
+
+    // BFS bookkeeping, indexed by encoded state
+    private final long[] visited;
+    private final long[] placed;
+    private final int[] queue;
+    private final int[] parent;
+    private final byte[] move;
+
+    // Results of the last generate() call
+    private final int[] placements;
+    private final int[] finalStates;
+    private int count;
+    private int brickId;
+
+    /**
+     * Creates a generator for boards of the given size.
+     *
+     * @param width  The number of columns.
+     * @param height The number of rows.
+     */
+    public MoveGenerator(int width, int height) {
+        this.height = height;
+        this.xSpan = width + X_OFFSET;
+        this.board = new BitBoard(width, height);
+        int states = MAX_ROTATIONS * height * xSpan;
+        this.visited = new long[(states + 63) >>> 6];
+        this.placed = new long[(states + 63) >>> 6];
+        this.queue = new int[states];
+        this.parent = new int[states];
+        this.move = new byte[states];
+        this.placements = new int[states];
+        this.finalStates = new int[states];
+    }
+
+    /**
+     * Finds every final placement of a brick reachable from the standard spawn point.
+     * To evaluate a hold alternative, call this again with the held (or next) brick's ID.
+     *
+     * @param source  The board to search on. It is copied, so the caller may keep mutating it.
+     * @param id      The brick ID (1-7).
+     * @return The number of distinct placements found (0 if the brick cannot even spawn).
+     */
+    public int generate(BitBoard source, int id) {
+        return generate(source, id, GameConfig.SPAWN_X, GameConfig.SPAWN_Y, 0);
+    }
+
+    /**
+     * Finds every final placement of a brick reachable from an arbitrary starting state,
+     * for example the current position of a brick that is already falling.
+     *
+     * @param source   The board to search on. It is copied, so the caller may keep mutating it.
+     * @param id       The brick ID (1-7).
+     * @param startX   The starting x-coordinate.
+     * @param startY   The starting y-coordinate.
+     * @param startRot The starting rotation index.
+     * @return The number of distinct placements found (0 if the start state collides).
+     */
+    public int generate(BitBoard source, int id, int startX, int startY, int startRot) {
+        board.copyFrom(source);
+        brickId = id;
+        count = 0;
+        Arrays.fill(visited, 0L);
+        Arrays.fill(placed, 0L);
+        if (board.collides(id, startRot, startX, startY)) {
+            return 0;
+        }
+
+        int rotations = BrickShapeTable.rotationCount(id);
+        int start = encode(startX, startY, startRot);
+        mark(visited, start);
+        parent[start] = -1;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int rot = state / (height * xSpan);
+            int rest = state - rot * height * xSpan;
+            int y = rest / xSpan;
+            int x = rest - y * xSpan - X_OFFSET;
+
+            // A brick that cannot move down locks here
+            if (board.collides(id, rot, x, y + 1)) {
+                recordPlacement(id, rot, x, y, state);
+            } else {
+                tail = visit(x, y + 1, rot, state, EventType.DOWN, tail);
+            }
+            if (!board.collides(id, rot, x - 1, y)) {
+                tail = visit(x - 1, y, rot, state, EventType.LEFT, tail);
+            }
+            if (!board.collides(id, rot, x + 1, y)) {
+                tail = visit(x + 1, y, rot, state, EventType.RIGHT, tail);
+            }
+            if (rotations > 1) {
+                // Same kick order as SimpleBoard.rotateLeftBrick: in place, then left, then right
+                int next = (rot + 1) % rotations;
+                if (!board.collides(id, next, x, y)) {
+                    tail = visit(x, y, next, state, EventType.ROTATE, tail);
+                } else if (!board.collides(id, next, x - 1, y)) {
+                    tail = visit(x - 1, y, next, state, EventType.ROTATE, tail);
+                } else if (!board.collides(id, next, x + 1, y)) {
+                    tail = visit(x + 1, y, next, state, EventType.ROTATE, tail);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Retrieves the number of placements found by the last generate() call.
+     *
+     * @return The placement count.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Retrieves one placement from the last generate() call.
+     *
+     * @param index The placement index (0 to count() - 1).
+     * @return The packed placement; decode it with {@link Placement}.
+     */
+    public int placement(int index) {
+        return placements[index];
+    }
+
+    /**
+     * Reconstructs the shortest input sequence that brings the brick from its start state
+     * to a placement. Trailing soft drops are collapsed into a single HARD_DROP, which
+     * also locks the brick, so replaying the sequence through an InputEventListener
+     * places the brick exactly where the generator found it.
+     *
+     * @param index The placement index (0 to count() - 1).
+     * @param out   Receives the moves; must hold at least maxPathLength() entries.
+     * @return The number of moves written to out.
+     */
+    public int path(int index, EventType[] out) {
+        int length = 0;
+        for (int s = finalStates[index]; parent[s] >= 0; s = parent[s]) {
+            length++;
+        }
+        int i = length;
+        for (int s = finalStates[index]; parent[s] >= 0; s = parent[s]) {
+            out[--i] = MOVES[move[s]];
+        }
+        while (length > 0 && out[length - 1] == EventType.DOWN) {
+            length--;
+        }
+        out[length++] = EventType.HARD_DROP;
+        return length;
+    }
+
+    /**
+     * Retrieves the size an array passed to path() must have to hold any sequence.
+     *
+     * @return The maximum path length, including the final HARD_DROP.
+     */
+    public int maxPathLength() {
+        return queue.length + 1;
+    }
+
+    /**
+     * Retrieves the brick ID used by the last generate() call.
+     *
+     * @return The brick ID (1-7).
+     */
+    public int brickId() {
+        return brickId;
+    }
+
+    // Queues a state if it has not been seen yet, remembering how we got there
+    private int visit(int x, int y, int rot, int from, EventType how, int tail) {
+        int state = encode(x, y, rot);
+        if (!isMarked(visited, state)) {
+            mark(visited, state);
+            parent[state] = from;
+            move[state] = (byte) how.ordinal();
+            queue[tail++] = state;
+        }
+        return tail;
+    }
+
+    // Stores a final placement unless another rotation already covers the same cells
+    private void recordPlacement(int id, int rot, int x, int y, int state) {
+        int canonical = CANONICAL_ROTATION[id][rot];
+        int cellX = x + BrickShapeTable.minColumn(id, rot);
+        int cellY = y + TOP_ROW[id][rot];
+        int key = (canonical * height + cellY) * xSpan + cellX + X_OFFSET;
+        if (isMarked(placed, key)) {
+            return;
+        }
+        mark(placed, key);
+        placements[count] = Placement.of(rot, x, y);
+        finalStates[count] = state;
+        count++;
+    }
+
+    private int encode(int x, int y, int rot) {
+        return (rot * height + y) * xSpan + x + X_OFFSET;
+    }
+
+    private static boolean isMarked(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void mark(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    // Returns the first shape row that has a filled cell
+    private static int topRow(int id, int rot) {
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            if (BrickShapeTable.rowMask(id, rot, r) != 0) {
+                return r;
+            }
+        }
+        return 0;
+    }
+
+    // Two rotations cover the same cells if their shapes match once aligned to the top-left corner
+    private static boolean sameCells(int id, int a, int b) {
+        int topA = topRow(id, a);
+        int topB = topRow(id, b);
+        int leftA = BrickShapeTable.minColumn(id, a);
+        int leftB = BrickShapeTable.minColumn(id, b);
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int rowA = topA + r < BrickShapeTable.SHAPE_SIZE ? BrickShapeTable.rowMask(id, a, topA + r) >>> leftA : 0;
+            int rowB = topB + r < BrickShapeTable.SHAPE_SIZE ? BrickShapeTable.rowMask(id, b, topB + r) >>> leftB : 0;
+            if (rowA != rowB) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
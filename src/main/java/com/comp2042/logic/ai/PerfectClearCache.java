@@ -0,0 +1,182 @@
+/*
+ * This class remembers perfect clear solutions in a text file, so common openers (the first
+ * bricks of a game on an empty board) are solved once ahead of time instead of every game.
+ *
+ * Each line is one problem and its answer:
+ *   <region hex> <bricks> <solution>
+ * where bricks is the falling brick, the held brick ('-' for none) and the queue as letters
+ * (IJLOSTZ), and solution is "-" for "none" or the region height followed by the steps, e.g.
+ *   2:I0@0,*O0@4,I0@6
+ * with '*' marking a hold before the step. Answers the solver gave up on are never stored.
+ *
+ * Usage: PerfectClearCache [file=perfect-clears.txt] [openers=100] [seed=1] [lookahead=10]
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public final class PerfectClearCache {
+
+    // Brick letters indexed by brick ID
+    private static final String LETTERS = "-IJLOSTZ";
+    private static final String NONE = "-";
+
+    private final Path file;
+    private final Map<String, String> entries = new HashMap<>();
+
+    /**
+     * Creates a cache backed by a file, loading it if it exists.
+     *
+     * @param file The cache file.
+     * @throws IOException If the file exists but cannot be read.
+     */
+    public PerfectClearCache(Path file) throws IOException {
+        this.file = file;
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file)) {
+                String[] parts = line.trim().split(" ");
+                if (parts.length == 3) {
+                    entries.put(parts[0] + " " + parts[1], parts[2]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Looks a problem up, solving and remembering it on a miss.
+     *
+     * @param solver      The solver used on a miss.
+     * @param matrix      The board matrix.
+     * @param currentId   The ID (1-7) of the falling brick.
+     * @param holdId      The ID of the held brick, or 0 if the hold slot is empty.
+     * @param queue       The IDs of the upcoming bricks, in order.
+     * @param queueLength How many entries of the queue are valid.
+     * @return The solution, or null if there is none (or the solver ran out of time).
+     */
+    public synchronized PerfectClearSolver.Solution solve(PerfectClearSolver solver, int[][] matrix,
+                                                          int currentId, int holdId, int[] queue, int queueLength) {
+        long region = PerfectClearSolver.regionOf(matrix);
+        if (region == PerfectClearSolver.NO_REGION) {
+            return null;
+        }
+        String key = key(region, currentId, holdId, queue, queueLength);
+        String cached = entries.get(key);
+        if (cached != null) {
+            return decode(cached);
+        }
+        PerfectClearSolver.Solution solution = solver.solve(matrix, currentId, holdId, queue, queueLength);
+        if (solution != null || !solver.timedOut()) {
+            entries.put(key, encode(solution));
+        }
+        return solution;
+    }
+
+    /**
+     * Counts the cached problems.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Writes every entry to the cache file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public synchronized void save() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                writer.write(entry.getKey() + " " + entry.getValue());
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String key(long region, int currentId, int holdId, int[] queue, int queueLength) {
+        StringBuilder bricks = new StringBuilder(Long.toHexString(region)).append(' ');
+        bricks.append(LETTERS.charAt(currentId)).append(LETTERS.charAt(holdId));
+        for (int i = 0; i < queueLength; i++) {
+            bricks.append(LETTERS.charAt(queue[i]));
+        }
+        return bricks.toString();
+    }
+
+    static String encode(PerfectClearSolver.Solution solution) {
+        if (solution == null) {
+            return NONE;
+        }
+        StringBuilder text = new StringBuilder().append(solution.getRows()).append(':');
+        for (int i = 0; i < solution.length(); i++) {
+            if (i > 0) {
+                text.append(',');
+            }
+            if (solution.holdFirst(i)) {
+                text.append('*');
+            }
+            text.append(LETTERS.charAt(solution.brickId(i)))
+                    .append(solution.rotation(i)).append('@').append(solution.column(i));
+        }
+        return text.toString();
+    }
+
+    static PerfectClearSolver.Solution decode(String text) {
+        if (text.equals(NONE)) {
+            return null;
+        }
+        int colon = text.indexOf(':');
+        String[] steps = text.substring(colon + 1).split(",");
+        int[] ids = new int[steps.length];
+        boolean[] holds = new boolean[steps.length];
+        int[] rotations = new int[steps.length];
+        int[] columns = new int[steps.length];
+        for (int i = 0; i < steps.length; i++) {
+            String step = steps[i];
+            holds[i] = step.charAt(0) == '*';
+            int start = holds[i] ? 1 : 0;
+            int at = step.indexOf('@');
+            ids[i] = LETTERS.indexOf(step.charAt(start));
+            rotations[i] = Integer.parseInt(step.substring(start + 1, at));
+            columns[i] = Integer.parseInt(step.substring(at + 1));
+        }
+        return new PerfectClearSolver.Solution(Integer.parseInt(text.substring(0, colon)), ids, holds, rotations, columns);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path path = Path.of(args.length > 0 ? args[0] : "perfect-clears.txt");
+        int openers = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        int lookahead = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+        PerfectClearCache cache = new PerfectClearCache(path);
+        // Precomputing can afford a much longer search than a live game
+        PerfectClearSolver solver = new PerfectClearSolver(TimeUnit.SECONDS.toNanos(2));
+        int[][] empty = new int[GameConfig.ROWS][GameConfig.COLS];
+        int solved = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < openers; i++) {
+            BrickGenerator generator = new SeededBrickGenerator(seed + i);
+            int current = BrickShapeTable.idOf(generator.getBrick());
+            int[] queue = PerfectClearSolver.queueOf(generator, lookahead);
+            if (cache.solve(solver, empty, current, 0, queue, queue.length) != null) {
+                solved++;
+            }
+        }
+        cache.save();
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%d openers, %d with a perfect clear, %d cached, %.1f ms%n",
+                openers, solved, cache.size(), elapsed / 1e6);
+    }
+}
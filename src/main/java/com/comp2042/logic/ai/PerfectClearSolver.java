@@ -0,0 +1,445 @@
+/*
+ * This class looks for a perfect clear: a sequence of placements from the known bricks that
+ * leaves the board completely empty.
+ *
+ * Only the bottom 2-6 rows are considered, and everything above them must already be empty.
+ * That region fits in one long (10 bits per row, bottom row first), so placing a brick,
+ * testing for full rows and clearing them are a few shifts and masks.
+ *
+ * The search tries the bricks in the order they will arrive, at each step either playing the
+ * current brick or swapping with the hold slot first, and every rotation and column a straight
+ * drop can reach. Before expanding a position it checks that
+ *   - the empty cells are a multiple of four and the usable bricks can cover them, and
+ *   - the column parity of the empty cells (even minus odd columns) can still be balanced:
+ *     O, S, Z and flat I/T bricks cover two cells of each parity, vertical I covers four of
+ *     one, and L, J and vertical T cover three and one. Full rows hold five of each, so line
+ *     clears do not change it.
+ * Positions that failed are remembered in a TranspositionTable, so the same sub-board reached
+ * by another placement order (very common) is not searched twice.
+ *
+ * Only straight drops are tried (no tucks or spins), which is also how Board.placeBrick()
+ * places bricks, so every solution can be replayed with it. A solver is not thread-safe.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class PerfectClearSolver {
+
+    // The solvable region is 2 to 6 rows of a 10 column board
+    public static final int MIN_ROWS = 2;
+    public static final int MAX_ROWS = 6;
+    private static final int WIDTH = 10;
+    private static final int FULL_ROW = (1 << WIDTH) - 1;
+    private static final int MAX_STEPS = MAX_ROWS * WIDTH / 4;
+    // Returned by regionOf() when the stack is taller than MAX_ROWS (a region never sets bit 63)
+    public static final long NO_REGION = -1L;
+
+    // Cells of the even columns in every region row
+    private static final long EVEN_COLUMNS;
+    // How far one brick can shift the column parity, indexed by brick ID
+    private static final int[] PARITY_RANGE = {0, 4, 2, 2, 0, 0, 2, 0};
+
+    // Every (rotation, column) a brick can be dropped at, as a region bitmask with its lowest
+    // filled row at row 0, plus the number of rows it spans
+    private static final long[][] DROP_BITS = new long[BrickShapeTable.BRICK_TYPES + 1][];
+    private static final int[][] DROP_HEIGHT = new int[BrickShapeTable.BRICK_TYPES + 1][];
+    private static final int[][] DROP_ROTATION = new int[BrickShapeTable.BRICK_TYPES + 1][];
+    private static final int[][] DROP_COLUMN = new int[BrickShapeTable.BRICK_TYPES + 1][];
+
+    static {
+        long even = 0;
+        for (int r = 0; r < MAX_ROWS; r++) {
+            even |= (long) 0b0101010101 << (r * WIDTH);
+        }
+        EVEN_COLUMNS = even;
+
+        int size = BrickShapeTable.SHAPE_SIZE;
+        for (int id = 1; id <= BrickShapeTable.BRICK_TYPES; id++) {
+            int total = 0;
+            for (int rot = 0; rot < BrickShapeTable.rotationCount(id); rot++) {
+                total += WIDTH - (BrickShapeTable.maxColumn(id, rot) - BrickShapeTable.minColumn(id, rot));
+            }
+            DROP_BITS[id] = new long[total];
+            DROP_HEIGHT[id] = new int[total];
+            DROP_ROTATION[id] = new int[total];
+            DROP_COLUMN[id] = new int[total];
+            int n = 0;
+            for (int rot = 0; rot < BrickShapeTable.rotationCount(id); rot++) {
+                int minCol = BrickShapeTable.minColumn(id, rot);
+                int maxCol = BrickShapeTable.maxColumn(id, rot);
+                for (int x = -minCol; x + maxCol < WIDTH; x++) {
+                    // Shape rows run top-down; region rows run bottom-up from the lowest filled one
+                    long bits = 0;
+                    int row = 0;
+                    int height = 0;
+                    for (int r = size - 1; r >= 0; r--) {
+                        int mask = BrickShapeTable.rowMask(id, rot, r);
+                        if (mask == 0 && row == 0) {
+                            continue;
+                        }
+                        if (mask != 0) {
+                            long shifted = x >= 0 ? (long) mask << x : (long) mask >>> -x;
+                            bits |= shifted << (row * WIDTH);
+                            height = row + 1;
+                        }
+                        row++;
+                    }
+                    DROP_BITS[id][n] = bits;
+                    DROP_HEIGHT[id][n] = height;
+                    DROP_ROTATION[id][n] = rot;
+                    DROP_COLUMN[id][n] = x;
+                    n++;
+                }
+            }
+        }
+    }
+
+    /**
+     * A perfect clear: the placements to make, in order. Each step places one brick with
+     * Board.placeBrick(rotation, column), after pressing hold first if holdFirst() says so.
+     */
+    public static final class Solution {
+        private final int rows;
+        private final int[] brickIds;
+        private final boolean[] holds;
+        private final int[] rotations;
+        private final int[] columns;
+
+        Solution(int rows, int[] brickIds, boolean[] holds, int[] rotations, int[] columns) {
+            this.rows = rows;
+            this.brickIds = brickIds;
+            this.holds = holds;
+            this.rotations = rotations;
+            this.columns = columns;
+        }
+
+        /**
+         * Retrieves how many rows the perfect clear clears.
+         *
+         * @return The height of the solved region.
+         */
+        public int getRows() {
+            return rows;
+        }
+
+        /**
+         * Retrieves the number of bricks placed.
+         *
+         * @return The number of steps.
+         */
+        public int length() {
+            return brickIds.length;
+        }
+
+        /**
+         * Retrieves the ID of the brick placed at a step.
+         *
+         * @param step The step index.
+         * @return The brick ID (1-7).
+         */
+        public int brickId(int step) {
+            return brickIds[step];
+        }
+
+        /**
+         * Reports whether hold must be pressed before a step.
+         *
+         * @param step The step index.
+         * @return true to swap with the hold slot before placing.
+         */
+        public boolean holdFirst(int step) {
+            return holds[step];
+        }
+
+        /**
+         * Retrieves the rotation index of the brick placed at a step.
+         *
+         * @param step The step index.
+         * @return The rotation.
+         */
+        public int rotation(int step) {
+            return rotations[step];
+        }
+
+        /**
+         * Retrieves the x-coordinate of the brick's 4x4 matrix at a step.
+         *
+         * @param step The step index.
+         * @return The column.
+         */
+        public int column(int step) {
+            return columns[step];
+        }
+    }
+
+    private final TranspositionTable failed;
+    private final long timeBudgetNanos;
+
+    // Per-call search state
+    private int[] sequence;
+    private int sequenceLength;
+    private long deadline;
+    private boolean timedOut;
+    private long nodes;
+    private final int[] stepBrick = new int[MAX_STEPS];
+    private final boolean[] stepHold = new boolean[MAX_STEPS];
+    private final int[] stepDrop = new int[MAX_STEPS];
+
+    /**
+     * Creates a solver.
+     *
+     * @param timeBudgetNanos How long one solve() may search before giving up.
+     */
+    public PerfectClearSolver(long timeBudgetNanos) {
+        this.failed = new TranspositionTable(1 << 16);
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    /**
+     * Creates a solver that gives up after 100 ms.
+     */
+    public PerfectClearSolver() {
+        this(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    /**
+     * Collects the IDs of the upcoming bricks, as the solver's queue.
+     *
+     * @param generator The game's brick generator.
+     * @param count     How many bricks to look ahead.
+     * @return The brick IDs in arrival order.
+     */
+    public static int[] queueOf(BrickGenerator generator, int count) {
+        List<Brick> next = generator.getNextBricks(count);
+        int[] queue = new int[next.size()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = BrickShapeTable.idOf(next.get(i));
+        }
+        return queue;
+    }
+
+    /**
+     * Searches for a perfect clear of the bottom rows, trying the lowest region first.
+     *
+     * @param matrix      The board matrix, indexed [row][column], with GameConfig.COLS columns.
+     * @param currentId   The ID (1-7) of the falling brick.
+     * @param holdId      The ID of the held brick, or 0 if the hold slot is empty.
+     * @param queue       The IDs of the upcoming bricks, in order.
+     * @param queueLength How many entries of the queue are valid.
+     * @return A solution, or null if there is none with these bricks (or none was found in time).
+     */
+    public Solution solve(int[][] matrix, int currentId, int holdId, int[] queue, int queueLength) {
+        long field = regionOf(matrix);
+        if (field == NO_REGION) {
+            return null;
+        }
+        int used = 0;
+        while (used < MAX_ROWS && (field >>> (used * WIDTH)) != 0) {
+            used++;
+        }
+
+        // The falling brick and then the queue, in arrival order; hold is tracked separately
+        sequence = new int[queueLength + 1];
+        sequenceLength = 0;
+        sequence[sequenceLength++] = currentId;
+        for (int i = 0; i < queueLength; i++) {
+            sequence[sequenceLength++] = queue[i];
+        }
+        deadline = System.nanoTime() + timeBudgetNanos;
+        timedOut = false;
+        nodes = 0;
+        // Keys refer to positions in this call's sequence, so earlier results do not carry over
+        failed.clear();
+
+        for (int rows = Math.max(MIN_ROWS, used); rows <= MAX_ROWS; rows++) {
+            int empty = rows * WIDTH - Long.bitCount(field);
+            if (empty % 4 != 0 || empty / 4 > sequenceLength + (holdId != 0 ? 1 : 0)) {
+                continue;
+            }
+            if (search(field, rows, 0, currentId, holdId, 1)) {
+                return toSolution(rows, empty / 4);
+            }
+            if (timedOut) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Packs the bottom rows of a board into a region bitmask, bottom row first.
+     *
+     * @param matrix The board matrix, indexed [row][column], with 10 columns.
+     * @return The region, or NO_REGION if cells above the bottom MAX_ROWS rows are filled.
+     */
+    public static long regionOf(int[][] matrix) {
+        if (matrix[0].length != WIDTH) {
+            throw new IllegalArgumentException("Perfect clears are only solved on " + WIDTH + " column boards");
+        }
+        long field = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            int mask = 0;
+            for (int c = 0; c < WIDTH; c++) {
+                if (matrix[matrix.length - 1 - r][c] != 0) {
+                    mask |= 1 << c;
+                }
+            }
+            if (mask != 0) {
+                if (r >= MAX_ROWS) {
+                    return NO_REGION;
+                }
+                field |= (long) mask << (r * WIDTH);
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Reports whether the last solve() gave up because it ran out of time.
+     *
+     * @return true if the answer "no solution" is not certain.
+     */
+    public boolean timedOut() {
+        return timedOut;
+    }
+
+    /**
+     * Retrieves how many positions the last solve() expanded.
+     *
+     * @return The node count.
+     */
+    public long nodes() {
+        return nodes;
+    }
+
+    // Depth-first search; next is the sequence index of the brick after the active one
+    private boolean search(long field, int rows, int step, int active, int hold, int next) {
+        if (rows == 0) {
+            return true;
+        }
+        long region = rows == MAX_ROWS ? (1L << (MAX_ROWS * WIDTH)) - 1 : (1L << (rows * WIDTH)) - 1;
+        long empty = ~field & region;
+        int needed = Long.bitCount(empty) / 4;
+        // Cell count: the bricks still to come (held one included) must cover the gap
+        int available = 1 + (hold != 0 ? 1 : 0) + (sequenceLength - next);
+        if (needed > available) {
+            return false;
+        }
+        // Column parity: at most needed + 1 more bricks can be involved (one may stay held)
+        int imbalance = Math.abs(Long.bitCount(empty & EVEN_COLUMNS) - Long.bitCount(empty & ~EVEN_COLUMNS & region));
+        int range = PARITY_RANGE[active] + PARITY_RANGE[hold];
+        for (int i = next; i < sequenceLength && i < next + needed; i++) {
+            range += PARITY_RANGE[sequence[i]];
+        }
+        if (imbalance > range) {
+            return false;
+        }
+
+        long key = key(field, rows, active, hold, next);
+        if (failed.probe(key) != TranspositionTable.MISS) {
+            return false;
+        }
+        if ((++nodes & 0x3FF) == 0 && System.nanoTime() - deadline > 0) {
+            timedOut = true;
+        }
+        if (timedOut) {
+            return false;
+        }
+
+        int upcoming = next < sequenceLength ? sequence[next] : 0;
+        // Play the active brick
+        if (tryBrick(field, rows, step, active, false, hold, upcoming, next + 1)) {
+            return true;
+        }
+        // Or swap with the hold slot (an empty slot takes the active brick and plays the next one)
+        if (hold != 0 && hold != active) {
+            if (tryBrick(field, rows, step, hold, true, active, upcoming, next + 1)) {
+                return true;
+            }
+        } else if (hold == 0 && upcoming != 0 && upcoming != active) {
+            int after = next + 1 < sequenceLength ? sequence[next + 1] : 0;
+            if (tryBrick(field, rows, step, upcoming, true, active, after, next + 2)) {
+                return true;
+            }
+        }
+
+        if (!timedOut) {
+            failed.store(key, 0f, needed, -1);
+        }
+        return false;
+    }
+
+    // Tries every drop of one brick, then continues with the given active brick and hold slot
+    private boolean tryBrick(long field, int rows, int step, int brick, boolean usedHold,
+                             int hold, int nextActive, int next) {
+        long[] bits = DROP_BITS[brick];
+        int[] heights = DROP_HEIGHT[brick];
+        for (int d = 0; d < bits.length; d++) {
+            long piece = bits[d];
+            // Straight drop from above the region: fall while the row below is free
+            int y = rows;
+            while (y > 0 && ((piece << ((y - 1) * WIDTH)) & field) == 0) {
+                y--;
+            }
+            if (y + heights[d] > rows) {
+                continue; // It would stick out above the region
+            }
+            long placed = field | (piece << (y * WIDTH));
+            int remaining = rows;
+            // Clear full rows from the top down, so lower row indices stay valid
+            for (int r = Math.min(y + heights[d], rows) - 1; r >= y; r--) {
+                if (((placed >>> (r * WIDTH)) & FULL_ROW) == FULL_ROW) {
+                    long below = placed & ((1L << (r * WIDTH)) - 1);
+                    placed = below | ((placed >>> ((r + 1) * WIDTH)) << (r * WIDTH));
+                    remaining--;
+                }
+            }
+            stepBrick[step] = brick;
+            stepHold[step] = usedHold;
+            stepDrop[step] = d;
+            if (remaining == 0 || nextActive != 0 || hold != 0) {
+                int active = nextActive != 0 ? nextActive : hold;
+                int keep = nextActive != 0 ? hold : 0;
+                if (search(placed, remaining, step + 1, active, keep, next)) {
+                    return true;
+                }
+            }
+            if (timedOut) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private Solution toSolution(int rows, int steps) {
+        int[] ids = new int[steps];
+        boolean[] holds = new boolean[steps];
+        int[] rotations = new int[steps];
+        int[] columns = new int[steps];
+        for (int i = 0; i < steps; i++) {
+            ids[i] = stepBrick[i];
+            holds[i] = stepHold[i];
+            rotations[i] = DROP_ROTATION[stepBrick[i]][stepDrop[i]];
+            columns[i] = DROP_COLUMN[stepBrick[i]][stepDrop[i]];
+        }
+        return new Solution(rows, ids, holds, rotations, columns);
+    }
+
+    // Position key: the region, its height, the active and held bricks, and the queue position
+    private static long key(long field, int rows, int active, int hold, int next) {
+        long hash = 0;
+        for (int r = 0; r < rows; r++) {
+            hash ^= Zobrist.row(r, (int) (field >>> (r * WIDTH)) & FULL_ROW);
+        }
+        long extra = ((long) rows << 8 | next) + 1;
+        extra = (extra ^ (extra >>> 33)) * 0xFF51AFD7ED558CCDL;
+        extra = (extra ^ (extra >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return Zobrist.position(hash, active, hold) ^ extra ^ (extra >>> 33);
+    }
+}
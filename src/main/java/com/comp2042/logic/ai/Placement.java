@@ -0,0 +1,60 @@
+/*
+ * Helper for packing a final brick position (rotation, x, y) into a single int.
+ * Search code stores thousands of candidate placements per move, so keeping them as
+ * primitives avoids creating an object for every candidate.
+ *
+ * Layout: bits 0-7 hold y, bits 8-15 hold x + X_BIAS (x can be negative for shapes
+ * with empty left columns), bits 16-23 hold the rotation index.
+ */
+package com.comp2042.logic.ai;
+
+public final class Placement {
+
+    // Offset added to x so that negative columns still pack into an unsigned byte
+    private static final int X_BIAS = 8;
+
+    // Private constructor prevents instantiation, as this is a utility class
+    private Placement() {}
+
+    /**
+     * Packs a placement into an int.
+     *
+     * @param rotation The rotation index.
+     * @param x        The x-coordinate of the brick's 4x4 matrix.
+     * @param y        The y-coordinate of the brick's 4x4 matrix.
+     * @return The packed placement.
+     */
+    public static int of(int rotation, int x, int y) {
+        return (rotation << 16) | ((x + X_BIAS) << 8) | y;
+    }
+
+    /**
+     * Extracts the rotation index from a packed placement.
+     *
+     * @param placement The packed placement.
+     * @return The decoded value.
+     */
+    public static int rotation(int placement) {
+        return placement >>> 16;
+    }
+
+    /**
+     * Extracts the x-coordinate of the brick's 4x4 matrix.
+     *
+     * @param placement The packed placement.
+     * @return The decoded value.
+     */
+    public static int x(int placement) {
+        return ((placement >>> 8) & 0xFF) - X_BIAS;
+    }
+
+    /**
+     * Extracts the y-coordinate of the brick's 4x4 matrix.
+     *
+     * @param placement The packed placement.
+     * @return The decoded value.
+     */
+    public static int y(int placement) {
+        return placement & 0xFF;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * This class plays a batch of complete games side by side with a greedy one-brick-lookahead player.
+ *
+ * The games run on a LockstepEngine, which keeps every board in flat arrays and follows the
+ * real game's rules: the same seeded brick sequence as SeededBrickGenerator, the 2-points-per-row
+ * hard drop bonus, and line clears scored through Score's own static streak, combo and level
+ * rules, so tuned weights follow any change to the real scoring. The same seed and weights
+ * therefore always produce the same game, whichever batch it is played in.
+ *
+ * Every turn, each board's brick is placed at the (rotation, column) whose resulting board scores
+ * best, reachable by a straight drop from the spawn row, as with Board.placeBrick(). The candidates
+ * are scored on one BitBoard mirror with an incremental FeatureExtractor, so choosing costs the same
+ * for every board and allocates nothing. An instance is not thread-safe, but can play any number of
+ * batches one after another.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.sim.LockstepEngine;
+
+public final class SimulatedGames {
+
+    private final LockstepEngine engine;
+    private final byte[] rotations;
+    private final int[] columns;
+
+    private final BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+    private final BitBoard scratch = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+    private final FeatureExtractor features = new FeatureExtractor(GameConfig.COLS, GameConfig.ROWS);
+    private final FeatureExtractor candidate = new FeatureExtractor(GameConfig.COLS, GameConfig.ROWS);
+
+    /**
+     * Creates a player for batches of a fixed size.
+     *
+     * @param games The number of games played at once.
+     */
+    public SimulatedGames(int games) {
+        engine = new LockstepEngine(games);
+        rotations = new byte[games];
+        columns = new int[games];
+    }
+
+    /**
+     * Plays one game per board until each is lost or reaches the brick limit.
+     *
+     * @param evaluators The weights that choose each game's placements, one per game.
+     * @param seeds      The seed of each game's brick sequence.
+     * @param maxBricks  The number of bricks after which a game is stopped.
+     */
+    public void play(Evaluator[] evaluators, long[] seeds, int maxBricks) {
+        int games = engine.getBoardCount();
+        if (evaluators.length != games || seeds.length != games) {
+            throw new IllegalArgumentException("Expected " + games + " evaluators and seeds");
+        }
+        for (int b = 0; b < games; b++) {
+            engine.reset(b, seeds[b], 1);
+        }
+        while (engine.getLiveCount() > 0) {
+            for (int b = 0; b < games; b++) {
+                if (engine.isGameOver(b)) {
+                    continue;
+                }
+                int best = engine.getBricks(b) < maxBricks ? choose(evaluators[b], b) : BeamSearch.NO_MOVE;
+                if (best == BeamSearch.NO_MOVE) {
+                    engine.end(b);
+                    continue;
+                }
+                rotations[b] = (byte) Placement.rotation(best);
+                columns[b] = Placement.x(best);
+            }
+            engine.place(rotations, columns);
+        }
+    }
+
+    /**
+     * Retrieves the final score of one game of the last batch.
+     *
+     * @param game The game index.
+     * @return The score.
+     */
+    public int getScore(int game) {
+        return engine.getScore(game);
+    }
+
+    /**
+     * Retrieves the number of lines cleared in one game of the last batch.
+     *
+     * @param game The game index.
+     * @return The line count.
+     */
+    public int getLines(int game) {
+        return engine.getLines(game);
+    }
+
+    /**
+     * Retrieves the number of bricks placed in one game of the last batch.
+     *
+     * @param game The game index.
+     * @return The brick count.
+     */
+    public int getBricks(int game) {
+        return engine.getBricks(game);
+    }
+
+    // Loads a board of the engine into the mirror and picks its brick's placement
+    private int choose(Evaluator evaluator, int game) {
+        for (int r = 0; r < GameConfig.ROWS; r++) {
+            board.setRow(r, engine.row(game, r));
+        }
+        return choose(evaluator, board, engine.getPiece(game));
+    }
+
+    /**
+     * Picks the best placement of a brick dropped straight down from the spawn row.
+     *
+     * @param evaluator The weights to score the resulting boards with.
+     * @param board     The board before the brick is placed.
+     * @param id        The ID (1-7) of the brick.
+     * @return The packed placement (see {@link Placement}), or NO_MOVE if the brick fits nowhere.
+     */
+    int choose(Evaluator evaluator, BitBoard board, int id) {
+        features.compute(board);
+        int best = BeamSearch.NO_MOVE;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int rotation = 0; rotation < BrickShapeTable.rotationCount(id); rotation++) {
+            int from = -BrickShapeTable.minColumn(id, rotation);
+            int to = GameConfig.COLS - 1 - BrickShapeTable.maxColumn(id, rotation);
+            for (int x = from; x <= to; x++) {
+                if (board.collides(id, rotation, x, GameConfig.SPAWN_Y)) {
+                    continue;
+                }
+                int y = board.dropY(id, rotation, x, GameConfig.SPAWN_Y);
+                scratch.copyFrom(board);
+                int cleared = scratch.place(id, rotation, x, y);
+                candidate.copyFrom(features);
+                double value = evaluator.lineReward(cleared)
+                        + evaluator.evaluate(candidate.update(scratch, id, rotation, x, y, cleared));
+                if (value > bestScore) {
+                    bestScore = value;
+                    best = Placement.of(rotation, x, y);
+                }
+            }
+        }
+        return best;
+    }
+}
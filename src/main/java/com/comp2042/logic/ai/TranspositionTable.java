@@ -0,0 +1,137 @@
+/*
+ * This class caches search results by Zobrist position key so that identical positions
+ * reached through different move orders are only evaluated once.
+ *
+ * It is a fixed-size table shared by all search threads without any locking. Each entry is
+ * two longs: the packed data and the key XOR the data. A reader recomputes the key from
+ * both halves, so an entry torn by two concurrent writers simply fails the check and is
+ * treated as a miss instead of returning corrupted data.
+ *
+ * Entries live in buckets of two slots. The first slot is depth-preferred (it only gives way
+ * to a result from an equal or deeper search); the second always takes the newest entry,
+ * so fresh positions can still be cached once the deep slots are full.
+ */
+package com.comp2042.logic.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class TranspositionTable {
+
+    // Returned by probe() when the position is not in the table
+    public static final long MISS = 0L;
+
+    private static final int MOVE_BITS = 24;
+    private static final int MOVE_MASK = (1 << MOVE_BITS) - 1;
+    private static final int SLOTS_PER_BUCKET = 2;
+
+    private final AtomicLongArray checks;
+    private final AtomicLongArray data;
+    private final int bucketMask;
+
+    /**
+     * Creates a table.
+     *
+     * @param buckets The number of buckets; rounded up to a power of two. Each holds two entries.
+     */
+    public TranspositionTable(int buckets) {
+        int size = buckets <= 1 ? 1 : Integer.highestOneBit(buckets - 1) << 1;
+        this.bucketMask = size - 1;
+        this.checks = new AtomicLongArray(size * SLOTS_PER_BUCKET);
+        this.data = new AtomicLongArray(size * SLOTS_PER_BUCKET);
+    }
+
+    /**
+     * Looks up a position.
+     *
+     * @param key The position key (see Zobrist.position()).
+     * @return The packed entry, or MISS. Decode it with score(), depth() and move().
+     */
+    public long probe(long key) {
+        int slot = bucket(key);
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++, slot++) {
+            long entry = data.getOpaque(slot);
+            if (entry != MISS && (checks.getOpaque(slot) ^ entry) == key) {
+                return entry;
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * Stores a result, following the depth-preferred replacement policy.
+     *
+     * @param key   The position key.
+     * @param score The score of the position.
+     * @param depth How many bricks deep the score was searched (0-254).
+     * @param move  The best packed placement found, or -1 for none.
+     */
+    public void store(long key, float score, int depth, int move) {
+        long entry = pack(score, depth, move);
+        int slot = bucket(key);
+        long existing = data.getOpaque(slot);
+        boolean sameKey = existing != MISS && (checks.getOpaque(slot) ^ existing) == key;
+        if (existing == MISS || sameKey || depth >= depth(existing)) {
+            write(slot, key, entry);
+        } else {
+            write(slot + 1, key, entry);
+        }
+    }
+
+    /**
+     * Empties the table, for example between games.
+     */
+    public void clear() {
+        for (int i = 0; i < data.length(); i++) {
+            data.setOpaque(i, MISS);
+            checks.setOpaque(i, 0L);
+        }
+    }
+
+    /**
+     * Extracts the score from a packed entry.
+     *
+     * @param entry A value returned by probe().
+     * @return The stored score.
+     */
+    public static float score(long entry) {
+        return Float.intBitsToFloat((int) (entry >>> 32));
+    }
+
+    /**
+     * Extracts the search depth from a packed entry.
+     *
+     * @param entry A value returned by probe().
+     * @return The stored depth.
+     */
+    public static int depth(long entry) {
+        // Stored as depth + 1 so that a valid entry is never equal to MISS
+        return (int) ((entry >>> MOVE_BITS) & 0xFF) - 1;
+    }
+
+    /**
+     * Extracts the best move from a packed entry.
+     *
+     * @param entry A value returned by probe().
+     * @return The stored packed placement, or -1 for none.
+     */
+    public static int move(long entry) {
+        int move = (int) (entry & MOVE_MASK);
+        return move == MOVE_MASK ? -1 : move;
+    }
+
+    private static long pack(float score, int depth, int move) {
+        int clampedDepth = Math.min(Math.max(depth, 0), 254) + 1;
+        long packedMove = move < 0 ? MOVE_MASK : move & MOVE_MASK;
+        return ((long) Float.floatToRawIntBits(score) << 32) | ((long) clampedDepth << MOVE_BITS) | packedMove;
+    }
+
+    private void write(int slot, long key, long entry) {
+        data.setOpaque(slot, entry);
+        checks.setOpaque(slot, key ^ entry);
+    }
+
+    // Mixes the high bits in so that keys differing only in their top bits still spread out
+    private int bucket(long key) {
+        return (int) ((key ^ (key >>> 32)) & bucketMask) * SLOTS_PER_BUCKET;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * This class provides Zobrist keys for hashing board positions.
+ *
+ * Every (row, column) cell, every possible current brick and every possible held brick gets a
+ * fixed random 64-bit key; a position's hash is the XOR of the keys of everything present.
+ * XOR makes the hash incremental: locking a brick XORs in its cells, and clearing a row
+ * XORs each shifted row out of its old position and into its new one.
+ *
+ * To make a row shift O(1), the cell keys of each row are pre-combined into 32-entry
+ * tables (one per 5-column chunk of the row), so a whole row mask hashes with three lookups.
+ * Keys come from a fixed seed, so hashes are reproducible between runs.
+ */
+package com.comp2042.logic.ai;
+
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+
+    // Rows are hashed in chunks of this many columns each
+    private static final int CHUNK_BITS = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNKS = 3;
+    // Supports boards up to 64 rows and 15 columns
+    public static final int MAX_ROWS = 64;
+    public static final int MAX_COLUMNS = CHUNKS * CHUNK_BITS;
+
+    private static final long[][] CELL = new long[MAX_ROWS][MAX_COLUMNS];
+    private static final long[][][] ROW_CHUNK = new long[MAX_ROWS][CHUNKS][CHUNK_SIZE];
+    private static final long[] CURRENT = new long[BrickShapeTable.BRICK_TYPES + 1];
+    private static final long[] HOLD = new long[BrickShapeTable.BRICK_TYPES + 1];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x2042_5EEDL);
+        for (int r = 0; r < MAX_ROWS; r++) {
+            for (int c = 0; c < MAX_COLUMNS; c++) {
+                CELL[r][c] = random.nextLong();
+            }
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                for (int mask = 0; mask < CHUNK_SIZE; mask++) {
+                    long key = 0;
+                    for (int bit = 0; bit < CHUNK_BITS; bit++) {
+                        if ((mask & (1 << bit)) != 0) {
+                            key ^= CELL[r][chunk * CHUNK_BITS + bit];
+                        }
+                    }
+                    ROW_CHUNK[r][chunk][mask] = key;
+                }
+            }
+        }
+        // Index 0 (no brick) keeps key 0 so an empty hold slot does not change the hash
+        for (int id = 1; id <= BrickShapeTable.BRICK_TYPES; id++) {
+            CURRENT[id] = random.nextLong();
+            HOLD[id] = random.nextLong();
+        }
+    }
+
+    // Private constructor prevents instantiation, as this is a utility class
+    private Zobrist() {}
+
+    /**
+     * Retrieves the key of a single cell.
+     *
+     * @param row    The row index.
+     * @param column The column index.
+     * @return The cell's random key.
+     */
+    public static long cell(int row, int column) {
+        return CELL[row][column];
+    }
+
+    /**
+     * Hashes a whole row in O(1): the XOR of the keys of every filled cell.
+     *
+     * @param row  The row index.
+     * @param mask The row's occupancy bitmask.
+     * @return The combined key of the row.
+     */
+    public static long row(int row, int mask) {
+        long[][] chunks = ROW_CHUNK[row];
+        return chunks[0][mask & (CHUNK_SIZE - 1)]
+                ^ chunks[1][(mask >>> CHUNK_BITS) & (CHUNK_SIZE - 1)]
+                ^ chunks[2][mask >>> (2 * CHUNK_BITS)];
+    }
+
+    /**
+     * Retrieves the key for the brick that is about to be placed.
+     *
+     * @param id The brick ID (1-7), or 0 for none.
+     * @return The key to XOR into a position hash.
+     */
+    public static long current(int id) {
+        return CURRENT[id];
+    }
+
+    /**
+     * Retrieves the key for the brick in the hold slot.
+     *
+     * @param id The brick ID (1-7), or 0 for an empty slot.
+     * @return The key to XOR into a position hash.
+     */
+    public static long hold(int id) {
+        return HOLD[id];
+    }
+
+    /**
+     * Combines a board hash with the current and held bricks into a full position key.
+     *
+     * @param boardHash The hash of the occupied cells (see BitBoard.hash()).
+     * @param currentId The brick to be placed next (0 for none).
+     * @param holdId    The held brick (0 for none).
+     * @return The position key.
+     */
+    public static long position(long boardHash, int currentId, int holdId) {
+        return boardHash ^ CURRENT[currentId] ^ HOLD[holdId];
+    }
+
+    /**
+     * Computes a board hash from scratch, for example for a SimpleBoard matrix.
+     * Gives the same value that a BitBoard holding the same cells maintains incrementally.
+     *
+     * @param matrix The board matrix, indexed [row][column].
+     * @return The board hash.
+     */
+    public static long hash(int[][] matrix) {
+        long hash = 0;
+        for (int r = 0; r < matrix.length; r++) {
+            for (int c = 0; c < matrix[r].length; c++) {
+                if (matrix[r][c] != 0) {
+                    hash ^= CELL[r][c];
+                }
+            }
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * This class holds a precomputed, read-only copy of every brick's rotation states.
+ *
+ * Brick.getShapeMatrix() returns a fresh deep copy on every call, which is the right
+ * default for the UI but far too expensive for code that evaluates thousands of
+ * placements per frame (bots, move generators, hint search). This table is built
+ * once from the BrickFactory and exposes the same shapes as primitive lookups:
+ * per-row column bitmasks, the lowest filled cell of each shape column, and the
+ * horizontal extent of each rotation.
+ *
+ * Shapes are indexed by brick ID (1-7, the same IDs as BrickFactory and the colour
+ * values stored in the board matrix) and rotation index (the same order as
+ * BrickRotator cycles through them).
+ */
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class BrickShapeTable {
+
+    // IDs 1 to 7 correspond to I, J, L, O, S, T, Z
+    public static final int BRICK_TYPES = 7;
+    // Every brick matrix is a 4x4 grid
+    public static final int SHAPE_SIZE = 4;
+
+    private static final int[][][][] SHAPES = new int[BRICK_TYPES + 1][][][];
+    private static final int[][][] ROW_MASKS = new int[BRICK_TYPES + 1][][];
+    private static final int[][][] COLUMN_BOTTOM = new int[BRICK_TYPES + 1][][];
+    private static final int[][] MIN_COLUMN = new int[BRICK_TYPES + 1][];
+    private static final int[][] MAX_COLUMN = new int[BRICK_TYPES + 1][];
+    // Brick ID of each brick class, so the bricks BrickFactory makes are identified without copying shapes
+    private static final Map<Class<?>, Integer> CLASS_IDS = new HashMap<>();
+
+    static {
+        for (int id = 1; id <= BRICK_TYPES; id++) {
+            Brick brick = BrickFactory.createBrick(id);
+            CLASS_IDS.put(brick.getClass(), id);
+            List<int[][]> rotations = brick.getShapeMatrix();
+            int count = rotations.size();
+            SHAPES[id] = new int[count][][];
+            ROW_MASKS[id] = new int[count][SHAPE_SIZE];
+            COLUMN_BOTTOM[id] = new int[count][SHAPE_SIZE];
+            MIN_COLUMN[id] = new int[count];
+            MAX_COLUMN[id] = new int[count];
+
+            for (int rot = 0; rot < count; rot++) {
+                int[][] shape = rotations.get(rot);
+                SHAPES[id][rot] = shape;
+                int minCol = SHAPE_SIZE;
+                int maxCol = -1;
+                for (int col = 0; col < SHAPE_SIZE; col++) {
+                    COLUMN_BOTTOM[id][rot][col] = -1;
+                }
+                for (int row = 0; row < SHAPE_SIZE; row++) {
+                    for (int col = 0; col < SHAPE_SIZE; col++) {
+                        if (shape[row][col] != 0) {
+                            ROW_MASKS[id][rot][row] |= 1 << col;
+                            COLUMN_BOTTOM[id][rot][col] = row;
+                            minCol = Math.min(minCol, col);
+                            maxCol = Math.max(maxCol, col);
+                        }
+                    }
+                }
+                MIN_COLUMN[id][rot] = minCol;
+                MAX_COLUMN[id][rot] = maxCol;
+            }
+        }
+    }
+
+    // Private constructor prevents instantiation of this lookup table
+    private BrickShapeTable() {}
+
+    /**
+     * Identifies a brick by the colour value stored in its shape matrix.
+     * The bricks made by BrickFactory are looked up by class without allocating; any other
+     * brick is identified from a copy of its shapes.
+     *
+     * @param brick The brick to identify.
+     * @return The brick ID (1-7), or 0 if the brick has no filled cells.
+     */
+    public static int idOf(Brick brick) {
+        Integer id = CLASS_IDS.get(brick.getClass());
+        if (id != null) {
+            return id;
+        }
+        for (int[] row : brick.getShapeMatrix().get(0)) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Identifies a brick from a shape matrix, such as the ones carried by ViewData.
+     * The colour value stored in a shape matrix is the brick ID.
+     *
+     * @param shape The shape matrix.
+     * @return The brick ID (1-7), or 0 if the shape has no filled cells.
+     */
+    public static int idOf(int[][] shape) {
+        for (int[] row : shape) {
+            for (int cell : row) {
+                if (cell != 0) {
+                    return cell;
+                }
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Finds which rotation state of a brick matches a shape matrix.
+     *
+     * @param id    The brick ID (1-7).
+     * @param shape The shape matrix, e.g. ViewData.getBrickData().
+     * @return The rotation index, or 0 if no rotation matches.
+     */
+    public static int rotationOf(int id, int[][] shape) {
+        for (int r = 0; r < rotationCount(id); r++) {
+            if (Arrays.deepEquals(SHAPES[id][r], shape)) {
+                return r;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Retrieves the number of rotation states a brick cycles through.
+     *
+     * @param id The brick ID (1-7).
+     * @return How many distinct rotation states the brick has (1, 2 or 4).
+     */
+    public static int rotationCount(int id) {
+        return SHAPES[id].length;
+    }
+
+    /**
+     * Returns the shared shape matrix for a rotation. Callers must treat it as read-only.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @return The 4x4 shape matrix, indexed [row][column].
+     */
+    public static int[][] shape(int id, int rotation) {
+        return SHAPES[id][rotation];
+    }
+
+    /**
+     * Retrieves the filled cells of one shape row as a bitmask.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @param row      The shape row (0-3).
+     * @return A bitmask of the filled columns in that row (bit c = shape column c).
+     */
+    public static int rowMask(int id, int rotation, int row) {
+        return ROW_MASKS[id][rotation][row];
+    }
+
+    /**
+     * Retrieves the lowest filled cell of one shape column.
+     * This is the "foot" of the brick that touches the stack first when it drops.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @param column   The shape column (0-3).
+     * @return The lowest filled shape row in that column, or -1 if the column is empty.
+     */
+    public static int columnBottom(int id, int rotation, int column) {
+        return COLUMN_BOTTOM[id][rotation][column];
+    }
+
+    /**
+     * Retrieves the left-most filled shape column, used for wall checks.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @return The left-most filled shape column for this rotation.
+     */
+    public static int minColumn(int id, int rotation) {
+        return MIN_COLUMN[id][rotation];
+    }
+
+    /**
+     * Retrieves the right-most filled shape column, used for wall checks.
+     *
+     * @param id       The brick ID (1-7).
+     * @param rotation The rotation index.
+     * @return The right-most filled shape column for this rotation.
+     */
+    public static int maxColumn(int id, int rotation) {
+        return MAX_COLUMN[id][rotation];
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * This class generates a reproducible sequence of bricks from a seed.
+ * It behaves exactly like RandomBrickGenerator (uniform choice of the 7 bricks, same preview
+ * buffer), but two generators created with the same seed always produce the same sequence.
+ *
+ * Simulations rely on this: the AI weight tuner and self-play runs replay the same games
+ * for every candidate, so results can be compared and reproduced.
+ *
+ * The sequence is a SplitMix64 stream kept in a single long. The static advance() and brickId()
+ * helpers expose the same sequence to code that stores one long per game instead of one
+ * generator object, such as the lockstep simulation engine.
+ */
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+public class SeededBrickGenerator implements BrickGenerator {
+
+    // SplitMix64 increment (the golden ratio in 64-bit fixed point)
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final List<Brick> brickList;
+    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+    private long state;
+
+    /**
+     * Creates a generator for a fixed brick sequence.
+     *
+     * @param seed The seed that determines the whole sequence.
+     */
+    public SeededBrickGenerator(long seed) {
+        state = seed;
+        brickList = new ArrayList<>();
+        for (int i = 1; i <= BrickShapeTable.BRICK_TYPES; i++) {
+            brickList.add(BrickFactory.createBrick(i));
+        }
+
+        // Pre-fill the queue with 5 bricks, as RandomBrickGenerator does
+        while (nextBricks.size() < 5) {
+            nextBricks.add(nextRandomBrick());
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        if (nextBricks.size() <= 4) {
+            nextBricks.add(nextRandomBrick());
+        }
+        return nextBricks.poll();
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return nextBricks.peek();
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        while (nextBricks.size() < count) {
+            nextBricks.add(nextRandomBrick());
+        }
+        return new ArrayList<>(nextBricks).subList(0, count);
+    }
+
+    /**
+     * Advances a sequence state to the state of the next brick.
+     *
+     * @param state The current state (initially the seed).
+     * @return The next state.
+     */
+    public static long advance(long state) {
+        return state + GAMMA;
+    }
+
+    /**
+     * Derives the brick ID for a state returned by advance().
+     *
+     * @param state The state of the brick.
+     * @return The brick ID (1-7).
+     */
+    public static int brickId(long state) {
+        // SplitMix64 output mixing, then a multiply-shift to map 32 random bits onto 0-6
+        long z = (state ^ (state >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+        return 1 + (int) (((z >>> 32) * BrickShapeTable.BRICK_TYPES) >>> 32);
+    }
+
+    private Brick nextRandomBrick() {
+        state = advance(state);
+        return brickList.get(brickId(state) - 1);
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * This class checks an alternative Board implementation against SimpleBoard, the reference
+ * for the game's rules, by playing the same random action sequences on both and comparing
+ * them after every step.
+ *
+ * Each sequence is generated from its own seed, which also seeds both boards' bricks, so any
+ * sequence can be replayed from its seed alone. Both boards are driven through a
+ * HeadlessGameController, the same rules layer the game uses, plus direct garbage pushes and
+ * placeBrick calls. After each step the fuzzer compares the step's result (ClearRow, ViewData
+ * or placement), then the board matrix, the falling and held brick, the ViewData, the Score
+ * and whether the game is over.
+ *
+ * Sequences run on a fixed pool of worker threads. When one diverges, it is shrunk: chunks and
+ * then single actions are removed for as long as the shorter sequence still diverges, which
+ * leaves a minimal sequence that reproduces the difference.
+ *
+ * Usage: DifferentialFuzzer [candidate class] [sequences=1000000] [steps=200] [seed=1] [threads]
+ * The candidate class needs a (int width, int height, BrickGenerator) constructor, like
+ * SimpleBoard; without one, SimpleBoard is checked against itself.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.DownData;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+public final class DifferentialFuzzer {
+
+    // Action kinds, stored in the low byte of an action; garbage and placements keep their
+    // arguments in the next two bytes
+    static final int LEFT = 0;
+    static final int RIGHT = 1;
+    static final int ROTATE = 2;
+    static final int SOFT_DROP = 3;
+    static final int GRAVITY = 4;
+    static final int HARD_DROP = 5;
+    static final int HOLD = 6;
+    static final int GARBAGE = 7;
+    static final int PLACE = 8;
+
+    private static final String[] NAMES = {"LEFT", "RIGHT", "ROTATE", "SOFT_DROP", "GRAVITY", "HARD_DROP",
+            "HOLD", "GARBAGE", "PLACE"};
+    // How often each kind is drawn, out of the total; mostly moves, as a player makes them
+    private static final int[] WEIGHTS = {14, 14, 12, 10, 10, 6, 3, 1, 3};
+    private static final int WEIGHT_TOTAL = Arrays.stream(WEIGHTS).sum();
+
+    private final LongFunction<Board> reference;
+    private final LongFunction<Board> candidate;
+
+    /**
+     * A sequence on which the two boards disagree.
+     */
+    public static final class Divergence {
+        private final long seed;
+        private final int[] actions;
+        private final int step;
+        private final String difference;
+
+        private Divergence(long seed, int[] actions, int step, String difference) {
+            this.seed = seed;
+            this.actions = actions;
+            this.step = step;
+            this.difference = difference;
+        }
+
+        /**
+         * Retrieves the seed of the boards' bricks.
+         *
+         * @return The seed.
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Retrieves the actions, up to and including the one after which the boards differ.
+         *
+         * @return The encoded actions.
+         */
+        public int[] getActions() {
+            return actions.clone();
+        }
+
+        /**
+         * Retrieves the step (index into the actions) after which the boards differ.
+         *
+         * @return The step.
+         */
+        public int getStep() {
+            return step;
+        }
+
+        /**
+         * Describes what differs.
+         *
+         * @return e.g. "score: 150 vs 100".
+         */
+        public String getDifference() {
+            return difference;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder("seed ").append(seed).append(", ")
+                    .append(actions.length).append(" actions:");
+            for (int action : actions) {
+                text.append(' ').append(describe(action));
+            }
+            return text.append("\n  after step ").append(step).append(", ").append(difference).toString();
+        }
+    }
+
+    /**
+     * Creates a fuzzer for two board implementations.
+     *
+     * @param reference Creates the reference board for a brick seed (normally a SimpleBoard).
+     * @param candidate Creates the board under test for the same seed.
+     */
+    public DifferentialFuzzer(LongFunction<Board> reference, LongFunction<Board> candidate) {
+        this.reference = reference;
+        this.candidate = candidate;
+    }
+
+    /**
+     * Creates a fuzzer that checks a board implementation against SimpleBoard, both using
+     * SeededBrickGenerator bricks.
+     *
+     * @param candidate Creates the board under test from a brick generator.
+     * @return The fuzzer.
+     */
+    public static DifferentialFuzzer againstSimpleBoard(Function<BrickGenerator, Board> candidate) {
+        return new DifferentialFuzzer(
+                seed -> new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(seed)),
+                seed -> candidate.apply(new SeededBrickGenerator(seed)));
+    }
+
+    /**
+     * Generates the random action sequence of a seed.
+     *
+     * @param seed  The sequence seed.
+     * @param steps The number of actions.
+     * @return The encoded actions.
+     */
+    public static int[] actions(long seed, int steps) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] actions = new int[steps];
+        for (int i = 0; i < steps; i++) {
+            int roll = random.nextInt(WEIGHT_TOTAL);
+            int kind = 0;
+            while (roll >= WEIGHTS[kind]) {
+                roll -= WEIGHTS[kind++];
+            }
+            int first = 0;
+            int second = 0;
+            if (kind == GARBAGE) {
+                first = 1 + random.nextInt(4);
+                second = random.nextInt(GameConfig.COLS);
+            } else if (kind == PLACE) {
+                first = random.nextInt(4);
+                // A few columns off either edge, so invalid placements are exercised too
+                second = random.nextInt(GameConfig.COLS + 4);
+            }
+            actions[i] = kind | first << 8 | second << 16;
+        }
+        return actions;
+    }
+
+    /**
+     * Plays a sequence on both boards, comparing them after every step.
+     *
+     * @param seed    The seed of both boards' bricks.
+     * @param actions The encoded actions.
+     * @return The first divergence, or null if the boards agree throughout.
+     */
+    public Divergence check(long seed, int[] actions) {
+        HeadlessGameController expected = new HeadlessGameController(reference.apply(seed));
+        HeadlessGameController actual = new HeadlessGameController(candidate.apply(seed));
+        String difference = compare(expected, actual);
+        if (difference != null) {
+            return new Divergence(seed, new int[0], -1, "before the first step, " + difference);
+        }
+        for (int step = 0; step < actions.length && !expected.isGameOver(); step++) {
+            Object expectedResult = applySafely(expected, actions[step]);
+            Object actualResult = applySafely(actual, actions[step]);
+            difference = compareResults(expectedResult, actualResult);
+            if (difference == null) {
+                difference = compare(expected, actual);
+            }
+            if (difference != null) {
+                return new Divergence(seed, Arrays.copyOf(actions, step + 1), step, difference);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Plays many random sequences on a pool of threads and returns the first divergence
+     * found, shrunk to a minimal sequence. Sequence i uses seed + i.
+     *
+     * @param sequences The number of sequences.
+     * @param steps     The number of actions per sequence.
+     * @param seed      The seed of the first sequence.
+     * @param threads   The number of worker threads.
+     * @return The shrunk divergence with the lowest sequence number, or null if none diverged.
+     * @throws InterruptedException If interrupted while waiting for the workers.
+     * @throws IllegalStateException If a worker fails, for example because a board cannot be created.
+     */
+    public Divergence fuzz(long sequences, int steps, long seed, int threads) throws InterruptedException {
+        AtomicLong next = new AtomicLong();
+        AtomicLong failedAt = new AtomicLong(Long.MAX_VALUE);
+        AtomicReference<Divergence> found = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(executor.submit(() -> {
+                long i;
+                // Sequences after a known failure cannot be the lowest one, so they are skipped
+                while ((i = next.getAndIncrement()) < sequences && i < failedAt.get()) {
+                    Divergence divergence = check(seed + i, actions(seed + i, steps));
+                    if (divergence != null) {
+                        synchronized (found) {
+                            if (i < failedAt.get()) {
+                                failedAt.set(i);
+                                found.set(divergence);
+                            }
+                        }
+                    }
+                }
+            }));
+        }
+        executor.shutdown();
+        // A worker that failed (e.g. a board that cannot be created) must not pass for "no divergence"
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (ExecutionException e) {
+                executor.shutdownNow();
+                throw new IllegalStateException("A fuzzing worker failed", e.getCause());
+            }
+        }
+        return found.get() == null ? null : shrink(found.get());
+    }
+
+    /**
+     * Shrinks a divergence to a sequence from which no single action, or chunk of actions,
+     * can be removed without the boards agreeing again. The brick seed is kept.
+     *
+     * @param divergence A divergence found by check().
+     * @return A divergence with the shortest sequence found.
+     */
+    public Divergence shrink(Divergence divergence) {
+        Divergence best = divergence;
+        // Remove ever smaller chunks, down to single actions, until nothing more can go
+        for (int chunk = Math.max(1, best.actions.length / 2); chunk >= 1; chunk = chunk == 1 ? 0 : chunk / 2) {
+            boolean removed = true;
+            while (removed) {
+                removed = false;
+                for (int start = 0; start + chunk <= best.actions.length; start += chunk) {
+                    int[] shorter = new int[best.actions.length - chunk];
+                    System.arraycopy(best.actions, 0, shorter, 0, start);
+                    System.arraycopy(best.actions, start + chunk, shorter, start, shorter.length - start);
+                    Divergence smaller = check(best.seed, shorter);
+                    if (smaller != null) {
+                        best = smaller;
+                        removed = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    // An exception is a result like any other: the candidate must throw where the reference does
+    private static Object applySafely(HeadlessGameController game, int action) {
+        try {
+            return apply(game, action);
+        } catch (RuntimeException e) {
+            return "threw " + e;
+        }
+    }
+
+    // Applies one action and returns what it produced, for comparison
+    private static Object apply(HeadlessGameController game, int action) {
+        int first = action >>> 8 & 0xFF;
+        int second = action >>> 16 & 0xFF;
+        return switch (action & 0xFF) {
+            case LEFT -> game.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case RIGHT -> game.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case ROTATE -> game.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case SOFT_DROP -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case GRAVITY -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            case HARD_DROP -> game.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            case HOLD -> game.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+            case GARBAGE -> {
+                game.receiveGarbage(first, second);
+                yield null;
+            }
+            default -> {
+                // Placements are how the bots play; the next brick spawns as it does for them
+                int lines = game.getBoard().placeBrick(first, second - 2);
+                if (lines != Board.PLACEMENT_INVALID) {
+                    game.getBoard().createNewBrick();
+                }
+                yield lines;
+            }
+        };
+    }
+
+    private static String compareResults(Object expected, Object actual) {
+        if (expected != null && actual != null && expected.getClass() != actual.getClass()) {
+            return "returned " + expected + " vs " + actual;
+        }
+        if (expected instanceof DownData down) {
+            DownData other = (DownData) actual;
+            String difference = compareClearRows(down.getClearRow(), other.getClearRow());
+            return difference != null ? difference : compareViews("returned view", down.getViewData(), other.getViewData());
+        }
+        if (expected instanceof ViewData view) {
+            return compareViews("returned view", view, (ViewData) actual);
+        }
+        return Objects.equals(expected, actual) ? null : "returned " + expected + " vs " + actual;
+    }
+
+    private static String compareClearRows(ClearRow expected, ClearRow actual) {
+        if (expected == null || actual == null) {
+            return expected == actual ? null : "clear row: " + expected + " vs " + actual;
+        }
+        if (expected.getLinesRemoved() != actual.getLinesRemoved()) {
+            return "lines removed: " + expected.getLinesRemoved() + " vs " + actual.getLinesRemoved();
+        }
+        if (expected.getScoreBonus() != actual.getScoreBonus()) {
+            return "score bonus: " + expected.getScoreBonus() + " vs " + actual.getScoreBonus();
+        }
+        return Arrays.deepEquals(expected.getNewMatrix(), actual.getNewMatrix()) ? null : "cleared matrix differs";
+    }
+
+    private static String compareViews(String what, ViewData expected, ViewData actual) {
+        if (!Arrays.deepEquals(expected.getBrickData(), actual.getBrickData())) {
+            return what + ": brick shape differs";
+        }
+        if (expected.getxPosition() != actual.getxPosition() || expected.getyPosition() != actual.getyPosition()) {
+            return what + ": brick at " + expected.getxPosition() + "," + expected.getyPosition()
+                    + " vs " + actual.getxPosition() + "," + actual.getyPosition();
+        }
+        if (expected.getGhostYPosition() != actual.getGhostYPosition()) {
+            return what + ": ghost at y=" + expected.getGhostYPosition() + " vs " + actual.getGhostYPosition();
+        }
+        if (!Arrays.deepEquals(expected.getHoldBrickData(), actual.getHoldBrickData())) {
+            return what + ": held brick differs";
+        }
+        List<int[][]> next = expected.getNextBrickData();
+        List<int[][]> otherNext = actual.getNextBrickData();
+        if (next.size() != otherNext.size() || !Arrays.deepEquals(next.toArray(), otherNext.toArray())) {
+            return what + ": next bricks differ";
+        }
+        return null;
+    }
+
+    // Compares the whole state of the two games
+    private static String compare(HeadlessGameController expected, HeadlessGameController actual) {
+        if (expected.isGameOver() != actual.isGameOver()) {
+            return "game over: " + expected.isGameOver() + " vs " + actual.isGameOver();
+        }
+        Board a = expected.getBoard();
+        Board b = actual.getBoard();
+        int[][] matrix = a.getBoardMatrix();
+        int[][] otherMatrix = b.getBoardMatrix();
+        for (int row = 0; row < matrix.length; row++) {
+            if (!Arrays.equals(matrix[row], otherMatrix[row])) {
+                return "board row " + row + ": " + Arrays.toString(matrix[row]) + " vs " + Arrays.toString(otherMatrix[row]);
+            }
+        }
+        if (a.getCurrentBrickId() != b.getCurrentBrickId()) {
+            return "falling brick: " + a.getCurrentBrickId() + " vs " + b.getCurrentBrickId();
+        }
+        if (a.getHoldBrickId() != b.getHoldBrickId()) {
+            return "held brick: " + a.getHoldBrickId() + " vs " + b.getHoldBrickId();
+        }
+        String difference = compareViews("view", a.getViewData(), b.getViewData());
+        if (difference != null) {
+            return difference;
+        }
+        Score score = a.getScore();
+        Score otherScore = b.getScore();
+        if (score.scoreProperty().get() != otherScore.scoreProperty().get()) {
+            return "score: " + score.scoreProperty().get() + " vs " + otherScore.scoreProperty().get();
+        }
+        if (score.linesClearedProperty().get() != otherScore.linesClearedProperty().get()) {
+            return "lines: " + score.linesClearedProperty().get() + " vs " + otherScore.linesClearedProperty().get();
+        }
+        if (score.levelProperty().get() != otherScore.levelProperty().get()) {
+            return "level: " + score.levelProperty().get() + " vs " + otherScore.levelProperty().get();
+        }
+        return null;
+    }
+
+    // The readable form of one action, e.g. "GARBAGE(2@7)" or "PLACE(r1@3)"
+    static String describe(int action) {
+        int kind = action & 0xFF;
+        int first = action >>> 8 & 0xFF;
+        int second = action >>> 16 & 0xFF;
+        return switch (kind) {
+            case GARBAGE -> NAMES[kind] + "(" + first + "@" + second + ")";
+            case PLACE -> NAMES[kind] + "(r" + first + "@" + (second - 2) + ")";
+            default -> NAMES[kind];
+        };
+    }
+
+    // Creates boards of a class with SimpleBoard's (width, height, generator) constructor
+    private static LongFunction<Board> boardsOf(String className) throws ReflectiveOperationException {
+        Constructor<?> constructor = Class.forName(className).getConstructor(int.class, int.class, BrickGenerator.class);
+        return seed -> {
+            try {
+                return (Board) constructor.newInstance(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(seed));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create a " + className, e);
+            }
+        };
+    }
+
+    public static void main(String[] args) throws Exception {
+        String candidate = args.length > 0 ? args[0] : SimpleBoard.class.getName();
+        long sequences = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000;
+        int steps = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        DifferentialFuzzer fuzzer = new DifferentialFuzzer(boardsOf(SimpleBoard.class.getName()), boardsOf(candidate));
+        long start = System.nanoTime();
+        Divergence divergence = fuzzer.fuzz(sequences, steps, seed, threads);
+        long elapsed = System.nanoTime() - start;
+        if (divergence == null) {
+            System.out.printf("%s matches SimpleBoard on %d sequences of %d steps (%.1f s)%n",
+                    candidate, sequences, steps, elapsed / 1e9);
+        } else {
+            System.out.println("Divergence, shrunk to a minimal sequence:");
+            System.out.println(divergence);
+        }
+    }
+}
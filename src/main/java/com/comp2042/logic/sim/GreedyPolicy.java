@@ -0,0 +1,87 @@
+/*
+ * This class is a one-brick-lookahead player.
+ *
+ * It generates every placement the active brick can reach (including slides and tucks),
+ * scores each resulting board with an Evaluator, and plays the input sequence that leads
+ * to the best one. Unlike SearchPolicy it never uses other threads, which makes it the
+ * cheapest competent player for large self-play runs.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.ai.FeatureExtractor;
+import com.comp2042.logic.ai.MoveGenerator;
+import com.comp2042.logic.ai.Placement;
+import com.comp2042.model.Board;
+import com.comp2042.model.ViewData;
+
+public final class GreedyPolicy implements TurnPolicy {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private final Evaluator evaluator;
+    private final BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+    private final BitBoard scratch = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+    private final FeatureExtractor features = new FeatureExtractor(GameConfig.COLS, GameConfig.ROWS);
+    private final FeatureExtractor candidate = new FeatureExtractor(GameConfig.COLS, GameConfig.ROWS);
+    private final MoveGenerator generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+    private final EventType[] path = new EventType[generator.maxPathLength()];
+
+    /**
+     * Creates a greedy player.
+     *
+     * @param evaluator The weights used to score placements.
+     */
+    public GreedyPolicy(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    @Override
+    public void playTurn(HeadlessGameController game) {
+        Board model = game.getBoard();
+        board.load(model.getBoardMatrix());
+        features.compute(board);
+        int id = model.getCurrentBrickId();
+        ViewData view = model.getViewData();
+        // Every turn starts with a freshly spawned brick, which is always in rotation 0
+        int count = generator.generate(board, id, view.getxPosition(), view.getyPosition(), 0);
+
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int p = generator.placement(i);
+            int rotation = Placement.rotation(p);
+            scratch.copyFrom(board);
+            int cleared = scratch.place(id, rotation, Placement.x(p), Placement.y(p));
+            candidate.copyFrom(features);
+            double value = evaluator.lineReward(cleared)
+                    + evaluator.evaluate(candidate.update(scratch, id, rotation, Placement.x(p), Placement.y(p), cleared));
+            if (value > bestScore) {
+                bestScore = value;
+                best = i;
+            }
+        }
+
+        int length = best < 0 ? 1 : generator.path(best, path);
+        for (int i = 0; i < length - 1; i++) {
+            switch (path[i]) {
+                case LEFT -> game.onLeftEvent(LEFT);
+                case RIGHT -> game.onRightEvent(RIGHT);
+                case ROTATE -> game.onRotateEvent(ROTATE);
+                case DOWN -> game.onDownEvent(DOWN);
+                default -> { }
+            }
+        }
+        game.onHardDropEvent(HARD_DROP);
+    }
+}
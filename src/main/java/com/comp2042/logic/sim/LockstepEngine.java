@@ -0,0 +1,418 @@
+/*
+ * This class simulates many games at once in a data-oriented layout.
+ *
+ * Instead of one SimpleBoard object per game, every piece of game state is a flat primitive
+ * array indexed by board number: row bitmasks, active brick, position, rotation, hold slot,
+ * score, lines, level and combo counter. Each board's 25 rows are contiguous, and the scalar
+ * fields of neighbouring boards are contiguous, so stepping tens of thousands of games walks
+ * memory sequentially instead of chasing pointers through per-game object graphs.
+ *
+ * step() advances every live board by one action, following the same rules as the game:
+ * - moves and rotation (with the one-column wall kicks) as in SimpleBoard,
+ * - locking, line removal and the 50 x lines^2 bonus from MatrixOperations.lineClearBonus,
+ * - the combo streak, multiplier and level-ups through Score's static rules, so a change to
+ *   the scoring in Score applies here too,
+ * - soft drop (+1) and hard drop (+2 per row) as in GameController,
+ * - the hold slot as in SimpleBoard.holdBrick.
+ * place() is the bulk-simulation shortcut: it drops every brick at a chosen rotation and column
+ * in one step, the way Board.placeBrick() does.
+ * Bricks come from the same seeded sequence as SeededBrickGenerator, so a board here and a
+ * SimpleBoard built with the same seed play identical games for identical inputs.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Score;
+
+import java.util.Arrays;
+
+public final class LockstepEngine {
+
+    // Actions, one per board per step; each matches an InputEventListener call
+    public static final byte NONE = 0;
+    public static final byte LEFT = 1;
+    public static final byte RIGHT = 2;
+    public static final byte ROTATE = 3;
+    // onDownEvent from the player (+1 point when it moves)
+    public static final byte SOFT_DROP = 4;
+    // onDownEvent from the game timeline (no points)
+    public static final byte GRAVITY = 5;
+    public static final byte HARD_DROP = 6;
+    public static final byte HOLD = 7;
+
+    // Rotation offsets tried in order, as in SimpleBoard.rotateLeftBrick
+    private static final int[] KICKS = {0, -1, 1};
+
+    private final int boards;
+    private final int width = GameConfig.COLS;
+    private final int height = GameConfig.ROWS;
+    private final int fullRow = (1 << GameConfig.COLS) - 1;
+
+    // Board cells: rows[board * height + row], bit c = column c
+    private final int[] rows;
+    // Active brick
+    private final byte[] piece;
+    private final byte[] rotation;
+    private final int[] x;
+    private final int[] y;
+    // Hold slot (0 = empty) and whether it may be used this turn
+    private final byte[] hold;
+    private final boolean[] canHold;
+    // Score model
+    private final int[] score;
+    private final int[] lines;
+    private final int[] level;
+    private final int[] consecutiveLines;
+    // Number of bricks locked so far
+    private final int[] bricks;
+    // Brick sequence state (see SeededBrickGenerator.advance)
+    private final long[] sequence;
+    private final boolean[] gameOver;
+    private int live;
+
+    /**
+     * Creates an engine for a number of standard-size boards. Call reset() or resetAll() before stepping.
+     *
+     * @param boards The number of games to simulate.
+     */
+    public LockstepEngine(int boards) {
+        if (boards < 1) {
+            throw new IllegalArgumentException("At least one board is required");
+        }
+        this.boards = boards;
+        rows = new int[boards * height];
+        piece = new byte[boards];
+        rotation = new byte[boards];
+        x = new int[boards];
+        y = new int[boards];
+        hold = new byte[boards];
+        canHold = new boolean[boards];
+        score = new int[boards];
+        lines = new int[boards];
+        level = new int[boards];
+        consecutiveLines = new int[boards];
+        bricks = new int[boards];
+        sequence = new long[boards];
+        gameOver = new boolean[boards];
+        Arrays.fill(gameOver, true);
+    }
+
+    /**
+     * Starts a new game on every board; board b uses seed baseSeed + b.
+     *
+     * @param baseSeed   The seed of board 0.
+     * @param startLevel The starting level, as chosen in the menu.
+     */
+    public void resetAll(long baseSeed, int startLevel) {
+        for (int b = 0; b < boards; b++) {
+            reset(b, baseSeed + b, startLevel);
+        }
+    }
+
+    /**
+     * Starts a new game on one board, like SimpleBoard.newGame() with a SeededBrickGenerator.
+     *
+     * @param board      The board index.
+     * @param seed       The seed of the brick sequence.
+     * @param startLevel The starting level.
+     */
+    public void reset(int board, long seed, int startLevel) {
+        Arrays.fill(rows, board * height, (board + 1) * height, 0);
+        hold[board] = 0;
+        score[board] = 0;
+        lines[board] = 0;
+        level[board] = startLevel;
+        consecutiveLines[board] = 0;
+        bricks[board] = 0;
+        sequence[board] = seed;
+        if (gameOver[board]) {
+            live++;
+        }
+        gameOver[board] = false;
+        if (spawn(board)) {
+            gameOver[board] = true;
+            live--;
+        }
+    }
+
+    /**
+     * Advances every live board by one action. Boards whose game is over are left untouched.
+     *
+     * @param actions One action per board (NONE, LEFT, ... HOLD).
+     */
+    public void step(byte[] actions) {
+        for (int b = 0; b < boards; b++) {
+            if (gameOver[b]) {
+                continue;
+            }
+            switch (actions[b]) {
+                case LEFT -> tryMove(b, x[b] - 1, y[b]);
+                case RIGHT -> tryMove(b, x[b] + 1, y[b]);
+                case ROTATE -> rotate(b);
+                case SOFT_DROP -> down(b, 1);
+                case GRAVITY -> down(b, 0);
+                case HARD_DROP -> hardDrop(b);
+                case HOLD -> hold(b);
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Drops the brick of every live board at a chosen rotation and column in a single step, like
+     * Board.placeBrick(): the brick is turned and moved where it is, without wall kicks, then hard
+     * dropped (+2 per row) and locked. A board whose target position collides is left unchanged.
+     *
+     * @param rotations The target rotation index per board.
+     * @param columns   The target x-coordinate per board.
+     */
+    public void place(byte[] rotations, int[] columns) {
+        for (int b = 0; b < boards; b++) {
+            if (gameOver[b] || collides(b, piece[b], rotations[b], columns[b], y[b])) {
+                continue;
+            }
+            rotation[b] = rotations[b];
+            x[b] = columns[b];
+            hardDrop(b);
+        }
+    }
+
+    /**
+     * Ends one board's game early, for example when it reaches a brick limit.
+     *
+     * @param board The board index.
+     */
+    public void end(int board) {
+        if (!gameOver[board]) {
+            gameOver[board] = true;
+            live--;
+        }
+    }
+
+    // Moves the brick down one row, or locks it if it cannot move
+    private void down(int b, int points) {
+        if (tryMove(b, x[b], y[b] + 1)) {
+            score[b] += points;
+        } else {
+            lock(b);
+        }
+    }
+
+    private void hardDrop(int b) {
+        int start = y[b];
+        while (!collides(b, piece[b], rotation[b], x[b], y[b] + 1)) {
+            y[b]++;
+        }
+        score[b] += (y[b] - start) * 2;
+        lock(b);
+    }
+
+    // Next rotation in place, then kicked one column left, then one column right
+    private void rotate(int b) {
+        int id = piece[b];
+        int next = (rotation[b] + 1) % BrickShapeTable.rotationCount(id);
+        for (int dx : KICKS) {
+            if (!collides(b, id, next, x[b] + dx, y[b])) {
+                rotation[b] = (byte) next;
+                x[b] += dx;
+                return;
+            }
+        }
+    }
+
+    private void hold(int b) {
+        if (!canHold[b]) {
+            return;
+        }
+        if (hold[b] == 0) {
+            hold[b] = piece[b];
+            // SimpleBoard ignores a collision when the hold swap spawns a fresh brick
+            spawn(b);
+        } else {
+            byte held = hold[b];
+            hold[b] = piece[b];
+            piece[b] = held;
+            rotation[b] = 0;
+            x[b] = GameConfig.SPAWN_X;
+            y[b] = GameConfig.SPAWN_Y;
+        }
+        canHold[b] = false;
+    }
+
+    private boolean tryMove(int b, int newX, int newY) {
+        if (collides(b, piece[b], rotation[b], newX, newY)) {
+            return false;
+        }
+        x[b] = newX;
+        y[b] = newY;
+        return true;
+    }
+
+    // Merges the brick, clears full rows, scores them and spawns the next brick
+    private void lock(int b) {
+        int id = piece[b];
+        int rot = rotation[b];
+        int base = b * height;
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int mask = BrickShapeTable.rowMask(id, rot, r);
+            if (mask != 0) {
+                rows[base + y[b] + r] |= shift(mask, x[b]);
+            }
+        }
+
+        int cleared = 0;
+        int last = Math.min(y[b] + BrickShapeTable.SHAPE_SIZE, height);
+        for (int r = y[b]; r < last; r++) {
+            if (rows[base + r] == fullRow) {
+                System.arraycopy(rows, base, rows, base + 1, r);
+                rows[base] = 0;
+                cleared++;
+            }
+        }
+        processLineClear(b, cleared);
+        bricks[b]++;
+
+        if (spawn(b)) {
+            gameOver[b] = true;
+            live--;
+        }
+    }
+
+    // Score.processLineClear on this board's arrays, through Score's own streak, combo and level rules
+    private void processLineClear(int b, int cleared) {
+        consecutiveLines[b] = Score.streakAfter(consecutiveLines[b], cleared);
+        if (cleared == 0) {
+            return;
+        }
+        score[b] += Score.comboBonus(consecutiveLines[b], MatrixOperations.lineClearBonus(cleared));
+        lines[b] += cleared;
+        level[b] = Score.levelAfter(level[b], lines[b]);
+    }
+
+    // Takes the next brick of the sequence; returns true if it collides at the spawn point
+    private boolean spawn(int b) {
+        sequence[b] = SeededBrickGenerator.advance(sequence[b]);
+        piece[b] = (byte) SeededBrickGenerator.brickId(sequence[b]);
+        rotation[b] = 0;
+        x[b] = GameConfig.SPAWN_X;
+        y[b] = GameConfig.SPAWN_Y;
+        canHold[b] = true;
+        return collides(b, piece[b], 0, x[b], y[b]);
+    }
+
+    // Wall, floor and cell collision with the same bounds as MatrixOperations.intersect
+    private boolean collides(int b, int id, int rot, int bx, int by) {
+        if (bx + BrickShapeTable.minColumn(id, rot) < 0 || bx + BrickShapeTable.maxColumn(id, rot) >= width) {
+            return true;
+        }
+        int base = b * height;
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int mask = BrickShapeTable.rowMask(id, rot, r);
+            if (mask == 0) {
+                continue;
+            }
+            int row = by + r;
+            if (row < 0 || row >= height || (rows[base + row] & shift(mask, bx)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int shift(int mask, int bx) {
+        return bx >= 0 ? mask << bx : mask >>> -bx;
+    }
+
+    /**
+     * Retrieves the occupancy bitmask of one row of one board.
+     *
+     * @param board The board index.
+     * @param row   The row index (0 is the top).
+     * @return A bitmask with bit c set when column c is filled.
+     */
+    public int row(int board, int row) {
+        return rows[board * height + row];
+    }
+
+    public int getPiece(int board) {
+        return piece[board];
+    }
+
+    public int getRotation(int board) {
+        return rotation[board];
+    }
+
+    public int getX(int board) {
+        return x[board];
+    }
+
+    public int getY(int board) {
+        return y[board];
+    }
+
+    public int getHold(int board) {
+        return hold[board];
+    }
+
+    public int getScore(int board) {
+        return score[board];
+    }
+
+    public int getLines(int board) {
+        return lines[board];
+    }
+
+    public int getLevel(int board) {
+        return level[board];
+    }
+
+    public int getBricks(int board) {
+        return bricks[board];
+    }
+
+    public boolean isGameOver(int board) {
+        return gameOver[board];
+    }
+
+    /**
+     * Retrieves the number of boards whose game is still running.
+     *
+     * @return The live board count.
+     */
+    public int getLiveCount() {
+        return live;
+    }
+
+    public int getBoardCount() {
+        return boards;
+    }
+
+    /**
+     * Sums the score of every board.
+     *
+     * @return The total score.
+     */
+    public long totalScore() {
+        long total = 0;
+        for (int b = 0; b < boards; b++) {
+            total += score[b];
+        }
+        return total;
+    }
+
+    /**
+     * Sums the lines cleared on every board.
+     *
+     * @return The total number of lines.
+     */
+    public long totalLines() {
+        long total = 0;
+        for (int b = 0; b < boards; b++) {
+            total += lines[b];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * This class is a baseline player that plays random but legal-looking turns:
+ * a few rotations, a random sideways shift, the occasional hold, then a hard drop.
+ * Its inputs come from a seeded generator, so a game is reproducible from its seed.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+
+import java.util.SplittableRandom;
+
+public final class RandomPolicy implements TurnPolicy {
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+
+    private final SplittableRandom random;
+
+    /**
+     * Creates a random player.
+     *
+     * @param seed The seed of the player's choices.
+     */
+    public RandomPolicy(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public void playTurn(HeadlessGameController game) {
+        if (random.nextInt(10) == 0) {
+            game.onHoldEvent(HOLD);
+        }
+        for (int i = random.nextInt(4); i > 0; i--) {
+            game.onRotateEvent(ROTATE);
+        }
+        int shift = random.nextInt(-5, 6);
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                game.onLeftEvent(LEFT);
+            } else {
+                game.onRightEvent(RIGHT);
+            }
+        }
+        game.onHardDropEvent(HARD_DROP);
+    }
+}
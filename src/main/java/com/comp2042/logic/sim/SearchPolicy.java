@@ -0,0 +1,42 @@
+/*
+ * This class plays turns with the full AI player: an AiController driven by a BeamSearch
+ * that looks ahead through the preview queue and considers the hold slot.
+ *
+ * Self-play already runs one game per core, so the runner gives each game a serial search
+ * and the turns are played entirely on the game's own thread.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.controller.AiController;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.TranspositionTable;
+
+public final class SearchPolicy implements TurnPolicy {
+
+    // Evaluations cached for the whole game: consecutive turns see many of the same boards
+    private static final int CACHE_BUCKETS = 1 << 14;
+
+    private final AiController player;
+    private HeadlessGameController boundGame;
+
+    /**
+     * Creates a search player.
+     *
+     * @param search The search used to choose placements; one per game, as it is not shared-safe.
+     *               It is given an evaluation cache of its own.
+     */
+    public SearchPolicy(BeamSearch search) {
+        search.setTranspositionTable(new TranspositionTable(CACHE_BUCKETS));
+        this.player = new AiController(search);
+    }
+
+    @Override
+    public void playTurn(HeadlessGameController game) {
+        if (boundGame != game) {
+            player.setEventListener(game);
+            boundGame = game;
+        }
+        player.playMove(game.getBoard().getBoardMatrix(), game.getBoard().getViewData());
+    }
+}
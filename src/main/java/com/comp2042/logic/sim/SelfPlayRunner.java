@@ -0,0 +1,119 @@
+/*
+ * This class is a command-line tool that plays many games without a user interface and
+ * reports how a policy performs.
+ *
+ * Every game runs on its own virtual thread, with its own SimpleBoard, SeededBrickGenerator,
+ * HeadlessGameController and policy instance, so games share nothing but the lock-free
+ * SelfPlayStats they report to. Game i uses seed + i for both its bricks and its policy,
+ * which makes every run reproducible whatever the scheduling.
+ *
+ * Games never block, so more of them running at once than there are cores only slows each
+ * one down; a semaphore lets one game per core play at a time. The search policy expands its
+ * beam on the game's own thread for the same reason, instead of fanning out to a shared pool.
+ *
+ * Usage: SelfPlayRunner <random|greedy|search> [games] [seed] [maxBricks]
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.SimpleBoard;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+public final class SelfPlayRunner {
+
+    // Beam settings for the "search" policy. A serial search of this size finishes its three
+    // layers in a few milliseconds, so the depth ends it and results depend only on the seed;
+    // the budget only caps a move on a machine that is far too busy
+    private static final int SEARCH_BEAM_WIDTH = 8;
+    private static final int SEARCH_DEPTH = 3;
+    private static final long SEARCH_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private SelfPlayRunner() {
+    }
+
+    /**
+     * Creates a policy factory by name.
+     *
+     * @param name One of "random", "greedy" or "search".
+     * @return A factory that creates a fresh policy from a game seed.
+     * @throws IllegalArgumentException If the name is unknown.
+     */
+    public static LongFunction<TurnPolicy> policy(String name) {
+        return switch (name) {
+            case "random" -> RandomPolicy::new;
+            case "greedy" -> seed -> new GreedyPolicy(new Evaluator());
+            case "search" -> seed -> new SearchPolicy(BeamSearch.serial(new Evaluator(), SEARCH_BEAM_WIDTH,
+                    SEARCH_DEPTH, SEARCH_BUDGET_NANOS, GameConfig.COLS, GameConfig.ROWS));
+            default -> throw new IllegalArgumentException("Unknown policy: " + name);
+        };
+    }
+
+    /**
+     * Plays a batch of games, each on its own virtual thread, at most one per core at a time,
+     * and waits for all of them.
+     *
+     * @param policies  Creates the policy for each game from that game's seed.
+     * @param games     The number of games to play.
+     * @param seed      The seed of the first game; game i uses seed + i.
+     * @param maxBricks The brick limit per game, so strong policies still finish.
+     * @return The aggregated results.
+     */
+    public static SelfPlayStats run(LongFunction<TurnPolicy> policies, int games, long seed, int maxBricks) {
+        SelfPlayStats stats = new SelfPlayStats();
+        Semaphore cores = new Semaphore(Runtime.getRuntime().availableProcessors());
+        // close() waits for every submitted game to finish
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < games; i++) {
+                long gameSeed = seed + i;
+                executor.submit(() -> {
+                    cores.acquireUninterruptibly();
+                    try {
+                        playGame(policies.apply(gameSeed), gameSeed, maxBricks, stats);
+                    } finally {
+                        cores.release();
+                    }
+                });
+            }
+        }
+        return stats;
+    }
+
+    // Plays one game to the end (or the brick limit) and records it
+    private static void playGame(TurnPolicy policy, long seed, int maxBricks, SelfPlayStats stats) {
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(seed));
+        HeadlessGameController game = new HeadlessGameController(board);
+        int bricks = 0;
+        // Every turn ends with a hard drop, so each one locks exactly one brick
+        while (!game.isGameOver() && bricks < maxBricks) {
+            policy.playTurn(game);
+            bricks++;
+        }
+        stats.record(board.getScore().scoreProperty().get(), board.getScore().linesClearedProperty().get(),
+                bricks, game.isGameOver());
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: SelfPlayRunner <random|greedy|search> [games] [seed] [maxBricks]");
+            return;
+        }
+        LongFunction<TurnPolicy> policies = policy(args[0]);
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int maxBricks = args.length > 3 ? Integer.parseInt(args[3]) : 500;
+
+        long start = System.nanoTime();
+        SelfPlayStats stats = run(policies, games, seed, maxBricks);
+        System.out.println("Policy:     " + args[0] + ", seed " + seed + ", max " + maxBricks + " bricks");
+        System.out.print(stats.report(System.nanoTime() - start));
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * This class collects the results of a self-play run.
+ *
+ * Every game thread records its finished game directly, without locks: totals are LongAdders,
+ * and the score distribution is a LogHistogram (percentiles accurate to within about 12%).
+ * Nothing here depends on the order games finish in.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.util.LogHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SelfPlayStats {
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder bricks = new LongAdder();
+    private final LongAdder lines = new LongAdder();
+    private final LongAdder totalScore = new LongAdder();
+    private final LongAdder gamesOver = new LongAdder();
+    private final LogHistogram scores = new LogHistogram();
+
+    /**
+     * Records one finished game. Safe to call from any number of threads at once.
+     *
+     * @param score    The final score.
+     * @param lines    The number of lines cleared.
+     * @param bricks   The number of bricks locked.
+     * @param gameOver Whether the game ended by topping out (rather than by the brick limit).
+     */
+    public void record(long score, long lines, long bricks, boolean gameOver) {
+        games.increment();
+        this.bricks.add(bricks);
+        this.lines.add(lines);
+        totalScore.add(score);
+        if (gameOver) {
+            gamesOver.increment();
+        }
+        scores.record(score);
+    }
+
+    /**
+     * Retrieves the number of games recorded.
+     *
+     * @return The game count.
+     */
+    public long getGames() {
+        return games.sum();
+    }
+
+    /**
+     * Retrieves the number of bricks locked over all games.
+     *
+     * @return The brick count.
+     */
+    public long getBricks() {
+        return bricks.sum();
+    }
+
+    /**
+     * Retrieves the number of lines cleared over all games.
+     *
+     * @return The line count.
+     */
+    public long getLines() {
+        return lines.sum();
+    }
+
+    /**
+     * Retrieves the sum of all final scores.
+     *
+     * @return The total score.
+     */
+    public long getTotalScore() {
+        return totalScore.sum();
+    }
+
+    /**
+     * Retrieves the number of games that ended by topping out.
+     *
+     * @return The game-over count.
+     */
+    public long getGamesOver() {
+        return gamesOver.sum();
+    }
+
+    /**
+     * Retrieves the mean final score.
+     *
+     * @return The mean score, or 0 if no games were recorded.
+     */
+    public double getMeanScore() {
+        long count = getGames();
+        return count == 0 ? 0 : (double) getTotalScore() / count;
+    }
+
+    /**
+     * Retrieves the lowest final score.
+     *
+     * @return The minimum score, or 0 if no games were recorded.
+     */
+    public long getMinScore() {
+        return scores.getMin();
+    }
+
+    /**
+     * Retrieves the highest final score.
+     *
+     * @return The maximum score, or 0 if no games were recorded.
+     */
+    public long getMaxScore() {
+        return scores.getMax();
+    }
+
+    /**
+     * Retrieves an approximate score percentile from the histogram.
+     * The result is the lower bound of the bucket holding the percentile, clamped to the observed range.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The approximate score at that percentile, or 0 if no games were recorded.
+     */
+    public long getScorePercentile(double percentile) {
+        return scores.getPercentile(percentile);
+    }
+
+    /**
+     * Builds the text report printed at the end of a run.
+     *
+     * @param elapsedNanos The wall-clock duration of the run.
+     * @return The multi-line report.
+     */
+    public String report(long elapsedNanos) {
+        double seconds = Math.max(elapsedNanos, 1) / 1e9;
+        long count = getGames();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games:      %d (%d topped out) in %.2f s%n", count, getGamesOver(), seconds));
+        sb.append(String.format("Throughput: %.1f games/s, %.0f pieces/s%n", count / seconds, getBricks() / seconds));
+        sb.append(String.format("Pieces:     %.1f per game, lines %.1f per game%n",
+                count == 0 ? 0.0 : (double) getBricks() / count, count == 0 ? 0.0 : (double) getLines() / count));
+        sb.append(String.format("Score:      mean %.1f, min %d, p50 %d, p90 %d, p99 %d, max %d%n", getMeanScore(),
+                getMinScore(), getScorePercentile(50), getScorePercentile(90), getScorePercentile(99), getMaxScore()));
+        // The totals identify a run: the same policy, seed and game count always reproduce them
+        sb.append(String.format("Checksum:   score %d, lines %d%n", getTotalScore(), getLines()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * This interface is implemented by the players used for self-play runs.
+ *
+ * A policy plays one turn at a time against a HeadlessGameController, sending inputs
+ * through the same InputEventListener calls a human player (via GuiController) would,
+ * and finishing the turn by locking the brick. Policies keep per-game state, so every
+ * game gets its own instance.
+ */
+package com.comp2042.logic.sim;
+
+import com.comp2042.controller.HeadlessGameController;
+
+public interface TurnPolicy {
+
+    /**
+     * Plays the active brick until it locks.
+     *
+     * @param game The game to play; must not be over.
+     */
+    void playTurn(HeadlessGameController game);
+}
@@ -0,0 +1,215 @@
+/*
+ * This class plays the computer's board in versus mode.
+ *
+ * The bot's game (a HeadlessGameController on its own seeded SimpleBoard) lives entirely on
+ * one background thread, which plays a turn with its TurnPolicy at a fixed pace, then settles
+ * garbage with the VersusMatch. After each turn it publishes an immutable Snapshot through a
+ * volatile field, so the FX thread can draw the opponent whenever it likes without locking,
+ * and the bot's thinking can never hold up a frame.
+ */
+package com.comp2042.logic.versus;
+
+import com.comp2042.GameConfig;
+import com.comp2042.MatrixOperations;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.sim.TurnPolicy;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class BotOpponent {
+
+    /**
+     * An immutable view of the bot's board after a turn.
+     */
+    public static final class Snapshot {
+        private final int round;
+        private final int[][] matrix;
+        private final int score;
+        private final int lines;
+        private final boolean gameOver;
+
+        Snapshot(int round, int[][] matrix, int score, int lines, boolean gameOver) {
+            this.round = round;
+            this.matrix = matrix;
+            this.score = score;
+            this.lines = lines;
+            this.gameOver = gameOver;
+        }
+
+        /**
+         * Retrieves which game this snapshot belongs to: 0 for the first, then one more per restart.
+         *
+         * @return The game's round number.
+         */
+        public int getRound() {
+            return round;
+        }
+
+        /**
+         * Retrieves a private copy of the bot's background matrix.
+         *
+         * @return The matrix; callers must not modify it.
+         */
+        public int[][] getMatrix() {
+            return matrix;
+        }
+
+        /**
+         * Retrieves the bot's score.
+         *
+         * @return The score.
+         */
+        public int getScore() {
+            return score;
+        }
+
+        /**
+         * Retrieves the number of lines the bot has cleared.
+         *
+         * @return The line count.
+         */
+        public int getLines() {
+            return lines;
+        }
+
+        /**
+         * Reports whether the bot has topped out.
+         *
+         * @return true once the bot's game is over.
+         */
+        public boolean isGameOver() {
+            return gameOver;
+        }
+    }
+
+    private final VersusMatch match;
+    private final TurnPolicy policy;
+    private final long seed;
+    private final int startLevel;
+    private final long turnMillis;
+
+    private ScheduledExecutorService executor;
+    // Only touched on the bot thread
+    private HeadlessGameController game;
+    private int round;
+    private volatile Snapshot snapshot;
+    private volatile boolean paused;
+
+    /**
+     * Creates a bot opponent. It does nothing until start() is called.
+     *
+     * @param match      The match to exchange garbage through.
+     * @param policy     The player that chooses the bot's moves.
+     * @param seed       The seed of the bot's brick sequence in round 0; round r uses seed + r.
+     * @param startLevel The level the bot's score starts at.
+     * @param turnMillis The pause between the bot's turns, which sets its speed.
+     */
+    public BotOpponent(VersusMatch match, TurnPolicy policy, long seed, int startLevel, long turnMillis) {
+        this.match = match;
+        this.policy = policy;
+        this.seed = seed;
+        this.startLevel = startLevel;
+        this.turnMillis = turnMillis;
+    }
+
+    /**
+     * Starts a fresh game on the bot's background thread. Does nothing if the bot is already running.
+     *
+     * @param round The caller's round number, which the game's snapshots carry.
+     */
+    public synchronized void start(int round) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "versus-bot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.execute(() -> reset(round));
+        executor.scheduleWithFixedDelay(this::turn, turnMillis, turnMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Throws away the current game and starts a new one. Returns immediately; snapshots of the
+     * old game may still be seen for a moment, which getRound() tells apart. Before start() this
+     * does nothing, since start() begins with a fresh game anyway.
+     *
+     * @param round The caller's round number, which the new game's snapshots carry.
+     */
+    public synchronized void restart(int round) {
+        if (executor != null) {
+            executor.execute(() -> reset(round));
+        }
+    }
+
+    /**
+     * Pauses or resumes the bot's turns.
+     *
+     * @param paused true to pause.
+     */
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Stops the background thread. A turn in progress finishes first, but this does not wait for it.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Retrieves the latest published state of the bot's board. Safe to call from any thread.
+     *
+     * @return The snapshot, or null before the first game has started.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Starts a new game for a round; runs on the bot thread
+    void reset(int round) {
+        this.round = round;
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS,
+                new SeededBrickGenerator(seed + round), new Score(startLevel));
+        game = new HeadlessGameController(board);
+        publish();
+    }
+
+    // Plays one turn and settles garbage; runs on the bot thread
+    void turn() {
+        if (paused || game == null || game.isGameOver()) {
+            return;
+        }
+        try {
+            Score score = game.getBoard().getScore();
+            int linesBefore = score.linesClearedProperty().get();
+            policy.playTurn(game);
+            int cleared = score.linesClearedProperty().get() - linesBefore;
+            int garbage = match.onLock(VersusMatch.Side.BOT, cleared);
+            if (garbage > 0 && !game.isGameOver()) {
+                game.receiveGarbage(garbage, match.holeColumn(VersusMatch.Side.BOT));
+            }
+        } catch (RuntimeException e) {
+            // An exception would silently cancel the schedule; report it and let the bot lose instead
+            e.printStackTrace();
+            game.receiveGarbage(GameConfig.ROWS, 0);
+        }
+        publish();
+    }
+
+    private void publish() {
+        Score score = game.getBoard().getScore();
+        snapshot = new Snapshot(round, MatrixOperations.copy(game.getBoard().getBoardMatrix()),
+                score.scoreProperty().get(), score.linesClearedProperty().get(), game.isGameOver());
+    }
+}
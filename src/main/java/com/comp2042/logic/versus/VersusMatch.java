@@ -0,0 +1,138 @@
+/*
+ * This class keeps the garbage accounting between the two boards of a versus game.
+ *
+ * Clearing lines attacks the opponent (2 lines send 1 row, 3 send 2, a tetris sends 4), but
+ * an attack first cancels garbage still queued against the attacker. Queued garbage is pushed
+ * in when its target locks a brick without clearing anything, a few rows at a time.
+ *
+ * The two boards are played on different threads (the human's on the FX thread, the bot's in
+ * the background), so the queues are atomic counters and neither side ever waits for the other.
+ * Each side picks its garbage hole columns from its own seeded generator, which only that
+ * side's thread uses.
+ */
+package com.comp2042.logic.versus;
+
+import com.comp2042.GameConfig;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class VersusMatch {
+
+    /**
+     * The two boards of a versus game.
+     */
+    public enum Side {
+        HUMAN, BOT;
+
+        /**
+         * Retrieves the other board.
+         *
+         * @return The opponent of this side.
+         */
+        public Side opponent() {
+            return this == HUMAN ? BOT : HUMAN;
+        }
+    }
+
+    // Garbage rows sent for clearing 0-4 lines at once
+    private static final int[] ATTACK = {0, 0, 1, 2, 4};
+    // Most garbage rows pushed in by a single lock, so a big backlog arrives in waves
+    private static final int MAX_ROWS_PER_LOCK = 8;
+
+    private final AtomicInteger[] pending = new AtomicInteger[Side.values().length];
+    private final AtomicInteger[] sent = new AtomicInteger[Side.values().length];
+    private final SplittableRandom[] holes = new SplittableRandom[Side.values().length];
+
+    /**
+     * Creates a match with empty garbage queues.
+     *
+     * @param seed The seed for the garbage hole columns.
+     */
+    public VersusMatch(long seed) {
+        for (Side side : Side.values()) {
+            pending[side.ordinal()] = new AtomicInteger();
+            sent[side.ordinal()] = new AtomicInteger();
+            holes[side.ordinal()] = new SplittableRandom(seed + side.ordinal());
+        }
+    }
+
+    /**
+     * Calculates the garbage sent by a single line clear.
+     *
+     * @param lines The number of lines cleared at once (0-4).
+     * @return The number of garbage rows it sends.
+     */
+    public static int attackFor(int lines) {
+        return ATTACK[Math.max(0, Math.min(lines, ATTACK.length - 1))];
+    }
+
+    /**
+     * Settles a locked brick: a line clear cancels the side's own queued garbage and sends
+     * the rest to the opponent; a lock without a clear lets queued garbage in.
+     *
+     * @param side         The side that locked a brick.
+     * @param linesCleared How many lines that lock cleared.
+     * @return The number of garbage rows to push into the side's board now.
+     */
+    public int onLock(Side side, int linesCleared) {
+        int attack = attackFor(linesCleared);
+        AtomicInteger own = pending[side.ordinal()];
+        if (attack > 0) {
+            int before = own.getAndUpdate(p -> p - Math.min(p, attack));
+            int remainder = attack - Math.min(before, attack);
+            if (remainder > 0) {
+                pending[side.opponent().ordinal()].addAndGet(remainder);
+                sent[side.ordinal()].addAndGet(remainder);
+            }
+            return 0;
+        }
+        if (linesCleared > 0) {
+            // A single line sends nothing but still holds the garbage back
+            return 0;
+        }
+        int before = own.getAndUpdate(p -> p - Math.min(p, MAX_ROWS_PER_LOCK));
+        return Math.min(before, MAX_ROWS_PER_LOCK);
+    }
+
+    /**
+     * Picks the hole column for a batch of garbage. Must only be called by the side's own thread.
+     *
+     * @param side The side receiving the garbage.
+     * @return A column index.
+     */
+    public int holeColumn(Side side) {
+        return holes[side.ordinal()].nextInt(GameConfig.COLS);
+    }
+
+    /**
+     * Retrieves the garbage queued against a side.
+     *
+     * @param side The side.
+     * @return The number of rows waiting to be pushed in.
+     */
+    public int getPending(Side side) {
+        return pending[side.ordinal()].get();
+    }
+
+    /**
+     * Retrieves the garbage a side has sent in total.
+     *
+     * @param side The side.
+     * @return The number of rows sent this match.
+     */
+    public int getSent(Side side) {
+        return sent[side.ordinal()].get();
+    }
+
+    /**
+     * Clears the queues and counters for a rematch. The hole generators carry on, so a rematch
+     * gets fresh hole columns.
+     */
+    public void reset() {
+        for (Side side : Side.values()) {
+            pending[side.ordinal()].set(0);
+            sent[side.ordinal()].set(0);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * This class is a lock-free counter for events on hot paths (ticks, locks, line clears).
+ *
+ * It is backed by a LongAdder, so threads incrementing at the same time each update their
+ * own cell instead of contending on one value; reading sums the cells.
+ */
+package com.comp2042.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+
+    private final LongAdder value = new LongAdder();
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        value.increment();
+    }
+
+    /**
+     * Adds an amount to the counter.
+     *
+     * @param amount The amount to add.
+     */
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    /**
+     * Retrieves the current total.
+     *
+     * @return The sum of everything added so far.
+     */
+    public long get() {
+        return value.sum();
+    }
+}
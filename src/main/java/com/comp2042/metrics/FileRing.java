@@ -0,0 +1,89 @@
+/*
+ * This class stores diagnostic reports (slow frames, flight recordings) as a bounded ring of
+ * text files in one directory, so a player who saw a problem can send the reports in, and a
+ * long run of problems can never fill the disk.
+ *
+ * Each report is its own file, named after the time it was written. Once the directory holds
+ * more than the capacity, the oldest reports are deleted.
+ */
+package com.comp2042.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class FileRing {
+
+    // Sorts in time order as plain text, which is how the oldest file is found
+    private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Path directory;
+    private final String prefix;
+    private final String suffix;
+    private final int capacity;
+    private int sequence;
+
+    /**
+     * Creates a ring; the directory is created on the first write.
+     *
+     * @param directory The directory the reports are written to.
+     * @param prefix    The start of every report's file name, e.g. "slow-frame-".
+     * @param suffix    The end of every report's file name, e.g. ".txt".
+     * @param capacity  The most reports kept at once.
+     */
+    public FileRing(Path directory, String prefix, String suffix, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1: " + capacity);
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Writes one report, then deletes the oldest ones beyond the capacity.
+     *
+     * @param report The text of the report.
+     * @return The file the report was written to.
+     * @throws IOException If the directory or file cannot be written.
+     */
+    public synchronized Path write(String report) throws IOException {
+        Files.createDirectories(directory);
+        // The sequence keeps two reports within the same millisecond apart, and in order
+        String name = prefix + STAMP.format(LocalDateTime.now()) + String.format("-%04d", sequence++ % 10000) + suffix;
+        Path file = directory.resolve(name);
+        Files.writeString(file, report, StandardCharsets.UTF_8);
+
+        List<Path> reports = reports();
+        for (int i = 0; i < reports.size() - capacity; i++) {
+            Files.deleteIfExists(reports.get(i));
+        }
+        return file;
+    }
+
+    /**
+     * Lists the reports currently on disk.
+     *
+     * @return The report files, oldest first.
+     * @throws IOException If the directory cannot be read.
+     */
+    public synchronized List<Path> reports() throws IOException {
+        List<Path> reports = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return reports;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            files.forEach(reports::add);
+        }
+        Collections.sort(reports);
+        return reports;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * This class is a read-only summary of one latency histogram, as shown over JMX.
+ * JMX turns its getters into the fields of a CompositeData, so tools like JConsole can
+ * display it without any of this game's classes.
+ */
+package com.comp2042.metrics;
+
+import com.comp2042.util.LogHistogram;
+
+import javax.management.ConstructorParameters;
+
+public final class HistogramSummary {
+
+    private final long count;
+    private final long min;
+    private final long p50;
+    private final long p99;
+    private final long max;
+
+    /**
+     * Creates a summary from its values.
+     *
+     * @param count The number of recorded values.
+     * @param min   The smallest value.
+     * @param p50   The approximate median.
+     * @param p99   The approximate 99th percentile.
+     * @param max   The largest value.
+     */
+    @ConstructorParameters({"count", "min", "p50", "p99", "max"})
+    public HistogramSummary(long count, long min, long p50, long p99, long max) {
+        this.count = count;
+        this.min = min;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+    /**
+     * Summarises a histogram as it is right now.
+     *
+     * @param histogram The histogram.
+     * @return The summary.
+     */
+    public static HistogramSummary of(LogHistogram histogram) {
+        return new HistogramSummary(histogram.getCount(), histogram.getMin(),
+                histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax());
+    }
+
+    /**
+     * Retrieves the number of recorded values.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Retrieves the smallest recorded value.
+     *
+     * @return The minimum.
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * Retrieves the approximate median.
+     *
+     * @return The 50th percentile.
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Retrieves the approximate 99th percentile.
+     *
+     * @return The 99th percentile.
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Retrieves the largest recorded value.
+     *
+     * @return The maximum.
+     */
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * This class is the static front for the application's one shared MetricsRegistry, the same
+ * way HighScoreManager fronts the shared high score table. Game code records into it through
+ * counter() and histogram(); start() makes it visible over JMX and in a periodically
+ * rewritten text file.
+ *
+ * Tests and tools that want isolated numbers can create their own MetricsRegistry instead.
+ */
+package com.comp2042.metrics;
+
+import com.comp2042.GameConfig;
+import com.comp2042.util.LogHistogram;
+
+import javax.management.JMException;
+import java.nio.file.Paths;
+import java.util.function.LongSupplier;
+
+public final class Metrics {
+
+    // The file the text dump is written to, next to highscores.txt
+    private static final String FILE_PATH = "metrics.txt";
+    // The name the registry is published under over JMX
+    private static final String OBJECT_NAME = "com.comp2042:type=Metrics";
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+    private static MetricsDumper dumper;
+
+    private Metrics() {
+    }
+
+    /**
+     * Retrieves a shared counter, creating it on first use.
+     *
+     * @param name The name of the counter.
+     * @return The counter.
+     */
+    public static Counter counter(String name) {
+        return REGISTRY.counter(name);
+    }
+
+    /**
+     * Retrieves a shared latency histogram, creating it on first use.
+     *
+     * @param name The name of the histogram.
+     * @return The histogram.
+     */
+    public static LogHistogram histogram(String name) {
+        return REGISTRY.histogram(name);
+    }
+
+    /**
+     * Registers a shared gauge.
+     *
+     * @param name  The name of the gauge.
+     * @param value Reads the current value.
+     */
+    public static void gauge(String name, LongSupplier value) {
+        REGISTRY.gauge(name, value);
+    }
+
+    /**
+     * Retrieves the shared registry.
+     *
+     * @return The registry behind this class.
+     */
+    public static MetricsRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * Publishes the shared registry over JMX and starts the periodic text dump.
+     * Calling it again does nothing until stop() is called.
+     */
+    public static synchronized void start() {
+        if (dumper != null) {
+            return;
+        }
+        try {
+            REGISTRY.registerMBean(OBJECT_NAME);
+        } catch (JMException e) {
+            // The file dump still works without JMX
+            System.err.println("Could not publish metrics over JMX: " + e.getMessage());
+        }
+        dumper = new MetricsDumper(REGISTRY, Paths.get(FILE_PATH));
+        dumper.start(GameConfig.METRICS_DUMP_SECONDS);
+    }
+
+    /**
+     * Writes a final dump and stops the periodic one.
+     */
+    public static synchronized void stop() {
+        if (dumper != null) {
+            dumper.close();
+            dumper = null;
+        }
+    }
+}
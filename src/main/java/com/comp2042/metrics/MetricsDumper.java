@@ -0,0 +1,87 @@
+/*
+ * This class writes a registry's text dump to a local file at a fixed interval, so the numbers
+ * can be read (or collected) from a machine without JMX access.
+ *
+ * The dump runs on its own daemon thread. Each write goes to a temporary file that then
+ * replaces the real one, so a reader never sees a half-written dump.
+ */
+package com.comp2042.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public final class MetricsDumper implements AutoCloseable {
+
+    private final MetricsRegistry registry;
+    private final Path file;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Creates a dumper; nothing is written until start() is called.
+     *
+     * @param registry The registry to dump.
+     * @param file     The file to (re)write.
+     */
+    public MetricsDumper(MetricsRegistry registry, Path file) {
+        this.registry = registry;
+        this.file = file;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts writing the dump periodically.
+     *
+     * @param intervalSeconds The time between dumps.
+     */
+    public void start(long intervalSeconds) {
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                writeNow();
+            } catch (IOException e) {
+                // A full disk or a locked file must not stop later dumps
+                System.err.println("Could not write metrics to " + file + ": " + e.getMessage());
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the dump once, on the calling thread.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeNow() throws IOException {
+        String text = "# " + Instant.now() + "\n" + registry.dump();
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.writeString(temp, text, StandardCharsets.UTF_8);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a final dump and stops the background thread.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            writeNow();
+        } catch (IOException e) {
+            System.err.println("Could not write metrics to " + file + ": " + e.getMessage());
+        }
+    }
+}
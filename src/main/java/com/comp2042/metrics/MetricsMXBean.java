@@ -0,0 +1,39 @@
+/*
+ * This interface is the JMX view of a MetricsRegistry, registered under
+ * com.comp2042:type=Metrics. Being an MXBean, its maps and summaries are converted to open
+ * types, so any JMX client can read them.
+ */
+package com.comp2042.metrics;
+
+import java.util.Map;
+
+public interface MetricsMXBean {
+
+    /**
+     * Retrieves every counter.
+     *
+     * @return The counter values by name.
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * Retrieves every gauge, read now.
+     *
+     * @return The gauge values by name.
+     */
+    Map<String, Long> getGauges();
+
+    /**
+     * Retrieves a summary of every latency histogram.
+     *
+     * @return The summaries by name. Latencies are in nanoseconds.
+     */
+    Map<String, HistogramSummary> getHistograms();
+
+    /**
+     * Formats every metric as text, one per line, as written by the periodic dump.
+     *
+     * @return The text.
+     */
+    String dump();
+}
@@ -0,0 +1,109 @@
+/*
+ * This class holds named counters, gauges and latency histograms, for watching hot-path costs
+ * on machines where a profiler cannot be attached.
+ *
+ * Metrics are created on first use and live for as long as the registry. Callers look a metric
+ * up once (typically into a static final field) and then update it directly, so recording never
+ * touches the registry's maps: counters are LongAdders and histograms are LogHistograms, both
+ * lock-free. Gauges are read only when the registry is read. The same registry is readable over
+ * JMX (see MetricsMXBean) and as text (dump()).
+ */
+package com.comp2042.metrics;
+
+import com.comp2042.util.LogHistogram;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public final class MetricsRegistry implements MetricsMXBean {
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final Map<String, LogHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves a counter, creating it on first use.
+     *
+     * @param name The name of the counter, e.g. "game.locks".
+     * @return The counter.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Registers a gauge, replacing any earlier gauge of the same name.
+     *
+     * @param name  The name of the gauge, e.g. "jvm.heap.used".
+     * @param value Reads the current value; called whenever the registry is read, from any thread.
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * Retrieves a histogram, creating it on first use.
+     *
+     * @param name The name of the histogram; latencies are recorded in nanoseconds and named "...ns".
+     * @return The histogram.
+     */
+    public LogHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LogHistogram());
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.get()));
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getGauges() {
+        Map<String, Long> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    @Override
+    public Map<String, HistogramSummary> getHistograms() {
+        Map<String, HistogramSummary> values = new TreeMap<>();
+        histograms.forEach((name, histogram) -> values.put(name, HistogramSummary.of(histogram)));
+        return values;
+    }
+
+    @Override
+    public String dump() {
+        StringBuilder text = new StringBuilder();
+        getCounters().forEach((name, value) -> text.append("counter ").append(name).append(' ').append(value).append('\n'));
+        getGauges().forEach((name, value) -> text.append("gauge ").append(name).append(' ').append(value).append('\n'));
+        getHistograms().forEach((name, h) -> text.append(String.format("histogram %s count=%d min=%d p50=%d p99=%d max=%d%n",
+                name, h.getCount(), h.getMin(), h.getP50(), h.getP99(), h.getMax())));
+        return text.toString();
+    }
+
+    /**
+     * Registers this registry with the platform MBean server, so JConsole and other JMX clients
+     * can read it. Registering a second registry under the same name replaces the first.
+     *
+     * @param objectName The JMX name, e.g. "com.comp2042:type=Metrics".
+     * @throws JMException If the name is malformed or the registration is refused.
+     */
+    public void registerMBean(String objectName) throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(objectName);
+        try {
+            server.registerMBean(this, name);
+        } catch (InstanceAlreadyExistsException e) {
+            server.unregisterMBean(name);
+            server.registerMBean(this, name);
+        }
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * This class works out the numbers shown by the debug HUD: frame rate, 99th-percentile frame
+ * time, engine tick time, allocation rate, heap, garbage collections and pieces per second.
+ *
+ * Frames and engine ticks are fed in as they happen; sample() then turns everything since the
+ * previous sample into rates and renders it as text. The overlay must not skew what it measures,
+ * so none of this allocates: frame times go into a preallocated ring, the p99 is taken from a
+ * preallocated scratch copy, and the text is rebuilt in the same StringBuilder every time,
+ * formatting numbers by hand instead of through String.format().
+ *
+ * Everything is called on the JavaFX application thread; nothing here is thread-safe.
+ */
+package com.comp2042.metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+public final class PerfSampler {
+
+    // Enough for half a second at 240 Hz; in a longer window only the most recent frames count
+    private static final int FRAME_CAPACITY = 512;
+    private static final long MB = 1024 * 1024;
+
+    private final LongSupplier pieces;
+    private final LongSupplier allocatedBytes;
+    private final LongSupplier gcCount;
+    private final LongSupplier gcMillis;
+
+    private final long[] frameNanos = new long[FRAME_CAPACITY];
+    private final long[] scratch = new long[FRAME_CAPACITY];
+    private final StringBuilder text = new StringBuilder(256);
+
+    // The current window
+    private long windowStart;
+    private long lastFrame;
+    private int frames;
+    private long ticks;
+    private long tickSum;
+    private long tickMax;
+    private long basePieces;
+    private long baseAllocated;
+    private long baseGcCount;
+    private long baseGcMillis;
+
+    // The results of the last sample
+    private long fpsTenths;
+    private long frameP99Nanos;
+    private long tickMeanNanos;
+    private long tickMaxNanos;
+    private long allocatedPerSecond;
+    private long piecesPerSecondTenths;
+    private long totalGcCount;
+    private long totalGcMillis;
+    private long windowGcCount;
+    private long windowGcMillis;
+
+    /**
+     * Creates a sampler over the given sources. Each is read once per sample.
+     *
+     * @param pieces         Counts the bricks locked so far.
+     * @param allocatedBytes Counts the bytes allocated so far by the whole process, or returns -1 if unknown.
+     * @param gcCount        Counts the garbage collections so far.
+     * @param gcMillis       Sums the time spent in garbage collection pauses so far, in milliseconds.
+     */
+    public PerfSampler(LongSupplier pieces, LongSupplier allocatedBytes, LongSupplier gcCount, LongSupplier gcMillis) {
+        this.pieces = pieces;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * Creates a sampler that reads this JVM's allocation and garbage collection counters, and
+     * counts pieces from the shared "game.locks" counter.
+     *
+     * @return The sampler.
+     */
+    public static PerfSampler forThisJvm() {
+        Counter locks = Metrics.counter("game.locks");
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        LongSupplier allocated = () -> -1;
+        if (threads instanceof com.sun.management.ThreadMXBean counting && counting.isThreadAllocatedMemorySupported()) {
+            counting.setThreadAllocatedMemoryEnabled(true);
+            allocated = counting::getTotalThreadAllocatedBytes;
+        }
+        // ZGC and Shenandoah also report their concurrent cycles, which are not pauses
+        GarbageCollectorMXBean[] collectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .filter(gc -> !gc.getName().endsWith("Cycles"))
+                .toArray(GarbageCollectorMXBean[]::new);
+        return new PerfSampler(locks::get, allocated, () -> sum(collectors, false), () -> sum(collectors, true));
+    }
+
+    private static long sum(GarbageCollectorMXBean[] collectors, boolean time) {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : collectors) {
+            // -1 means the collector does not report it
+            total += Math.max(0, time ? collector.getCollectionTime() : collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    /**
+     * Starts a new window, forgetting what was recorded before.
+     *
+     * @param now The current time, in System.nanoTime() units.
+     */
+    public void reset(long now) {
+        windowStart = now;
+        lastFrame = 0;
+        frames = 0;
+        ticks = 0;
+        tickSum = 0;
+        tickMax = 0;
+        basePieces = pieces.getAsLong();
+        baseAllocated = allocatedBytes.getAsLong();
+        baseGcCount = gcCount.getAsLong();
+        baseGcMillis = gcMillis.getAsLong();
+    }
+
+    /**
+     * Records the start of a frame, which is also the end of the previous one.
+     *
+     * @param now The time of the frame, in System.nanoTime() units.
+     */
+    public void frame(long now) {
+        if (lastFrame != 0) {
+            frameNanos[frames % FRAME_CAPACITY] = now - lastFrame;
+            frames++;
+        }
+        lastFrame = now;
+    }
+
+    /**
+     * Records how long one engine tick (a gravity step, with any lock and line clear) took.
+     *
+     * @param nanos The time taken.
+     */
+    public void tick(long nanos) {
+        ticks++;
+        tickSum += nanos;
+        tickMax = Math.max(tickMax, nanos);
+    }
+
+    /**
+     * Works out the rates since the last sample (or reset), renders them and starts the next window.
+     *
+     * @param now The current time, in System.nanoTime() units.
+     * @return The rendered text; the same buffer is reused, so it is only valid until the next call.
+     */
+    public CharSequence sample(long now) {
+        long elapsed = Math.max(1, now - windowStart);
+
+        fpsTenths = frames * 10_000_000_000L / elapsed;
+        int kept = Math.min(frames, FRAME_CAPACITY);
+        if (kept > 0) {
+            System.arraycopy(frameNanos, 0, scratch, 0, kept);
+            Arrays.sort(scratch, 0, kept);
+            frameP99Nanos = scratch[(int) Math.ceil(kept * 0.99) - 1];
+        } else {
+            frameP99Nanos = 0;
+        }
+        tickMeanNanos = ticks == 0 ? 0 : tickSum / ticks;
+        tickMaxNanos = tickMax;
+
+        long piecesNow = pieces.getAsLong();
+        long allocatedNow = allocatedBytes.getAsLong();
+        long gcCountNow = gcCount.getAsLong();
+        long gcMillisNow = gcMillis.getAsLong();
+        piecesPerSecondTenths = (piecesNow - basePieces) * 10_000_000_000L / elapsed;
+        allocatedPerSecond = allocatedNow < 0 || baseAllocated < 0 ? -1
+                : (long) ((allocatedNow - baseAllocated) * (1e9 / elapsed));
+        windowGcCount = gcCountNow - baseGcCount;
+        windowGcMillis = gcMillisNow - baseGcMillis;
+        totalGcCount = gcCountNow;
+        totalGcMillis = gcMillisNow;
+
+        render();
+
+        // The next window starts here; the frame in progress carries over
+        windowStart = now;
+        frames = 0;
+        ticks = 0;
+        tickSum = 0;
+        tickMax = 0;
+        basePieces = piecesNow;
+        baseAllocated = allocatedNow;
+        baseGcCount = gcCountNow;
+        baseGcMillis = gcMillisNow;
+        return text;
+    }
+
+    private void render() {
+        Runtime runtime = Runtime.getRuntime();
+        text.setLength(0);
+        text.append("FPS ");
+        appendTenths(fpsTenths);
+        text.append("  p99 ");
+        appendTenths(frameP99Nanos / 100_000);
+        text.append(" ms\ntick ");
+        appendHundredths(tickMeanNanos / 10_000);
+        text.append(" ms avg, ");
+        appendHundredths(tickMaxNanos / 10_000);
+        text.append(" max\nalloc ");
+        if (allocatedPerSecond < 0) {
+            text.append("n/a");
+        } else {
+            appendTenths(allocatedPerSecond * 10 / MB);
+            text.append(" MB/s");
+        }
+        text.append("  heap ").append((runtime.totalMemory() - runtime.freeMemory()) / MB)
+                .append('/').append(runtime.maxMemory() / MB).append(" MB\nGC ").append(totalGcCount)
+                .append(" (+").append(windowGcCount).append(")  pause ").append(totalGcMillis)
+                .append(" ms (+").append(windowGcMillis).append(")\npieces ");
+        appendTenths(piecesPerSecondTenths);
+        text.append("/s");
+    }
+
+    // Appends e.g. 605 as "60.5"
+    private void appendTenths(long tenths) {
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+
+    // Appends e.g. 12 as "0.12"
+    private void appendHundredths(long hundredths) {
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) {
+            text.append('0');
+        }
+        text.append(hundredths % 100);
+    }
+
+    /**
+     * Retrieves the frame rate of the last sample.
+     *
+     * @return Frames per second, in tenths (605 is 60.5 FPS).
+     */
+    public long getFpsTenths() {
+        return fpsTenths;
+    }
+
+    /**
+     * Retrieves the 99th-percentile frame time of the last sample.
+     *
+     * @return The frame time in nanoseconds, or 0 if no frame was recorded.
+     */
+    public long getFrameP99Nanos() {
+        return frameP99Nanos;
+    }
+
+    /**
+     * Retrieves the mean engine tick time of the last sample.
+     *
+     * @return The tick time in nanoseconds, or 0 if no tick was recorded.
+     */
+    public long getTickMeanNanos() {
+        return tickMeanNanos;
+    }
+
+    /**
+     * Retrieves the allocation rate of the last sample.
+     *
+     * @return Bytes allocated per second, or -1 if the JVM does not count them.
+     */
+    public long getAllocatedPerSecond() {
+        return allocatedPerSecond;
+    }
+
+    /**
+     * Retrieves the garbage collections during the last sample's window.
+     *
+     * @return The number of collections.
+     */
+    public long getWindowGcCount() {
+        return windowGcCount;
+    }
+
+    /**
+     * Retrieves the garbage collection pause time during the last sample's window.
+     *
+     * @return The pause time in milliseconds.
+     */
+    public long getWindowGcMillis() {
+        return windowGcMillis;
+    }
+
+    /**
+     * Retrieves the rate at which bricks were locked during the last sample's window.
+     *
+     * @return Pieces per second, in tenths.
+     */
+    public long getPiecesPerSecondTenths() {
+        return piecesPerSecondTenths;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * This class watches the JavaFX application thread for slow frames, the cause of the short
+ * stutters that cannot be reproduced on demand.
+ *
+ * An AnimationTimer runs at the start of every pulse (frame), so the time between two of its
+ * calls is how long the previous frame took. A separate daemon thread checks that time while
+ * the frame is still running: once it passes the budget, it takes the FX thread's stack and the
+ * game state right then, while the slow code is still on the stack. When the frame finally
+ * ends, the two are written out as one report to a FileRing.
+ *
+ * Frame lengths are also recorded in the "ui.frame.ns" histogram, and slow frames counted in
+ * "ui.frames.slow".
+ */
+package com.comp2042.metrics;
+
+import com.comp2042.util.LogHistogram;
+import javafx.animation.AnimationTimer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+public final class PulseWatchdog implements AutoCloseable {
+
+    private static final LogHistogram FRAME_NS = Metrics.histogram("ui.frame.ns");
+    private static final Counter SLOW_FRAMES = Metrics.counter("ui.frames.slow");
+
+    // What the watch thread saw while one frame was running late
+    private static final class Capture {
+        private final long frameStart;
+        private final long elapsed;
+        private final StackTraceElement[] stack;
+        private final String state;
+
+        private Capture(long frameStart, long elapsed, StackTraceElement[] stack, String state) {
+            this.frameStart = frameStart;
+            this.elapsed = elapsed;
+            this.stack = stack;
+            this.state = state;
+        }
+    }
+
+    private final long budgetNanos;
+    private final Thread watched;
+    private final Supplier<String> state;
+    private final FileRing log;
+
+    // When the current frame started, or 0 before the first frame
+    private volatile long frameStart;
+    private volatile Capture capture;
+
+    private ScheduledExecutorService executor;
+    private AnimationTimer timer;
+
+    /**
+     * Creates a watchdog; nothing is watched until start() is called.
+     *
+     * @param budgetNanos The longest a frame may take before it is reported.
+     * @param watched     The thread the frames run on, normally the JavaFX application thread.
+     * @param state       Describes the game state; called from the watch thread, so it must only read.
+     * @param log         Where the reports are written.
+     */
+    public PulseWatchdog(long budgetNanos, Thread watched, Supplier<String> state, FileRing log) {
+        this.budgetNanos = budgetNanos;
+        this.watched = watched;
+        this.state = state;
+        this.log = log;
+    }
+
+    /**
+     * Starts watching. Must be called on the JavaFX application thread.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "pulse-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Checking four times per budget takes the stack at most a quarter budget late
+        long period = Math.max(1, budgetNanos / 4);
+        executor.scheduleAtFixedRate(() -> check(System.nanoTime()), period, period, TimeUnit.NANOSECONDS);
+        ScheduledExecutorService writer = executor;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                String report = frame(now);
+                if (report != null) {
+                    // Disk writes stay off the FX thread, or the report itself would cause a stutter
+                    writer.execute(() -> write(report));
+                }
+            }
+        };
+        timer.start();
+    }
+
+    private void write(String report) {
+        try {
+            log.write(report);
+        } catch (IOException e) {
+            System.err.println("Could not write a slow frame report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Marks the start of a frame, which is also the end of the previous one.
+     *
+     * @param now The time of the frame, in System.nanoTime() units.
+     * @return The report of the previous frame if it was over budget, otherwise null.
+     */
+    public String frame(long now) {
+        long start = frameStart;
+        frameStart = now;
+        if (start == 0) {
+            return null;
+        }
+        long elapsed = now - start;
+        FRAME_NS.record(elapsed);
+        Capture seen = capture;
+        capture = null;
+        if (elapsed <= budgetNanos) {
+            return null;
+        }
+        SLOW_FRAMES.increment();
+        // A capture left over from an earlier frame says nothing about this one
+        return report(elapsed, seen != null && seen.frameStart == start ? seen : null);
+    }
+
+    /**
+     * Takes the watched thread's stack and the game state if the current frame has just gone
+     * over budget. Called periodically from the watch thread.
+     *
+     * @param now The current time, in System.nanoTime() units.
+     * @return true if a capture was taken by this call.
+     */
+    public boolean check(long now) {
+        long start = frameStart;
+        if (start == 0 || now - start <= budgetNanos) {
+            return false;
+        }
+        Capture seen = capture;
+        if (seen != null && seen.frameStart == start) {
+            // Only the first look is kept: it is the closest to where the frame started to run late
+            return false;
+        }
+        capture = new Capture(start, now - start, watched.getStackTrace(), describeState());
+        return true;
+    }
+
+    private String describeState() {
+        try {
+            return state.get();
+        } catch (RuntimeException e) {
+            // The state is read while the FX thread may be changing it
+            return "(could not read the game state: " + e + ")";
+        }
+    }
+
+    private String report(long elapsed, Capture seen) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "Slow frame: %.1f ms (budget %.1f ms), ended %s%n",
+                elapsed / 1e6, budgetNanos / 1e6, Instant.now()));
+        if (seen == null) {
+            // The frame ended before the watch thread looked at it
+            text.append("No stack was captured; the frame ended before the next check.").append(System.lineSeparator());
+            text.append(System.lineSeparator()).append("Game state at the end of the frame:").append(System.lineSeparator());
+            text.append(describeState()).append(System.lineSeparator());
+            return text.toString();
+        }
+        text.append(String.format(Locale.ROOT, "Stack of \"%s\" after %.1f ms:%n", watched.getName(), seen.elapsed / 1e6));
+        for (StackTraceElement element : seen.stack) {
+            text.append("    at ").append(element).append(System.lineSeparator());
+        }
+        text.append(System.lineSeparator()).append("Game state at the same moment:").append(System.lineSeparator());
+        text.append(seen.state).append(System.lineSeparator());
+        return text.toString();
+    }
+
+    /**
+     * Stops watching. Reports not yet written are dropped.
+     */
+    @Override
+    public synchronized void close() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
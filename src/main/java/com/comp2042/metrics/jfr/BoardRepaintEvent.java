@@ -0,0 +1,26 @@
+/*
+ * This JFR event covers redrawing the whole settled board (refreshGameBackground).
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.comp2042.BoardRepaint")
+@Label("Board Repaint")
+@Category({"TetrisJFX", "Rendering"})
+@Enabled(false)
+public class BoardRepaintEvent extends Event {
+
+    @Label("Cells Repainted")
+    @Description("How many cell rectangles were updated")
+    public int cellsRepainted;
+
+    @Label("Filled Cells")
+    @Description("How many of them hold a block")
+    public int filledCells;
+}
@@ -0,0 +1,92 @@
+/*
+ * This class starts a Java Flight Recorder recording that includes the game's own events, so a
+ * single file from a player's machine shows gravity ticks, locks, inputs and repaints next to
+ * the JVM's own GC, JIT and thread events.
+ *
+ * The settings are the JDK's "default" profile (low overhead, safe to leave on) with tetris.jfc
+ * layered on top to switch the game events on. Starting the game with -Dtetris.jfr=<file>
+ * records from startup and writes the file when the game exits.
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+public final class GameRecording {
+
+    /** The system property naming the file to record to. */
+    public static final String PROPERTY = "tetris.jfr";
+    /** The settings profile shipped with the game. */
+    public static final String SETTINGS = "/tetris.jfc";
+
+    private GameRecording() {
+    }
+
+    /**
+     * Retrieves the recording settings: the JDK's default profile plus the game's events.
+     *
+     * @return The settings, as event setting names to values.
+     * @throws IOException    If a profile cannot be read.
+     * @throws ParseException If a profile is malformed.
+     */
+    public static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        InputStream stream = GameRecording.class.getResourceAsStream(SETTINGS);
+        if (stream == null) {
+            throw new IOException(SETTINGS + " not found in resources");
+        }
+        try (Reader reader = new InputStreamReader(stream, StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+        return settings;
+    }
+
+    /**
+     * Starts recording to a file, which is written when the recording is stopped or the JVM exits.
+     *
+     * @param destination The .jfr file to write.
+     * @return The running recording.
+     * @throws IOException    If the settings cannot be read or the file cannot be created.
+     * @throws ParseException If a profile is malformed.
+     */
+    public static Recording start(Path destination) throws IOException, ParseException {
+        Recording recording = new Recording(settings());
+        recording.setName("TetrisJFX");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        recording.setDumpOnExit(true);
+        recording.start();
+        return recording;
+    }
+
+    /**
+     * Starts recording if the tetris.jfr system property names a file.
+     *
+     * @return The running recording, or null if the property is not set or recording failed.
+     */
+    public static Recording startFromProperty() {
+        String file = System.getProperty(PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            Recording recording = start(Path.of(file));
+            System.out.println("Recording flight data to " + file);
+            return recording;
+        } catch (IOException | ParseException | IllegalStateException e) {
+            // The game still runs, just without the recording
+            System.err.println("Could not start the flight recording: " + e.getMessage());
+            return null;
+        }
+    }
+}
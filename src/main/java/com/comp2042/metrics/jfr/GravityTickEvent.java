@@ -0,0 +1,28 @@
+/*
+ * This JFR event covers one gravity tick of the desktop game: moving the brick down, locking
+ * it if it landed, and redrawing. Like every event in this package it is disabled unless the
+ * recording uses tetris.jfc (see GameRecording), and costs next to nothing while disabled.
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"TetrisJFX", "Game Loop"})
+@Description("One tick of the game loop timeline, including any lock and redraw it caused")
+@Enabled(false)
+public class GravityTickEvent extends Event {
+
+    @Label("Locked")
+    @Description("Whether the brick landed and was locked on this tick")
+    public boolean locked;
+
+    @Label("Lines Removed")
+    public int linesRemoved;
+}
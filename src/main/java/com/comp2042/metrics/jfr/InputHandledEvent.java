@@ -0,0 +1,22 @@
+/*
+ * This JFR event covers handling one player move, from the key press to the redrawn brick.
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.comp2042.InputHandled")
+@Label("Input Handled")
+@Category({"TetrisJFX", "Input"})
+@Enabled(false)
+public class InputHandledEvent extends Event {
+
+    @Label("Event Type")
+    @Description("The move, as a com.comp2042.events.EventType name")
+    public String eventType;
+}
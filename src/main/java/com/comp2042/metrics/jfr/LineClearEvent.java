@@ -0,0 +1,23 @@
+/*
+ * This JFR event covers removing full rows from the board after a lock.
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.comp2042.LineClear")
+@Label("Line Clear")
+@Category({"TetrisJFX", "Game Loop"})
+@Enabled(false)
+public class LineClearEvent extends Event {
+
+    @Label("Lines Removed")
+    public int linesRemoved;
+
+    @Label("Score Bonus")
+    public int scoreBonus;
+}
@@ -0,0 +1,31 @@
+/*
+ * This JFR event covers locking a brick: merging it into the board, clearing rows, settling
+ * garbage and spawning the next brick.
+ */
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.comp2042.PieceLock")
+@Label("Piece Lock")
+@Category({"TetrisJFX", "Game Loop"})
+@Description("Merging a landed brick into the board and spawning the next one")
+@Enabled(false)
+public class PieceLockEvent extends Event {
+
+    @Label("Hard Drop")
+    @Description("Whether the brick was hard dropped rather than landing by gravity or soft drop")
+    public boolean hardDrop;
+
+    @Label("Lines Removed")
+    public int linesRemoved;
+
+    @Label("Game Over")
+    @Description("Whether the next brick could not spawn")
+    public boolean gameOver;
+}
@@ -2,6 +2,9 @@ package com.comp2042.model;
 
 public interface Board {
 
+    // Returned by placeBrick when the requested rotation/column cannot hold the brick
+    int PLACEMENT_INVALID = -1;
+
     boolean moveBrickDown();
 
     boolean moveBrickLeft();
@@ -16,6 +19,71 @@ public interface Board {
 
     void holdBrick();
 
+    /**
+     * Places the active brick directly at a target rotation and column, as if it were
+     * rotated, shifted and hard dropped from the top. The brick is locked into the
+     * background and any full rows are cleared in the same call.
+     * The next brick is not spawned; callers follow up with createNewBrick().
+     *
+     * @param rotation The rotation index of the active brick.
+     * @param column   The x-coordinate of the brick's 4x4 matrix (same as ViewData.getxPosition()).
+     * @return The number of lines cleared (0-4), or PLACEMENT_INVALID if the brick does not fit.
+     */
+    int placeBrick(int rotation, int column);
+
+    /**
+     * Retrieves the ID of the active brick without building a ViewData.
+     *
+     * @return The brick ID (1-7), matching BrickFactory and the colour values in the matrix.
+     */
+    int getCurrentBrickId();
+
+    /**
+     * Retrieves the ID of the held brick without building a ViewData.
+     *
+     * @return The brick ID (1-7), or 0 if the hold slot is empty.
+     */
+    int getHoldBrickId();
+
+    /**
+     * Retrieves the rotation index of the active brick without building a ViewData.
+     *
+     * @return The rotation index, matching BrickShapeTable's rotation order.
+     */
+    int getBrickRotation();
+
+    /**
+     * Retrieves the x-coordinate of the active brick without building a ViewData.
+     *
+     * @return The x-coordinate of the brick's 4x4 matrix (same as ViewData.getxPosition()).
+     */
+    int getBrickX();
+
+    /**
+     * Retrieves the y-coordinate of the active brick without building a ViewData.
+     *
+     * @return The y-coordinate of the brick's 4x4 matrix (same as ViewData.getyPosition()).
+     */
+    int getBrickY();
+
+    /**
+     * Retrieves the IDs of the upcoming bricks without building a ViewData.
+     *
+     * @param ids Receives the brick IDs (1-7), soonest first; its length is how many are read.
+     */
+    void getNextBrickIds(int[] ids);
+
+    /**
+     * Pushes garbage rows in from the bottom of the board, moving everything else up.
+     * Each garbage row is full except for one hole column. If the active brick now overlaps
+     * the stack it is moved up with it.
+     *
+     * @param count      The number of garbage rows to add.
+     * @param holeColumn The empty column of every added row.
+     * @return true if filled cells were pushed off the top or the active brick no longer fits (Game Over).
+     */
+    boolean addGarbageRows(int count, int holeColumn);
+
     int[][] getBoardMatrix();
 
     ViewData getViewData();
@@ -10,33 +10,65 @@ package com.comp2042.model;
 
 import com.comp2042.logic.bricks.Brick;
 
+import java.util.List;
+
 public class BrickRotator {
 
     private Brick brick;
+    // The brick's rotation states, copied once per brick so moves and rotations never copy them
+    private List<int[][]> shapes;
     // Tracks the current rotation index (0, 1, 2, 3)
     private int currentShape = 0;
 
     // Calculates what the Next rotation would look like without actually applying it.
     // This allows the board to check for collisions before committing to the move.
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
+        int nextShape = getNextPosition();
+        return new NextShapeInfo(shapes.get(nextShape), nextShape);
+    }
 
+    /**
+     * Retrieves the rotation index the brick would have after one more rotation.
+     * Unlike getNextShape(), this allocates nothing.
+     *
+     * @return The next rotation index, wrapping around to 0 after the last one.
+     */
+    public int getNextPosition() {
         // Cycle to the next shape index using modulo arithmetic.
         // If we are at the last shape, this wraps around to 0.
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
+        return (currentShape + 1) % shapes.size();
+    }
+
+    /**
+     * Retrieves the rotation index of the brick, matching BrickShapeTable's rotation order.
+     *
+     * @return The current rotation index.
+     */
+    public int getCurrentPosition() {
+        return currentShape;
+    }
 
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+    /**
+     * Retrieves the matrix of one rotation state of the brick. The matrix is shared with this
+     * rotator, so callers must treat it as read-only.
+     *
+     * @param position The rotation index.
+     * @return A 2D integer array representing that shape.
+     */
+    public int[][] getShape(int position) {
+        return shapes.get(position);
     }
 
 
 
     /**
      * Retrieves the matrix representation of the brick in its current rotation.
+     * The matrix is shared with this rotator, so callers must treat it as read-only.
      *
      * @return A 2D integer array representing the current shape.
      */
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return shapes.get(currentShape);
     }
 
     /**
@@ -57,6 +89,7 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.shapes = brick.getShapeMatrix();
         currentShape = 0;
     }
 }
\ No newline at end of file
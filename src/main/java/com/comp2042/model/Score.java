@@ -7,6 +7,13 @@
  * This allows the UI (GuiController) to "bind" to these values. When the score
  * changes here, the label on the screen updates automatically without needing
  * a manual refresh call.
+ *
+ * The starting level is either fixed per instance (hosted sessions, which each have their
+ * own settings) or read from GameConfig on every reset (the desktop game, where the menu
+ * may change it between games).
+ *
+ * The streak, combo and level rules are also exposed as static methods over plain ints, so
+ * simulations that keep their scores in arrays (LockstepEngine) apply exactly the same rules.
  */
 package com.comp2042.model;
 
@@ -14,13 +21,17 @@ import com.comp2042.GameConfig;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 
+import java.util.function.IntSupplier;
+
 public final class Score {
 
+    // Where the level comes from when a game starts or restarts
+    private final IntSupplier startLevel;
+
     // Properties that the UI can observe
     private final IntegerProperty score = new SimpleIntegerProperty(0);
 
-    // Initialize level based on the Start Menu selection using the getter method
-    private final IntegerProperty level = new SimpleIntegerProperty(GameConfig.getStartLevel());
+    private final IntegerProperty level;
 
     private final IntegerProperty linesCleared = new SimpleIntegerProperty(0);
 
@@ -29,7 +40,27 @@ public final class Score {
 
     // Scaling factor: Level up every 10 lines
     private static final int LINES_PER_LEVEL = 10;
+    // Consecutive lines needed for the 1.5x combo multiplier
+    private static final int COMBO_LINES = 5;
+
+    // Default constructor used by the desktop game: the level follows the Start Menu selection
+    public Score() {
+        this(GameConfig::getStartLevel);
+    }
+
+    /**
+     * Creates a score with its own fixed starting level, independent of GameConfig.
+     *
+     * @param startLevel The level the game starts (and restarts) at.
+     */
+    public Score(int startLevel) {
+        this(() -> startLevel);
+    }
 
+    private Score(IntSupplier startLevel) {
+        this.startLevel = startLevel;
+        this.level = new SimpleIntegerProperty(startLevel.getAsInt());
+    }
 
     /**
      * Retrieves the observable property for the current score.
@@ -75,33 +106,58 @@ public final class Score {
     public void addLines(int lines) {
         linesCleared.set(linesCleared.get() + lines);
 
-        // Logic: Calculate if the new line count crosses the threshold for the next level
-        if (linesCleared.get() / LINES_PER_LEVEL + 1 > level.get()) {
-            level.set(level.get() + 1);
-        }
+        level.set(levelAfter(level.get(), linesCleared.get()));
     }
 
     // Handles the logic for line clears, including the combo multiplier
     public void processLineClear(int lines, int scoreBonus) {
+        consecutiveLines = streakAfter(consecutiveLines, lines);
         if (lines > 0) {
-            consecutiveLines += lines;
-            // Applies a 1.5x multiplier if the user has cleared 5 or more lines consecutively
-            if (consecutiveLines >= 5) {
-                scoreBonus = (int) (scoreBonus * 1.5);
-            }
-            add(scoreBonus);
+            add(comboBonus(consecutiveLines, scoreBonus));
             addLines(lines);
-        } else {
-            // Resets the streak if a piece lands without clearing any lines
-            consecutiveLines = 0;
         }
     }
 
+    /**
+     * Works out the combo streak after a brick locks: cleared lines extend it, and a lock
+     * that clears nothing resets it.
+     *
+     * @param streak The lines cleared consecutively before this lock.
+     * @param lines  The lines cleared by this lock.
+     * @return The new streak.
+     */
+    public static int streakAfter(int streak, int lines) {
+        return lines > 0 ? streak + lines : 0;
+    }
+
+    /**
+     * Applies the combo multiplier: 1.5x once 5 or more lines have been cleared consecutively.
+     *
+     * @param streak     The streak including the current clear.
+     * @param scoreBonus The base bonus of the current clear.
+     * @return The points awarded.
+     */
+    public static int comboBonus(int streak, int scoreBonus) {
+        return streak >= COMBO_LINES ? (int) (scoreBonus * 1.5) : scoreBonus;
+    }
+
+    /**
+     * Works out the level after the line count has changed. The level goes up by at most one
+     * per call, once the line count crosses the threshold of the next level.
+     *
+     * @param level        The current level.
+     * @param linesCleared The total lines cleared, including the latest clear.
+     * @return The new level.
+     */
+    public static int levelAfter(int level, int linesCleared) {
+        return linesCleared / LINES_PER_LEVEL + 1 > level ? level + 1 : level;
+    }
+
     // Resets all stats to their starting values for a new game
     public void reset() {
         score.set(0);
-        // Ensure the level resets to the user's selected start level, not just 1
-        level.set(GameConfig.getStartLevel());
+        // Ensure the level resets to the selected start level, not just 1
+        level.set(startLevel.getAsInt());
         linesCleared.set(0);
         consecutiveLines = 0;
     }
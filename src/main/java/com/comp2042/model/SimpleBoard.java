@@ -9,12 +9,14 @@ package com.comp2042.model;
 
 import com.comp2042.GameConfig;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShapeTable;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import com.comp2042.MatrixOperations;
 
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class SimpleBoard implements Board {
@@ -34,6 +36,8 @@ public class SimpleBoard implements Board {
     // Variables for the active brick and the Hold Piece mechanic
     private Brick currentBrick;
     private Brick holdBrick;
+    // ID (1-7) of the active brick, cached at spawn so placeBrick never calls getShapeMatrix()
+    private int currentBrickId;
     // This flag prevents the user from swapping pieces infinitely in a single turn
     private boolean canHold = true;
 
@@ -48,10 +52,16 @@ public class SimpleBoard implements Board {
     // to be passed in. This ensures tests run with specific, predictable
     // bricks (e.g. only I-Bricks) rather than random ones.
     public SimpleBoard(int width, int height, BrickGenerator generator) {
+        this(width, height, generator, new Score());
+    }
+
+    // Constructor used by hosted sessions, which bring their own Score
+    // so that settings like the starting level are not shared between games.
+    public SimpleBoard(int width, int height, BrickGenerator generator, Score score) {
         matrix = new int[GameConfig.ROWS][GameConfig.COLS];
         this.gen = generator;
         this.rot = new BrickRotator();
-        this.score = new Score();
+        this.score = score;
     }
 
     // Helper to check if a brick is hitting a wall or another block
@@ -62,15 +72,12 @@ public class SimpleBoard implements Board {
 
     // Tries to move the brick by a specific amount (dx, dy).
     // If it hits something, it returns false and doesn't update the position.
+    // The check only reads the board, so a move allocates nothing.
     private boolean attemptMove(int dx, int dy) {
-        int[][] current = MatrixOperations.copy(matrix);
-        Point nextP = new Point(p);
-        nextP.translate(dx, dy);
-
-        if (!checkCollision(current, rot.getCurrentShape(), nextP.x, nextP.y)) {
+        if (!checkCollision(matrix, rot.getCurrentShape(), p.x + dx, p.y + dy)) {
             return false;
         }
-        p = nextP;
+        p.translate(dx, dy);
         return true;
     }
 
@@ -114,27 +121,27 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] board = MatrixOperations.copy(matrix);
-        NextShapeInfo info = rot.getNextShape();
-        int[][] rShape = info.getShape();
+        // Only reads the board and the rotator's shapes, so a rotation allocates nothing
+        int next = rot.getNextPosition();
+        int[][] rShape = rot.getShape(next);
         int x = p.x;
         int y = p.y;
 
         // Normal rotation check
-        if (checkCollision(board, rShape, x, y)) {
-            rot.setCurrentShape(info.getPosition());
+        if (checkCollision(matrix, rShape, x, y)) {
+            rot.setCurrentShape(next);
             return true;
         }
         // Wall Kick: Try moving left 1 space
-        if (checkCollision(board, rShape, x - 1, y)) {
+        if (checkCollision(matrix, rShape, x - 1, y)) {
             p.translate(-1, 0);
-            rot.setCurrentShape(info.getPosition());
+            rot.setCurrentShape(next);
             return true;
         }
         // Wall Kick: Try moving right 1 space
-        if (checkCollision(board, rShape, x + 1, y)) {
+        if (checkCollision(matrix, rShape, x + 1, y)) {
             p.translate(1, 0);
-            rot.setCurrentShape(info.getPosition());
+            rot.setCurrentShape(next);
             return true;
         }
         return false;
@@ -166,6 +173,7 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         // Get the next brick from the generator (Random or Stub)
         currentBrick = gen.getBrick();
+        currentBrickId = BrickShapeTable.idOf(currentBrick);
         rot.setBrick(currentBrick);
 
         // Reset spawn position to top center
@@ -193,6 +201,7 @@ public class SimpleBoard implements Board {
             Brick temp = holdBrick;
             holdBrick = currentBrick;
             currentBrick = temp;
+            currentBrickId = BrickShapeTable.idOf(currentBrick);
 
             // Set the swapped brick as active and reset position
             rot.setBrick(currentBrick);
@@ -203,6 +212,140 @@ public class SimpleBoard implements Board {
         canHold = false;
     }
 
+    /**
+     * Places the active brick at a target rotation and column in a single step.
+     * The landing row is computed from the surface of the columns the brick covers,
+     * the brick is written into the matrix, and full rows are removed in place by
+     * shifting row references, so no arrays or Points are created along the way.
+     *
+     * @param rotation The rotation index of the active brick.
+     * @param column   The x-coordinate of the brick's 4x4 matrix.
+     * @return The number of lines cleared (0-4), or PLACEMENT_INVALID if the brick does not fit.
+     */
+    @Override
+    public int placeBrick(int rotation, int column) {
+        int id = currentBrickId;
+        if (rotation < 0 || rotation >= BrickShapeTable.rotationCount(id)) {
+            return PLACEMENT_INVALID;
+        }
+        // Wall check: every filled column of the shape must land inside the board
+        int width = matrix[0].length;
+        if (column + BrickShapeTable.minColumn(id, rotation) < 0
+                || column + BrickShapeTable.maxColumn(id, rotation) >= width) {
+            return PLACEMENT_INVALID;
+        }
+
+        // The brick rests on whichever covered column it touches first
+        int y = Integer.MAX_VALUE;
+        for (int c = 0; c < BrickShapeTable.SHAPE_SIZE; c++) {
+            int bottom = BrickShapeTable.columnBottom(id, rotation, c);
+            if (bottom >= 0) {
+                y = Math.min(y, columnSurface(column + c) - 1 - bottom);
+            }
+        }
+        // The stack is too tall for the brick to enter this column from the spawn row
+        if (y < GameConfig.SPAWN_Y) {
+            return PLACEMENT_INVALID;
+        }
+
+        int[][] shape = BrickShapeTable.shape(id, rotation);
+        for (int r = 0; r < BrickShapeTable.SHAPE_SIZE; r++) {
+            int mask = BrickShapeTable.rowMask(id, rotation, r);
+            for (int c = 0; mask != 0; c++, mask >>>= 1) {
+                if ((mask & 1) != 0) {
+                    matrix[y + r][column + c] = shape[r][c];
+                }
+            }
+        }
+        return clearFullRowsInPlace(y, Math.min(y + BrickShapeTable.SHAPE_SIZE, matrix.length));
+    }
+
+    // Returns the row index of the highest filled cell in a column, or the board height if it is empty
+    private int columnSurface(int x) {
+        for (int row = 0; row < matrix.length; row++) {
+            if (matrix[row][x] != 0) {
+                return row;
+            }
+        }
+        return matrix.length;
+    }
+
+    // Reverses the order of the row references between 'from' (inclusive) and 'to' (exclusive)
+    private void reverseRows(int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            int[] row = matrix[i];
+            matrix[i] = matrix[j];
+            matrix[j] = row;
+        }
+    }
+
+    // Removes full rows between 'from' (inclusive) and 'to' (exclusive) without allocating.
+    // Each cleared row array is emptied and recycled as the new top row.
+    private int clearFullRowsInPlace(int from, int to) {
+        int cleared = 0;
+        for (int row = from; row < to; row++) {
+            int[] line = matrix[row];
+            boolean full = true;
+            for (int cell : line) {
+                if (cell == 0) {
+                    full = false;
+                    break;
+                }
+            }
+            if (full) {
+                Arrays.fill(line, 0);
+                System.arraycopy(matrix, 0, matrix, 1, row);
+                matrix[0] = line;
+                cleared++;
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom. The row array references are shifted up in
+     * place and the rows pushed off the top are reused as the new garbage rows, so unlike
+     * clearRows() no matrix is rebuilt and no row is allocated.
+     *
+     * @param count      The number of garbage rows to add.
+     * @param holeColumn The empty column of every added row.
+     * @return true if filled cells were pushed off the top or the active brick no longer fits.
+     */
+    @Override
+    public boolean addGarbageRows(int count, int holeColumn) {
+        int height = matrix.length;
+        count = Math.min(count, height);
+        if (count <= 0) {
+            return false;
+        }
+
+        boolean overflow = false;
+        for (int r = 0; r < count; r++) {
+            for (int cell : matrix[r]) {
+                overflow |= cell != 0;
+            }
+        }
+        // Rotate the row references up by count (three reversals), so the top rows wrap to the bottom
+        reverseRows(0, count);
+        reverseRows(count, height);
+        reverseRows(0, height);
+        for (int r = height - count; r < height; r++) {
+            Arrays.fill(matrix[r], GameConfig.GARBAGE_ID);
+            matrix[r][holeColumn] = 0;
+        }
+
+        // Lift the active brick out of the new stack, at most as far as the stack rose
+        // (and never above row 0, which intersect() does not guard against)
+        int lifted = 0;
+        while (p != null && lifted < count && p.y > 0
+                && MatrixOperations.intersect(matrix, rot.getCurrentShape(), p.x, p.y)) {
+            p = new Point(p.x, p.y - 1);
+            lifted++;
+        }
+        boolean stuck = p != null && MatrixOperations.intersect(matrix, rot.getCurrentShape(), p.x, p.y);
+        return overflow || stuck;
+    }
+
     // Locks the current brick into the static background matrix
     @Override
     public void mergeBrickToBackground() {
@@ -213,10 +356,90 @@ public class SimpleBoard implements Board {
     @Override
     public ClearRow clearRows() {
         ClearRow result = MatrixOperations.checkRemoving(matrix);
-        matrix = result.getNewMatrix();
+        // Without a full row the board is unchanged, so the copy can be skipped
+        if (result.getLinesRemoved() > 0) {
+            matrix = result.getNewMatrix();
+        }
         return result;
     }
 
+    /**
+     * Retrieves the ID of the active brick, cached when it was spawned or swapped in.
+     *
+     * @return The brick ID (1-7).
+     */
+    @Override
+    public int getCurrentBrickId() {
+        return currentBrickId;
+    }
+
+    /**
+     * Retrieves the ID of the held brick.
+     *
+     * @return The brick ID (1-7), or 0 if the hold slot is empty.
+     */
+    @Override
+    public int getHoldBrickId() {
+        return holdBrick == null ? 0 : BrickShapeTable.idOf(holdBrick);
+    }
+
+    /**
+     * Retrieves the rotation index of the active brick, as tracked by the rotator.
+     *
+     * @return The rotation index.
+     */
+    @Override
+    public int getBrickRotation() {
+        return rot.getCurrentPosition();
+    }
+
+    /**
+     * Retrieves the x-coordinate of the active brick.
+     *
+     * @return The x-coordinate of the brick's 4x4 matrix.
+     */
+    @Override
+    public int getBrickX() {
+        return p.x;
+    }
+
+    /**
+     * Retrieves the y-coordinate of the active brick.
+     *
+     * @return The y-coordinate of the brick's 4x4 matrix.
+     */
+    @Override
+    public int getBrickY() {
+        return p.y;
+    }
+
+    /**
+     * Retrieves the IDs of the upcoming bricks.
+     *
+     * @param ids Receives the brick IDs, soonest first.
+     */
+    @Override
+    public void getNextBrickIds(int[] ids) {
+        List<Brick> upcoming = gen.getNextBricks(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = BrickShapeTable.idOf(upcoming.get(i));
+        }
+    }
+
+    /**
+     * Puts the board back into a state saved between two bricks, such as a flight recorder
+     * snapshot. No brick is spawned; the caller follows up with createNewBrick(), which takes
+     * the falling brick from the generator.
+     *
+     * @param settled The settled board matrix to copy.
+     * @param holdId  The ID of the held brick, or 0 for an empty hold slot.
+     */
+    public void restore(int[][] settled, int holdId) {
+        matrix = MatrixOperations.copy(settled);
+        holdBrick = BrickFactory.createBrick(holdId);
+        canHold = true;
+    }
+
     /**
      * Retrieves the current state of the entire game board grid.
      *
@@ -236,12 +459,13 @@ public class SimpleBoard implements Board {
      */
     @Override
     public ViewData getViewData() {
-        // Get previews of the next 3 bricks
-        List<Brick> upcoming = gen.getNextBricks(3);
-        List<int[][]> shapes = new ArrayList<>();
+        // Get previews of the next few bricks
+        List<Brick> upcoming = gen.getNextBricks(GameConfig.PREVIEW_BRICKS);
+        int[][][] shapes = new int[upcoming.size()][][];
 
-        for (Brick b : upcoming) {
-            shapes.add(b.getShapeMatrix().get(0));
+        // The shared table shapes are never modified, so ViewData can keep them without copying
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = BrickShapeTable.shape(BrickShapeTable.idOf(upcoming.get(i)), 0);
         }
 
         // Calculate Ghost Piece position (shows where the block will land)
@@ -251,9 +475,10 @@ public class SimpleBoard implements Board {
         }
 
         // Get data for the held brick (if any) to show in the UI
-        int[][] holdData = (holdBrick != null) ? holdBrick.getShapeMatrix().get(0) : null;
+        int[][] holdData = (holdBrick != null) ? BrickShapeTable.shape(getHoldBrickId(), 0) : null;
 
-        return new ViewData(rot.getCurrentShape(), p.x, p.y, ghostY, shapes, holdData);
+        // The rotator's shapes are this brick's own copies and are never modified either
+        return ViewData.shared(rot.getCurrentShape(), p.x, p.y, ghostY, Arrays.asList(shapes), holdData);
     }
 
 
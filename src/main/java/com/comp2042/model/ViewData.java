@@ -7,6 +7,10 @@
  * It allows the Game Logic (Model) to pass data to the User Interface (View/Controller)
  * without exposing internal mutable state. This ensures thread safety and prevents
  * the UI from accidentally modifying the game logic's data structures.
+ *
+ * Boards build one of these on every keypress, so the board itself uses shared(), which keeps
+ * references to its read-only shape matrices instead of copying them. The getters copy in
+ * either case, so no receiver can reach the shared matrices.
  */
 package com.comp2042.model;
 
@@ -27,11 +31,23 @@ public final class ViewData {
     private final int[][] holdBrickData;
 
     public ViewData(int[][] brickData, int x, int y, int ghostY, List<int[][]> nextBricksData, int[][] holdBrickData) {
-        // Defensive Copying: Create a deep copy of the array to ensure immutability
-        this.brickData = MatrixOperations.copy(brickData);
+        this(brickData, x, y, ghostY, nextBricksData, holdBrickData, true);
+    }
+
+    private ViewData(int[][] brickData, int x, int y, int ghostY, List<int[][]> nextBricksData,
+                     int[][] holdBrickData, boolean copy) {
         this.xPosition = x;
         this.yPosition = y;
         this.ghostYPosition = ghostY;
+        if (!copy) {
+            this.brickData = brickData;
+            this.nextBricksData = nextBricksData;
+            this.holdBrickData = holdBrickData;
+            return;
+        }
+
+        // Defensive Copying: Create a deep copy of the array to ensure immutability
+        this.brickData = MatrixOperations.copy(brickData);
 
         // Copy hold data if it exists, otherwise set to null
         if (holdBrickData != null) {
@@ -47,6 +63,23 @@ public final class ViewData {
         }
     }
 
+    /**
+     * Creates view data that keeps the given matrices and list instead of copying them. Only for
+     * callers whose matrices are never modified, such as BrickShapeTable shapes.
+     *
+     * @param brickData      The active brick's shape.
+     * @param x              The active brick's x-coordinate.
+     * @param y              The active brick's y-coordinate.
+     * @param ghostY         The row the brick would land on.
+     * @param nextBricksData The shapes of the upcoming bricks; the list must not change either.
+     * @param holdBrickData  The held brick's shape, or null if nothing is held.
+     * @return The view data.
+     */
+    static ViewData shared(int[][] brickData, int x, int y, int ghostY, List<int[][]> nextBricksData,
+                           int[][] holdBrickData) {
+        return new ViewData(brickData, x, y, ghostY, nextBricksData, holdBrickData, false);
+    }
+
     public int[][] getBrickData() {
         // Return a copy so the receiver cannot mutate the original internal array
         return MatrixOperations.copy(brickData);
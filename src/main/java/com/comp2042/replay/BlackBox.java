@@ -0,0 +1,107 @@
+/*
+ * This class is the static front for the application's one FlightRecorder, the same way
+ * Metrics fronts the shared MetricsRegistry. The game records into it through recorder();
+ * dump() writes what it holds to the flight-recordings directory, which keeps the newest few.
+ *
+ * A dump is written when the player presses F9, when an exception reaches the top of any thread
+ * (install()), and where the game catches an error it cannot recover from. Nothing is written
+ * while nothing has been recorded, so tools and tests that never play a game leave no files.
+ */
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.metrics.FileRing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+public final class BlackBox {
+
+    // Sized for a minute of fast play: gravity at high levels plus several key presses a second
+    private static final int CAPACITY = 8192;
+    // An error that repeats every frame must not replace every earlier recording
+    private static final long ERROR_DUMP_GAP_MS = 10_000;
+
+    private static final FlightRecorder RECORDER = new FlightRecorder(CAPACITY,
+            GameConfig.FLIGHT_RECORDER_SECONDS / GameConfig.FLIGHT_SNAPSHOT_SECONDS + 4,
+            GameConfig.FLIGHT_RECORDER_SECONDS * 1000L, GameConfig.FLIGHT_SNAPSHOT_SECONDS * 1000L);
+    private static final FileRing FILES = new FileRing(Paths.get("flight-recordings"), "flight-", ".replay",
+            GameConfig.FLIGHT_RECORDINGS);
+
+    private static long lastErrorDump;
+
+    private BlackBox() {
+    }
+
+    /**
+     * Retrieves the shared recorder.
+     *
+     * @return The recorder the game writes to.
+     */
+    public static FlightRecorder recorder() {
+        return RECORDER;
+    }
+
+    /**
+     * Writes the recording to a new file.
+     *
+     * @param reason Why it is written, kept at the top of the file.
+     * @return The file written, or null if nothing has been recorded or the file could not be written.
+     */
+    public static Path dump(String reason) {
+        if (RECORDER.isEmpty()) {
+            return null;
+        }
+        try {
+            Path file = FILES.write(RECORDER.dump(reason));
+            System.err.println("Flight recording written to " + file.toAbsolutePath());
+            return file;
+        } catch (IOException e) {
+            System.err.println("Could not write a flight recording: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the recording to a new file because of an error, with the error's stack trace at the
+     * top of the file. Errors within a few seconds of the last dump for an error are not dumped.
+     *
+     * @param reason What failed.
+     * @param error  The error.
+     * @return The file written, or null if no file was written.
+     */
+    public static Path dump(String reason, Throwable error) {
+        synchronized (BlackBox.class) {
+            long now = System.currentTimeMillis();
+            if (now - lastErrorDump < ERROR_DUMP_GAP_MS) {
+                return null;
+            }
+            lastErrorDump = now;
+        }
+        StringWriter trace = new StringWriter();
+        error.printStackTrace(new PrintWriter(trace));
+        // Stack trace lines become comments, so the file still replays
+        return dump(reason + "\n# " + trace.toString().strip().replace("\n", "\n# "));
+    }
+
+    /**
+     * Makes every uncaught exception, on any thread, write a flight recording before it is
+     * reported as usual.
+     */
+    public static void install() {
+        Thread.UncaughtExceptionHandler previous = Thread.getDefaultUncaughtExceptionHandler();
+        Thread.setDefaultUncaughtExceptionHandler((thread, error) -> {
+            dump("uncaught exception in " + thread.getName(), error);
+            if (previous != null) {
+                previous.uncaughtException(thread, error);
+            } else {
+                // What the JVM does when there is no handler
+                System.err.print("Exception in thread \"" + thread.getName() + "\" ");
+                error.printStackTrace();
+            }
+        });
+    }
+}
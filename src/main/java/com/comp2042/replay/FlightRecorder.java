@@ -0,0 +1,249 @@
+/*
+ * This class keeps a rolling record of the last minute or so of play, so that when something
+ * goes wrong (an uncaught exception, or the player pressing the dump key) the moves that led
+ * to it can be written out and replayed with Replay.
+ *
+ * Four kinds of entries are recorded:
+ *   move     - a MoveEvent that reached the game (type and source)
+ *   spawn    - a brick drawn from the generator (its ID), so the random sequence can be replayed
+ *   garbage  - garbage rows pushed in by a versus opponent (count and hole column)
+ *   snapshot - the settled board, falling and held brick and score, taken every few seconds
+ *              right after a lock, and at the start of every game
+ *
+ * Entries live in fixed-size primitive arrays used as a ring, and snapshots are copied into
+ * preallocated slots, so recording never allocates; only writing a dump does. The oldest
+ * entries and snapshots are overwritten as play goes on.
+ */
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.model.Board;
+
+import java.time.Instant;
+
+public final class FlightRecorder {
+
+    static final byte MOVE = 1;
+    static final byte SPAWN = 2;
+    static final byte GARBAGE = 3;
+    static final byte SNAPSHOT = 4;
+
+    private static final EventType[] TYPES = EventType.values();
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    private final long origin = System.nanoTime();
+    private final long windowMs;
+    private final long snapshotIntervalMs;
+
+    // The entry ring: entry n is stored at index n & mask
+    private final int mask;
+    private final long[] times;
+    private final byte[] kinds;
+    private final int[] firsts;
+    private final int[] seconds;
+    private long written;
+
+    // The snapshot slots: snapshot n is stored in slot n % slots
+    private final int[][] boards;
+    private final long[] numbers;
+    private final boolean[] newGames;
+    private final int[] currents;
+    private final int[] holds;
+    private final int[] scores;
+    private long snapshots;
+    private long lastSnapshotMs;
+
+    /**
+     * Creates an empty recorder.
+     *
+     * @param capacity           The most entries kept; rounded up to a power of two.
+     * @param snapshotSlots      The most board snapshots kept.
+     * @param windowMs           How much recent play a dump should cover, in milliseconds.
+     * @param snapshotIntervalMs The time between two snapshots, in milliseconds.
+     */
+    public FlightRecorder(int capacity, int snapshotSlots, long windowMs, long snapshotIntervalMs) {
+        if (capacity < 1 || snapshotSlots < 1) {
+            throw new IllegalArgumentException("capacity and snapshotSlots must be at least 1");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.kinds = new byte[size];
+        this.firsts = new int[size];
+        this.seconds = new int[size];
+        this.boards = new int[snapshotSlots][GameConfig.ROWS * GameConfig.COLS];
+        this.numbers = new long[snapshotSlots];
+        this.newGames = new boolean[snapshotSlots];
+        this.currents = new int[snapshotSlots];
+        this.holds = new int[snapshotSlots];
+        this.scores = new int[snapshotSlots];
+        this.windowMs = windowMs;
+        this.snapshotIntervalMs = snapshotIntervalMs;
+    }
+
+    private long now() {
+        return (System.nanoTime() - origin) / 1_000_000;
+    }
+
+    private void add(byte kind, int first, int second) {
+        int index = (int) (written & mask);
+        times[index] = now();
+        kinds[index] = kind;
+        firsts[index] = first;
+        seconds[index] = second;
+        written++;
+    }
+
+    /**
+     * Records a move that reached the game.
+     *
+     * @param event The move.
+     */
+    public synchronized void move(MoveEvent event) {
+        add(MOVE, event.getEventType().ordinal(), event.getEventSource().ordinal());
+    }
+
+    /**
+     * Records a brick drawn from the generator.
+     *
+     * @param brickId The ID (1-7) of the brick.
+     */
+    public synchronized void spawn(int brickId) {
+        add(SPAWN, brickId, 0);
+    }
+
+    /**
+     * Records garbage rows pushed into the board.
+     *
+     * @param count      The number of rows.
+     * @param holeColumn The empty column of every row.
+     */
+    public synchronized void garbage(int count, int holeColumn) {
+        add(GARBAGE, count, holeColumn);
+    }
+
+    /**
+     * Checks whether the next lock should be followed by a snapshot.
+     *
+     * @return true if no snapshot was taken in the last snapshot interval.
+     */
+    public synchronized boolean isSnapshotDue() {
+        return snapshots == 0 || now() - lastSnapshotMs >= snapshotIntervalMs;
+    }
+
+    /**
+     * Copies the board into the next snapshot slot. Must be called between two bricks: at the
+     * start of a game, or after a lock once the next brick has spawned.
+     *
+     * @param board   The board.
+     * @param newGame true if the board was just reset for a new game.
+     */
+    public synchronized void snapshot(Board board, boolean newGame) {
+        int slot = (int) (snapshots % boards.length);
+        int[][] matrix = board.getBoardMatrix();
+        int[] copy = boards[slot];
+        for (int row = 0; row < GameConfig.ROWS; row++) {
+            System.arraycopy(matrix[row], 0, copy, row * GameConfig.COLS, GameConfig.COLS);
+        }
+        numbers[slot] = snapshots;
+        newGames[slot] = newGame;
+        currents[slot] = board.getCurrentBrickId();
+        holds[slot] = board.getHoldBrickId();
+        scores[slot] = board.getScore().scoreProperty().get();
+        add(SNAPSHOT, slot, (int) snapshots);
+        snapshots++;
+        lastSnapshotMs = now();
+    }
+
+    /**
+     * Checks whether anything has been recorded yet.
+     *
+     * @return true before the first entry.
+     */
+    public synchronized boolean isEmpty() {
+        return written == 0;
+    }
+
+    // Whether the snapshot an entry points at is still in its slot
+    private boolean isKept(int index) {
+        return (int) numbers[firsts[index]] == seconds[index];
+    }
+
+    /**
+     * Writes the recording as text, in the format Replay reads. It starts at the newest kept
+     * snapshot that is at least the window old (or the oldest kept one, if play has not run
+     * that long), since a replay has to start from a known board.
+     *
+     * @param reason Why the recording is written, e.g. "F9 pressed".
+     * @return The text of the recording.
+     */
+    public synchronized String dump(String reason) {
+        long first = Math.max(0, written - times.length);
+        long end = now();
+        long start = -1;
+        for (long n = first; n < written; n++) {
+            int index = (int) (n & mask);
+            if (kinds[index] != SNAPSHOT || !isKept(index)) {
+                continue;
+            }
+            if (start < 0 || times[index] <= end - windowMs) {
+                start = n;
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+        text.append("# TetrisJFX flight recording\n");
+        text.append("# reason: ").append(reason).append('\n');
+        text.append("# written: ").append(Instant.now()).append('\n');
+        text.append("# replay with: java com.comp2042.replay.Replay <this file>\n");
+        if (start < 0) {
+            text.append("# no board snapshot is left, so this recording cannot be replayed\n");
+            start = first;
+        }
+        for (long n = start; n < written; n++) {
+            int index = (int) (n & mask);
+            text.append(switch (kinds[index]) {
+                case MOVE -> "move";
+                case SPAWN -> "spawn";
+                case GARBAGE -> "garbage";
+                default -> "snapshot";
+            }).append(' ').append(times[index]);
+            switch (kinds[index]) {
+                case MOVE -> text.append(' ').append(TYPES[firsts[index]]).append(' ').append(SOURCES[seconds[index]]);
+                case SPAWN -> text.append(' ').append(firsts[index]);
+                case GARBAGE -> text.append(' ').append(firsts[index]).append(' ').append(seconds[index]);
+                default -> appendSnapshot(text, index);
+            }
+            text.append('\n');
+        }
+        text.append("end ").append(end).append('\n');
+        return text.toString();
+    }
+
+    private void appendSnapshot(StringBuilder text, int index) {
+        int slot = firsts[index];
+        if (!isKept(index)) {
+            // Overwritten since; only reachable when the recording cannot be replayed anyway
+            text.append(" lost");
+            return;
+        }
+        text.append(newGames[slot] ? " new" : " lock")
+                .append(" current=").append(currents[slot])
+                .append(" hold=").append(holds[slot])
+                .append(" score=").append(scores[slot]);
+        int[] cells = boards[slot];
+        for (int row = 0; row < GameConfig.ROWS; row++) {
+            text.append('\n');
+            for (int col = 0; col < GameConfig.COLS; col++) {
+                int cell = cells[row * GameConfig.COLS + col];
+                text.append(cell == 0 ? '.' : Character.forDigit(cell, Character.MAX_RADIX));
+            }
+        }
+    }
+}
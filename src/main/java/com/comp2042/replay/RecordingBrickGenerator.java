@@ -0,0 +1,46 @@
+/*
+ * This class wraps a brick generator and records every brick drawn from it in a
+ * FlightRecorder. The game's random sequence cannot be recreated from a seed, so the drawn
+ * bricks themselves are what makes a flight recording replayable.
+ */
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShapeTable;
+
+import java.util.List;
+
+public final class RecordingBrickGenerator implements BrickGenerator {
+
+    private final BrickGenerator generator;
+    private final FlightRecorder recorder;
+
+    /**
+     * Creates a recording wrapper.
+     *
+     * @param generator The generator that chooses the bricks.
+     * @param recorder  The recorder the drawn bricks are written to.
+     */
+    public RecordingBrickGenerator(BrickGenerator generator, FlightRecorder recorder) {
+        this.generator = generator;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = generator.getBrick();
+        recorder.spawn(BrickShapeTable.idOf(brick));
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return generator.getNextBrick();
+    }
+
+    @Override
+    public List<Brick> getNextBricks(int count) {
+        return generator.getNextBricks(count);
+    }
+}
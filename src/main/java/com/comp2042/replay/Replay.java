@@ -0,0 +1,297 @@
+/*
+ * This class replays a flight recording written by FlightRecorder, so the moves that led to a
+ * crash can be stepped through again without the user interface.
+ *
+ * The replay starts from the first snapshot in the file: the settled board and held brick are
+ * restored into a SimpleBoard whose generator hands out the recorded bricks in order, and a
+ * HeadlessGameController applies every recorded move and garbage push. Every later snapshot
+ * is compared with the replayed board, so a replay that drifts from what was played is
+ * reported rather than silently trusted. A "new" snapshot starts the replay over, since the
+ * player started a new game there.
+ *
+ * Usage: Replay <file>
+ */
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class Replay {
+
+    // One line of a recording, with the board rows that follow a snapshot
+    private static final class Entry {
+        private final String[] fields;
+        private final int[][] matrix;
+
+        private Entry(String[] fields, int[][] matrix) {
+            this.fields = fields;
+            this.matrix = matrix;
+        }
+
+        private String kind() {
+            return fields[0];
+        }
+
+        private int number(String name) {
+            for (String field : fields) {
+                if (field.startsWith(name + "=")) {
+                    return Integer.parseInt(field.substring(name.length() + 1));
+                }
+            }
+            throw new IllegalArgumentException("Snapshot without " + name + ": " + String.join(" ", fields));
+        }
+    }
+
+    // Hands out the recorded bricks in the order they were drawn
+    private static final class RecordedBricks implements BrickGenerator {
+        private final List<Integer> ids;
+        private int next;
+
+        private RecordedBricks(List<Integer> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Brick getBrick() {
+            if (next >= ids.size()) {
+                throw new IllegalStateException("The recording has no more bricks after " + next);
+            }
+            return BrickFactory.createBrick(ids.get(next++));
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return next < ids.size() ? BrickFactory.createBrick(ids.get(next)) : null;
+        }
+
+        @Override
+        public List<Brick> getNextBricks(int count) {
+            // Only the previews use this; past the end of the recording any brick will do
+            List<Brick> bricks = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                bricks.add(next + i < ids.size() ? BrickFactory.createBrick(ids.get(next + i)) : new IBrick());
+            }
+            return bricks;
+        }
+    }
+
+    /**
+     * The outcome of a replay.
+     */
+    public static final class Result {
+        private Board board;
+        private int moves;
+        private int games;
+        private int checks;
+        private final List<String> mismatches = new ArrayList<>();
+
+        /**
+         * Retrieves the board as it was at the end of the replay.
+         *
+         * @return The replayed board.
+         */
+        public Board getBoard() {
+            return board;
+        }
+
+        /**
+         * Counts the moves applied.
+         *
+         * @return The number of recorded moves replayed.
+         */
+        public int getMoves() {
+            return moves;
+        }
+
+        /**
+         * Counts the games the recording covers (a new game starts the replay over).
+         *
+         * @return The number of games replayed.
+         */
+        public int getGames() {
+            return games;
+        }
+
+        /**
+         * Counts the snapshots the replayed board was compared with.
+         *
+         * @return The number of checks made.
+         */
+        public int getChecks() {
+            return checks;
+        }
+
+        /**
+         * Retrieves the snapshots the replay did not match.
+         *
+         * @return One description per mismatch; empty if the replay matched the recording.
+         */
+        public List<String> getMismatches() {
+            return mismatches;
+        }
+    }
+
+    private Replay() {
+    }
+
+    /**
+     * Replays a recording file.
+     *
+     * @param file The file written by FlightRecorder.
+     * @return The outcome.
+     * @throws IOException If the file cannot be read.
+     */
+    public static Result play(Path file) throws IOException {
+        return play(Files.readAllLines(file));
+    }
+
+    /**
+     * Replays the lines of a recording.
+     *
+     * @param lines The recording, as written by FlightRecorder.dump().
+     * @return The outcome.
+     * @throws IllegalArgumentException If the recording has no snapshot to start from.
+     */
+    public static Result play(List<String> lines) {
+        List<Entry> entries = parse(lines);
+        Result result = new Result();
+        HeadlessGameController game = null;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            switch (entry.kind()) {
+                case "snapshot" -> {
+                    if (game == null || entry.fields[2].equals("new")) {
+                        game = start(entries, i);
+                        result.games++;
+                    } else {
+                        check(result, game.getBoard(), entry);
+                    }
+                }
+                case "move" -> {
+                    if (game != null) {
+                        apply(game, new MoveEvent(EventType.valueOf(entry.fields[2]), EventSource.valueOf(entry.fields[3])));
+                        result.moves++;
+                    }
+                }
+                case "garbage" -> {
+                    if (game != null) {
+                        game.receiveGarbage(Integer.parseInt(entry.fields[2]), Integer.parseInt(entry.fields[3]));
+                    }
+                }
+                default -> {
+                    // Spawns are handed out by the generator; "end" only marks the time of the dump
+                }
+            }
+        }
+        if (game == null) {
+            throw new IllegalArgumentException("The recording has no snapshot to start a replay from");
+        }
+        result.board = game.getBoard();
+        return result;
+    }
+
+    // Restores the board of the snapshot at index, with the bricks drawn until the next new game
+    private static HeadlessGameController start(List<Entry> entries, int index) {
+        Entry snapshot = entries.get(index);
+        List<Integer> bricks = new ArrayList<>();
+        bricks.add(snapshot.number("current"));
+        for (int i = index + 1; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            if (entry.kind().equals("snapshot") && entry.fields[2].equals("new")) {
+                break;
+            }
+            if (entry.kind().equals("spawn")) {
+                bricks.add(Integer.parseInt(entry.fields[2]));
+            }
+        }
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new RecordedBricks(bricks));
+        board.restore(snapshot.matrix, snapshot.number("hold"));
+        // The controller spawns the snapshot's falling brick, the first one handed out
+        return new HeadlessGameController(board);
+    }
+
+    private static void apply(HeadlessGameController game, MoveEvent event) {
+        switch (event.getEventType()) {
+            case DOWN -> game.onDownEvent(event);
+            case HARD_DROP -> game.onHardDropEvent(event);
+            case LEFT -> game.onLeftEvent(event);
+            case RIGHT -> game.onRightEvent(event);
+            case ROTATE -> game.onRotateEvent(event);
+            case HOLD -> game.onHoldEvent(event);
+        }
+    }
+
+    private static void check(Result result, Board board, Entry snapshot) {
+        result.checks++;
+        String at = "snapshot at " + snapshot.fields[1] + " ms";
+        if (!Arrays.deepEquals(board.getBoardMatrix(), snapshot.matrix)) {
+            result.mismatches.add(at + ": the board differs");
+        } else if (board.getCurrentBrickId() != snapshot.number("current")) {
+            result.mismatches.add(at + ": the falling brick differs");
+        } else if (board.getHoldBrickId() != snapshot.number("hold")) {
+            result.mismatches.add(at + ": the held brick differs");
+        }
+    }
+
+    private static List<Entry> parse(List<String> lines) {
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split(" ");
+            int[][] matrix = null;
+            if (fields[0].equals("snapshot") && !fields[2].equals("lost")) {
+                matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+                for (int row = 0; row < GameConfig.ROWS; row++) {
+                    String cells = lines.get(++i);
+                    for (int col = 0; col < GameConfig.COLS; col++) {
+                        char cell = cells.charAt(col);
+                        matrix[row][col] = cell == '.' ? 0 : Character.digit(cell, Character.MAX_RADIX);
+                    }
+                }
+            } else if (fields[0].equals("snapshot")) {
+                continue;
+            }
+            entries.add(new Entry(fields, matrix));
+        }
+        return entries;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: Replay <file>");
+            return;
+        }
+        Result result = play(Path.of(args[0]));
+        System.out.printf("%d games, %d moves replayed, %d of %d snapshots matched%n", result.getGames(),
+                result.getMoves(), result.getChecks() - result.getMismatches().size(), result.getChecks());
+        result.getMismatches().forEach(System.out::println);
+        System.out.println("Final board:");
+        int[][] matrix = result.getBoard().getBoardMatrix();
+        for (int row = GameConfig.VISIBLE_ROW_OFFSET; row < matrix.length; row++) {
+            StringBuilder line = new StringBuilder();
+            for (int cell : matrix[row]) {
+                line.append(cell == 0 ? '.' : Character.forDigit(cell, Character.MAX_RADIX));
+            }
+            System.out.println(line);
+        }
+    }
+}
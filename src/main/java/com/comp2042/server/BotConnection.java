@@ -0,0 +1,258 @@
+/*
+ * This class is one client connection of a BotServer, and the game that client plays.
+ *
+ * Commands are read straight into a direct buffer and answered by encoding state frames
+ * straight into another, so no byte arrays sit between the socket and the game. When the
+ * client stops reading, frames pile up in the output buffer; once it is full the connection
+ * stops processing (and then reading) commands until the socket drains, so a slow client
+ * only ever holds its own two buffers.
+ *
+ * Connections are only touched by their ServerLoop's thread.
+ */
+package com.comp2042.server;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.MoveGenerator;
+import com.comp2042.logic.ai.Placement;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+final class BotConnection {
+
+    // One shared event per type, all from the USER source like keyboard input
+    private static final MoveEvent[] USER_EVENTS = new MoveEvent[EventType.values().length];
+
+    static {
+        for (EventType type : EventType.values()) {
+            USER_EVENTS[type.ordinal()] = new MoveEvent(type, EventSource.USER);
+        }
+    }
+
+    private final ServerLoop loop;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteBuffer in;
+    private final ByteBuffer out;
+    // The upcoming brick IDs of the frame being written
+    private final int[] queue = new int[Math.min(GameConfig.PREVIEW_BRICKS, BotProtocol.MAX_QUEUE)];
+
+    private HeadlessGameController game;
+    private int sequence;
+    private boolean closed;
+
+    BotConnection(ServerLoop loop, SocketChannel channel, SelectionKey key, ByteBuffer in, ByteBuffer out) {
+        this.loop = loop;
+        this.channel = channel;
+        this.key = key;
+        this.in = in;
+        this.out = out;
+    }
+
+    // Reads what the socket has, then answers as many commands as the output buffer allows
+    void onReadable() throws IOException {
+        if (channel.read(in) < 0) {
+            close();
+            return;
+        }
+        process();
+    }
+
+    void onWritable() throws IOException {
+        process();
+    }
+
+    private void process() throws IOException {
+        while (true) {
+            int handled = 0;
+            in.flip();
+            while (in.remaining() >= BotProtocol.COMMAND_SIZE && out.remaining() >= BotProtocol.FRAME_SIZE) {
+                if (!handle()) {
+                    close();
+                    return;
+                }
+                handled++;
+            }
+            in.compact();
+
+            out.flip();
+            channel.write(out);
+            out.compact();
+
+            // Keep going only if the socket took everything and more commands are waiting
+            if (handled == 0 || out.position() > 0 || in.position() < BotProtocol.COMMAND_SIZE) {
+                break;
+            }
+        }
+
+        int ops = 0;
+        if (out.position() > 0) {
+            ops |= SelectionKey.OP_WRITE;
+        }
+        if (in.hasRemaining()) {
+            ops |= SelectionKey.OP_READ;
+        }
+        key.interestOps(ops);
+    }
+
+    // Applies one command and writes its frame; false means a protocol error
+    private boolean handle() {
+        byte opcode = in.get();
+        int a = in.get();
+        int b = in.get();
+        int c = in.get();
+        int value = in.getInt();
+        sequence++;
+
+        boolean rejected = false;
+        int linesBefore = game == null ? 0 : game.getBoard().getScore().linesClearedProperty().get();
+        switch (opcode) {
+            case BotProtocol.OP_STATE -> { }
+            case BotProtocol.OP_NEW_GAME -> newGame(a & 0xFF, value);
+            case BotProtocol.OP_INPUT -> rejected = !input(a & 0xFF);
+            case BotProtocol.OP_PLACE -> rejected = !place(a, b, c, (value & BotProtocol.PLACE_HOLD_FIRST) != 0);
+            default -> {
+                return false;
+            }
+        }
+        writeFrame(rejected, linesBefore);
+        return true;
+    }
+
+    private void newGame(int level, int seed) {
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS,
+                new SeededBrickGenerator(seed), new Score(Math.max(1, level)));
+        game = new HeadlessGameController(board);
+    }
+
+    private boolean input(int ordinal) {
+        if (game == null || game.isGameOver() || ordinal >= USER_EVENTS.length) {
+            return false;
+        }
+        MoveEvent event = USER_EVENTS[ordinal];
+        switch (event.getEventType()) {
+            case DOWN -> game.onDownEvent(event);
+            case LEFT -> game.onLeftEvent(event);
+            case RIGHT -> game.onRightEvent(event);
+            case ROTATE -> game.onRotateEvent(event);
+            case HARD_DROP -> game.onHardDropEvent(event);
+            case HOLD -> game.onHoldEvent(event);
+        }
+        return true;
+    }
+
+    // Finds the placement among those the brick can reach and plays the inputs that lead there
+    private boolean place(int rotation, int x, int y, boolean holdFirst) {
+        if (game == null || game.isGameOver()) {
+            return false;
+        }
+        if (holdFirst) {
+            game.onHoldEvent(USER_EVENTS[EventType.HOLD.ordinal()]);
+            if (game.isGameOver()) {
+                return false;
+            }
+        }
+
+        Board model = game.getBoard();
+        BitBoard board = loop.scratchBoard();
+        MoveGenerator generator = loop.generator();
+        board.load(model.getBoardMatrix());
+        int count = generator.generate(board, model.getCurrentBrickId(), model.getBrickX(), model.getBrickY(),
+                model.getBrickRotation());
+
+        // With DROP_Y, the straight drop is the highest resting spot for that rotation and column
+        int match = -1;
+        for (int i = 0; i < count; i++) {
+            int p = generator.placement(i);
+            if (Placement.rotation(p) == rotation && Placement.x(p) == x
+                    && (y == BotProtocol.DROP_Y ? match < 0 || Placement.y(p) < Placement.y(generator.placement(match))
+                    : Placement.y(p) == y)) {
+                match = i;
+            }
+        }
+        if (match < 0) {
+            return false;
+        }
+
+        EventType[] path = loop.path();
+        int length = generator.path(match, path);
+        for (int i = 0; i < length; i++) {
+            input(path[i].ordinal());
+        }
+        return true;
+    }
+
+    private void writeFrame(boolean rejected, int linesBefore) {
+        int start = out.position();
+        out.put(start + BotProtocol.OFFSET_TYPE, BotProtocol.FRAME_STATE);
+        for (int i = 1; i < BotProtocol.FRAME_SIZE; i++) {
+            out.put(start + i, (byte) 0);
+        }
+        int flags = rejected ? BotProtocol.FLAG_REJECTED : 0;
+        out.putInt(start + BotProtocol.OFFSET_SEQUENCE, sequence);
+        if (game == null) {
+            out.put(start + BotProtocol.OFFSET_FLAGS, (byte) (flags | BotProtocol.FLAG_NO_GAME));
+            out.position(start + BotProtocol.FRAME_SIZE);
+            return;
+        }
+        if (game.isGameOver()) {
+            flags |= BotProtocol.FLAG_GAME_OVER;
+        }
+
+        Board model = game.getBoard();
+        Score score = model.getScore();
+        int lines = score.linesClearedProperty().get();
+        out.put(start + BotProtocol.OFFSET_FLAGS, (byte) flags);
+        out.put(start + BotProtocol.OFFSET_PIECE, (byte) model.getCurrentBrickId());
+        out.put(start + BotProtocol.OFFSET_ROTATION, (byte) model.getBrickRotation());
+        out.put(start + BotProtocol.OFFSET_X, (byte) model.getBrickX());
+        out.put(start + BotProtocol.OFFSET_Y, (byte) model.getBrickY());
+        out.put(start + BotProtocol.OFFSET_HOLD, (byte) model.getHoldBrickId());
+        model.getNextBrickIds(queue);
+        out.put(start + BotProtocol.OFFSET_QUEUE_LENGTH, (byte) queue.length);
+        for (int i = 0; i < queue.length; i++) {
+            out.put(start + BotProtocol.OFFSET_QUEUE + i, (byte) queue[i]);
+        }
+        out.put(start + BotProtocol.OFFSET_LEVEL, (byte) Math.min(255, score.levelProperty().get()));
+        out.put(start + BotProtocol.OFFSET_LINES_CLEARED, (byte) (lines - linesBefore));
+        out.putInt(start + BotProtocol.OFFSET_SCORE, score.scoreProperty().get());
+        out.putInt(start + BotProtocol.OFFSET_TOTAL_LINES, lines);
+
+        int[][] matrix = model.getBoardMatrix();
+        for (int r = 0; r < matrix.length; r++) {
+            int mask = 0;
+            for (int col = 0; col < matrix[r].length; col++) {
+                if (matrix[r][col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            out.putShort(start + BotProtocol.OFFSET_ROWS + r * Short.BYTES, (short) mask);
+        }
+        out.position(start + BotProtocol.FRAME_SIZE);
+    }
+
+    void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The connection is going away either way
+        }
+        loop.release(this, in, out);
+    }
+}
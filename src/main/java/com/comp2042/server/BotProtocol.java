@@ -0,0 +1,97 @@
+/*
+ * This class defines the binary protocol spoken by BotServer.
+ *
+ * Everything is fixed-size and big-endian, so a client never has to parse lengths:
+ *
+ * Commands (client to server) are COMMAND_SIZE bytes:
+ *   [opcode u8][a u8][b u8][c u8][value i32]
+ *   OP_STATE     -                                      just returns the current state
+ *   OP_NEW_GAME  a = start level, value = brick seed   starts (or restarts) the game
+ *   OP_INPUT     a = EventType ordinal                  one player input, as from the keyboard
+ *   OP_PLACE     a = rotation, b = x (signed),          moves the active brick to a reachable
+ *                c = y (signed, -1 = straight drop),    placement and locks it; value bit 0
+ *                value = flags                          holds first
+ *
+ * A placement the brick cannot reach is answered with FLAG_REJECTED and leaves the brick
+ * where it was (a requested hold has still happened).
+ *
+ * Every command is answered with one state frame (server to client) of FRAME_SIZE bytes,
+ * laid out at the OFFSET_ constants below. Rows are bitmasks with bit c set when column c
+ * is filled, top row first. Commands may be pipelined; frames come back in the same order.
+ * An unknown opcode closes the connection.
+ */
+package com.comp2042.server;
+
+import java.nio.ByteBuffer;
+
+public final class BotProtocol {
+
+    public static final int COMMAND_SIZE = 8;
+    public static final int FRAME_SIZE = 80;
+
+    // Opcodes
+    public static final byte OP_STATE = 0;
+    public static final byte OP_NEW_GAME = 1;
+    public static final byte OP_INPUT = 2;
+    public static final byte OP_PLACE = 3;
+
+    // OP_PLACE value flags
+    public static final int PLACE_HOLD_FIRST = 1;
+    // OP_PLACE y meaning "wherever a straight drop lands"
+    public static final int DROP_Y = -1;
+
+    // Frame types
+    public static final byte FRAME_STATE = 1;
+
+    // Frame flags
+    public static final int FLAG_GAME_OVER = 1;
+    public static final int FLAG_REJECTED = 2;
+    public static final int FLAG_NO_GAME = 4;
+
+    // Frame layout
+    public static final int OFFSET_TYPE = 0;
+    public static final int OFFSET_FLAGS = 1;
+    public static final int OFFSET_PIECE = 2;
+    public static final int OFFSET_ROTATION = 3;
+    public static final int OFFSET_X = 4;
+    public static final int OFFSET_Y = 5;
+    public static final int OFFSET_HOLD = 6;
+    public static final int OFFSET_QUEUE_LENGTH = 7;
+    public static final int OFFSET_QUEUE = 8;
+    public static final int MAX_QUEUE = 5;
+    public static final int OFFSET_LEVEL = 13;
+    public static final int OFFSET_LINES_CLEARED = 14;
+    public static final int OFFSET_SCORE = 16;
+    public static final int OFFSET_TOTAL_LINES = 20;
+    public static final int OFFSET_SEQUENCE = 24;
+    public static final int OFFSET_ROWS = 28;
+
+    // Private constructor prevents instantiation of this constants class
+    private BotProtocol() {}
+
+    /**
+     * Writes one command at the buffer's position.
+     *
+     * @param buffer The buffer to write into; must have COMMAND_SIZE bytes remaining.
+     * @param opcode One of the OP_ constants.
+     * @param a      The first argument byte.
+     * @param b      The second argument byte.
+     * @param c      The third argument byte.
+     * @param value  The integer argument.
+     */
+    public static void putCommand(ByteBuffer buffer, byte opcode, int a, int b, int c, int value) {
+        buffer.put(opcode).put((byte) a).put((byte) b).put((byte) c).putInt(value);
+    }
+
+    /**
+     * Reads one row bitmask from a frame.
+     *
+     * @param frame The buffer holding the frame.
+     * @param start The index of the frame's first byte.
+     * @param row   The row index, 0 being the top.
+     * @return The row's bitmask.
+     */
+    public static int row(ByteBuffer frame, int start, int row) {
+        return frame.getShort(start + OFFSET_ROWS + row * Short.BYTES) & 0xFFFF;
+    }
+}
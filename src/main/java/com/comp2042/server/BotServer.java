@@ -0,0 +1,130 @@
+/*
+ * This class serves the game to external bot processes over TCP.
+ *
+ * Each connection plays its own game (a HeadlessGameController on a seeded SimpleBoard) by
+ * exchanging the fixed-size commands and state frames described in BotProtocol; nothing goes
+ * through GuiController or the FX thread. Connections are spread over a few Selector-driven
+ * event loops (one per core by default) and are never given a thread of their own, so
+ * thousands of bots can be connected at once.
+ *
+ * Usage: BotServer [port] [loops]
+ */
+package com.comp2042.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BotServer implements AutoCloseable {
+
+    // Default port for the command-line entry point
+    public static final int DEFAULT_PORT = 7420;
+    // Pending connections the OS may queue while the accepting loop is busy
+    private static final int BACKLOG = 4096;
+
+    private final ServerSocketChannel serverChannel;
+    private final ServerLoop[] loops;
+    private final Thread[] threads;
+    private final AtomicInteger connections = new AtomicInteger();
+    // Round-robin cursor; only touched by the accepting loop's thread
+    private int nextLoop;
+    private volatile boolean running = true;
+
+    /**
+     * Binds the server socket and starts the event loops.
+     *
+     * @param address   The address to listen on (port 0 picks a free port).
+     * @param loopCount The number of event loop threads.
+     * @throws IOException If the socket cannot be bound.
+     */
+    public BotServer(InetSocketAddress address, int loopCount) throws IOException {
+        if (loopCount < 1) {
+            throw new IllegalArgumentException("Loop count must be positive");
+        }
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address, BACKLOG);
+
+        loops = new ServerLoop[loopCount];
+        threads = new Thread[loopCount];
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new ServerLoop(this);
+            threads[i] = new Thread(loops[i], "bot-server-" + i);
+            threads[i].setDaemon(true);
+        }
+        loops[0].listen(serverChannel);
+        for (Thread thread : threads) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Retrieves the port the server is listening on.
+     *
+     * @return The local port.
+     * @throws IOException If the socket has been closed.
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Counts the currently open client connections.
+     *
+     * @return The number of connections.
+     */
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    // Called by the accepting loop for each new connection; the connection is only counted
+    // once it is set up, so a channel that fails here is simply closed by the caller
+    void dispatch(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+        // Frames are small and latency matters more than packet count
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        connections.incrementAndGet();
+        loops[nextLoop].adopt(channel);
+        nextLoop = (nextLoop + 1) % loops.length;
+    }
+
+    void connectionClosed() {
+        connections.decrementAndGet();
+    }
+
+    boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the event loops, closing every connection, and releases the port.
+     */
+    @Override
+    public void close() throws IOException {
+        running = false;
+        for (ServerLoop loop : loops) {
+            loop.wakeup();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        serverChannel.close();
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int loopCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        BotServer server = new BotServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), loopCount);
+        System.out.println("Bot server listening on port " + server.getPort() + " with " + loopCount + " loops");
+        Thread.currentThread().join();
+    }
+}
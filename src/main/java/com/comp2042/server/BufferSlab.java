@@ -0,0 +1,38 @@
+/*
+ * This class hands out equal-sized slices of large direct ByteBuffers.
+ *
+ * Allocating a direct buffer per connection is slow and scatters small native allocations;
+ * a slab allocates them a few hundred at a time and recycles slices when connections close.
+ * It belongs to one ServerLoop and is only used from that loop's thread.
+ */
+package com.comp2042.server;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+
+final class BufferSlab {
+
+    private final int sliceSize;
+    private final int slicesPerChunk;
+    private final ArrayDeque<ByteBuffer> free = new ArrayDeque<>();
+
+    BufferSlab(int sliceSize, int slicesPerChunk) {
+        this.sliceSize = sliceSize;
+        this.slicesPerChunk = slicesPerChunk;
+    }
+
+    // Returns an empty slice, allocating another chunk if none are free
+    ByteBuffer acquire() {
+        if (free.isEmpty()) {
+            ByteBuffer chunk = ByteBuffer.allocateDirect(sliceSize * slicesPerChunk);
+            for (int i = 0; i < slicesPerChunk; i++) {
+                free.push(chunk.slice(i * sliceSize, sliceSize));
+            }
+        }
+        return free.pop().clear();
+    }
+
+    void release(ByteBuffer slice) {
+        free.push(slice);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * This class is one of a BotServer's event loops: a thread running a Selector over its share
+ * of the connections. The first loop also owns the listening socket and deals accepted
+ * connections out to all loops in turn.
+ *
+ * Everything a connection needs while handling a command (its buffers, the move generator and
+ * scratch board used by OP_PLACE) comes from its loop, so loops share nothing but the server's
+ * connection count, and thousands of connections cost two buffer slices each.
+ */
+package com.comp2042.server;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.MoveGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+final class ServerLoop implements Runnable {
+
+    // Each connection gets one slice for commands and one for frames
+    private static final int BUFFER_SIZE = 1024;
+    private static final int SLICES_PER_CHUNK = 256;
+
+    private final BotServer server;
+    private final Selector selector;
+    private final ConcurrentLinkedQueue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+    private final BufferSlab slab = new BufferSlab(BUFFER_SIZE, SLICES_PER_CHUNK);
+    private final MoveGenerator generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+    private final BitBoard scratchBoard = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+    private final EventType[] path = new EventType[generator.maxPathLength()];
+    private ServerSocketChannel acceptor;
+    // Set once the loop has stopped, so a connection adopted afterwards is closed by its adopter
+    private volatile boolean stopped;
+
+    ServerLoop(BotServer server) throws IOException {
+        this.server = server;
+        this.selector = Selector.open();
+    }
+
+    // Makes this loop the one that accepts new connections
+    void listen(ServerSocketChannel channel) throws IOException {
+        acceptor = channel;
+        channel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    // Hands a connection to this loop; safe to call from any thread
+    void adopt(SocketChannel channel) {
+        pending.add(channel);
+        if (stopped) {
+            closePending();
+            return;
+        }
+        selector.wakeup();
+    }
+
+    void wakeup() {
+        selector.wakeup();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (server.isRunning()) {
+                selector.select();
+                registerPending();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isAcceptable()) {
+                        accept();
+                    } else {
+                        dispatch(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            stopped = true;
+            closePending();
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof BotConnection connection) {
+                    connection.close();
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // Shutting down anyway
+            }
+        }
+    }
+
+    // A failure here only loses the one connection: this loop also serves its share of clients
+    private void accept() {
+        while (true) {
+            SocketChannel channel;
+            try {
+                channel = acceptor.accept();
+            } catch (IOException e) {
+                // E.g. out of file descriptors; the next select tries again
+                System.err.println("Could not accept a connection: " + e.getMessage());
+                return;
+            }
+            if (channel == null) {
+                return;
+            }
+            try {
+                server.dispatch(channel);
+            } catch (IOException e) {
+                // The client reset before it could be set up; it was never counted
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    private void dispatch(SelectionKey key) {
+        BotConnection connection = (BotConnection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.onReadable();
+            } else if (key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (IOException | CancelledKeyException e) {
+            // The client went away mid-command
+            connection.close();
+        } catch (RuntimeException e) {
+            // A bug in one game only ends that connection; the loop keeps serving the rest
+            System.err.println("Closing a bot connection after an error: " + e);
+            connection.close();
+        }
+    }
+
+    private void registerPending() {
+        SocketChannel channel;
+        while ((channel = pending.poll()) != null) {
+            try {
+                SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                key.attach(new BotConnection(this, channel, key, slab.acquire(), slab.acquire()));
+            } catch (IOException e) {
+                server.connectionClosed();
+                closeQuietly(channel);
+            }
+        }
+    }
+
+    // Closes connections that were handed over but never registered; they were already counted
+    private void closePending() {
+        SocketChannel channel;
+        while ((channel = pending.poll()) != null) {
+            server.connectionClosed();
+            closeQuietly(channel);
+        }
+    }
+
+    // Called by a connection as it closes
+    void release(BotConnection connection, ByteBuffer in, ByteBuffer out) {
+        slab.release(in);
+        slab.release(out);
+        server.connectionClosed();
+    }
+
+    MoveGenerator generator() {
+        return generator;
+    }
+
+    BitBoard scratchBoard() {
+        return scratchBoard;
+    }
+
+    EventType[] path() {
+        return path;
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // Nothing more to do for a channel that could not be set up
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This class is a lock-free histogram for non-negative long values (scores, latencies).
+ *
+ * Buckets are log-linear: values below 8 get a bucket each, and every power of two above
+ * that is split into eight equal buckets, so any value is known to within about 12% while
+ * the whole long range fits in under 500 counters. Counters live in an AtomicLongArray,
+ * so any number of threads can record at once and readers never block writers.
+ */
+package com.comp2042.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class LogHistogram {
+
+    // Eight sub-buckets per power of two; values below 8 get a bucket each
+    private static final int SUB_BUCKETS = 8;
+    private static final int BUCKETS = (Long.SIZE - 3) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Records one value. Negative values are counted as 0.
+     *
+     * @param value The value to record.
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        min.accumulateAndGet(v, Math::min);
+        max.accumulateAndGet(v, Math::max);
+        count.incrementAndGet();
+    }
+
+    /**
+     * Retrieves the number of values recorded.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Retrieves the smallest value recorded.
+     *
+     * @return The minimum, or 0 if nothing was recorded.
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Retrieves the largest value recorded.
+     *
+     * @return The maximum, or 0 if nothing was recorded.
+     */
+    public long getMax() {
+        return getCount() == 0 ? 0 : max.get();
+    }
+
+    /**
+     * Retrieves an approximate percentile.
+     * The result is the lower bound of the bucket holding the percentile, clamped to the observed range.
+     *
+     * @param percentile The percentile, from 0 to 100.
+     * @return The approximate value at that percentile, or 0 if nothing was recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.max(getMin(), Math.min(getMax(), lowerBound(i)));
+            }
+        }
+        return getMax();
+    }
+
+    // Values below 8 map to themselves; above that, 8 buckets per power of two
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (exponent - 3)) & (SUB_BUCKETS - 1));
+        return (exponent - 2) * SUB_BUCKETS + sub;
+    }
+
+    // Smallest value that falls into a bucket
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + 2;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub) << (exponent - 3);
+    }
+}
@@ -1,38 +1,230 @@
 /**
- * Utility class for loading external resources (fonts, images).
+ * Utility class for loading external resources (fonts, images, FXML layouts).
  * Prevents runtime errors by handling null streams safely.
+ *
+ * Startup work is spread over background threads: each font, each background image and the
+ * game layout are loaded as separate tasks that run at the same time, while the FX thread
+ * shows the window. Every resource is loaded at most once; later callers share the same
+ * future. How long each task took is recorded in getTimings().
  */
 
 package com.comp2042.util;
 
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Region;
 import javafx.scene.text.Font;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class ResourceLoader {
 
     private static final String FONT_PATH_1 = "/digital.ttf";
     private static final String FONT_PATH_2 = "/PressStart2P-Regular.ttf";
 
+    /** Background image of the start menu. */
+    public static final String MENU_BACKGROUND = "/start_menu.jpeg";
+    /** Background image of the game screen. */
+    public static final String GAME_BACKGROUND = "/night_sky.jpg";
+    /** The start menu layout. */
+    public static final String MENU_LAYOUT = "/startMenu.fxml";
+    /** The game screen layout. */
+    public static final String GAME_LAYOUT = "/gameLayout.fxml";
+
+    private static final StartupTimings TIMINGS = new StartupTimings();
+
+    // Daemon threads, so a preload still running never keeps the application alive
+    private static final ExecutorService PRELOADER = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "resource-preload");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Map<String, CompletableFuture<Image>> IMAGES = new ConcurrentHashMap<>();
+    private static CompletableFuture<Void> fonts;
+    // A game layout parsed ahead of time, handed out by takeGameLayout()
+    private static CompletableFuture<FXMLLoader> gameLayout;
+
     /**
-     * Loads global fonts and resources needed for the application.
-     * This should be called once when the application starts.
+     * Loads global fonts and resources needed for the application, waiting until they are ready.
+     * Safe to call more than once; the fonts are only loaded the first time.
      */
     public static void loadResources() {
-        loadFont(FONT_PATH_1, 38);
-        loadFont(FONT_PATH_2, 38);
+        fonts().join();
+    }
+
+    /**
+     * Starts loading the fonts, both background images and the game layout on background
+     * threads, all at the same time. Returns immediately.
+     *
+     * @return A future that completes once every preloaded resource is ready.
+     */
+    public static synchronized CompletableFuture<Void> preload() {
+        if (gameLayout == null) {
+            gameLayout = parseAsync(GAME_LAYOUT, "parse " + GAME_LAYOUT);
+        }
+        return CompletableFuture.allOf(fonts(), image(MENU_BACKGROUND), image(GAME_BACKGROUND), gameLayout)
+                .exceptionally(e -> null);
+    }
+
+    /**
+     * Retrieves the font loading task, starting it on first use.
+     *
+     * @return A future that completes once both fonts are registered.
+     */
+    public static synchronized CompletableFuture<Void> fonts() {
+        if (fonts == null) {
+            fonts = CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> loadFont(FONT_PATH_1, 38), PRELOADER),
+                    CompletableFuture.runAsync(() -> loadFont(FONT_PATH_2, 38), PRELOADER));
+        }
+        return fonts;
     }
 
     private static void loadFont(String path, double size) {
+        TIMINGS.time("font " + path, () -> {
+            try {
+                URL fontUrl = ResourceLoader.class.getResource(path);
+                if (fontUrl != null) {
+                    Font.loadFont(fontUrl.toExternalForm(), size);
+                    System.out.println("SUCCESS: Loaded " + path);
+                } else {
+                    System.err.println("CRITICAL: " + path + " not found in resources.");
+                }
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Retrieves a decoded image, starting to decode it on a background thread on first use.
+     *
+     * @param path The resource path of the image.
+     * @return A future holding the image, or null if it could not be found or decoded.
+     */
+    public static CompletableFuture<Image> image(String path) {
+        return IMAGES.computeIfAbsent(path, p ->
+                CompletableFuture.supplyAsync(() -> TIMINGS.time("decode " + p, () -> decode(p)), PRELOADER));
+    }
+
+    private static Image decode(String path) {
+        URL url = ResourceLoader.class.getResource(path);
+        if (url == null) {
+            System.err.println("CRITICAL: " + path + " not found in resources.");
+            return null;
+        }
+        // Not a background-loading Image, so the decoding happens on this thread, right now
+        Image image = new Image(url.toExternalForm());
+        if (image.isError()) {
+            System.err.println("CRITICAL: Could not decode " + path);
+            return null;
+        }
+        return image;
+    }
+
+    /**
+     * Gives a region a background image, stretched to fill it. If the image is still being
+     * decoded, it is applied on the FX thread once ready; the caller never waits for it.
+     *
+     * @param region The region, usually the root of a layout.
+     * @param path   The resource path of the image.
+     */
+    public static void applyBackground(Region region, String path) {
+        CompletableFuture<Image> decoded = image(path);
+        if (decoded.isDone() && Platform.isFxApplicationThread()) {
+            setBackground(region, decoded.join());
+        } else {
+            decoded.thenAccept(image -> Platform.runLater(() -> setBackground(region, image)));
+        }
+    }
+
+    private static void setBackground(Region region, Image image) {
+        if (image == null) {
+            return;
+        }
+        BackgroundSize fill = new BackgroundSize(100, 100, true, true, false, false);
+        region.setBackground(new Background(new BackgroundImage(image, BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT, BackgroundPosition.CENTER, fill)));
+    }
+
+    /**
+     * Parses an FXML layout on a background thread. The layout is not attached to any scene,
+     * so building it off the FX thread is allowed.
+     *
+     * @param path  The resource path of the layout.
+     * @param label The name to record the parse under in the startup timings, or null to not record it.
+     * @return A future holding the loader, from which the root and controller can be retrieved.
+     */
+    public static CompletableFuture<FXMLLoader> parseAsync(String path, String label) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (label == null) {
+                return parse(path);
+            }
+            return TIMINGS.time(label, () -> parse(path));
+        }, PRELOADER);
+    }
+
+    private static FXMLLoader parse(String path) {
         try {
-            URL fontUrl = ResourceLoader.class.getResource(path);
-            if (fontUrl != null) {
-                Font.loadFont(fontUrl.toExternalForm(), size);
-                System.out.println("SUCCESS: Loaded " + path);
-            } else {
-                System.err.println("CRITICAL: " + path + " not found in resources.");
+            return load(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static FXMLLoader load(String path) throws IOException {
+        FXMLLoader loader = new FXMLLoader(ResourceLoader.class.getResource(path));
+        loader.load();
+        return loader;
+    }
+
+    /**
+     * Retrieves a freshly loaded game layout. The one parsed in the background is used if there
+     * is one, so starting a game rarely waits for FXML. Each call returns a new layout with its
+     * own controller.
+     *
+     * @param prepareNext true to start parsing another layout in the background for the next call.
+     * @return The loader, after load() has been called on it.
+     * @throws IOException If the layout cannot be loaded.
+     */
+    public static FXMLLoader takeGameLayout(boolean prepareNext) throws IOException {
+        CompletableFuture<FXMLLoader> ready;
+        synchronized (ResourceLoader.class) {
+            ready = gameLayout;
+            gameLayout = prepareNext ? parseAsync(GAME_LAYOUT, null) : null;
+        }
+        if (ready != null) {
+            try {
+                return ready.join();
+            } catch (CompletionException e) {
+                // Fall back to loading it here, which reports the error properly if it happens again
+                e.printStackTrace();
             }
-        } catch (Exception e) {
-            e.printStackTrace();
         }
+        return load(GAME_LAYOUT);
+    }
+
+    /**
+     * Retrieves the startup timing breakdown.
+     *
+     * @return The timings shared by the whole application.
+     */
+    public static StartupTimings getTimings() {
+        return TIMINGS;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+/*
+ * This class records how long each step of starting the game took, so cold-start time can
+ * be broken down by step rather than measured only as one total.
+ *
+ * Every entry is stored as an offset from JVM start (so time spent before Main.start, such
+ * as class loading and toolkit startup, is visible too) plus a duration. Steps running on
+ * different threads may overlap; report() lists them in the order they started.
+ */
+package com.comp2042.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+
+public final class StartupTimings {
+
+    /**
+     * One timed step: when it started and how long it ran, both in milliseconds.
+     */
+    public static final class Entry {
+        private final String name;
+        private final double startMs;
+        private final double durationMs;
+
+        Entry(String name, double startMs, double durationMs) {
+            this.name = name;
+            this.startMs = startMs;
+            this.durationMs = durationMs;
+        }
+
+        /**
+         * Retrieves the name of the step.
+         *
+         * @return The name.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Retrieves when the step started.
+         *
+         * @return Milliseconds since the JVM started.
+         */
+        public double getStartMs() {
+            return startMs;
+        }
+
+        /**
+         * Retrieves how long the step ran.
+         *
+         * @return The duration in milliseconds, or 0 for a mark.
+         */
+        public double getDurationMs() {
+            return durationMs;
+        }
+    }
+
+    // nanoTime() value corresponding to the moment the JVM started
+    private final long origin;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Creates an empty breakdown measured from JVM start.
+     */
+    public StartupTimings() {
+        this(System.nanoTime() - ManagementFactory.getRuntimeMXBean().getUptime() * 1_000_000L);
+    }
+
+    StartupTimings(long origin) {
+        this.origin = origin;
+    }
+
+    /**
+     * Runs a step and records how long it took. Safe to call from several threads at once.
+     * A step that throws is still recorded.
+     *
+     * @param name The name of the step.
+     * @param step The work to time.
+     * @param <T>  The type of the step's result.
+     * @return The step's result.
+     */
+    public <T> T time(String name, Supplier<T> step) {
+        long start = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(name, start, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records a point in time, such as the window being shown.
+     *
+     * @param name The name of the event.
+     */
+    public void mark(String name) {
+        long now = System.nanoTime();
+        record(name, now, now);
+    }
+
+    private synchronized void record(String name, long start, long end) {
+        entries.add(new Entry(name, (start - origin) / 1e6, (end - start) / 1e6));
+    }
+
+    /**
+     * Retrieves the recorded steps in the order they started.
+     *
+     * @return A copy of the entries.
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingDouble(Entry::getStartMs));
+        return sorted;
+    }
+
+    /**
+     * Retrieves a recorded step by name.
+     *
+     * @param name The name of the step.
+     * @return The first entry with that name, or null if it has not been recorded.
+     */
+    public synchronized Entry get(String name) {
+        for (Entry entry : entries) {
+            if (entry.name.equals(name)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Formats the breakdown as a table, one step per line.
+     *
+     * @return The report text.
+     */
+    public String report() {
+        StringBuilder text = new StringBuilder("Startup timings (ms since JVM start):\n");
+        for (Entry entry : getEntries()) {
+            if (entry.durationMs == 0) {
+                text.append(String.format("  %8.1f            %s%n", entry.startMs, entry.name));
+            } else {
+                text.append(String.format("  %8.1f  %8.1f  %s%n", entry.startMs, entry.durationMs, entry.name));
+            }
+        }
+        return text.toString();
+    }
+}
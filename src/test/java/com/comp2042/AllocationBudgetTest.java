@@ -0,0 +1,305 @@
+package com.comp2042;
+
+import com.comp2042.controller.GameController;
+import com.comp2042.controller.GameView;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.controller.SessionScope;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import javafx.animation.Timeline;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bytes allocated per operation on the game's hot path, each held to a budget, so a change
+ * that brings back per-keypress garbage (and the young GC pauses it causes at high levels)
+ * fails the build. Each operation is warmed up first, so the JIT has compiled it, then run
+ * many times between two readings of the thread's allocation counter.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int RUNS = 20_000;
+
+    // Budgets in bytes per operation: what each costs today (JDK 21) plus about 10%, so a change
+    // that brings back even a small copy per keypress fails
+    private static final double MOVE_BUDGET = 1;                  // Moves and rotations allocate nothing
+    private static final double GARBAGE_BUDGET = 1;               // Garbage rows are recycled from the top
+    private static final double CLEAR_NONE_BUDGET = 32;           // The ClearRow itself (24)
+    private static final double CLEAR_FOUR_BUDGET = 400;          // The new outer array and four empty rows (368)
+    private static final double VIEW_DATA_BUDGET = 176;           // ViewData and the preview list; shapes are shared (160)
+    private static final double GRAVITY_BUDGET = 400;             // DownData and ViewData, plus a lock every few steps (366)
+    private static final double HARD_DROP_BUDGET = 3_072;         // Lock: cleared rows, next brick's shapes, ViewData (2,770)
+    private static final double HOLD_AND_DROP_BUDGET = 4_096;     // As above, plus the swapped brick's shapes (3,740)
+    private static final double GAME_HARD_DROP_BUDGET = 3_328;    // As above, plus the drop trail's ViewData (3,035)
+    private static final double GAME_HOLD_AND_DROP_BUDGET = 4_384; // The same with a hold first (3,990)
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent HOLD = new MoveEvent(EventType.HOLD, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "This JVM cannot count allocated bytes per thread");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long allocated() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    // Average bytes allocated by one run of the operation, after warming it up
+    private static double bytesPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        // The counter itself may allocate a little per reading; measure that and take it off
+        long empty = allocated();
+        long overhead = allocated() - empty;
+
+        long before = allocated();
+        for (int i = 0; i < RUNS; i++) {
+            operation.run();
+        }
+        long after = allocated();
+        return Math.max(0, after - before - overhead) / (double) RUNS;
+    }
+
+    private static void assertWithin(double budget, double measured, String operation) {
+        assertTrue(measured <= budget,
+                operation + " allocates " + measured + " bytes per call, over its budget of " + budget);
+    }
+
+    // Starts over before the stack gets near the spawn rows, so a measured drop never ends the game
+    private static void keepClearOfTheTop(SimpleBoard board) {
+        for (int row = 0; row < 9; row++) {
+            for (int cell : board.getBoardMatrix()[row]) {
+                if (cell != 0) {
+                    board.newGame();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static SimpleBoard newBoard() {
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(5));
+        board.createNewBrick();
+        return board;
+    }
+
+    @Test
+    void testSidewaysMovesAllocateNothing() {
+        SimpleBoard board = newBoard();
+
+        assertWithin(MOVE_BUDGET, bytesPerOp(() -> {
+            board.moveBrickLeft();
+            board.moveBrickRight();
+        }), "SimpleBoard left + right");
+    }
+
+    @Test
+    void testRotationsAllocateNothing() {
+        SimpleBoard board = newBoard();
+
+        assertWithin(MOVE_BUDGET, bytesPerOp(board::rotateLeftBrick), "SimpleBoard rotate");
+    }
+
+    @Test
+    void testSoftDropAllocatesNothing() {
+        SimpleBoard board = newBoard();
+        // Each brick falls to the floor; only the falls are measured, not spawning the next brick
+        for (int i = 0; i < WARMUP / 20; i++) {
+            board.newGame();
+            while (board.moveBrickDown()) {
+            }
+        }
+        long bytes = 0;
+        int falls = 0;
+        for (int i = 0; i < RUNS / 20; i++) {
+            board.newGame();
+            long empty = allocated();
+            long before = allocated();
+            while (board.moveBrickDown()) {
+                falls++;
+            }
+            bytes += Math.max(0, allocated() - before - (before - empty));
+        }
+
+        assertWithin(MOVE_BUDGET, bytes / (double) falls, "SimpleBoard down");
+    }
+
+    @Test
+    void testGarbageRowsAllocateNothing() {
+        SimpleBoard board = newBoard();
+
+        assertWithin(GARBAGE_BUDGET, bytesPerOp(() -> board.addGarbageRows(2, 3)), "SimpleBoard add garbage");
+    }
+
+    @Test
+    void testCheckRemovingWithoutFullRows() {
+        int[][] matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+        matrix[GameConfig.ROWS - 1][3] = 2;
+
+        assertWithin(CLEAR_NONE_BUDGET, bytesPerOp(() -> MatrixOperations.checkRemoving(matrix)),
+                "checkRemoving, no full row");
+    }
+
+    @Test
+    void testCheckRemovingFourRows() {
+        int[][] matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+        for (int row = GameConfig.ROWS - 4; row < GameConfig.ROWS; row++) {
+            Arrays.fill(matrix[row], 1);
+        }
+
+        assertWithin(CLEAR_FOUR_BUDGET, bytesPerOp(() -> MatrixOperations.checkRemoving(matrix)),
+                "checkRemoving, four rows");
+    }
+
+    @Test
+    void testGetViewData() {
+        SimpleBoard board = newBoard();
+        board.holdBrick();
+
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(board::getViewData), "SimpleBoard getViewData");
+    }
+
+    @Test
+    void testListenerMoveCostsNoMoreThanItsViewData() {
+        InputEventListener game = new HeadlessGameController(newBoard());
+
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onLeftEvent(LEFT)), "listener left");
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onRightEvent(RIGHT)), "listener right");
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onRotateEvent(ROTATE)), "listener rotate");
+    }
+
+    @Test
+    void testListenerHardDrop() {
+        HeadlessGameController game = new HeadlessGameController(newBoard());
+
+        assertWithin(HARD_DROP_BUDGET, bytesPerOp(() -> {
+            game.onHardDropEvent(DROP);
+            if (game.isGameOver()) {
+                game.createNewGame();
+            }
+        }), "listener hard drop");
+    }
+
+    @Test
+    void testListenerHoldAndDrop() {
+        SimpleBoard board = newBoard();
+        HeadlessGameController game = new HeadlessGameController(board);
+
+        // The hold slot can only be used once per brick, so every hold is followed by a drop
+        assertWithin(HOLD_AND_DROP_BUDGET, bytesPerOp(() -> {
+            keepClearOfTheTop(board);
+            game.onHoldEvent(HOLD);
+            game.onHardDropEvent(DROP);
+        }), "listener hold + hard drop");
+    }
+
+    @Test
+    void testGameControllerHandlers() {
+        // The real controller, with its flight recorder, metrics and JFR events, on a screen that draws nothing
+        SimpleBoard board = newBoard();
+        GameController game = new GameController(new BlankView(), board);
+
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onLeftEvent(LEFT)), "game left");
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onRightEvent(RIGHT)), "game right");
+        assertWithin(VIEW_DATA_BUDGET, bytesPerOp(() -> game.onRotateEvent(ROTATE)), "game rotate");
+        assertWithin(GRAVITY_BUDGET, bytesPerOp(() -> {
+            keepClearOfTheTop(board);
+            game.onDownEvent(GRAVITY);
+        }), "game gravity");
+        assertWithin(GAME_HARD_DROP_BUDGET, bytesPerOp(() -> {
+            keepClearOfTheTop(board);
+            game.onHardDropEvent(DROP);
+        }), "game hard drop");
+        assertWithin(GAME_HOLD_AND_DROP_BUDGET, bytesPerOp(() -> {
+            keepClearOfTheTop(board);
+            game.onHoldEvent(HOLD);
+            game.onHardDropEvent(DROP);
+        }), "game hold + hard drop");
+    }
+
+    // A game screen that ignores everything, so GameController runs without JavaFX
+    private static final class BlankView implements GameView {
+        @Override
+        public void setEventListener(InputEventListener listener) {
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+        }
+
+        @Override
+        public void openSession(SessionScope session) {
+        }
+
+        @Override
+        public void bindScore(IntegerProperty score) {
+        }
+
+        @Override
+        public void bindExtraStats(Score scoreObj) {
+        }
+
+        @Override
+        public void startCountdown(Runnable onFinished) {
+        }
+
+        @Override
+        public Timeline getTimeline() {
+            return null;
+        }
+
+        @Override
+        public void startClock() {
+        }
+
+        @Override
+        public void requestHint(int[][] boardMatrix, Supplier<ViewData> brick) {
+        }
+
+        @Override
+        public void showHardDropTrail(int startX, int startY, int distance, int[][] brickData) {
+        }
+
+        @Override
+        public void refreshBrick(ViewData brick) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board) {
+        }
+
+        @Override
+        public void gameOver() {
+        }
+
+        @Override
+        public void showResult(String heading) {
+        }
+    }
+}
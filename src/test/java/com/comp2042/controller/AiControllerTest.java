@@ -0,0 +1,64 @@
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.ai.BeamSearch;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.ai.TranspositionTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiControllerTest {
+
+    @Test
+    void testAiSurvivesAndClearsLines() {
+        // Seeded bricks and a search bounded by depth alone, so the game is the same on every machine
+        HeadlessGameController game = new HeadlessGameController(
+                new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(17)));
+        BeamSearch search = new BeamSearch(new Evaluator(), 8, 3, Long.MAX_VALUE, GameConfig.COLS, GameConfig.ROWS);
+        AiController ai = new AiController(search);
+        ai.setEventListener(game);
+
+        for (int i = 0; i < 200 && !game.isGameOver(); i++) {
+            ai.playMove(game.getBoard().getBoardMatrix(), game.getBoard().getViewData());
+        }
+
+        assertFalse(game.isGameOver(), "AI should survive 200 bricks");
+        int lines = game.getBoard().getScore().linesClearedProperty().get();
+        assertTrue(lines >= 50, "AI should clear most of the bricks it places, cleared " + lines + " lines");
+    }
+
+    @Test
+    void testEvaluationCacheKeepsChoicesAndIsReusedAcrossTurns() {
+        // One player keeps its table for the whole game, the other starts every turn with an empty one
+        TranspositionTable kept = new TranspositionTable(1 << 14);
+        BeamSearch warm = new BeamSearch(new Evaluator(), 6, 3, Long.MAX_VALUE, GameConfig.COLS, GameConfig.ROWS);
+        warm.setTranspositionTable(kept);
+        BeamSearch cold = new BeamSearch(new Evaluator(), 6, 3, Long.MAX_VALUE, GameConfig.COLS, GameConfig.ROWS);
+        HeadlessGameController warmGame = new HeadlessGameController(
+                new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(31)));
+        HeadlessGameController coldGame = new HeadlessGameController(
+                new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(31)));
+        AiController warmPlayer = new AiController(warm);
+        warmPlayer.setEventListener(warmGame);
+        AiController coldPlayer = new AiController(cold);
+        coldPlayer.setEventListener(coldGame);
+
+        for (int i = 0; i < 60 && !warmGame.isGameOver(); i++) {
+            cold.setTranspositionTable(new TranspositionTable(1 << 14));
+            warmPlayer.playMove(warmGame.getBoard().getBoardMatrix(), warmGame.getBoard().getViewData());
+            coldPlayer.playMove(coldGame.getBoard().getBoardMatrix(), coldGame.getBoard().getViewData());
+
+            assertTrue(Arrays.deepEquals(warmGame.getBoard().getBoardMatrix(), coldGame.getBoard().getBoardMatrix()),
+                    "Cached evaluations should not change the placement of brick " + i);
+            // The board the player chose was scored during the search, keyed by the board alone
+            long key = BitBoard.fromMatrix(warmGame.getBoard().getBoardMatrix()).hash();
+            assertNotEquals(TranspositionTable.MISS, kept.probe(key), "The chosen board should be cached");
+        }
+    }
+}
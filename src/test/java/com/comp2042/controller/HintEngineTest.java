@@ -0,0 +1,65 @@
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HintEngineTest {
+
+    // Waits for the background search; the hint must arrive well within this
+    private static final long TIMEOUT_MS = 5000;
+
+    private static HintEngine.Hint awaitHint(HintEngine engine) throws InterruptedException {
+        long end = System.currentTimeMillis() + TIMEOUT_MS;
+        HintEngine.Hint hint;
+        while ((hint = engine.getHint()) == null && System.currentTimeMillis() < end) {
+            Thread.sleep(5);
+        }
+        return hint;
+    }
+
+    @Test
+    void testHintIsAReachableLandingSpot() throws InterruptedException {
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(11));
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        matrix[GameConfig.ROWS - 1][0] = 2;
+        matrix[GameConfig.ROWS - 1][1] = 2;
+
+        try (HintEngine engine = HintEngine.createDefault()) {
+            long generation = engine.request(matrix, board.getViewData());
+            HintEngine.Hint hint = awaitHint(engine);
+
+            assertNotNull(hint, "The search should finish in the background");
+            assertEquals(generation, hint.getGeneration());
+            BitBoard bits = BitBoard.fromMatrix(matrix);
+            assertFalse(bits.collides(hint.getBrickId(), hint.getRotation(), hint.getX(), hint.getY()),
+                    "The hinted brick should fit");
+            assertEquals(hint.getY(), bits.dropY(hint.getBrickId(), hint.getRotation(), hint.getX(), hint.getY()),
+                    "The hinted brick should be resting on the stack");
+        }
+    }
+
+    @Test
+    void testNewRequestReplacesOldHint() throws InterruptedException {
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(3));
+        board.createNewBrick();
+
+        try (HintEngine engine = HintEngine.createDefault()) {
+            engine.request(board.getBoardMatrix(), board.getViewData());
+            board.createNewBrick();
+            long latest = engine.request(board.getBoardMatrix(), board.getViewData());
+
+            HintEngine.Hint hint = awaitHint(engine);
+            assertNotNull(hint);
+            assertEquals(latest, hint.getGeneration(), "Only the latest request should be answered");
+
+            engine.cancel();
+            assertNull(engine.getHint(), "A cancelled hint should be withdrawn at once");
+        }
+    }
+}
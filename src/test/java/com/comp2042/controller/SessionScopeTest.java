@@ -0,0 +1,280 @@
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.InputEventListener;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.util.Duration;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionScopeTest {
+
+    // Games played in the soak test, and the per-game garbage each one attaches to the shared score
+    private static final int SOAK_SESSIONS = 500;
+    private static final int PAYLOAD_BYTES = 256 * 1024;
+    // Allowed heap growth over the soak; a leaked payload per game would be ~125 MB
+    private static final long MAX_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    // Plays one game's worth of setup against a score that outlives the game, like a cached screen does
+    private static WeakReference<byte[]> runSession(Score score, StringProperty label, AtomicInteger closes) {
+        byte[] payload = new byte[PAYLOAD_BYTES];
+        try (SessionScope session = new SessionScope()) {
+            Timeline gravity = session.timeline(Duration.millis(400), e -> payload[0]++);
+            session.timeline(Duration.seconds(1), e -> payload[1]++);
+            session.track(new PauseTransition(Duration.seconds(1)));
+            session.listen(score.levelProperty(), (obs, oldVal, newVal) -> gravity.setRate(payload.length));
+            session.bind(label, score.scoreProperty().asString("%d"));
+            session.manage(closes::incrementAndGet);
+        }
+        return new WeakReference<>(payload);
+    }
+
+    @Test
+    void testCloseReleasesEverything() {
+        Score score = new Score(1);
+        StringProperty label = new SimpleStringProperty();
+        AtomicInteger levelChanges = new AtomicInteger();
+        AtomicInteger closes = new AtomicInteger();
+        int animations = SessionScope.liveAnimations();
+        int sessions = SessionScope.openSessions();
+
+        SessionScope session = new SessionScope();
+        session.timeline(Duration.millis(100), e -> {});
+        session.track(new PauseTransition(Duration.seconds(1)));
+        session.listen(score.levelProperty(), (obs, oldVal, newVal) -> levelChanges.incrementAndGet());
+        session.bind(label, score.scoreProperty().asString("%d"));
+        session.manage(closes::incrementAndGet);
+        assertEquals(animations + 2, SessionScope.liveAnimations());
+        assertEquals(sessions + 1, SessionScope.openSessions());
+
+        score.levelProperty().set(2);
+        score.add(10);
+        assertEquals(1, levelChanges.get());
+        assertEquals("10", label.get());
+
+        session.close();
+        session.close();
+        score.levelProperty().set(3);
+        score.add(10);
+
+        assertTrue(session.isClosed());
+        assertEquals(1, levelChanges.get(), "The listener should be removed on close");
+        assertFalse(label.isBound(), "The binding should be released on close");
+        assertEquals("10", label.get());
+        assertEquals(1, closes.get(), "Managed resources are closed exactly once");
+        assertEquals(animations, SessionScope.liveAnimations());
+        assertEquals(sessions, SessionScope.openSessions());
+    }
+
+    @Test
+    void testClosedSessionRejectsNewResources() {
+        SessionScope session = new SessionScope();
+        session.close();
+
+        assertThrows(IllegalStateException.class, () -> session.timeline(Duration.millis(100), e -> {}));
+        assertThrows(IllegalStateException.class, () -> session.manage(() -> {}));
+    }
+
+    @Test
+    void testCleanupsRunNewestFirstEvenIfOneFails() {
+        List<String> order = new ArrayList<>();
+        SessionScope session = new SessionScope();
+        session.manage(() -> order.add("hint engine"));
+        session.manage(() -> {
+            throw new IllegalStateException("already stopped");
+        });
+        session.manage(() -> order.add("versus bot"));
+
+        session.close();
+
+        assertEquals(List.of("versus bot", "hint engine"), order);
+    }
+
+    @Test
+    void testHundredsOfSessionsLeaveNothingBehind() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Score score = new Score(1);
+        StringProperty label = new SimpleStringProperty();
+        AtomicInteger closes = new AtomicInteger();
+        int animations = SessionScope.liveAnimations();
+        int sessions = SessionScope.openSessions();
+        List<WeakReference<byte[]>> payloads = new ArrayList<>();
+
+        long before = 0;
+        for (int i = 0; i < SOAK_SESSIONS; i++) {
+            if (i == SOAK_SESSIONS / 10) {
+                // Measured after a warm-up, so class loading and JIT do not count as growth
+                before = usedHeapAfterGc(memory);
+            }
+            payloads.add(runSession(score, label, closes));
+            score.levelProperty().set(i % 10 + 1);
+        }
+        long after = usedHeapAfterGc(memory);
+
+        assertEquals(SOAK_SESSIONS, closes.get());
+        assertEquals(animations, SessionScope.liveAnimations(), "No session should still own an animation");
+        assertEquals(sessions, SessionScope.openSessions());
+        assertFalse(label.isBound());
+        long leaked = payloads.stream().filter(ref -> ref.get() != null).count();
+        assertEquals(0, leaked, "Nothing should keep a closed session's objects reachable");
+        assertTrue(after - before < MAX_GROWTH_BYTES,
+                "Heap grew by " + (after - before) / 1024 + " KB over " + SOAK_SESSIONS + " sessions");
+    }
+
+    @Test
+    void testHundredsOfGamesLeaveNothingBehind() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Score score = new Score(1);
+        SessionView view = new SessionView();
+        GameController game = new GameController(view,
+                new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(21), score));
+        int animations = SessionScope.liveAnimations();
+        int sessions = SessionScope.openSessions();
+
+        // Like SceneCache: one screen and one game, with a new session for every game played on them
+        long before = 0;
+        for (int i = 0; i < SOAK_SESSIONS; i++) {
+            if (i == SOAK_SESSIONS / 10) {
+                // Measured after a warm-up, so class loading and JIT do not count as growth
+                before = usedHeapAfterGc(memory);
+            }
+            view.suspend();
+            game.startGame(new SessionScope());
+            assertEquals(animations + 3, SessionScope.liveAnimations(),
+                    "Game " + i + " should own its game loop, clock and countdown");
+            score.levelProperty().set(i % 10 + 2);
+        }
+
+        // Only the open game's level listener should still react to the shared score
+        int speedChanges = view.speedChanges;
+        score.levelProperty().set(1);
+        assertEquals(speedChanges + 1, view.speedChanges, "Only the current game should listen to the score");
+
+        view.suspend();
+        long after = usedHeapAfterGc(memory);
+        score.levelProperty().set(5);
+
+        assertEquals(speedChanges + 1, view.speedChanges, "No closed game should still listen to the score");
+        assertEquals(animations, SessionScope.liveAnimations(), "No session should still own an animation");
+        assertEquals(sessions, SessionScope.openSessions());
+        assertFalse(view.scoreText.isBound() || view.levelText.isBound() || view.linesText.isBound(),
+                "The labels should be unbound from the score");
+        // The screen keeps its last game loop until the next game opens, as GuiController does
+        long leaked = view.frames.subList(0, SOAK_SESSIONS - 1).stream().filter(ref -> ref.get() != null).count();
+        assertEquals(0, leaked, "Nothing should keep a closed game's timelines reachable");
+        assertTrue(after - before < MAX_GROWTH_BYTES,
+                "Heap grew by " + (after - before) / 1024 + " KB over " + SOAK_SESSIONS + " games");
+    }
+
+    // A game screen that sets up its timelines, bindings and countdown through each session,
+    // as GuiController does, without needing a JavaFX stage
+    private static final class SessionView implements GameView {
+        private final StringProperty scoreText = new SimpleStringProperty();
+        private final StringProperty levelText = new SimpleStringProperty();
+        private final StringProperty linesText = new SimpleStringProperty();
+        // Each game's per-game state, reachable only through that game's timelines
+        private final List<WeakReference<byte[]>> frames = new ArrayList<>();
+        private SessionScope session;
+        private Timeline timeline;
+        private int speedChanges;
+
+        void suspend() {
+            if (session != null) {
+                session.close();
+                session = null;
+            }
+        }
+
+        @Override
+        public void setEventListener(InputEventListener listener) {
+        }
+
+        @Override
+        public void initGameView(int[][] boardMatrix, ViewData brick) {
+        }
+
+        @Override
+        public void openSession(SessionScope session) {
+            this.session = session;
+            byte[] frame = new byte[PAYLOAD_BYTES];
+            frames.add(new WeakReference<>(frame));
+            timeline = session.timeline(Duration.millis(GameConfig.DROP_SPEED_MS), e -> frame[0]++);
+            session.timeline(Duration.seconds(1), e -> frame[1]++);
+        }
+
+        @Override
+        public void bindScore(IntegerProperty score) {
+            session.bind(scoreText, score.asString("%d"));
+        }
+
+        @Override
+        public void bindExtraStats(Score scoreObj) {
+            session.bind(levelText, scoreObj.levelProperty().asString("%d"));
+            session.bind(linesText, scoreObj.linesClearedProperty().asString("%d"));
+        }
+
+        @Override
+        public void startCountdown(Runnable onFinished) {
+            // Never played, so the game stays in its countdown until the session closes
+            session.track(new PauseTransition(Duration.seconds(1)));
+        }
+
+        @Override
+        public Timeline getTimeline() {
+            speedChanges++;
+            return timeline;
+        }
+
+        @Override
+        public void startClock() {
+        }
+
+        @Override
+        public void requestHint(int[][] boardMatrix, Supplier<ViewData> brick) {
+        }
+
+        @Override
+        public void showHardDropTrail(int startX, int startY, int distance, int[][] brickData) {
+        }
+
+        @Override
+        public void refreshBrick(ViewData brick) {
+        }
+
+        @Override
+        public void refreshGameBackground(int[][] board) {
+        }
+
+        @Override
+        public void gameOver() {
+        }
+
+        @Override
+        public void showResult(String heading) {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.controller;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.logic.versus.VersusMatch;
+import com.comp2042.model.DownData;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.replay.FlightRecorder;
+import com.comp2042.replay.RecordingBrickGenerator;
+import com.comp2042.replay.Replay;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersusReplayTest {
+
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE,
+            EventType.DOWN, EventType.HARD_DROP};
+
+    @Test
+    void testVersusGameWithGarbageReplaysToTheSameBoard() {
+        FlightRecorder recorder = new FlightRecorder(8192, 16, 60_000, 0);
+        VersusMatch match = new VersusMatch(42);
+        Random random = new Random(5);
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS,
+                new RecordingBrickGenerator(new SeededBrickGenerator(5), recorder));
+        HeadlessGameController game = new HeadlessGameController(board);
+        game.createNewGame();
+        recorder.snapshot(board, true);
+
+        int garbageRows = 0;
+        for (int i = 0; i < 1500; i++) {
+            MoveEvent event = new MoveEvent(MOVES[random.nextInt(MOVES.length)], EventSource.USER);
+            recorder.move(event);
+            DownData down = switch (event.getEventType()) {
+                case DOWN -> game.onDownEvent(event);
+                case HARD_DROP -> game.onHardDropEvent(event);
+                default -> {
+                    switch (event.getEventType()) {
+                        case LEFT -> game.onLeftEvent(event);
+                        case RIGHT -> game.onRightEvent(event);
+                        default -> game.onRotateEvent(event);
+                    }
+                    yield null;
+                }
+            };
+            if (down == null || down.getClearRow() == null) {
+                continue;
+            }
+            // The bot attacks every few locks; the player's locks let the garbage in as in the game
+            if (random.nextInt(3) == 0) {
+                match.onLock(VersusMatch.Side.BOT, 2 + random.nextInt(3));
+            }
+            int pending = match.getPending(VersusMatch.Side.HUMAN);
+            boolean toppedOut = GameController.exchangeGarbage(board, match, recorder,
+                    down.getClearRow().getLinesRemoved());
+            garbageRows += pending - match.getPending(VersusMatch.Side.HUMAN);
+            if (toppedOut || game.isGameOver()) {
+                game.createNewGame();
+                match.reset();
+                recorder.snapshot(board, true);
+            } else if (recorder.isSnapshotDue()) {
+                recorder.snapshot(board, false);
+            }
+        }
+
+        Replay.Result replay = Replay.play(recorder.dump("test").lines().toList());
+
+        assertTrue(garbageRows > 20, "The game should have taken garbage, got " + garbageRows + " rows");
+        assertEquals(List.of(), replay.getMismatches(), "Every snapshot should match the replayed board");
+        assertTrue(replay.getChecks() > 10, "Snapshots after locks should be checked, got " + replay.getChecks());
+        assertTrue(Arrays.deepEquals(board.getBoardMatrix(), replay.getBoard().getBoardMatrix()),
+                "The replay should end on the board that was played");
+    }
+}
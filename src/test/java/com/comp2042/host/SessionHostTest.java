@@ -0,0 +1,97 @@
+package com.comp2042.host;
+
+import com.comp2042.GameConfig;
+import com.comp2042.HighScoreTable;
+import com.comp2042.events.EventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHostTest {
+
+    private static final long TICK_NANOS = 1_000_000;
+
+    @Test
+    void testSessionsKeepTheirOwnSettings() throws InterruptedException {
+        int globalLevel = GameConfig.getStartLevel();
+        try (SessionHost host = new SessionHost(2, TICK_NANOS)) {
+            GameSession slow = host.open(new SessionConfig(1, 5));
+            GameSession fast = host.open(new SessionConfig(7, 5));
+            Thread.sleep(20);
+
+            assertEquals(1, slow.getBoard().getScore().levelProperty().get());
+            assertEquals(7, fast.getBoard().getScore().levelProperty().get());
+            assertEquals(globalLevel, GameConfig.getStartLevel(), "Sessions should not touch the global level");
+            assertTrue(slow.getTicks() > 0 && fast.getTicks() > 0, "Both sessions should be ticking");
+        }
+    }
+
+    @Test
+    void testGravityOnlySessionsAreReproducible(@TempDir Path dir) throws InterruptedException {
+        HighScoreTable tableA = new HighScoreTable(dir.resolve("a.txt"), 3);
+        HighScoreTable tableB = new HighScoreTable(dir.resolve("b.txt"), 3);
+        try (SessionHost host = new SessionHost(4, TICK_NANOS)) {
+            // Sixteen copies of the same game plus noise sessions, spread over all workers
+            for (int i = 0; i < 16; i++) {
+                host.open(new SessionConfig(1, 99, 1, tableA));
+                host.open(new SessionConfig(3, i, 1, tableB));
+            }
+            waitForAll(host);
+
+            List<GameSession> sessions = host.getSessions();
+            GameSession reference = sessions.get(0);
+            for (int i = 0; i < sessions.size(); i += 2) {
+                GameSession copy = sessions.get(i);
+                assertTrue(copy.isFinished());
+                assertEquals(reference.getTicks(), copy.getTicks(), "Same seed should take the same number of ticks");
+                assertEquals(reference.getBoard().getScore().scoreProperty().get(),
+                        copy.getBoard().getScore().scoreProperty().get());
+            }
+            assertFalse(tableA.getTopScores().isEmpty(), "Finished sessions should record to their own table");
+            assertFalse(tableB.getTopScores().isEmpty());
+            assertTrue(reference.getTickLatency().getCount() > 0, "Every tick should record its latency");
+            String report = host.report();
+            assertTrue(report.contains("worker 3"), "Report should list every worker");
+        }
+    }
+
+    @Test
+    void testInputsAndStop() throws InterruptedException {
+        try (SessionHost host = new SessionHost(1, TICK_NANOS)) {
+            GameSession session = host.open(new SessionConfig(1, 3));
+            for (int i = 0; i < 200 && !session.isFinished(); i++) {
+                session.submit(EventType.HARD_DROP);
+                Thread.sleep(1);
+            }
+            waitFor(session);
+            assertTrue(session.isFinished(), "Hard-dropping every tick should top out");
+            assertFalse(session.submit(EventType.LEFT), "A finished session should refuse inputs");
+
+            GameSession stopped = host.open(new SessionConfig(1, 4));
+            stopped.stop();
+            long ticks = stopped.getTicks();
+            Thread.sleep(10);
+            assertTrue(stopped.getTicks() <= ticks + 1, "A stopped session should not keep ticking");
+            assertEquals(0, host.getLiveCount());
+        }
+    }
+
+    private static void waitForAll(SessionHost host) throws InterruptedException {
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (host.getLiveCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, host.getLiveCount(), "Every session should finish");
+    }
+
+    private static void waitFor(GameSession session) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!session.isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+}
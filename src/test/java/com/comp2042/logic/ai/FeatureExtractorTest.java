@@ -0,0 +1,143 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeatureExtractorTest {
+
+    private static final int W = GameConfig.COLS;
+    private static final int H = GameConfig.ROWS;
+
+    @Test
+    void testKnownBoard() {
+        BitBoard board = new BitBoard(W, H);
+        // Bottom row: everything except column 4, with a roof over the gap in the row above
+        board.setRow(H - 1, 0b11_1110_1111);
+        board.setRow(H - 2, 0b00_0011_1000);
+
+        int[] features = new FeatureExtractor(W, H).compute(board);
+
+        assertEquals(1, features[FeatureExtractor.HOLES], "Column 4 has one hole");
+        assertEquals(1, features[FeatureExtractor.COVERED_CELLS], "Only the roof cell covers the hole");
+        assertEquals(2, features[FeatureExtractor.MAX_HEIGHT]);
+        assertEquals(3 * 2 + 7 * 1, features[FeatureExtractor.AGGREGATE_HEIGHT]);
+        assertEquals(naive(board)[FeatureExtractor.WELLS], features[FeatureExtractor.WELLS]);
+    }
+
+    @Test
+    void testComputeMatchesCellByCellScan() {
+        SplittableRandom random = new SplittableRandom(7);
+        FeatureExtractor extractor = new FeatureExtractor(W, H);
+        BitBoard board = new BitBoard(W, H);
+
+        for (int i = 0; i < 500; i++) {
+            // Random ragged stacks with plenty of holes and overhangs
+            for (int r = 0; r < H; r++) {
+                board.setRow(r, r < H / 2 ? 0 : random.nextInt(1 << W) & random.nextInt(1 << W) | random.nextInt(1 << W));
+            }
+            assertArrayEquals(naive(board), extractor.compute(board), "Bit-parallel features should match a per-cell scan");
+        }
+    }
+
+    @Test
+    void testIncrementalUpdateMatchesFullCompute() {
+        SplittableRandom random = new SplittableRandom(42);
+        BitBoard board = new BitBoard(W, H);
+        MoveGenerator generator = new MoveGenerator(W, H);
+        FeatureExtractor incremental = new FeatureExtractor(W, H);
+        FeatureExtractor full = new FeatureExtractor(W, H);
+        incremental.compute(board);
+
+        for (int i = 0; i < 300; i++) {
+            int id = 1 + random.nextInt(7);
+            int count = generator.generate(board, id);
+            if (count == 0) {
+                board = new BitBoard(W, H);
+                incremental.compute(board);
+                continue;
+            }
+            int p = generator.placement(random.nextInt(count));
+            int rotation = Placement.rotation(p);
+            int cleared = board.place(id, rotation, Placement.x(p), Placement.y(p));
+
+            incremental.update(board, id, rotation, Placement.x(p), Placement.y(p), cleared);
+            assertArrayEquals(full.compute(board), incremental.features(), "Incremental update should match a full compute");
+        }
+    }
+
+    // Straightforward per-cell reference implementation of every feature
+    private static int[] naive(BitBoard board) {
+        int[] f = new int[FeatureExtractor.FEATURE_COUNT];
+        int[] heights = new int[W];
+        for (int c = 0; c < W; c++) {
+            int top = H;
+            for (int r = 0; r < H; r++) {
+                if (filled(board, r, c)) {
+                    top = r;
+                    break;
+                }
+            }
+            heights[c] = H - top;
+            f[FeatureExtractor.AGGREGATE_HEIGHT] += heights[c];
+            f[FeatureExtractor.MAX_HEIGHT] = Math.max(f[FeatureExtractor.MAX_HEIGHT], heights[c]);
+
+            int lowestHole = -1;
+            for (int r = top; r < H; r++) {
+                if (!filled(board, r, c)) {
+                    f[FeatureExtractor.HOLES]++;
+                    lowestHole = r;
+                }
+            }
+            for (int r = top; r < lowestHole; r++) {
+                if (filled(board, r, c)) {
+                    f[FeatureExtractor.COVERED_CELLS]++;
+                }
+            }
+
+            int depth = 0;
+            for (int r = 0; r < top; r++) {
+                boolean left = c == 0 || filled(board, r, c - 1);
+                boolean right = c == W - 1 || filled(board, r, c + 1);
+                depth = left && right ? depth + 1 : 0;
+                f[FeatureExtractor.WELLS] += depth;
+            }
+
+            boolean previous = false;
+            for (int r = 0; r < H; r++) {
+                boolean cell = filled(board, r, c);
+                if (cell != previous) {
+                    f[FeatureExtractor.COLUMN_TRANSITIONS]++;
+                }
+                previous = cell;
+            }
+            if (!previous) {
+                f[FeatureExtractor.COLUMN_TRANSITIONS]++;
+            }
+        }
+        for (int c = 1; c < W; c++) {
+            f[FeatureExtractor.BUMPINESS] += Math.abs(heights[c] - heights[c - 1]);
+        }
+        for (int r = 0; r < H; r++) {
+            boolean previous = true;
+            for (int c = 0; c < W; c++) {
+                boolean cell = filled(board, r, c);
+                if (cell != previous) {
+                    f[FeatureExtractor.ROW_TRANSITIONS]++;
+                }
+                previous = cell;
+            }
+            if (!previous) {
+                f[FeatureExtractor.ROW_TRANSITIONS]++;
+            }
+        }
+        return f;
+    }
+
+    private static boolean filled(BitBoard board, int r, int c) {
+        return (board.row(r) & (1 << c)) != 0;
+    }
+}
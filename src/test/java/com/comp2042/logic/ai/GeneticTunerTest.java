@@ -0,0 +1,108 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeneticTunerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testLockstepGamesMatchGamesOnTheRealBoard() {
+        SplittableRandom random = new SplittableRandom(13);
+        Evaluator[] evaluators = new Evaluator[6];
+        long[] seeds = new long[evaluators.length];
+        for (int g = 0; g < evaluators.length; g++) {
+            // The default weights play long games; random ones lose early, so both ends are covered
+            double[] weights = new Evaluator().getWeights();
+            if (g % 2 == 1) {
+                for (int i = 0; i < weights.length; i++) {
+                    weights[i] = random.nextDouble(-1, 1);
+                }
+            }
+            evaluators[g] = new Evaluator(weights);
+            seeds[g] = 90L + g;
+        }
+
+        SimulatedGames games = new SimulatedGames(evaluators.length);
+        games.play(evaluators, seeds, 300);
+
+        int lines = 0;
+        for (int g = 0; g < evaluators.length; g++) {
+            Score score = new Score(1);
+            SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(seeds[g]), score);
+            int bricks = playOnSimpleBoard(new SimulatedGames(1), evaluators[g], board, 300);
+
+            assertEquals(score.scoreProperty().get(), games.getScore(g), "Game " + g + " should score the same");
+            assertEquals(score.linesClearedProperty().get(), games.getLines(g), "Game " + g + " should clear the same lines");
+            assertEquals(bricks, games.getBricks(g), "Game " + g + " should place the same bricks");
+            lines += games.getLines(g);
+        }
+        assertTrue(lines > 0, "The default weights should clear lines within 300 bricks");
+    }
+
+    @Test
+    void testResumedRunMatchesUninterruptedRun() throws IOException {
+        Path straight = dir.resolve("straight.csv");
+        Path resumed = dir.resolve("resumed.csv");
+
+        newTuner(straight).run(3);
+
+        newTuner(resumed).run(2);
+        // Simulate a crash in the middle of writing the next generation
+        Files.writeString(resumed, "2,0,12.5,0.1", StandardOpenOption.APPEND);
+        GeneticTuner tuner = newTuner(resumed);
+        List<Integer> reported = new ArrayList<>();
+        tuner.setProgressListener((generation, best, mean, nanos) -> reported.add(generation));
+        tuner.run(3);
+
+        assertEquals(2, tuner.getGeneration());
+        assertEquals(List.of(2), reported, "Only the generation played after resuming should be reported");
+        assertEquals(Files.readAllLines(straight), Files.readAllLines(resumed),
+                "Resuming should reproduce the uninterrupted log exactly");
+        assertEquals(1 + 3 * 4, Files.readAllLines(resumed).size(), "Header plus 3 generations of 4 candidates");
+    }
+
+    private static GeneticTuner newTuner(Path log) {
+        return new GeneticTuner(ForkJoinPool.commonPool(), 4, 2, 40, 7L, log);
+    }
+
+    // The same greedy player on a SimpleBoard, scored like GameController.onHardDropEvent
+    private static int playOnSimpleBoard(SimulatedGames chooser, Evaluator evaluator, SimpleBoard game, int maxBricks) {
+        BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        int bricks = 0;
+        boolean gameOver = game.createNewBrick();
+        while (!gameOver && bricks < maxBricks) {
+            board.load(game.getBoardMatrix());
+            int best = chooser.choose(evaluator, board, game.getCurrentBrickId());
+            if (best == BeamSearch.NO_MOVE) {
+                break;
+            }
+            int cleared = game.placeBrick(Placement.rotation(best), Placement.x(best));
+            assertNotEquals(Board.PLACEMENT_INVALID, cleared, "The chosen placement should fit");
+            game.getScore().add((Placement.y(best) - GameConfig.SPAWN_Y) * 2);
+            game.getScore().processLineClear(cleared, MatrixOperations.lineClearBonus(cleared));
+            bricks++;
+            gameOver = game.createNewBrick();
+        }
+        return bricks;
+    }
+}
@@ -0,0 +1,85 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.events.EventType;
+import com.comp2042.logic.bricks.BrickFactory;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.testhelpers.StubBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    private final MoveGenerator generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+
+    @Test
+    void testEmptyBoardPlacementCounts() {
+        BitBoard empty = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+
+        assertEquals(17, generator.generate(empty, 1), "I-Brick: 7 horizontal + 10 vertical placements");
+        assertEquals(9, generator.generate(empty, 4), "O-Brick: 9 placements");
+        assertEquals(34, generator.generate(empty, 6), "T-Brick: 8 + 9 + 8 + 9 placements");
+    }
+
+    @Test
+    void testFindsTuckUnderOverhang() {
+        BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        board.setRow(20, 0b0000111111); // Roof over columns 0-5
+
+        int count = generator.generate(board, 4);
+
+        boolean foundTuck = false;
+        for (int i = 0; i < count; i++) {
+            int p = generator.placement(i);
+            if (Placement.x(p) == -1 && Placement.y(p) == 22) {
+                foundTuck = true;
+            }
+        }
+        assertTrue(foundTuck, "O-Brick should be able to slide under the roof into the left corner");
+    }
+
+    @Test
+    void testPathsReplayOnSimpleBoard() {
+        int[][] garbage = new int[GameConfig.ROWS][GameConfig.COLS];
+        garbage[24] = new int[]{1, 1, 0, 1, 1, 1, 0, 1, 1, 1};
+        garbage[23] = new int[]{1, 0, 0, 0, 1, 0, 0, 0, 1, 1};
+        garbage[21] = new int[]{0, 0, 0, 0, 0, 0, 0, 1, 1, 0};
+
+        for (int id = 1; id <= BrickShapeTable.BRICK_TYPES; id++) {
+            int count = generator.generate(BitBoard.fromMatrix(garbage), id);
+            EventType[] moves = new EventType[generator.maxPathLength()];
+
+            for (int i = 0; i < count; i++) {
+                int p = generator.placement(i);
+                StubBrickGenerator stub = new StubBrickGenerator();
+                stub.addBrick(BrickFactory.createBrick(id));
+                SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, stub);
+                board.createNewBrick();
+                for (int r = 0; r < garbage.length; r++) {
+                    System.arraycopy(garbage[r], 0, board.getBoardMatrix()[r], 0, GameConfig.COLS);
+                }
+
+                int length = generator.path(i, moves);
+                for (int m = 0; m < length; m++) {
+                    switch (moves[m]) {
+                        case LEFT -> board.moveBrickLeft();
+                        case RIGHT -> board.moveBrickRight();
+                        case ROTATE -> board.rotateLeftBrick();
+                        case DOWN -> board.moveBrickDown();
+                        case HARD_DROP -> board.dropBrickToBottom();
+                        default -> fail("Unexpected move " + moves[m]);
+                    }
+                }
+
+                ViewData view = board.getViewData();
+                assertEquals(Placement.x(p), view.getxPosition(), "Replayed x should match the placement");
+                assertEquals(Placement.y(p), view.getyPosition(), "Replayed y should match the placement");
+                assertArrayEquals(BrickShapeTable.shape(id, Placement.rotation(p)), view.getBrickData(),
+                        "Replayed rotation should match the placement");
+            }
+        }
+    }
+}
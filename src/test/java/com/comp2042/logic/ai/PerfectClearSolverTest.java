@@ -0,0 +1,138 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import com.comp2042.testhelpers.StubBrickGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerfectClearSolverTest {
+
+    private static final int I = 1;
+    private static final int O = 4;
+    private static final int S = 5;
+
+    // Plays solution steps from..to-1 on a real board, checking each brick is the expected one
+    private static void replay(SimpleBoard board, PerfectClearSolver.Solution solution, int from, int to) {
+        for (int step = from; step < to; step++) {
+            if (solution.holdFirst(step)) {
+                board.holdBrick();
+            }
+            assertEquals(solution.brickId(step), BrickShapeTable.idOf(board.getViewData().getBrickData()),
+                    "Step " + step + " should place the brick the solver expected");
+            assertNotEquals(Board.PLACEMENT_INVALID, board.placeBrick(solution.rotation(step), solution.column(step)),
+                    "Step " + step + " should be a legal placement");
+            board.createNewBrick();
+        }
+    }
+
+    private static boolean isEmpty(int[][] matrix) {
+        for (int[] row : matrix) {
+            for (int cell : row) {
+                if (cell != 0) return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void testTwoLineClearFromEmptyBoard() {
+        StubBrickGenerator gen = new StubBrickGenerator();
+        gen.addBrick(new IBrick());
+        gen.addBrick(new IBrick());
+        gen.addBrick(new OBrick());
+        gen.addBrick(new IBrick());
+        gen.addBrick(new IBrick());
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, gen);
+        board.createNewBrick();
+
+        PerfectClearSolver solver = new PerfectClearSolver();
+        PerfectClearSolver.Solution solution = solver.solve(board.getBoardMatrix(), I, 0, new int[]{I, O, I, I}, 4);
+
+        assertNotNull(solution, "I, I, O, I, I can fill two rows");
+        assertEquals(2, solution.getRows());
+        assertEquals(5, solution.length());
+        replay(board, solution, 0, solution.length());
+        assertTrue(isEmpty(board.getBoardMatrix()), "Replaying the solution should leave an empty board");
+    }
+
+    @Test
+    void testImpossibleQueueHasNoSolution() {
+        int[][] matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+        PerfectClearSolver solver = new PerfectClearSolver();
+
+        assertNull(solver.solve(matrix, S, 0, new int[]{S, S, S, S, S, S}, 6), "S bricks alone cannot fill a flat floor");
+        assertFalse(solver.timedOut(), "The search should prove there is no solution");
+    }
+
+    @Test
+    void testRejectsTallStacks() {
+        int[][] matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+        matrix[GameConfig.ROWS - 1 - PerfectClearSolver.MAX_ROWS][0] = 2;
+
+        assertNull(new PerfectClearSolver().solve(matrix, I, 0, new int[]{I, I, I}, 3));
+    }
+
+    @Test
+    void testFourLineSetupFinishesWithinBudget() {
+        // Finds a full 4-line opener with a generous budget, then plays half of it
+        SeededBrickGenerator preview = new SeededBrickGenerator(1);
+        int first = BrickShapeTable.idOf(preview.getBrick());
+        int[] queue = PerfectClearSolver.queueOf(preview, 10);
+        PerfectClearSolver.Solution opener = new PerfectClearSolver(TimeUnit.SECONDS.toNanos(10))
+                .solve(new int[GameConfig.ROWS][GameConfig.COLS], first, 0, queue, queue.length);
+        assertNotNull(opener);
+        assertEquals(4, opener.getRows());
+
+        SeededBrickGenerator gen = new SeededBrickGenerator(1);
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, gen);
+        board.createNewBrick();
+        replay(board, opener, 0, 5);
+
+        // The remaining setup must be solved again from the board, within the default 100 ms
+        ViewData view = board.getViewData();
+        int current = BrickShapeTable.idOf(view.getBrickData());
+        int hold = view.getHoldBrickData() != null ? BrickShapeTable.idOf(view.getHoldBrickData()) : 0;
+        int[] next = PerfectClearSolver.queueOf(gen, 6);
+        PerfectClearSolver solver = new PerfectClearSolver();
+        PerfectClearSolver.Solution rest = solver.solve(board.getBoardMatrix(), current, hold, next, next.length);
+
+        assertNotNull(rest, "The half-built opener should still have a perfect clear");
+        assertFalse(solver.timedOut());
+        replay(board, rest, 0, rest.length());
+        assertTrue(isEmpty(board.getBoardMatrix()), "Finishing the opener should leave an empty board");
+    }
+
+    @Test
+    void testCacheRoundTripsThroughFile(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("pc.txt");
+        int[][] matrix = new int[GameConfig.ROWS][GameConfig.COLS];
+        int[] queue = {I, O, I, I};
+
+        PerfectClearCache cache = new PerfectClearCache(file);
+        PerfectClearSolver.Solution solved = cache.solve(new PerfectClearSolver(), matrix, I, 0, queue, 4);
+        cache.solve(new PerfectClearSolver(), matrix, S, 0, new int[]{S, S, S, S, S}, 5);
+        cache.save();
+
+        PerfectClearCache reloaded = new PerfectClearCache(file);
+        PerfectClearSolver unused = new PerfectClearSolver();
+        PerfectClearSolver.Solution cached = reloaded.solve(unused, matrix, I, 0, queue, 4);
+
+        assertEquals(2, reloaded.size(), "Both answers, including 'no solution', should be stored");
+        assertEquals(0, unused.nodes(), "A cached problem should not be searched again");
+        assertEquals(PerfectClearCache.encode(solved), PerfectClearCache.encode(cached));
+        assertNull(reloaded.solve(unused, matrix, S, 0, new int[]{S, S, S, S, S}, 5));
+    }
+}
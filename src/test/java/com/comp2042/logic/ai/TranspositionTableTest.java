@@ -0,0 +1,81 @@
+package com.comp2042.logic.ai;
+
+import com.comp2042.GameConfig;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void testIncrementalHashMatchesFullHash() {
+        BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        MoveGenerator generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+        SplittableRandom random = new SplittableRandom(42);
+        int totalCleared = 0;
+
+        for (int i = 0; i < 300; i++) {
+            int id = 1 + random.nextInt(7);
+            int count = generator.generate(board, id);
+            if (count == 0) {
+                break;
+            }
+            // Prefer low placements so the stack keeps clearing lines
+            int best = 0;
+            for (int j = 1; j < count; j++) {
+                if (Placement.y(generator.placement(j)) > Placement.y(generator.placement(best))) {
+                    best = j;
+                }
+            }
+            int p = generator.placement(random.nextInt(4) == 0 ? random.nextInt(count) : best);
+            totalCleared += board.place(id, Placement.rotation(p), Placement.x(p), Placement.y(p));
+
+            assertEquals(Zobrist.hash(toMatrix(board)), board.hash(), "Incremental hash should match a full rehash");
+        }
+        assertTrue(totalCleared > 0, "The sequence should exercise line clears");
+    }
+
+    @Test
+    void testStoreAndProbe() {
+        TranspositionTable table = new TranspositionTable(1024);
+        long key = 0x1234_5678_9ABC_DEF0L;
+
+        assertEquals(TranspositionTable.MISS, table.probe(key), "Empty table should miss");
+
+        table.store(key, -3.5f, 2, Placement.of(1, -1, 20));
+        long entry = table.probe(key);
+
+        assertEquals(-3.5f, TranspositionTable.score(entry));
+        assertEquals(2, TranspositionTable.depth(entry));
+        assertEquals(Placement.of(1, -1, 20), TranspositionTable.move(entry));
+    }
+
+    @Test
+    void testDepthPreferredReplacement() {
+        // A single bucket, so all three keys compete for the same two slots
+        TranspositionTable table = new TranspositionTable(1);
+        long deep = 1L;
+        long shallow = 2L;
+        long newest = 3L;
+
+        table.store(deep, 1f, 5, -1);
+        table.store(shallow, 2f, 1, -1);
+        table.store(newest, 3f, 0, -1);
+
+        assertNotEquals(TranspositionTable.MISS, table.probe(deep), "Deep entry should survive shallower stores");
+        assertEquals(TranspositionTable.MISS, table.probe(shallow), "Always-replace slot should hold the newest entry");
+        assertNotEquals(TranspositionTable.MISS, table.probe(newest));
+    }
+
+    private static int[][] toMatrix(BitBoard board) {
+        int[][] matrix = new int[board.getHeight()][board.getWidth()];
+        for (int r = 0; r < board.getHeight(); r++) {
+            for (int c = 0; c < board.getWidth(); c++) {
+                matrix[r][c] = (board.row(r) >>> c) & 1;
+            }
+        }
+        return matrix;
+    }
+}
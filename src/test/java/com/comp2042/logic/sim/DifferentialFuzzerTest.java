@@ -0,0 +1,80 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifferentialFuzzerTest {
+
+    // A board with a planted bug: bricks cannot be moved right past the middle of the board
+    private static final class StuckRightBoard extends SimpleBoard {
+        StuckRightBoard(BrickGenerator generator) {
+            super(GameConfig.COLS, GameConfig.ROWS, generator);
+        }
+
+        @Override
+        public boolean moveBrickRight() {
+            return getViewData().getxPosition() < GameConfig.COLS / 2 && super.moveBrickRight();
+        }
+    }
+
+    // A board with a planted bug that only shows once a line is cleared
+    private static final class StingyBoard extends SimpleBoard {
+        StingyBoard(BrickGenerator generator) {
+            super(GameConfig.COLS, GameConfig.ROWS, generator);
+        }
+
+        @Override
+        public ClearRow clearRows() {
+            ClearRow clearRow = super.clearRows();
+            return new ClearRow(clearRow.getLinesRemoved(), clearRow.getNewMatrix(), clearRow.getScoreBonus() / 2);
+        }
+    }
+
+    @Test
+    void testSimpleBoardAgreesWithItself() throws InterruptedException {
+        DifferentialFuzzer fuzzer = DifferentialFuzzer.againstSimpleBoard(
+                generator -> new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, generator));
+
+        assertNull(fuzzer.fuzz(200, 300, 1, 4), "The same implementation should never diverge");
+    }
+
+    @Test
+    void testActionsDependOnlyOnTheSeed() {
+        assertArrayEquals(DifferentialFuzzer.actions(7, 100), DifferentialFuzzer.actions(7, 100),
+                "A sequence should be reproducible from its seed");
+    }
+
+    @Test
+    void testFindsAndShrinksAMovementBug() throws InterruptedException {
+        DifferentialFuzzer fuzzer = DifferentialFuzzer.againstSimpleBoard(StuckRightBoard::new);
+
+        DifferentialFuzzer.Divergence divergence = fuzzer.fuzz(50, 200, 1, 4);
+
+        assertNotNull(divergence, "The planted bug should be found");
+        int[] actions = divergence.getActions();
+        assertTrue(actions.length <= 6,
+                "A few moves right should be enough to show the bug: " + divergence);
+        assertEquals(DifferentialFuzzer.RIGHT, actions[actions.length - 1] & 0xFF,
+                "The last action should be the move the buggy board refuses: " + divergence);
+        assertNotNull(fuzzer.check(divergence.getSeed(), actions), "The shrunk sequence should still diverge");
+    }
+
+    @Test
+    void testFindsAScoringBug() throws InterruptedException {
+        DifferentialFuzzer fuzzer = DifferentialFuzzer.againstSimpleBoard(StingyBoard::new);
+
+        DifferentialFuzzer.Divergence divergence = fuzzer.fuzz(200, 300, 1, 4);
+
+        assertNotNull(divergence, "The planted scoring bug should be found");
+        assertTrue(divergence.getDifference().contains("score"),
+                "The difference should be in the score: " + divergence);
+        int[] original = DifferentialFuzzer.actions(divergence.getSeed(), 300);
+        assertTrue(divergence.getActions().length < original.length,
+                "Shrinking should remove actions: " + divergence);
+    }
+}
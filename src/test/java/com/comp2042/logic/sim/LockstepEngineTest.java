@@ -0,0 +1,175 @@
+package com.comp2042.logic.sim;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.ai.FeatureExtractor;
+import com.comp2042.logic.ai.MoveGenerator;
+import com.comp2042.logic.ai.Placement;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LockstepEngineTest {
+
+    private static final int BOARDS = 16;
+
+    @Test
+    void testMatchesSimpleBoardForRandomInputs() {
+        LockstepEngine engine = new LockstepEngine(BOARDS);
+        engine.resetAll(500L, GameConfig.getStartLevel());
+        HeadlessGameController[] games = new HeadlessGameController[BOARDS];
+        for (int b = 0; b < BOARDS; b++) {
+            games[b] = new HeadlessGameController(
+                    new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(500L + b)));
+        }
+
+        SplittableRandom random = new SplittableRandom(3);
+        Planner planner = new Planner();
+        byte[] actions = new byte[BOARDS];
+        int totalLines = 0;
+        for (int step = 0; step < 4000; step++) {
+            for (int b = 0; b < BOARDS; b++) {
+                // Mostly a competent player, with random inputs mixed in so every rule gets exercised
+                actions[b] = random.nextInt(10) == 0
+                        ? (byte) random.nextInt(LockstepEngine.HOLD + 1)
+                        : planner.next(engine, b);
+            }
+            for (int b = 0; b < BOARDS; b++) {
+                if (!games[b].isGameOver()) {
+                    apply(games[b], actions[b]);
+                }
+            }
+            engine.step(actions);
+
+            for (int b = 0; b < BOARDS; b++) {
+                assertSameState(games[b], engine, b, step);
+            }
+        }
+        for (int b = 0; b < BOARDS; b++) {
+            totalLines += engine.getLines(b);
+        }
+        assertTrue(totalLines > 0, "The random games should clear some lines");
+        assertEquals(engine.getLiveCount(), (int) Arrays.stream(games).filter(g -> !g.isGameOver()).count());
+    }
+
+    @Test
+    void testSequenceMatchesSeededBrickGenerator() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(77L);
+        LockstepEngine engine = new LockstepEngine(1);
+        engine.reset(0, 77L, 1);
+        byte[] drop = {LockstepEngine.HARD_DROP};
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(BrickShapeTable.idOf(generator.getBrick()), engine.getPiece(0));
+            engine.step(drop);
+        }
+    }
+
+    // Feeds each board the moves towards its best placement, replanning whenever they run out
+    private static final class Planner {
+        private final BitBoard board = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        private final MoveGenerator generator = new MoveGenerator(GameConfig.COLS, GameConfig.ROWS);
+        private final FeatureExtractor features = new FeatureExtractor(GameConfig.COLS, GameConfig.ROWS);
+        private final BitBoard scratch = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+        private final Evaluator evaluator = new Evaluator();
+        private final EventType[] path = new EventType[generator.maxPathLength()];
+        private final byte[][] plans = new byte[BOARDS][path.length];
+        private final int[] planLength = new int[BOARDS];
+        private final int[] planIndex = new int[BOARDS];
+        private final int[] plannedBrick = new int[BOARDS];
+
+        byte next(LockstepEngine engine, int b) {
+            // Replan when the moves run out or a random input already locked the brick
+            if (planIndex[b] >= planLength[b] || plannedBrick[b] != engine.getBricks(b)) {
+                plan(engine, b);
+            }
+            return planIndex[b] < planLength[b] ? plans[b][planIndex[b]++] : LockstepEngine.HARD_DROP;
+        }
+
+        private void plan(LockstepEngine engine, int b) {
+            for (int r = 0; r < GameConfig.ROWS; r++) {
+                board.setRow(r, engine.row(b, r));
+            }
+            int id = engine.getPiece(b);
+            int count = generator.generate(board, id, engine.getX(b), engine.getY(b), engine.getRotation(b));
+            int best = -1;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                int p = generator.placement(i);
+                scratch.copyFrom(board);
+                int cleared = scratch.place(id, Placement.rotation(p), Placement.x(p), Placement.y(p));
+                double value = evaluator.lineReward(cleared) + evaluator.evaluate(features.compute(scratch));
+                if (value > bestScore) {
+                    bestScore = value;
+                    best = i;
+                }
+            }
+            plannedBrick[b] = engine.getBricks(b);
+            planIndex[b] = 0;
+            planLength[b] = best < 0 ? 0 : generator.path(best, path);
+            for (int i = 0; i < planLength[b]; i++) {
+                plans[b][i] = switch (path[i]) {
+                    case LEFT -> LockstepEngine.LEFT;
+                    case RIGHT -> LockstepEngine.RIGHT;
+                    case ROTATE -> LockstepEngine.ROTATE;
+                    case DOWN -> LockstepEngine.SOFT_DROP;
+                    default -> LockstepEngine.HARD_DROP;
+                };
+            }
+        }
+    }
+
+    private static void apply(HeadlessGameController game, byte action) {
+        switch (action) {
+            case LockstepEngine.LEFT -> game.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER));
+            case LockstepEngine.RIGHT -> game.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER));
+            case LockstepEngine.ROTATE -> game.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
+            case LockstepEngine.SOFT_DROP -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case LockstepEngine.GRAVITY -> game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
+            case LockstepEngine.HARD_DROP -> game.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+            case LockstepEngine.HOLD -> game.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER));
+            default -> { }
+        }
+    }
+
+    private static void assertSameState(HeadlessGameController game, LockstepEngine engine, int b, int step) {
+        String where = "board " + b + " at step " + step;
+        assertEquals(game.isGameOver(), engine.isGameOver(b), "Game over, " + where);
+        if (game.isGameOver()) {
+            return;
+        }
+        int[][] matrix = game.getBoard().getBoardMatrix();
+        for (int r = 0; r < GameConfig.ROWS; r++) {
+            int mask = 0;
+            for (int c = 0; c < GameConfig.COLS; c++) {
+                if (matrix[r][c] != 0) {
+                    mask |= 1 << c;
+                }
+            }
+            assertEquals(mask, engine.row(b, r), "Row " + r + ", " + where);
+        }
+        ViewData view = game.getBoard().getViewData();
+        assertEquals(game.getBoard().getCurrentBrickId(), engine.getPiece(b), "Piece, " + where);
+        assertEquals(view.getxPosition(), engine.getX(b), "X, " + where);
+        assertEquals(view.getyPosition(), engine.getY(b), "Y, " + where);
+        assertArrayEquals(BrickShapeTable.shape(engine.getPiece(b), engine.getRotation(b)), view.getBrickData(),
+                "Rotation, " + where);
+        Score score = game.getBoard().getScore();
+        assertEquals(score.scoreProperty().get(), engine.getScore(b), "Score, " + where);
+        assertEquals(score.linesClearedProperty().get(), engine.getLines(b), "Lines, " + where);
+        assertEquals(score.levelProperty().get(), engine.getLevel(b), "Level, " + where);
+    }
+}
@@ -0,0 +1,53 @@
+package com.comp2042.logic.sim;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelfPlayRunnerTest {
+
+    @Test
+    void testRunsAreReproducible() {
+        SelfPlayStats first = SelfPlayRunner.run(SelfPlayRunner.policy("greedy"), 16, 42, 60);
+        SelfPlayStats second = SelfPlayRunner.run(SelfPlayRunner.policy("greedy"), 16, 42, 60);
+
+        assertEquals(16, first.getGames());
+        assertEquals(first.getTotalScore(), second.getTotalScore(), "Same seeds should give the same scores");
+        assertEquals(first.getLines(), second.getLines(), "Same seeds should give the same lines");
+        assertEquals(first.getBricks(), second.getBricks(), "Same seeds should give the same brick counts");
+    }
+
+    @Test
+    void testSearchRunsAreReproducible() {
+        // The search ends on its depth, not its time budget, so the seed alone decides each game
+        SelfPlayStats first = SelfPlayRunner.run(SelfPlayRunner.policy("search"), 8, 42, 40);
+        SelfPlayStats second = SelfPlayRunner.run(SelfPlayRunner.policy("search"), 8, 42, 40);
+
+        assertEquals(8 * 40, first.getBricks(), "The search player should survive 40 bricks");
+        assertEquals(first.getTotalScore(), second.getTotalScore(), "Same seeds should give the same scores");
+        assertEquals(first.getLines(), second.getLines(), "Same seeds should give the same lines");
+    }
+
+    @Test
+    void testGreedyOutplaysRandom() {
+        SelfPlayStats random = SelfPlayRunner.run(SelfPlayRunner.policy("random"), 16, 7, 100);
+        SelfPlayStats greedy = SelfPlayRunner.run(SelfPlayRunner.policy("greedy"), 16, 7, 100);
+
+        assertTrue(greedy.getLines() > random.getLines(), "A greedy player should clear more lines than a random one");
+        assertEquals(16 * 100, greedy.getBricks(), "A greedy player should survive 100 bricks");
+    }
+
+    @Test
+    void testHistogramPercentiles() {
+        SelfPlayStats stats = new SelfPlayStats();
+        for (int score = 1; score <= 1000; score++) {
+            stats.record(score, 0, 1, true);
+        }
+
+        assertEquals(1, stats.getMinScore());
+        assertEquals(1000, stats.getMaxScore());
+        assertEquals(500.5, stats.getMeanScore(), 1e-9);
+        long p50 = stats.getScorePercentile(50);
+        assertTrue(p50 > 500 * 0.85 && p50 <= 500, "p50 should be within one bucket of 500, was " + p50);
+    }
+}
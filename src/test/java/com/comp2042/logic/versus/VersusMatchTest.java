@@ -0,0 +1,80 @@
+package com.comp2042.logic.versus;
+
+import com.comp2042.GameConfig;
+import com.comp2042.logic.ai.Evaluator;
+import com.comp2042.logic.sim.GreedyPolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersusMatchTest {
+
+    @Test
+    void testAttackTable() {
+        assertEquals(0, VersusMatch.attackFor(0));
+        assertEquals(0, VersusMatch.attackFor(1), "A single line should not attack");
+        assertEquals(1, VersusMatch.attackFor(2));
+        assertEquals(2, VersusMatch.attackFor(3));
+        assertEquals(4, VersusMatch.attackFor(4), "A tetris should send 4 rows");
+    }
+
+    @Test
+    void testAttackCancelsOwnGarbageFirst() {
+        VersusMatch match = new VersusMatch(1);
+
+        match.onLock(VersusMatch.Side.BOT, 4);
+        assertEquals(4, match.getPending(VersusMatch.Side.HUMAN), "The bot's tetris should queue 4 rows for the player");
+
+        match.onLock(VersusMatch.Side.HUMAN, 3);
+        assertEquals(2, match.getPending(VersusMatch.Side.HUMAN), "The player's attack should cancel 2 queued rows");
+        assertEquals(0, match.getPending(VersusMatch.Side.BOT), "A fully cancelled attack should send nothing");
+        assertEquals(0, match.getSent(VersusMatch.Side.HUMAN));
+
+        assertEquals(0, match.onLock(VersusMatch.Side.HUMAN, 1), "A single line should hold the garbage back");
+        assertEquals(2, match.onLock(VersusMatch.Side.HUMAN, 0), "A lock without a clear should let the garbage in");
+        assertEquals(0, match.getPending(VersusMatch.Side.HUMAN));
+    }
+
+    @Test
+    void testResetClearsQueues() {
+        VersusMatch match = new VersusMatch(1);
+        match.onLock(VersusMatch.Side.HUMAN, 4);
+
+        match.reset();
+
+        assertEquals(0, match.getPending(VersusMatch.Side.BOT));
+        assertEquals(0, match.getSent(VersusMatch.Side.HUMAN));
+    }
+
+    @Test
+    void testBotTakesGarbageBetweenTurns() {
+        VersusMatch match = new VersusMatch(3);
+        BotOpponent bot = new BotOpponent(match, new GreedyPolicy(new Evaluator()), 5, 1, 1000);
+
+        // Drives the bot directly instead of on its thread
+        bot.reset(0);
+        BotOpponent.Snapshot first = bot.getSnapshot();
+        assertEquals(0, first.getRound());
+        assertFalse(first.isGameOver());
+
+        for (int i = 0; i < 6; i++) {
+            match.onLock(VersusMatch.Side.HUMAN, 4);
+        }
+        while (match.getPending(VersusMatch.Side.BOT) > 0) {
+            bot.turn();
+        }
+
+        BotOpponent.Snapshot snapshot = bot.getSnapshot();
+        assertNotSame(first, snapshot, "Every turn should publish a new snapshot");
+        int garbageCells = 0;
+        for (int[] row : snapshot.getMatrix()) {
+            for (int cell : row) {
+                if (cell == GameConfig.GARBAGE_ID) garbageCells++;
+            }
+        }
+        assertTrue(garbageCells > 0 || snapshot.isGameOver(), "The queued garbage should have reached the bot's board");
+
+        bot.reset(1);
+        assertEquals(1, bot.getSnapshot().getRound(), "A restart should carry the caller's round");
+    }
+}
@@ -0,0 +1,115 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MetricsRegistryTest {
+
+    @Test
+    void testCountersAreExactUnderContention() throws InterruptedException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter locks = registry.counter("game.locks");
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    locks.increment();
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertSame(locks, registry.counter("game.locks"), "A name should always map to the same counter");
+        assertEquals(40_000, registry.getCounters().get("game.locks"));
+    }
+
+    @Test
+    void testGaugesAreReadWhenTheRegistryIsRead() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AtomicLong open = new AtomicLong(1);
+        registry.gauge("ui.sessions.open", open::get);
+
+        assertEquals(1L, registry.getGauges().get("ui.sessions.open"));
+        open.set(0);
+        assertEquals(0L, registry.getGauges().get("ui.sessions.open"));
+    }
+
+    @Test
+    void testDumpListsEveryMetric() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("game.clears.4").add(3);
+        registry.gauge("jvm.heap.used", () -> 42);
+        for (int i = 1; i <= 100; i++) {
+            registry.histogram("gui.refreshBrick.ns").record(i * 1000);
+        }
+
+        String dump = registry.dump();
+
+        assertTrue(dump.contains("counter game.clears.4 3"));
+        assertTrue(dump.contains("gauge jvm.heap.used 42"));
+        assertTrue(dump.contains("histogram gui.refreshBrick.ns count=100 min=1000"), dump);
+        assertTrue(dump.contains("max=100000"), dump);
+    }
+
+    @Test
+    void testRegistryIsReadableOverJmx() throws JMException {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("game.ticks").add(7);
+        registry.histogram("highscores.read.ns").record(5000);
+        String name = "com.comp2042.test:type=Metrics";
+        registry.registerMBean(name);
+        // Registering again under the same name replaces the old registry rather than failing
+        registry.registerMBean(name);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(name);
+        try {
+            TabularData counters = (TabularData) server.getAttribute(objectName, "Counters");
+            CompositeData ticks = counters.get(new Object[]{"game.ticks"});
+            assertEquals(7L, ticks.get("value"));
+
+            TabularData histograms = (TabularData) server.getAttribute(objectName, "Histograms");
+            CompositeData read = (CompositeData) histograms.get(new Object[]{"highscores.read.ns"}).get("value");
+            assertEquals(1L, read.get("count"));
+            assertEquals(5000L, read.get("max"));
+        } finally {
+            server.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void testDumperReplacesTheFile(@TempDir Path dir) throws IOException {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter overs = registry.counter("game.overs");
+        Path file = dir.resolve("metrics.txt");
+        MetricsDumper dumper = new MetricsDumper(registry, file);
+
+        overs.increment();
+        dumper.writeNow();
+        overs.increment();
+        dumper.close();
+
+        String text = Files.readString(file);
+        assertTrue(text.contains("counter game.overs 2"), "close() should write a final dump");
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count(), "No temporary files should be left behind");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class PerfSamplerTest {
+
+    private static final long MS = 1_000_000L;
+
+    // Sources the tests move forward by hand
+    private long pieces;
+    private long allocated;
+    private long gcCount;
+    private long gcMillis;
+
+    private PerfSampler newSampler() {
+        return new PerfSampler(() -> pieces, () -> allocated, () -> gcCount, () -> gcMillis);
+    }
+
+    @Test
+    void testRatesOverOneWindow() {
+        PerfSampler sampler = newSampler();
+        sampler.reset(1_000 * MS);
+        // 50 frames of 5 ms with one of 40 ms among them
+        long now = 1_000 * MS;
+        for (int i = 0; i <= 50; i++) {
+            sampler.frame(now);
+            now += i == 25 ? 40 * MS : 5 * MS;
+        }
+        sampler.tick(2 * MS);
+        sampler.tick(4 * MS);
+        pieces += 3;
+        allocated += 50 * 1024 * 1024;
+        gcCount += 2;
+        gcMillis += 7;
+
+        sampler.sample(1_500 * MS);
+
+        assertEquals(1000, sampler.getFpsTenths(), "50 frames in half a second is 100 FPS");
+        assertEquals(40 * MS, sampler.getFrameP99Nanos(), "The one long frame is the 99th percentile");
+        assertEquals(3 * MS, sampler.getTickMeanNanos());
+        assertEquals(100 * 1024 * 1024, sampler.getAllocatedPerSecond());
+        assertEquals(60, sampler.getPiecesPerSecondTenths(), "3 pieces in half a second is 6 per second");
+        assertEquals(2, sampler.getWindowGcCount());
+        assertEquals(7, sampler.getWindowGcMillis());
+    }
+
+    @Test
+    void testEachSampleStartsANewWindow() {
+        PerfSampler sampler = newSampler();
+        sampler.reset(0);
+        sampler.frame(1 * MS);
+        sampler.frame(11 * MS);
+        sampler.tick(5 * MS);
+        gcCount = 4;
+        sampler.sample(1_000 * MS);
+
+        sampler.frame(1_001 * MS);
+        CharSequence text = sampler.sample(2_000 * MS);
+
+        assertEquals(10, sampler.getFpsTenths(), "Only the frame in the new window counts");
+        assertEquals(0, sampler.getTickMeanNanos(), "No tick happened in the new window");
+        assertEquals(0, sampler.getWindowGcCount());
+        assertTrue(text.toString().contains("GC 4 (+0)"), "The total is kept across windows: " + text);
+    }
+
+    @Test
+    void testRenderedText() {
+        PerfSampler sampler = newSampler();
+        sampler.reset(0);
+        for (long t = 0; t <= 500; t += 20) {
+            sampler.frame(1 + t * MS);
+        }
+        sampler.tick(120_000);
+        pieces = 1;
+
+        String text = sampler.sample(500 * MS).toString();
+
+        assertTrue(text.startsWith("FPS 50.0  p99 20.0 ms\n"), text);
+        assertTrue(text.contains("tick 0.12 ms avg, 0.12 max\n"), text);
+        assertTrue(text.contains("alloc 0.0 MB/s"), text);
+        assertTrue(text.endsWith("pieces 2.0/s"), text);
+    }
+
+    @Test
+    void testUnknownAllocationIsShownAsNotAvailable() {
+        PerfSampler sampler = new PerfSampler(() -> 0, () -> -1, () -> 0, () -> 0);
+        sampler.reset(0);
+
+        String text = sampler.sample(500 * MS).toString();
+
+        assertEquals(-1, sampler.getAllocatedPerSecond());
+        assertTrue(text.contains("alloc n/a"), text);
+    }
+
+    @Test
+    void testSamplingAllocatesNothing() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "This JVM cannot count allocated bytes per thread");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long thread = Thread.currentThread().threadId();
+        PerfSampler sampler = newSampler();
+        sampler.reset(0);
+        long now = 0;
+        // Warm up, so the JIT has compiled the sampling code
+        for (int i = 0; i < 20_000; i++) {
+            now += 16 * MS;
+            sampler.frame(now);
+            sampler.tick(i);
+            if (i % 30 == 0) {
+                sampler.sample(now);
+            }
+        }
+
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 3_000; i++) {
+            now += 16 * MS;
+            sampler.frame(now);
+            sampler.tick(i);
+            if (i % 30 == 0) {
+                sampler.sample(now);
+            }
+        }
+        long bytes = threads.getThreadAllocatedBytes(thread) - before;
+
+        assertTrue(bytes < 1024, "Sampling should not allocate, but allocated " + bytes + " bytes");
+    }
+}
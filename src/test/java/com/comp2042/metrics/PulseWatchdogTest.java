@@ -0,0 +1,96 @@
+package com.comp2042.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PulseWatchdogTest {
+
+    private static final long MS = 1_000_000L;
+
+    // Stands in for an event handler that holds up the FX thread
+    private static void slowHandler(CountDownLatch stalled, CountDownLatch release) throws InterruptedException {
+        stalled.countDown();
+        release.await();
+    }
+
+    @Test
+    void testFastFramesAreNotReported(@TempDir Path dir) {
+        PulseWatchdog watchdog = new PulseWatchdog(20 * MS, Thread.currentThread(), () -> "state",
+                new FileRing(dir, "slow-frame-", ".txt", 5));
+
+        assertNull(watchdog.frame(1_000 * MS), "The first frame has nothing to compare with");
+        assertNull(watchdog.frame(1_016 * MS));
+        assertFalse(watchdog.check(1_030 * MS), "14 ms into a frame is still within the budget");
+        assertNull(watchdog.frame(1_035 * MS));
+    }
+
+    @Test
+    void testSlowFrameReportHasStackAndState() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread fx = new Thread(() -> {
+            try {
+                slowHandler(stalled, release);
+            } catch (InterruptedException ignored) {
+            }
+        }, "fake-fx");
+        fx.start();
+        assertTrue(stalled.await(5, TimeUnit.SECONDS));
+
+        try {
+            PulseWatchdog watchdog = new PulseWatchdog(20 * MS, fx, () -> "Handling: HARD_DROP from USER",
+                    new FileRing(Path.of("unused"), "slow-frame-", ".txt", 5));
+            watchdog.frame(1_000 * MS);
+            assertTrue(watchdog.check(1_025 * MS), "The stack should be taken once the budget is passed");
+            assertFalse(watchdog.check(1_030 * MS), "Only one capture is taken per frame");
+
+            String report = watchdog.frame(1_080 * MS);
+
+            assertNotNull(report);
+            assertTrue(report.startsWith("Slow frame: 80.0 ms"), report);
+            assertTrue(report.contains("Stack of \"fake-fx\" after 25.0 ms"), report);
+            assertTrue(report.contains("slowHandler"), "The stack should show where the thread was stuck");
+            assertTrue(report.contains("Handling: HARD_DROP from USER"), report);
+        } finally {
+            release.countDown();
+            fx.join();
+        }
+    }
+
+    @Test
+    void testCaptureFromAnEarlierFrameIsNotReused() {
+        PulseWatchdog watchdog = new PulseWatchdog(20 * MS, Thread.currentThread(), () -> "state",
+                new FileRing(Path.of("unused"), "slow-frame-", ".txt", 5));
+        watchdog.frame(1_000 * MS);
+        watchdog.check(1_030 * MS);
+        watchdog.frame(1_040 * MS);
+
+        String report = watchdog.frame(1_070 * MS);
+
+        assertNotNull(report);
+        assertTrue(report.contains("No stack was captured"), report);
+    }
+
+    @Test
+    void testLogKeepsOnlyTheNewestReports(@TempDir Path dir) throws IOException {
+        FileRing log = new FileRing(dir, "slow-frame-", ".txt", 3);
+        for (int i = 0; i < 5; i++) {
+            log.write("report " + i);
+        }
+
+        List<Path> reports = log.reports();
+
+        assertEquals(3, reports.size(), "The ring should never hold more than its capacity");
+        assertEquals("report 2", Files.readString(reports.get(0)), "The oldest reports should be deleted first");
+        assertEquals("report 4", Files.readString(reports.get(2)));
+    }
+}
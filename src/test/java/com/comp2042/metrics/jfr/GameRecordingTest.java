@@ -0,0 +1,89 @@
+package com.comp2042.metrics.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordingTest {
+
+    // Emits one of each game event, the way the game loop does
+    private static void playOneLock() {
+        GravityTickEvent tick = new GravityTickEvent();
+        tick.begin();
+        PieceLockEvent lock = new PieceLockEvent();
+        lock.begin();
+        LineClearEvent clear = new LineClearEvent();
+        clear.begin();
+        if (clear.shouldCommit()) {
+            clear.linesRemoved = 2;
+            clear.scoreBonus = 100;
+            clear.commit();
+        }
+        if (lock.shouldCommit()) {
+            lock.linesRemoved = 2;
+            lock.commit();
+        }
+        if (tick.shouldCommit()) {
+            tick.locked = true;
+            tick.linesRemoved = 2;
+            tick.commit();
+        }
+    }
+
+    private static List<RecordedEvent> record(Map<String, String> settings, Path file) throws IOException {
+        try (Recording recording = new Recording(settings)) {
+            recording.start();
+            playOneLock();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("com.comp2042."))
+                .toList();
+    }
+
+    @Test
+    void testProfileAddsGameEventsToTheDefaults() throws IOException, ParseException {
+        Map<String, String> settings = GameRecording.settings();
+
+        assertEquals("true", settings.get("com.comp2042.GravityTick#enabled"));
+        assertEquals("true", settings.get("com.comp2042.BoardRepaint#enabled"));
+        assertEquals("true", settings.get("jdk.GarbageCollection#enabled"), "The JDK's own events should stay on");
+    }
+
+    @Test
+    void testGameEventsAreRecordedWithTheProfile(@TempDir Path dir) throws IOException, ParseException {
+        List<RecordedEvent> events = record(GameRecording.settings(), dir.resolve("game.jfr"));
+
+        assertEquals(3, events.size());
+        RecordedEvent clear = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.LineClear"))
+                .findFirst().orElseThrow();
+        assertEquals(2, clear.getInt("linesRemoved"));
+        assertEquals(100, clear.getInt("scoreBonus"));
+        RecordedEvent tick = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.GravityTick"))
+                .findFirst().orElseThrow();
+        assertTrue(tick.getBoolean("locked"));
+    }
+
+    @Test
+    void testGameEventsAreOffWithoutTheProfile(@TempDir Path dir) throws IOException, ParseException {
+        List<RecordedEvent> events = record(Configuration.getConfiguration("default").getSettings(),
+                dir.resolve("default.jfr"));
+
+        assertTrue(events.isEmpty(), "The game's events should only be recorded when tetris.jfc is used");
+        assertFalse(new GravityTickEvent().shouldCommit(), "With no recording, events are never committed");
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.model;
 
+import com.comp2042.GameConfig;
 import com.comp2042.logic.bricks.IBrick;
 import com.comp2042.testhelpers.StubBrickGenerator;
 import org.junit.jupiter.api.BeforeEach;
@@ -58,4 +59,98 @@ class SimpleBoardTest {
         board.rotateLeftBrick();
         assertNotNull(board.getViewData().getBrickData(), "Brick data should not be null after rotation");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPlaceBrickLandsOnFloor() {
+        int lines = board.placeBrick(0, 0);
+
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        assertEquals(0, lines, "No lines should be cleared on an empty board");
+        for (int col = 0; col < 4; col++) {
+            assertEquals(1, matrix[bottom][col], "Horizontal I-Brick should rest on the floor");
+        }
+        assertEquals(0, matrix[bottom][4], "Cells outside the brick should stay empty");
+    }
+
+    @Test
+    void testPlaceBrickClearsLine() {
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        for (int col = 4; col < matrix[bottom].length; col++) {
+            matrix[bottom][col] = 2;
+        }
+
+        int lines = board.placeBrick(0, 0);
+
+        assertEquals(1, lines, "Completing the bottom row should clear exactly 1 line");
+        for (int cell : board.getBoardMatrix()[bottom]) {
+            assertEquals(0, cell, "Bottom row should be empty after the clear");
+        }
+    }
+
+    @Test
+    void testPlaceBrickRejectsWall() {
+        assertEquals(Board.PLACEMENT_INVALID, board.placeBrick(0, 7), "I-Brick cannot stick out of the right wall");
+        assertEquals(Board.PLACEMENT_INVALID, board.placeBrick(2, 0), "I-Brick only has 2 rotations");
+    }
+
+    @Test
+    void testPlaceBrickMatchesManualDrop() {
+        StubBrickGenerator otherGen = new StubBrickGenerator();
+        otherGen.addBrick(new IBrick());
+        SimpleBoard manual = new SimpleBoard(10, 20, otherGen);
+        manual.createNewBrick();
+
+        manual.rotateLeftBrick();
+        while (manual.getViewData().getxPosition() < 8) {
+            manual.moveBrickRight();
+        }
+        manual.dropBrickToBottom();
+        manual.mergeBrickToBackground();
+        manual.clearRows();
+
+        board.placeBrick(1, 8);
+
+        assertArrayEquals(manual.getBoardMatrix(), board.getBoardMatrix(), "Direct placement should match step-by-step play");
+    }
+
+    @Test
+    void testAddGarbageRowsShiftsStack() {
+        int[][] matrix = board.getBoardMatrix();
+        int bottom = matrix.length - 1;
+        matrix[bottom][0] = 2;
+
+        boolean over = board.addGarbageRows(2, 5);
+
+        matrix = board.getBoardMatrix();
+        assertFalse(over, "Two garbage rows should fit on an almost empty board");
+        assertEquals(2, matrix[bottom - 2][0], "Existing blocks should move up by the number of garbage rows");
+        for (int row = bottom - 1; row <= bottom; row++) {
+            for (int col = 0; col < matrix[row].length; col++) {
+                int expected = col == 5 ? 0 : GameConfig.GARBAGE_ID;
+                assertEquals(expected, matrix[row][col], "Garbage rows should be full except for the hole");
+            }
+        }
+    }
+
+    @Test
+    void testAddGarbageRowsDetectsOverflow() {
+        board.getBoardMatrix()[0][0] = 3;
+
+        assertTrue(board.addGarbageRows(1, 0), "Pushing a block off the top should end the game");
+    }
+
+    @Test
+    void testAddGarbageRowsLiftsActiveBrick() {
+        while (board.moveBrickDown()) {
+            // Lands the brick on the floor without locking it
+        }
+        int landedY = board.getViewData().getyPosition();
+
+        boolean over = board.addGarbageRows(2, 9);
+
+        assertFalse(over, "The brick should be lifted clear of the garbage");
+        assertEquals(landedY - 2, board.getViewData().getyPosition(), "The brick should rise with the stack");
+    }
+}
@@ -0,0 +1,127 @@
+package com.comp2042.replay;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.DownData;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderTest {
+
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.ROTATE,
+            EventType.DOWN, EventType.DOWN, EventType.HARD_DROP, EventType.HOLD};
+
+    // Plays random moves, recording them the way GameController does
+    private static HeadlessGameController play(FlightRecorder recorder, long seed, int moves) {
+        Random random = new Random(seed);
+        SimpleBoard board = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS,
+                new RecordingBrickGenerator(new SeededBrickGenerator(seed), recorder));
+        HeadlessGameController game = new HeadlessGameController(board);
+        game.createNewGame();
+        recorder.snapshot(board, true);
+        for (int i = 0; i < moves; i++) {
+            if (game.isGameOver() || i == moves / 2) {
+                // The player starts again
+                game.createNewGame();
+                recorder.snapshot(board, true);
+            }
+            MoveEvent event = new MoveEvent(MOVES[random.nextInt(MOVES.length)],
+                    random.nextBoolean() ? EventSource.USER : EventSource.THREAD);
+            recorder.move(event);
+            DownData down = switch (event.getEventType()) {
+                case DOWN -> game.onDownEvent(event);
+                case HARD_DROP -> game.onHardDropEvent(event);
+                default -> {
+                    switch (event.getEventType()) {
+                        case LEFT -> game.onLeftEvent(event);
+                        case RIGHT -> game.onRightEvent(event);
+                        case ROTATE -> game.onRotateEvent(event);
+                        default -> game.onHoldEvent(event);
+                    }
+                    yield null;
+                }
+            };
+            if (down != null && down.getClearRow() != null && !game.isGameOver()) {
+                if (random.nextInt(8) == 0) {
+                    int hole = random.nextInt(GameConfig.COLS);
+                    recorder.garbage(1, hole);
+                    game.receiveGarbage(1, hole);
+                }
+                if (!game.isGameOver() && recorder.isSnapshotDue()) {
+                    recorder.snapshot(board, false);
+                }
+            }
+        }
+        return game;
+    }
+
+    private static void assertReplays(HeadlessGameController live, Replay.Result replay) {
+        assertEquals(List.of(), replay.getMismatches(), "Every snapshot should match the replayed board");
+        assertTrue(Arrays.deepEquals(live.getBoard().getBoardMatrix(), replay.getBoard().getBoardMatrix()),
+                "The replay should end on the board that was played");
+        assertEquals(live.getBoard().getCurrentBrickId(), replay.getBoard().getCurrentBrickId());
+        assertEquals(live.getBoard().getHoldBrickId(), replay.getBoard().getHoldBrickId());
+    }
+
+    @Test
+    void testDumpReplaysToTheSameBoard() {
+        FlightRecorder recorder = new FlightRecorder(4096, 16, 60_000, 0);
+        HeadlessGameController live = play(recorder, 7, 1500);
+
+        Replay.Result replay = Replay.play(recorder.dump("test").lines().toList());
+
+        assertReplays(live, replay);
+        assertTrue(replay.getGames() >= 2, "New games should restart the replay, got " + replay.getGames());
+        assertTrue(replay.getChecks() > 10, "Snapshots after locks should be checked, got " + replay.getChecks());
+    }
+
+    @Test
+    void testReplayReportsDrift() {
+        FlightRecorder recorder = new FlightRecorder(4096, 16, 60_000, 0);
+        play(recorder, 3, 400);
+        List<String> lines = new ArrayList<>(recorder.dump("test").lines().toList());
+        // Losing one hard drop puts every later brick somewhere else
+        lines.remove(lines.stream().filter(line -> line.contains("HARD_DROP")).findFirst().orElseThrow());
+
+        Replay.Result replay = Replay.play(lines);
+
+        assertFalse(replay.getMismatches().isEmpty(), "A replay that differs from the recording should be reported");
+    }
+
+    @Test
+    void testOverwrittenEntriesStillReplayFromAKeptSnapshot() {
+        FlightRecorder recorder = new FlightRecorder(256, 4, 60_000, 0);
+        HeadlessGameController live = play(recorder, 11, 1200);
+
+        String dump = recorder.dump("test");
+        Replay.Result replay = Replay.play(dump.lines().toList());
+
+        assertTrue(dump.lines().filter(line -> !line.startsWith("#")).count() < 256 + 4 * (GameConfig.ROWS + 1),
+                "Only what is left in the ring should be written");
+        assertTrue(replay.getMoves() < 600, "Moves from before the oldest kept entry are gone");
+        assertReplays(live, replay);
+    }
+
+    @Test
+    void testRecordingWithoutSnapshotCannotBeReplayed() {
+        FlightRecorder recorder = new FlightRecorder(16, 2, 60_000, 0);
+        assertTrue(recorder.isEmpty());
+        recorder.move(new MoveEvent(EventType.LEFT, EventSource.USER));
+
+        String dump = recorder.dump("test");
+
+        assertTrue(dump.contains("cannot be replayed"), dump);
+        assertThrows(IllegalArgumentException.class, () -> Replay.play(dump.lines().toList()));
+    }
+}
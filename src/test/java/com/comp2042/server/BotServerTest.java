@@ -0,0 +1,231 @@
+package com.comp2042.server;
+
+import com.comp2042.GameConfig;
+import com.comp2042.controller.HeadlessGameController;
+import com.comp2042.events.EventSource;
+import com.comp2042.events.EventType;
+import com.comp2042.events.MoveEvent;
+import com.comp2042.logic.ai.BitBoard;
+import com.comp2042.logic.bricks.BrickShapeTable;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import com.comp2042.model.Score;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotServerTest {
+
+    @Test
+    void testInputsMatchLocalGame() throws IOException {
+        try (BotServer server = startServer(2); SocketChannel client = connect(server)) {
+            SimpleBoard local = new SimpleBoard(GameConfig.COLS, GameConfig.ROWS, new SeededBrickGenerator(77), new Score(2));
+            HeadlessGameController game = new HeadlessGameController(local);
+
+            ByteBuffer frame = send(client, BotProtocol.OP_NEW_GAME, 2, 0, 0, 77);
+            assertEquals(2, frame.get(BotProtocol.OFFSET_LEVEL));
+            assertEquals(local.getCurrentBrickId(), frame.get(BotProtocol.OFFSET_PIECE));
+
+            SplittableRandom random = new SplittableRandom(5);
+            EventType[] types = EventType.values();
+            for (int i = 0; i < 400 && !game.isGameOver(); i++) {
+                EventType type = types[random.nextInt(types.length)];
+                frame = send(client, BotProtocol.OP_INPUT, type.ordinal(), 0, 0, 0);
+                MoveEvent event = new MoveEvent(type, EventSource.USER);
+                switch (type) {
+                    case DOWN -> game.onDownEvent(event);
+                    case LEFT -> game.onLeftEvent(event);
+                    case RIGHT -> game.onRightEvent(event);
+                    case ROTATE -> game.onRotateEvent(event);
+                    case HARD_DROP -> game.onHardDropEvent(event);
+                    case HOLD -> game.onHoldEvent(event);
+                }
+                assertEquals(local.getScore().scoreProperty().get(), frame.getInt(BotProtocol.OFFSET_SCORE));
+                assertEquals(local.getCurrentBrickId(), frame.get(BotProtocol.OFFSET_PIECE));
+                assertEquals(local.getViewData().getxPosition(), frame.get(BotProtocol.OFFSET_X));
+                assertEquals(local.getViewData().getyPosition(), frame.get(BotProtocol.OFFSET_Y));
+                ViewData view = local.getViewData();
+                assertEquals(BrickShapeTable.rotationOf(local.getCurrentBrickId(), view.getBrickData()),
+                        frame.get(BotProtocol.OFFSET_ROTATION), "Rotation after input " + i);
+                assertEquals(local.getHoldBrickId(), frame.get(BotProtocol.OFFSET_HOLD), "Hold after input " + i);
+                assertEquals(view.getNextBrickData().size(), frame.get(BotProtocol.OFFSET_QUEUE_LENGTH));
+                for (int q = 0; q < view.getNextBrickData().size(); q++) {
+                    assertEquals(BrickShapeTable.idOf(view.getNextBrickData().get(q)),
+                            frame.get(BotProtocol.OFFSET_QUEUE + q), "Queue " + q + " after input " + i);
+                }
+                BitBoard expected = BitBoard.fromMatrix(local.getBoardMatrix());
+                for (int r = 0; r < GameConfig.ROWS; r++) {
+                    assertEquals(expected.row(r), BotProtocol.row(frame, 0, r), "Row " + r + " after input " + i);
+                }
+                assertEquals(game.isGameOver(), (frame.get(BotProtocol.OFFSET_FLAGS) & BotProtocol.FLAG_GAME_OVER) != 0);
+            }
+        }
+    }
+
+    @Test
+    void testPlacementsLandWhereRequested() throws IOException {
+        try (BotServer server = startServer(1); SocketChannel client = connect(server)) {
+            ByteBuffer frame = send(client, BotProtocol.OP_NEW_GAME, 1, 0, 0, 12);
+            BitBoard mirror = new BitBoard(GameConfig.COLS, GameConfig.ROWS);
+            SplittableRandom random = new SplittableRandom(3);
+            int accepted = 0;
+            for (int i = 0; i < 60 && (frame.get(BotProtocol.OFFSET_FLAGS) & BotProtocol.FLAG_GAME_OVER) == 0; i++) {
+                int id = frame.get(BotProtocol.OFFSET_PIECE);
+                int rotation = random.nextInt(4);
+                int x = random.nextInt(-1, GameConfig.COLS);
+                frame = send(client, BotProtocol.OP_PLACE, rotation, x, BotProtocol.DROP_Y, 0);
+                if ((frame.get(BotProtocol.OFFSET_FLAGS) & BotProtocol.FLAG_REJECTED) != 0) {
+                    continue;
+                }
+                accepted++;
+                int cleared = mirror.place(id, rotation, x, mirror.dropY(id, rotation, x, GameConfig.SPAWN_Y));
+                assertEquals(cleared, frame.get(BotProtocol.OFFSET_LINES_CLEARED));
+                for (int r = 0; r < GameConfig.ROWS; r++) {
+                    assertEquals(mirror.row(r), BotProtocol.row(frame, 0, r), "Row " + r + " after placement " + i);
+                }
+            }
+            assertTrue(accepted > 10, "Most random placements should be reachable");
+        }
+    }
+
+    @Test
+    void testManyConcurrentConnections() throws IOException, InterruptedException {
+        int clients = 1000;
+        try (BotServer server = startServer(4)) {
+            List<SocketChannel> channels = new ArrayList<>();
+            try {
+                for (int i = 0; i < clients; i++) {
+                    channels.add(connect(server));
+                }
+                for (int i = 0; i < clients; i++) {
+                    send(channels.get(i), BotProtocol.OP_NEW_GAME, 1, 0, 0, i);
+                }
+                assertEquals(clients, server.getConnectionCount());
+
+                for (int round = 0; round < 5; round++) {
+                    for (SocketChannel channel : channels) {
+                        ByteBuffer frame = send(channel, BotProtocol.OP_INPUT, EventType.HARD_DROP.ordinal(), 0, 0, 0);
+                        assertEquals(round + 2, frame.getInt(BotProtocol.OFFSET_SEQUENCE));
+                    }
+                }
+            } finally {
+                for (SocketChannel channel : channels) {
+                    channel.close();
+                }
+            }
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (server.getConnectionCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, server.getConnectionCount(), "Closed clients should release their connections");
+        }
+    }
+
+    @Test
+    void testClientsThatResetDoNotStopTheAcceptingLoop() throws IOException, InterruptedException {
+        try (BotServer server = startServer(1)) {
+            // Each client resets its connection (linger 0) before the server has set it up
+            for (int i = 0; i < 200; i++) {
+                SocketChannel client = connect(server);
+                client.setOption(StandardSocketOptions.SO_LINGER, 0);
+                client.close();
+            }
+
+            try (SocketChannel client = connect(server)) {
+                ByteBuffer frame = send(client, BotProtocol.OP_NEW_GAME, 1, 0, 0, 3);
+                assertEquals(1, frame.getInt(BotProtocol.OFFSET_SEQUENCE), "The loop should still accept and serve clients");
+            }
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (server.getConnectionCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(0, server.getConnectionCount(), "Reset clients should not stay counted");
+        }
+    }
+
+    @Test
+    void testConnectionsHandedOverAfterCloseAreClosed() throws IOException {
+        BotServer server = startServer(1);
+        server.close();
+        try (SocketChannel late = SocketChannel.open()) {
+            server.dispatch(late);
+            assertFalse(late.isOpen(), "A connection adopted by a stopped loop should be closed");
+            assertEquals(0, server.getConnectionCount(), "A connection adopted by a stopped loop should not stay counted");
+        }
+    }
+
+    @Test
+    void testPipelinedCommandsAndProtocolErrors() throws IOException {
+        try (BotServer server = startServer(1); SocketChannel client = connect(server)) {
+            // 500 commands in one go: far more frames than fit in the server's output buffer
+            int count = 500;
+            ByteBuffer commands = ByteBuffer.allocate(count * BotProtocol.COMMAND_SIZE);
+            BotProtocol.putCommand(commands, BotProtocol.OP_NEW_GAME, 1, 0, 0, 9);
+            for (int i = 1; i < count; i++) {
+                BotProtocol.putCommand(commands, BotProtocol.OP_STATE, 0, 0, 0, 0);
+            }
+            commands.flip();
+            while (commands.hasRemaining()) {
+                client.write(commands);
+            }
+            for (int i = 1; i <= count; i++) {
+                assertEquals(i, read(client).getInt(BotProtocol.OFFSET_SEQUENCE), "Frames should arrive in order");
+            }
+
+            BotProtocol.putCommand(commands.clear(), (byte) 99, 0, 0, 0, 0);
+            client.write(commands.flip());
+            assertEquals(-1, client.read(ByteBuffer.allocate(BotProtocol.FRAME_SIZE)),
+                    "An unknown opcode should close the connection");
+        }
+    }
+
+    @Test
+    void testCommandsBeforeNewGameAreRejected() throws IOException {
+        try (BotServer server = startServer(1); SocketChannel client = connect(server)) {
+            ByteBuffer frame = send(client, BotProtocol.OP_INPUT, EventType.LEFT.ordinal(), 0, 0, 0);
+            int flags = frame.get(BotProtocol.OFFSET_FLAGS);
+            assertTrue((flags & BotProtocol.FLAG_NO_GAME) != 0);
+            assertTrue((flags & BotProtocol.FLAG_REJECTED) != 0);
+        }
+    }
+
+    private static BotServer startServer(int loops) throws IOException {
+        return new BotServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), loops);
+    }
+
+    private static SocketChannel connect(BotServer server) throws IOException {
+        return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+    }
+
+    private static ByteBuffer send(SocketChannel channel, byte opcode, int a, int b, int c, int value) throws IOException {
+        ByteBuffer command = ByteBuffer.allocate(BotProtocol.COMMAND_SIZE);
+        BotProtocol.putCommand(command, opcode, a, b, c, value);
+        command.flip();
+        while (command.hasRemaining()) {
+            channel.write(command);
+        }
+        return read(channel);
+    }
+
+    private static ByteBuffer read(SocketChannel channel) throws IOException {
+        ByteBuffer frame = ByteBuffer.allocate(BotProtocol.FRAME_SIZE);
+        while (frame.hasRemaining()) {
+            if (channel.read(frame) < 0) {
+                throw new IOException("Server closed the connection");
+            }
+        }
+        assertEquals(BotProtocol.FRAME_STATE, frame.get(BotProtocol.OFFSET_TYPE));
+        return frame;
+    }
+}
@@ -0,0 +1,33 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistogramTest {
+
+    @Test
+    void testBucketBoundsContainTheirValues() {
+        for (long v = 0; v < 1_000_000; v += 37) {
+            int bucket = LogHistogram.bucketOf(v);
+            assertTrue(LogHistogram.lowerBound(bucket) <= v && v < LogHistogram.lowerBound(bucket + 1),
+                    "Bucket bounds should contain " + v);
+        }
+        assertEquals(LogHistogram.bucketOf(Long.MAX_VALUE), LogHistogram.bucketOf(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    void testPercentilesAreWithinOneBucket() {
+        LogHistogram histogram = new LogHistogram();
+        for (int v = 1; v <= 10_000; v++) {
+            histogram.record(v);
+        }
+
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(10_000, histogram.getMax());
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 > 9_900 * 0.85 && p99 <= 9_900, "p99 should be within one bucket of 9900, was " + p99);
+        assertEquals(0, new LogHistogram().getPercentile(50), "An empty histogram should report 0");
+    }
+}
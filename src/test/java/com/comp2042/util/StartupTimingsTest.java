@@ -0,0 +1,68 @@
+package com.comp2042.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimingsTest {
+
+    @Test
+    void testStepsAreTimedAndOrderedByStart() {
+        StartupTimings timings = new StartupTimings(System.nanoTime());
+        timings.mark("start");
+        String result = timings.time("work", () -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        });
+        timings.mark("end");
+
+        assertEquals("done", result, "time() should pass the step's result through");
+        assertTrue(timings.get("work").getDurationMs() >= 19, "The step slept for 20 ms");
+        assertEquals(0, timings.get("start").getDurationMs(), "A mark has no duration");
+        List<StartupTimings.Entry> entries = timings.getEntries();
+        assertEquals(List.of("start", "work", "end"), entries.stream().map(StartupTimings.Entry::getName).toList());
+        assertTrue(timings.report().contains("work"), "The report should list every step");
+    }
+
+    @Test
+    void testFailingStepIsStillRecorded() {
+        StartupTimings timings = new StartupTimings(System.nanoTime());
+
+        assertThrows(IllegalStateException.class, () -> timings.time("broken", () -> {
+            throw new IllegalStateException("missing resource");
+        }));
+        assertNotNull(timings.get("broken"), "A failed step should still show up in the breakdown");
+        assertNull(timings.get("never run"));
+    }
+
+    @Test
+    void testConcurrentStepsAreAllRecorded() throws InterruptedException {
+        StartupTimings timings = new StartupTimings();
+        int steps = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < steps; i++) {
+            String name = "step " + i;
+            pool.submit(() -> {
+                start.await();
+                return timings.time(name, () -> name);
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(steps, timings.getEntries().size(), "Steps timed on different threads must not be lost");
+        assertTrue(timings.getEntries().get(0).getStartMs() > 0, "Offsets are measured from JVM start");
+    }
+}